@@ -43,6 +43,7 @@ import com.mapbox.services.android.navigation.v5.milestone.Milestone;
 import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListener;
 import com.mapbox.services.android.navigation.v5.milestone.VoiceInstructionMilestone;
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationHistoryListener;
 import com.mapbox.services.android.navigation.v5.navigation.NavigationRoute;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
@@ -63,7 +64,7 @@ import timber.log.Timber;
 
 public class ComponentNavigationActivity extends AppCompatActivity implements OnMapReadyCallback,
   MapboxMap.OnMapLongClickListener, LocationEngineListener, ProgressChangeListener,
-  MilestoneEventListener, OffRouteListener {
+  MilestoneEventListener, OffRouteListener, NavigationHistoryListener {
 
   private static final int FIRST = 0;
   private static final int ONE_HUNDRED_MILLISECONDS = 100;
@@ -229,7 +230,7 @@ public class ComponentNavigationActivity extends AppCompatActivity implements On
 
   @Override
   public void onProgressChange(Location location, RouteProgress routeProgress) {
-    new StoreHistoryTask(navigation, filename).execute();
+    navigation.retrieveHistory(this);
 
     // Cache "snapped" Locations for re-route Directions API requests
     updateLocation(location);
@@ -248,6 +249,11 @@ public class ComponentNavigationActivity extends AppCompatActivity implements On
     calculateRouteWith(destination, true);
   }
 
+  @Override
+  public void onHistoryRetrieved(String history) {
+    new StoreHistoryTask(history, filename).execute();
+  }
+
   /*
    * Activity lifecycle methods
    */
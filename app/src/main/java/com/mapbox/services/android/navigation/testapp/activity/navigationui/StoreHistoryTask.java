@@ -3,8 +3,6 @@ package com.mapbox.services.android.navigation.testapp.activity.navigationui;
 import android.os.AsyncTask;
 import android.os.Environment;
 
-import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
-
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStreamWriter;
@@ -14,18 +12,17 @@ import timber.log.Timber;
 class StoreHistoryTask extends AsyncTask<Void, Void, Void> {
   private static final String EMPTY_HISTORY = "{}";
   private static final String DRIVES_FOLDER = "/drives";
-  private final MapboxNavigation navigation;
+  private final String history;
   private final String filename;
 
-  StoreHistoryTask(MapboxNavigation navigation, String filename) {
-    this.navigation = navigation;
+  StoreHistoryTask(String history, String filename) {
+    this.history = history;
     this.filename = filename;
   }
 
   @Override
   protected Void doInBackground(Void... paramsUnused) {
     if (isExternalStorageWritable()) {
-      String history = navigation.retrieveHistory();
       if (!history.contentEquals(EMPTY_HISTORY)) {
         File pathToExternalStorage = Environment.getExternalStorageDirectory();
         File appDirectory = new File(pathToExternalStorage.getAbsolutePath() + DRIVES_FOLDER);
@@ -0,0 +1,90 @@
+package com.mapbox.services.android.navigation.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationHelper;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.StepIntersectionIndex;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Scanner;
+
+import static com.mapbox.core.constants.Constants.PRECISION_6;
+
+/**
+ * Loads the unit test fixtures of libandroid-navigation as benchmark inputs.
+ */
+public final class BenchmarkFixtures {
+
+  public static final String LONG_STEP = "long_step.json";
+  public static final String TWO_LEG_ROUTE = "directions_two_leg_route.json";
+  public static final String DISTANCE_CONGESTION_ANNOTATION = "directions_distance_congestion_annotation.json";
+  public static final String PRECISION_6_ROUTE = "directions_v5_precision_6.json";
+
+  private BenchmarkFixtures() {
+    // Utility class
+  }
+
+  public static DirectionsRoute loadRoute(String fixtureName) throws IOException {
+    Gson gson = new GsonBuilder().registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create();
+    DirectionsResponse response = gson.fromJson(loadJson(fixtureName), DirectionsResponse.class);
+    return response.routes().get(0);
+  }
+
+  public static List<Point> decodeStepPoints(LegStep step) {
+    return PolylineUtils.decode(step.geometry(), PRECISION_6);
+  }
+
+  /**
+   * Builds the progress along the given step, the same way the unit tests do.
+   */
+  public static RouteProgress buildRouteProgress(DirectionsRoute route, int legIndex, int stepIndex,
+                                                 double stepDistanceRemaining) {
+    List<LegStep> steps = route.legs().get(legIndex).steps();
+    LegStep currentStep = steps.get(stepIndex);
+    LegStep upcomingStep = stepIndex + 1 < steps.size() ? steps.get(stepIndex + 1) : null;
+    List<Point> currentStepPoints = decodeStepPoints(currentStep);
+    List<StepIntersection> intersections = NavigationHelper.createIntersectionsList(currentStep, upcomingStep);
+    StepIntersectionIndex intersectionIndex = NavigationHelper.createIntersectionIndex(currentStepPoints,
+      intersections);
+    int currentIntersectionIndex = intersectionIndex.findCurrentIndex(currentStep.distance() - stepDistanceRemaining);
+    StepIntersection currentIntersection = currentIntersectionIndex < 0
+      ? intersections.get(0) : intersectionIndex.intersectionAt(currentIntersectionIndex);
+    return RouteProgress.builder()
+      .directionsRoute(route)
+      .legIndex(legIndex)
+      .stepIndex(stepIndex)
+      .stepDistanceRemaining(stepDistanceRemaining)
+      .legDistanceRemaining(route.legs().get(legIndex).distance())
+      .distanceRemaining(route.distance())
+      .currentStepPoints(currentStepPoints)
+      .upcomingStepPoints(upcomingStep == null ? null : decodeStepPoints(upcomingStep))
+      .intersections(intersections)
+      .currentIntersection(currentIntersection)
+      .upcomingIntersection(null)
+      .intersectionIndex(intersectionIndex)
+      .currentLegAnnotation(null)
+      .inTunnel(false)
+      .routeGeneration(0)
+      .build();
+  }
+
+  private static String loadJson(String fixtureName) throws IOException {
+    InputStream inputStream = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(fixtureName);
+    if (inputStream == null) {
+      throw new IOException("Fixture not found: " + fixtureName);
+    }
+    try (Scanner scanner = new Scanner(inputStream, "UTF-8").useDelimiter("\\A")) {
+      return scanner.hasNext() ? scanner.next() : "";
+    }
+  }
+}
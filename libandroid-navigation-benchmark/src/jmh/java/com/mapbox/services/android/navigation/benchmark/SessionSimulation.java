@@ -0,0 +1,85 @@
+package com.mapbox.services.android.navigation.benchmark;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.location.replay.SessionTraces;
+import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigationOptions;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationSessionSimulator;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a headless navigation session and prints its throughput, allocation and tick latency, run
+ * with `make simulate-session` or `./gradlew :libandroid-navigation-benchmark:simulateSession`.
+ * <p>
+ * Arguments, all optional, are given as {@code name=value}:
+ * <ul>
+ * <li>{@code route}: fixture of the route navigated, {@link BenchmarkFixtures#PRECISION_6_ROUTE} by default</li>
+ * <li>{@code gpx}: path of a GPX track to drive, instead of driving along the route</li>
+ * <li>{@code replayJson}: path of a replay JSON route to drive, instead of driving along the route</li>
+ * <li>{@code speed}: in km/h when driving along the route, 50 by default</li>
+ * <li>{@code warmupLaps}: runs of the whole trace before measuring, 20 by default</li>
+ * <li>{@code laps}: runs of the whole trace measured, 50 by default</li>
+ * </ul>
+ */
+public final class SessionSimulation {
+
+  private static final String ARGUMENT_SEPARATOR = "=";
+  private static final int ROUTE_LOCATION_INTERVAL_IN_SECONDS = 1;
+  private static final long TRACE_START_TIME_IN_MILLIS = 1514764800000L;
+
+  private SessionSimulation() {
+    // Command line entry point
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> arguments = parseArguments(args);
+    DirectionsRoute route = BenchmarkFixtures.loadRoute(value(arguments, "route", BenchmarkFixtures.PRECISION_6_ROUTE));
+    List<Location> trace = loadTrace(arguments, route);
+    int warmupLaps = Integer.parseInt(value(arguments, "warmupLaps", "20"));
+    int laps = Integer.parseInt(value(arguments, "laps", "50"));
+
+    MapboxNavigationOptions options = MapboxNavigationOptions.builder().build();
+    NavigationSessionSimulator simulator = new NavigationSessionSimulator(route, trace, options);
+    NavigationSessionSimulator.SessionReport report = simulator.run(warmupLaps, laps);
+    System.out.println("Trace of " + trace.size() + " locations, " + laps + " laps measured");
+    System.out.println(report);
+  }
+
+  private static List<Location> loadTrace(Map<String, String> arguments, DirectionsRoute route) throws Exception {
+    if (arguments.containsKey("gpx")) {
+      try (InputStream inputStream = new FileInputStream(arguments.get("gpx"))) {
+        return SessionTraces.fromGpx(inputStream);
+      }
+    }
+    if (arguments.containsKey("replayJson")) {
+      try (InputStream inputStream = new FileInputStream(arguments.get("replayJson"))) {
+        return SessionTraces.fromReplayJson(inputStream);
+      }
+    }
+    int speed = Integer.parseInt(value(arguments, "speed", "50"));
+    return SessionTraces.fromRoute(route, speed, ROUTE_LOCATION_INTERVAL_IN_SECONDS, TRACE_START_TIME_IN_MILLIS);
+  }
+
+  private static Map<String, String> parseArguments(String[] args) {
+    Map<String, String> arguments = new HashMap<>();
+    for (String argument : args) {
+      int separator = argument.indexOf(ARGUMENT_SEPARATOR);
+      if (separator <= 0) {
+        throw new IllegalArgumentException("Arguments are given as name=value: " + argument);
+      }
+      arguments.put(argument.substring(0, separator), argument.substring(separator + 1));
+    }
+    return arguments;
+  }
+
+  private static String value(Map<String, String> arguments, String name, String defaultValue) {
+    String value = arguments.get(name);
+    return value == null ? defaultValue : value;
+  }
+}
@@ -0,0 +1,31 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Similarity of two route leg descriptions, as compared by {@link ViewRouteFetcher} to pick the
+ * new route closest to the one the user chose.
+ */
+@State(Scope.Benchmark)
+public class DamerauLevenshteinAlgorithmBenchmark {
+
+  @Param({
+    "Market Street - Van Ness Avenue",
+    "Interstate 280 South - Junipero Serra Freeway - California State Route 85 South"
+  })
+  public String source;
+
+  @Param({
+    "Mission Street - Van Ness Avenue",
+    "US 101 South - Bayshore Freeway - California State Route 87 South - Guadalupe Parkway"
+  })
+  public String target;
+
+  @Benchmark
+  public int execute() {
+    return DamerauLevenshteinAlgorithm.execute(source, target);
+  }
+}
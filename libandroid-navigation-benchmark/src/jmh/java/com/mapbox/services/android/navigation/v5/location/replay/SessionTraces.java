@@ -0,0 +1,73 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the raw location traces driving a simulated navigation session, with the same converters
+ * and parsers as the replay location engines.
+ */
+public final class SessionTraces {
+
+  private static final String UTF_8 = "UTF-8";
+
+  private SessionTraces() {
+    // Utility class
+  }
+
+  /**
+   * Drives along the whole route, one location per {@code intervalInSeconds}.
+   *
+   * @param route              to drive along
+   * @param speedInKmPerHour   of the simulated vehicle
+   * @param intervalInSeconds  between two locations
+   * @param startTimeInMillis  of the first location, so that traces are reproducible
+   * @return locations along the route
+   */
+  public static List<Location> fromRoute(DirectionsRoute route, int speedInKmPerHour, int intervalInSeconds,
+                                         long startTimeInMillis) {
+    ReplayRouteLocationConverter converter = new ReplayRouteLocationConverter(route, speedInKmPerHour,
+      intervalInSeconds);
+    List<Location> locations = new ArrayList<>();
+    for (RouteLeg leg : route.legs()) {
+      for (int step = 0; step < leg.steps().size(); step++) {
+        locations.addAll(converter.toLocations());
+      }
+    }
+    // Without initializeTime(), the converter times its locations from 0
+    for (Location location : locations) {
+      location.setTime(startTimeInMillis + location.getTime());
+    }
+    return locations;
+  }
+
+  /**
+   * @param gpxInputStream of a GPX track
+   * @return the track points of the GPX track
+   * @throws Exception if the track can't be parsed
+   */
+  public static List<Location> fromGpx(InputStream gpxInputStream) throws Exception {
+    return new GpxParser().parseGpx(gpxInputStream);
+  }
+
+  /**
+   * @param replayJsonInputStream of a replay JSON route, as recorded by the navigation SDK
+   * @return the locations of the replay route
+   * @throws Exception if the route can't be read
+   */
+  public static List<Location> fromReplayJson(InputStream replayJsonInputStream) throws Exception {
+    try (Reader reader = new InputStreamReader(replayJsonInputStream, UTF_8)) {
+      ReplayJsonRouteDto replayRoute = new GsonBuilder().create().fromJson(reader, ReplayJsonRouteDto.class);
+      return new ReplayJsonRouteLocationMapper(replayRoute.getLocations()).toLocations();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import android.util.SparseArray;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.benchmark.BenchmarkFixtures;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * Evaluation of a milestone {@link Trigger} between two consecutive updates: through the
+ * {@link SparseArray} built by {@link TriggerProperty}, through a reused {@link TriggerSnapshot}
+ * and through the {@link TriggerProgram} compiled by {@link StepMilestone}. The evaluation of fifty
+ * milestones per update compares the boxed {@link SparseArray} built once per milestone with compiled
+ * programs sharing a single snapshot.
+ */
+@State(Scope.Benchmark)
+public class TriggerBenchmark {
+
+  private static final int MILESTONE_COUNT = 50;
+
+  private RouteProgress previousRouteProgress;
+  private RouteProgress routeProgress;
+  private Trigger.Statement statement;
+  private TriggerProgram program;
+  private TriggerSnapshot snapshot;
+  private Trigger.Statement[] milestoneStatements;
+  private TriggerProgram[] milestonePrograms;
+
+  @Setup
+  public void setup() throws IOException {
+    DirectionsRoute route = BenchmarkFixtures.loadRoute(BenchmarkFixtures.TWO_LEG_ROUTE);
+    double stepDistance = route.legs().get(0).steps().get(1).distance();
+    previousRouteProgress = BenchmarkFixtures.buildRouteProgress(route, 0, 1, stepDistance * 0.6);
+    routeProgress = BenchmarkFixtures.buildRouteProgress(route, 0, 1, stepDistance * 0.4);
+    statement = Trigger.any(
+      Trigger.all(
+        Trigger.eq(TriggerProperty.NEW_STEP, TriggerProperty.TRUE),
+        Trigger.gt(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, 100)
+      ),
+      Trigger.all(
+        Trigger.neq(TriggerProperty.LAST_STEP, TriggerProperty.TRUE),
+        Trigger.lte(TriggerProperty.STEP_DURATION_REMAINING_SECONDS, 70),
+        Trigger.gt(TriggerProperty.STEP_DISTANCE_TRAVELED_METERS, 50)
+      ),
+      Trigger.lt(TriggerProperty.NEXT_STEP_DISTANCE_METERS, 15)
+    );
+    program = TriggerProgram.compile(statement);
+    snapshot = new TriggerSnapshot();
+    milestoneStatements = new Trigger.Statement[MILESTONE_COUNT];
+    milestonePrograms = new TriggerProgram[MILESTONE_COUNT];
+    for (int i = 0; i < MILESTONE_COUNT; i++) {
+      double distance = 50d * (i + 1);
+      milestoneStatements[i] = Trigger.all(
+        Trigger.gt(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, distance),
+        Trigger.lte(TriggerProperty.STEP_DISTANCE_REMAINING_METERS, distance),
+        Trigger.any(
+          Trigger.eq(TriggerProperty.NEW_STEP, TriggerProperty.TRUE),
+          Trigger.gte(TriggerProperty.STEP_INDEX, i % 3),
+          Trigger.none(Trigger.eq(TriggerProperty.LAST_STEP, TriggerProperty.TRUE))
+        )
+      );
+      milestonePrograms[i] = TriggerProgram.compile(milestoneStatements[i]);
+    }
+  }
+
+  @Benchmark
+  public boolean isOccurringWithSparseArray() {
+    SparseArray<Number[]> statementObjects = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress);
+    return statement.isOccurring(statementObjects);
+  }
+
+  @Benchmark
+  public boolean isOccurringWithSnapshot() {
+    snapshot.update(previousRouteProgress, routeProgress);
+    return statement.isOccurring(snapshot);
+  }
+
+  @Benchmark
+  public boolean isOccurringWithProgram() {
+    snapshot.update(previousRouteProgress, routeProgress);
+    return program.isOccurring(snapshot);
+  }
+
+  @Benchmark
+  public int fiftyMilestonesWithSparseArrays() {
+    int occurring = 0;
+    for (Trigger.Statement milestoneStatement : milestoneStatements) {
+      SparseArray<Number[]> statementObjects = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress);
+      if (milestoneStatement.isOccurring(statementObjects)) {
+        occurring++;
+      }
+    }
+    return occurring;
+  }
+
+  @Benchmark
+  public int fiftyMilestonesWithPrograms() {
+    int occurring = 0;
+    snapshot.update(previousRouteProgress, routeProgress);
+    for (TriggerProgram milestoneProgram : milestonePrograms) {
+      if (milestoneProgram.isOccurring(snapshot)) {
+        occurring++;
+      }
+    }
+    return occurring;
+  }
+}
@@ -0,0 +1,100 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.v4.util.Pair;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.benchmark.BenchmarkFixtures;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
+import com.mapbox.services.android.navigation.v5.routeprogress.CurrentLegAnnotation;
+import com.mapbox.services.android.navigation.v5.routeprogress.LegAnnotationIndex;
+import com.mapbox.services.android.navigation.v5.routeprogress.StepIntersectionIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Step geometry, intersection and annotation lookups done by {@link NavigationHelper} on each
+ * update, along a step with many intersections and a leg with distance and congestion annotations.
+ * <p>
+ * Step geometries are no longer decoded on each update: {@link #decodeStepPoints()} measures the
+ * decoding that {@link RouteGeometryIndex} now does once per route.
+ */
+@State(Scope.Benchmark)
+public class NavigationHelperBenchmark {
+
+  private DirectionsRoute longStepRoute;
+  private LegStep longStep;
+  private List<Point> longStepPoints;
+  private List<StepIntersection> intersections;
+  private List<Pair<StepIntersection, Double>> intersectionDistances;
+  private StepIntersectionIndex intersectionIndex;
+  private double stepDistanceTraveled;
+  private int intersectionCursor;
+  private RouteLeg annotatedLeg;
+  private LegAnnotationIndex legAnnotationIndex;
+  private CurrentLegAnnotation currentLegAnnotation;
+  private double legDistanceRemaining;
+
+  @Setup
+  public void setup() throws IOException {
+    longStepRoute = BenchmarkFixtures.loadRoute(BenchmarkFixtures.LONG_STEP);
+    List<LegStep> steps = longStepRoute.legs().get(0).steps();
+    longStep = steps.get(0);
+    longStepPoints = BenchmarkFixtures.decodeStepPoints(longStep);
+    intersections = NavigationHelper.createIntersectionsList(longStep, steps.size() > 1 ? steps.get(1) : null);
+    intersectionDistances = NavigationHelper.createDistancesToIntersections(longStepPoints, intersections);
+    intersectionIndex = NavigationHelper.createIntersectionIndex(longStepPoints, intersections);
+    stepDistanceTraveled = longStep.distance() / 2;
+    intersectionCursor = intersectionIndex.findCurrentIndex(stepDistanceTraveled);
+
+    DirectionsRoute annotatedRoute = BenchmarkFixtures.loadRoute(BenchmarkFixtures.DISTANCE_CONGESTION_ANNOTATION);
+    annotatedLeg = annotatedRoute.legs().get(0);
+    legAnnotationIndex = LegAnnotationIndex.create(annotatedLeg);
+    legDistanceRemaining = annotatedLeg.distance() / 2;
+    currentLegAnnotation = NavigationHelper.createCurrentAnnotation(null, annotatedLeg, legDistanceRemaining);
+  }
+
+  @Benchmark
+  public List<Point> decodeStepPoints() {
+    return BenchmarkFixtures.decodeStepPoints(longStep);
+  }
+
+  @Benchmark
+  public RouteGeometryIndex createRouteGeometryIndex() {
+    return RouteGeometryIndex.create(longStepRoute);
+  }
+
+  @Benchmark
+  public List<Pair<StepIntersection, Double>> createDistancesToIntersections() {
+    return NavigationHelper.createDistancesToIntersections(longStepPoints, intersections);
+  }
+
+  @Benchmark
+  public StepIntersection findCurrentIntersection() {
+    return NavigationHelper.findCurrentIntersection(intersections, intersectionDistances, stepDistanceTraveled);
+  }
+
+  @Benchmark
+  public int findCurrentIntersectionIndex() {
+    return NavigationHelper.findCurrentIntersectionIndex(intersectionIndex, intersectionCursor, stepDistanceTraveled);
+  }
+
+  @Benchmark
+  public CurrentLegAnnotation createCurrentAnnotation() {
+    return NavigationHelper.createCurrentAnnotation(currentLegAnnotation, annotatedLeg, legDistanceRemaining);
+  }
+
+  @Benchmark
+  public CurrentLegAnnotation createCurrentAnnotationFromIndex() {
+    return NavigationHelper.createCurrentAnnotation(currentLegAnnotation, legAnnotationIndex, legDistanceRemaining);
+  }
+}
@@ -0,0 +1,40 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.benchmark.BenchmarkFixtures;
+import com.mapbox.services.android.navigation.v5.location.replay.SessionTraces;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * One full processing tick of a simulated navigation session, driving along a route with voice and
+ * banner instructions. Run with {@code -prof gc} to also get the bytes allocated per tick.
+ *
+ * @see NavigationSessionSimulator
+ */
+@State(Scope.Benchmark)
+public class NavigationSessionBenchmark {
+
+  private static final int SPEED_IN_KM_PER_HOUR = 50;
+  private static final int LOCATION_INTERVAL_IN_SECONDS = 1;
+  private static final long TRACE_START_TIME_IN_MILLIS = 1514764800000L;
+  private NavigationSessionSimulator simulator;
+
+  @Setup
+  public void setup() throws IOException {
+    DirectionsRoute route = BenchmarkFixtures.loadRoute(BenchmarkFixtures.PRECISION_6_ROUTE);
+    simulator = new NavigationSessionSimulator(route,
+      SessionTraces.fromRoute(route, SPEED_IN_KM_PER_HOUR, LOCATION_INTERVAL_IN_SECONDS, TRACE_START_TIME_IN_MILLIS),
+      MapboxNavigationOptions.builder().build());
+  }
+
+  @Benchmark
+  public void tick() {
+    simulator.tick();
+  }
+}
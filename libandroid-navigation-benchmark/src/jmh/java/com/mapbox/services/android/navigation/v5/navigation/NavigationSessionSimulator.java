@@ -0,0 +1,259 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.navigator.NavigationStatus;
+import com.mapbox.services.android.navigation.v5.milestone.Milestone;
+import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListener;
+import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
+import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs a whole navigation session on the calling thread, without a device, a location engine or the
+ * native navigator.
+ * <p>
+ * The raw locations of a trace are handed, one per {@link #tick()}, to the same
+ * {@link RouteProcessorBackgroundThread} and {@link RouteProcessorRunnable} as in a running session,
+ * with the default engines and milestones of the given options. Both the navigation thread and the
+ * main thread are simulated by a {@link SimulatedNavigationScheduler}, whose clock follows the fix
+ * times of the trace, and the results are passed on to the listeners by a
+ * {@link SessionEventForwarder}.
+ * <p>
+ * The native navigator is replaced by a {@link StatusReplayNavigator}, replaying the statuses a
+ * {@link TraceNavigator} derived up front, so only the SDK's own processing is measured.
+ */
+public class NavigationSessionSimulator {
+
+  private static final long DEFAULT_LOCATION_INTERVAL_IN_MILLIS = 1000;
+  private final DirectionsRoute route;
+  private final Location[] trace;
+  private final long lapDuration;
+  private final MapboxNavigation navigation;
+  private final SimulatedNavigationScheduler scheduler = new SimulatedNavigationScheduler();
+  private final SessionEventForwarder eventForwarder;
+  private final RouteProcessorBackgroundThread processorThread;
+  private final SessionListener sessionListener = new SessionListener();
+  private int traceIndex;
+  private long lapStartTime;
+
+  /**
+   * @param route   to navigate along
+   * @param trace   raw locations of the session, in order
+   * @param options of the session
+   */
+  public NavigationSessionSimulator(DirectionsRoute route, List<Location> trace, MapboxNavigationOptions options) {
+    if (trace.isEmpty()) {
+      throw new IllegalArgumentException("A navigation session needs at least one location.");
+    }
+    this.route = route;
+    this.trace = trace.toArray(new Location[trace.size()]);
+    this.lapDuration = calculateLapDuration(this.trace);
+    NavigationStatus[] statuses = new TraceNavigator(route, RouteGeometryIndex.create(route)).deriveStatuses(trace);
+    navigation = new MapboxNavigation(options, new StatusReplayNavigator(statuses));
+    navigation.updateRoute(route);
+    navigation.addProgressChangeListener(sessionListener);
+    navigation.addMilestoneEventListener(sessionListener);
+    navigation.addOffRouteListener(sessionListener);
+    eventForwarder = new SessionEventForwarder(navigation);
+    processorThread = new RouteProcessorBackgroundThread(navigation, scheduler, scheduler, eventForwarder);
+  }
+
+  /**
+   * Moves the clock to the fix time of the next location of the trace, running the processing due
+   * until then, and hands the location to the navigation thread, running the processing it triggers
+   * right away. Once the trace is done, it starts over as a new route.
+   */
+  public void tick() {
+    if (traceIndex == trace.length) {
+      traceIndex = 0;
+      lapStartTime += lapDuration;
+      navigation.updateRoute(route);
+    }
+    Location location = trace[traceIndex];
+    traceIndex++;
+    long fixTime = lapStartTime + location.getTime() - trace[0].getTime();
+    scheduler.advanceTo(fixTime);
+    processorThread.updateRawLocation(location);
+    scheduler.advanceTo(fixTime);
+  }
+
+  /**
+   * @return navigation processing the session, to which more listeners can be added
+   */
+  MapboxNavigation retrieveNavigation() {
+    return navigation;
+  }
+
+  /**
+   * Runs the trace {@code warmupLaps} times, then measures {@code measuredLaps} more runs of it.
+   *
+   * @param warmupLaps   runs of the whole trace before measuring, letting the JIT compiler settle
+   * @param measuredLaps runs of the whole trace measured
+   * @return throughput, allocation and latency of the measured ticks
+   */
+  public SessionReport run(int warmupLaps, int measuredLaps) {
+    for (int i = 0; i < warmupLaps * trace.length; i++) {
+      tick();
+    }
+    sessionListener.reset();
+    eventForwarder.resetFasterRouteCheckCount();
+    com.sun.management.ThreadMXBean allocationBean = findAllocationMeasuringThreadBean();
+    long threadId = Thread.currentThread().getId();
+    LatencyHistogram tickLatencies = new LatencyHistogram();
+    int tickCount = measuredLaps * trace.length;
+
+    long allocatedBefore = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId);
+    long sessionStart = System.nanoTime();
+    long tickStart = sessionStart;
+    for (int i = 0; i < tickCount; i++) {
+      tick();
+      long tickEnd = System.nanoTime();
+      tickLatencies.record(tickEnd - tickStart);
+      tickStart = tickEnd;
+    }
+    long sessionDuration = System.nanoTime() - sessionStart;
+    long allocatedAfter = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId);
+
+    double ticksPerSecond = tickCount / (sessionDuration / 1e9);
+    double bytesPerTick = allocationBean == null ? Double.NaN : (allocatedAfter - allocatedBefore) / (double) tickCount;
+    return new SessionReport(tickCount, ticksPerSecond, bytesPerTick, tickLatencies.snapshot(),
+      sessionListener.progressCount, sessionListener.milestoneCount, sessionListener.offRouteCount,
+      eventForwarder.fasterRouteCheckCount());
+  }
+
+  private static long calculateLapDuration(Location[] trace) {
+    long traceDuration = trace[trace.length - 1].getTime() - trace[0].getTime();
+    if (trace.length == 1 || traceDuration <= 0) {
+      return DEFAULT_LOCATION_INTERVAL_IN_MILLIS;
+    }
+    // Keeps the usual interval between the last location of a lap and the first one of the next
+    return traceDuration + traceDuration / (trace.length - 1);
+  }
+
+  private static com.sun.management.ThreadMXBean findAllocationMeasuringThreadBean() {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+      return null;
+    }
+    com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+    if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+      return null;
+    }
+    return allocationBean;
+  }
+
+  /**
+   * Results of a simulated session.
+   */
+  public static final class SessionReport {
+
+    private final int tickCount;
+    private final double ticksPerSecond;
+    private final double bytesPerTick;
+    private final LatencySnapshot tickLatency;
+    private final long progressCount;
+    private final long milestoneCount;
+    private final long offRouteCount;
+    private final long fasterRouteCheckCount;
+
+    SessionReport(int tickCount, double ticksPerSecond, double bytesPerTick, LatencySnapshot tickLatency,
+                  long progressCount, long milestoneCount, long offRouteCount, long fasterRouteCheckCount) {
+      this.tickCount = tickCount;
+      this.ticksPerSecond = ticksPerSecond;
+      this.bytesPerTick = bytesPerTick;
+      this.tickLatency = tickLatency;
+      this.progressCount = progressCount;
+      this.milestoneCount = milestoneCount;
+      this.offRouteCount = offRouteCount;
+      this.fasterRouteCheckCount = fasterRouteCheckCount;
+    }
+
+    public int tickCount() {
+      return tickCount;
+    }
+
+    public double ticksPerSecond() {
+      return ticksPerSecond;
+    }
+
+    /**
+     * @return mean bytes allocated per tick, NaN if the JVM can't measure thread allocations
+     */
+    public double bytesPerTick() {
+      return bytesPerTick;
+    }
+
+    public LatencySnapshot tickLatency() {
+      return tickLatency;
+    }
+
+    /**
+     * @return progress updates delivered, which can differ from the ticks with a timer driven
+     * processing or an adaptive processing rate
+     */
+    public long progressCount() {
+      return progressCount;
+    }
+
+    public long milestoneCount() {
+      return milestoneCount;
+    }
+
+    public long offRouteCount() {
+      return offRouteCount;
+    }
+
+    public long fasterRouteCheckCount() {
+      return fasterRouteCheckCount;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.US,
+        "ticks=%d ticksPerSecond=%.1f bytesPerTick=%.1f p50Ms=%.3f p99Ms=%.3f maxMs=%.3f "
+          + "progressUpdates=%d milestones=%d offRoute=%d fasterRouteChecks=%d",
+        tickCount, ticksPerSecond, bytesPerTick, tickLatency.p50InMilliseconds(), tickLatency.p99InMilliseconds(),
+        tickLatency.maxInMilliseconds(), progressCount, milestoneCount, offRouteCount, fasterRouteCheckCount);
+    }
+  }
+
+  /**
+   * Stands in for the listeners of an app, counting the events reported.
+   */
+  private static class SessionListener implements ProgressChangeListener, MilestoneEventListener,
+    OffRouteListener {
+
+    private long progressCount;
+    private long milestoneCount;
+    private long offRouteCount;
+
+    @Override
+    public void onProgressChange(Location location, RouteProgress routeProgress) {
+      progressCount++;
+    }
+
+    @Override
+    public void onMilestoneEvent(RouteProgress routeProgress, String instruction, Milestone milestone) {
+      milestoneCount++;
+    }
+
+    @Override
+    public void userOffRoute(Location location) {
+      offRouteCount++;
+    }
+
+    void reset() {
+      progressCount = 0;
+      milestoneCount = 0;
+      offRouteCount = 0;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.services.android.navigation.v5.milestone.Milestone;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.List;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.buildInstructionString;
+
+/**
+ * Passes the results of the processing on to the listeners of a {@link MapboxNavigation}, as
+ * {@link RouteProcessorThreadListener} does, without the notification, the rerouting and the
+ * faster route requests of a running navigation service. Faster route checks are only counted.
+ */
+class SessionEventForwarder implements RouteProcessorBackgroundThread.Listener {
+
+  private final NavigationEventDispatcher eventDispatcher;
+  private long fasterRouteCheckCount;
+
+  SessionEventForwarder(MapboxNavigation navigation) {
+    this.eventDispatcher = navigation.getEventDispatcher();
+  }
+
+  @Override
+  public void onNewRouteProgressOnProcessingThread(Location location, RouteProgress routeProgress,
+                                                  NavigationScheduler processingThreadScheduler) {
+    eventDispatcher.onProcessingThreadProgressChange(location, routeProgress, processingThreadScheduler);
+  }
+
+  @Override
+  public void onNewRouteProgress(Location location, RouteProgress routeProgress) {
+    eventDispatcher.onProgressChange(location, routeProgress);
+  }
+
+  @Override
+  public void onMilestoneTrigger(List<Milestone> triggeredMilestones, RouteProgress routeProgress) {
+    for (Milestone milestone : triggeredMilestones) {
+      String instruction = buildInstructionString(routeProgress, milestone);
+      eventDispatcher.onMilestoneEvent(routeProgress, instruction, milestone);
+    }
+  }
+
+  @Override
+  public void onUserOffRoute(Location location, boolean userOffRoute) {
+    if (userOffRoute) {
+      eventDispatcher.onUserOffRoute(location);
+    }
+  }
+
+  @Override
+  public void onCheckFasterRoute(Location location, RouteProgress routeProgress, boolean checkFasterRoute) {
+    if (checkFasterRoute) {
+      fasterRouteCheckCount++;
+    }
+  }
+
+  long fasterRouteCheckCount() {
+    return fasterRouteCheckCount;
+  }
+
+  void resetFasterRouteCheckCount() {
+    fasterRouteCheckCount = 0;
+  }
+}
@@ -0,0 +1,73 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Runs the work of the navigation engine on the thread of a simulated session, with a virtual
+ * clock: time only moves when the session calls {@link #advanceTo(long)}, which runs the work due
+ * by then in the order it's due, one runnable at a time.
+ */
+class SimulatedNavigationScheduler implements NavigationScheduler {
+
+  private final List<ScheduledRun> pendingRuns = new ArrayList<>();
+  private long elapsedTime;
+
+  @Override
+  public void post(Runnable runnable) {
+    postDelayed(runnable, 0);
+  }
+
+  @Override
+  public void postDelayed(Runnable runnable, long delayInMilliseconds) {
+    long dueTime = elapsedTime + Math.max(0, delayInMilliseconds);
+    int index = pendingRuns.size();
+    // Runs due at the same time keep the order they were posted in
+    while (index > 0 && pendingRuns.get(index - 1).dueTime > dueTime) {
+      index--;
+    }
+    pendingRuns.add(index, new ScheduledRun(runnable, dueTime));
+  }
+
+  @Override
+  public void removeCallbacks(Runnable runnable) {
+    Iterator<ScheduledRun> iterator = pendingRuns.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().runnable == runnable) {
+        iterator.remove();
+      }
+    }
+  }
+
+  @Override
+  public long elapsedTimeInMilliseconds() {
+    return elapsedTime;
+  }
+
+  /**
+   * Moves the clock forward to the given time, running the work due by then, including the work
+   * posted while doing so.
+   *
+   * @param time to move the clock to, an earlier time than the current one only runs the work due
+   */
+  void advanceTo(long time) {
+    while (!pendingRuns.isEmpty() && pendingRuns.get(0).dueTime <= Math.max(time, elapsedTime)) {
+      ScheduledRun run = pendingRuns.remove(0);
+      elapsedTime = Math.max(elapsedTime, run.dueTime);
+      run.runnable.run();
+    }
+    elapsedTime = Math.max(elapsedTime, time);
+  }
+
+  private static class ScheduledRun {
+
+    private final Runnable runnable;
+    private final long dueTime;
+
+    ScheduledRun(Runnable runnable, long dueTime) {
+      this.runnable = runnable;
+      this.dueTime = dueTime;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.navigator.NavigationStatus;
+
+import java.util.Date;
+
+/**
+ * Stands in for the native navigator behind {@link MapboxNavigator}, answering each status request
+ * with the status derived up front for the latest location received.
+ * <p>
+ * Locations are expected in the order of the trace the statuses were derived from, starting the
+ * trace over once it's done.
+ */
+class StatusReplayNavigator extends MapboxNavigator {
+
+  private final NavigationStatus[] statuses;
+  private volatile int statusIndex = -1;
+
+  /**
+   * @param statuses one for each location of the trace, in the same order
+   */
+  StatusReplayNavigator(NavigationStatus[] statuses) {
+    super(null, 0);
+    this.statuses = statuses;
+  }
+
+  @Override
+  boolean updateLocation(Location raw) {
+    statusIndex = (statusIndex + 1) % statuses.length;
+    return true;
+  }
+
+  @Override
+  synchronized NavigationStatus retrieveStatus(Date date, long lagInMilliseconds) {
+    return statuses[Math.max(0, statusIndex)];
+  }
+}
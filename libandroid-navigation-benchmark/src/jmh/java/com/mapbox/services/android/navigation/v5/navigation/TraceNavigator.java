@@ -0,0 +1,239 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
+import com.mapbox.geojson.Point;
+import com.mapbox.navigator.NavigationStatus;
+import com.mapbox.navigator.RouteState;
+import com.mapbox.navigator.VoiceInstruction;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Deterministic stand-in for the native navigator, deriving a {@link NavigationStatus} for each
+ * location of a trace by matching it onto the route geometry.
+ * <p>
+ * All statuses are derived up front, so that a simulated session only measures the processing done
+ * by the SDK itself. Each location is matched to the closest point of the current step or of the
+ * next {@link #STEPS_LOOKED_AHEAD} steps, so matching only moves forward along the route. Locations
+ * further than {@link #OFF_ROUTE_DISTANCE_IN_METERS} from the route are off-route. Voice instructions
+ * are announced once, with the first status reaching their distance along the step.
+ */
+class TraceNavigator {
+
+  private static final double OFF_ROUTE_DISTANCE_IN_METERS = 50;
+  private static final double ARRIVAL_DISTANCE_IN_METERS = 15;
+  private static final int STEPS_LOOKED_AHEAD = 2;
+  private static final int ROUTE_INDEX = 0;
+  private static final double EARTH_RADIUS_IN_METERS = 6371008.8;
+  private final DirectionsRoute route;
+  private final RouteGeometryIndex geometryIndex;
+  private int legIndex;
+  private int stepIndex;
+  private double stepDistanceRemaining;
+  private double legDistanceRemaining;
+  private int announcedStepIndex = -1;
+  private int announcedLegIndex = -1;
+  private int announcedCount;
+
+  private int matchedLegIndex;
+  private int matchedStepIndex;
+  private double matchedDistance;
+  private double matchedDistanceAlong;
+  private double matchedLongitude;
+  private double matchedLatitude;
+
+  TraceNavigator(DirectionsRoute route, RouteGeometryIndex geometryIndex) {
+    this.route = route;
+    this.geometryIndex = geometryIndex;
+  }
+
+  /**
+   * @param trace to derive the statuses from
+   * @return one status for each location of the trace, in the same order
+   */
+  NavigationStatus[] deriveStatuses(List<Location> trace) {
+    NavigationStatus[] statuses = new NavigationStatus[trace.size()];
+    for (int i = 0; i < statuses.length; i++) {
+      statuses[i] = deriveStatus(trace.get(i));
+    }
+    return statuses;
+  }
+
+  private NavigationStatus deriveStatus(Location location) {
+    matchOntoRoute(location);
+    if (matchedDistance > OFF_ROUTE_DISTANCE_IN_METERS) {
+      Point rawPoint = Point.fromLngLat(location.getLongitude(), location.getLatitude());
+      return buildStatus(RouteState.OFFROUTE, rawPoint, location, null);
+    }
+    legIndex = matchedLegIndex;
+    stepIndex = matchedStepIndex;
+    LegStep step = stepAt(legIndex, stepIndex);
+    double stepLength = stepLength(legIndex, stepIndex);
+    double traveledRatio = stepLength > 0 ? Math.min(1, matchedDistanceAlong / stepLength) : 1;
+    stepDistanceRemaining = step.distance() * (1 - traveledRatio);
+    legDistanceRemaining = stepDistanceRemaining + distanceAfterStep(legIndex, stepIndex);
+    boolean isLastLeg = legIndex == route.legs().size() - 1;
+    RouteState routeState = isLastLeg && legDistanceRemaining <= ARRIVAL_DISTANCE_IN_METERS
+      ? RouteState.COMPLETE : RouteState.TRACKING;
+    Point snappedPoint = Point.fromLngLat(matchedLongitude, matchedLatitude);
+    return buildStatus(routeState, snappedPoint, location, findVoiceInstruction(step));
+  }
+
+  private NavigationStatus buildStatus(RouteState routeState, Point point, Location location,
+                                       VoiceInstruction voiceInstruction) {
+    LegStep step = stepAt(legIndex, stepIndex);
+    RouteLeg leg = route.legs().get(legIndex);
+    int stepDurationRemaining = (int) remainingDuration(step.duration(), step.distance(), stepDistanceRemaining);
+    int legDurationRemaining = (int) remainingDuration(leg.duration(), leg.distance(), legDistanceRemaining);
+    return new NavigationStatus(routeState, point, new Date(location.getTime()), location.getBearing(),
+      ROUTE_INDEX, legIndex, (float) legDistanceRemaining, legDurationRemaining, stepIndex,
+      (float) stepDistanceRemaining, stepDurationRemaining, voiceInstruction, false);
+  }
+
+  /**
+   * Finds the closest point of the current step and the ones looked ahead, preferring the earliest
+   * one on ties.
+   */
+  private void matchOntoRoute(Location location) {
+    matchedDistance = Double.MAX_VALUE;
+    int leg = legIndex;
+    int step = stepIndex;
+    for (int lookedAhead = 0; lookedAhead <= STEPS_LOOKED_AHEAD; lookedAhead++) {
+      matchOntoStep(location, leg, step);
+      step++;
+      if (step >= geometryIndex.stepCount(leg)) {
+        leg++;
+        step = 0;
+      }
+      if (leg >= geometryIndex.legCount()) {
+        break;
+      }
+    }
+  }
+
+  private void matchOntoStep(Location location, int leg, int step) {
+    int pointCount = geometryIndex.stepPointCount(leg, step);
+    if (pointCount == 0) {
+      return;
+    }
+    double latitude = location.getLatitude();
+    double longitude = location.getLongitude();
+    double metersPerDegreeLatitude = Math.toRadians(EARTH_RADIUS_IN_METERS);
+    double metersPerDegreeLongitude = metersPerDegreeLatitude * Math.cos(Math.toRadians(latitude));
+    double distanceAlong = 0;
+    double startX = (geometryIndex.stepLongitude(leg, step, 0) - longitude) * metersPerDegreeLongitude;
+    double startY = (geometryIndex.stepLatitude(leg, step, 0) - latitude) * metersPerDegreeLatitude;
+    if (pointCount == 1) {
+      updateMatch(leg, step, Math.hypot(startX, startY), 0, startX, startY, longitude, latitude,
+        metersPerDegreeLongitude, metersPerDegreeLatitude);
+      return;
+    }
+    for (int point = 1; point < pointCount; point++) {
+      double endX = (geometryIndex.stepLongitude(leg, step, point) - longitude) * metersPerDegreeLongitude;
+      double endY = (geometryIndex.stepLatitude(leg, step, point) - latitude) * metersPerDegreeLatitude;
+      double segmentX = endX - startX;
+      double segmentY = endY - startY;
+      double segmentLength = Math.hypot(segmentX, segmentY);
+      double fraction = 0;
+      if (segmentLength > 0) {
+        fraction = Math.max(0, Math.min(1, -(startX * segmentX + startY * segmentY) / (segmentLength * segmentLength)));
+      }
+      double closestX = startX + fraction * segmentX;
+      double closestY = startY + fraction * segmentY;
+      updateMatch(leg, step, Math.hypot(closestX, closestY), distanceAlong + fraction * segmentLength,
+        closestX, closestY, longitude, latitude, metersPerDegreeLongitude, metersPerDegreeLatitude);
+      distanceAlong += segmentLength;
+      startX = endX;
+      startY = endY;
+    }
+  }
+
+  private void updateMatch(int leg, int step, double distance, double distanceAlong, double x, double y,
+                           double longitude, double latitude, double metersPerDegreeLongitude,
+                           double metersPerDegreeLatitude) {
+    if (distance >= matchedDistance) {
+      return;
+    }
+    matchedLegIndex = leg;
+    matchedStepIndex = step;
+    matchedDistance = distance;
+    matchedDistanceAlong = distanceAlong;
+    matchedLongitude = longitude + x / metersPerDegreeLongitude;
+    matchedLatitude = latitude + y / metersPerDegreeLatitude;
+  }
+
+  /**
+   * @return length of the step geometry, measured the same way as the distance along it
+   */
+  private double stepLength(int leg, int step) {
+    int pointCount = geometryIndex.stepPointCount(leg, step);
+    double metersPerDegreeLatitude = Math.toRadians(EARTH_RADIUS_IN_METERS);
+    double length = 0;
+    for (int point = 1; point < pointCount; point++) {
+      double latitude = geometryIndex.stepLatitude(leg, step, point);
+      double metersPerDegreeLongitude = metersPerDegreeLatitude * Math.cos(Math.toRadians(latitude));
+      double x = (geometryIndex.stepLongitude(leg, step, point)
+        - geometryIndex.stepLongitude(leg, step, point - 1)) * metersPerDegreeLongitude;
+      double y = (latitude - geometryIndex.stepLatitude(leg, step, point - 1)) * metersPerDegreeLatitude;
+      length += Math.hypot(x, y);
+    }
+    return length;
+  }
+
+  private double distanceAfterStep(int leg, int step) {
+    List<LegStep> steps = route.legs().get(leg).steps();
+    double distance = 0;
+    for (int i = step + 1; i < steps.size(); i++) {
+      distance += steps.get(i).distance();
+    }
+    return distance;
+  }
+
+  /**
+   * Announces the last voice instruction of the step whose distance was reached since the previous
+   * announcement, if any.
+   */
+  private VoiceInstruction findVoiceInstruction(LegStep step) {
+    if (announcedLegIndex != legIndex || announcedStepIndex != stepIndex) {
+      announcedLegIndex = legIndex;
+      announcedStepIndex = stepIndex;
+      announcedCount = 0;
+    }
+    List<VoiceInstructions> voiceInstructions = step.voiceInstructions();
+    if (voiceInstructions == null) {
+      return null;
+    }
+    VoiceInstructions announced = null;
+    while (announcedCount < voiceInstructions.size()) {
+      VoiceInstructions next = voiceInstructions.get(announcedCount);
+      if (next.distanceAlongGeometry() == null || next.distanceAlongGeometry() < stepDistanceRemaining) {
+        break;
+      }
+      announced = next;
+      announcedCount++;
+    }
+    if (announced == null) {
+      return null;
+    }
+    return new VoiceInstruction(announced.ssmlAnnouncement(), announced.announcement(),
+      (float) stepDistanceRemaining);
+  }
+
+  private LegStep stepAt(int leg, int step) {
+    return route.legs().get(leg).steps().get(step);
+  }
+
+  private static double remainingDuration(Double duration, Double distance, double distanceRemaining) {
+    if (duration == null || distance == null || distance <= 0) {
+      return 0;
+    }
+    return duration * Math.min(1, distanceRemaining / distance);
+  }
+}
@@ -0,0 +1,46 @@
+package com.mapbox.services.android.navigation.v5.utils;
+
+import android.content.Context;
+import android.text.SpannableString;
+
+import com.mapbox.api.directions.v5.DirectionsCriteria;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationConstants;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Formatting of the distances shown in the instruction banner, for each of the rounding branches
+ * of {@link DistanceFormatter#formatDistance(double)}. The unit strings come from a mocked
+ * {@link Context}, as in the unit tests.
+ */
+@State(Scope.Benchmark)
+public class DistanceFormatterBenchmark {
+
+  @Param({"35", "1609", "24000"})
+  public double distance;
+
+  @Param({DirectionsCriteria.METRIC, DirectionsCriteria.IMPERIAL})
+  public String unitType;
+
+  private DistanceFormatter distanceFormatter;
+
+  @Setup
+  public void setup() {
+    Context context = mock(Context.class);
+    when(context.getString(anyInt())).thenReturn("unit");
+    distanceFormatter = new DistanceFormatter(context, "en", unitType, NavigationConstants.ROUNDING_INCREMENT_FIFTY);
+  }
+
+  @Benchmark
+  public SpannableString formatDistance() {
+    return distanceFormatter.formatDistance(distance);
+  }
+}
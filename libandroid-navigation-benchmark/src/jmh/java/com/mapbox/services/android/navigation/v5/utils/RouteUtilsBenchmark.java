@@ -0,0 +1,61 @@
+package com.mapbox.services.android.navigation.v5.utils;
+
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
+import com.mapbox.services.android.navigation.benchmark.BenchmarkFixtures;
+import com.mapbox.services.android.navigation.v5.instruction.InstructionTimeline;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * Banner and voice instruction lookups for the current step, through {@link RouteUtils} and
+ * through the per-route {@link InstructionTimeline} used by the route processor.
+ */
+@State(Scope.Benchmark)
+public class RouteUtilsBenchmark {
+
+  private static final int LEG_INDEX = 0;
+  private static final int STEP_INDEX = 0;
+  private RouteUtils routeUtils;
+  private LegStep step;
+  private double stepDistanceRemaining;
+  private InstructionTimeline timeline;
+  private InstructionTimeline.Cursor timelineCursor;
+
+  @Setup
+  public void setup() throws IOException {
+    DirectionsRoute route = BenchmarkFixtures.loadRoute(BenchmarkFixtures.PRECISION_6_ROUTE);
+    routeUtils = new RouteUtils();
+    step = route.legs().get(LEG_INDEX).steps().get(STEP_INDEX);
+    stepDistanceRemaining = step.distance() / 2;
+    timeline = InstructionTimeline.create(route);
+    timelineCursor = timeline.newCursor();
+  }
+
+  @Benchmark
+  public BannerInstructions findCurrentBannerInstructions() {
+    return routeUtils.findCurrentBannerInstructions(step, stepDistanceRemaining);
+  }
+
+  @Benchmark
+  public VoiceInstructions findCurrentVoiceInstructions() {
+    return routeUtils.findCurrentVoiceInstructions(step, stepDistanceRemaining);
+  }
+
+  @Benchmark
+  public BannerInstructions findCurrentBannerInstructionsInTimeline() {
+    return timeline.findCurrentBannerInstructions(LEG_INDEX, STEP_INDEX, stepDistanceRemaining);
+  }
+
+  @Benchmark
+  public VoiceInstructions findCurrentVoiceInstructionsWithCursor() {
+    return timelineCursor.findCurrentVoiceInstructions(LEG_INDEX, STEP_INDEX, stepDistanceRemaining);
+  }
+}
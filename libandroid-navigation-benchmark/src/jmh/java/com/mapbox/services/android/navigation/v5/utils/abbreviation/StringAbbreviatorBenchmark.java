@@ -0,0 +1,26 @@
+package com.mapbox.services.android.navigation.v5.utils.abbreviation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Abbreviation of instruction texts, short enough to be returned as is and long enough to be
+ * matched against every abbreviation.
+ */
+@State(Scope.Benchmark)
+public class StringAbbreviatorBenchmark {
+
+  @Param({
+    "Main Street",
+    "North Martin Luther King Junior Boulevard",
+    "Southeast Pennsylvania Avenue Northwest Expressway"
+  })
+  public String instruction;
+
+  @Benchmark
+  public String abbreviate() {
+    return StringAbbreviator.abbreviate(instruction);
+  }
+}
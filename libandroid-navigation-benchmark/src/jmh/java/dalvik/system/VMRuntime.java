@@ -0,0 +1,24 @@
+package dalvik.system;
+
+import java.lang.reflect.Array;
+
+/**
+ * Stands in for the native runtime of android-all, which framework collections such as
+ * {@code SparseArray} and {@code SpannableString} use to allocate their arrays. Mirrors what
+ * Robolectric does for unit tests.
+ */
+public final class VMRuntime {
+
+  private static final VMRuntime RUNTIME = new VMRuntime();
+
+  private VMRuntime() {
+  }
+
+  public static VMRuntime getRuntime() {
+    return RUNTIME;
+  }
+
+  public Object newUnpaddedArray(Class<?> componentType, int minLength) {
+    return Array.newInstance(componentType, minLength);
+  }
+}
@@ -0,0 +1,183 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.benchmark.BenchmarkFixtures;
+import com.mapbox.services.android.navigation.v5.location.replay.SessionTraces;
+import com.mapbox.services.android.navigation.v5.milestone.Milestone;
+import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListener;
+import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
+import com.mapbox.services.android.navigation.v5.route.SpeculativeRouteStats;
+import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.ROUTE_PROCESSING_MODE_LOCATION;
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+
+public class NavigationSessionSimulatorTest {
+
+  private static final long TRACE_START_TIME_IN_MILLIS = 1514764800000L;
+  private static final long PROGRESS_TIMEOUT_IN_SECONDS = 5;
+
+  @Test
+  public void tick_lapMatchesRealProcessingRun() throws Exception {
+    DirectionsRoute route = BenchmarkFixtures.loadRoute(BenchmarkFixtures.PRECISION_6_ROUTE);
+    List<Location> trace = SessionTraces.fromRoute(route, 50, 1, TRACE_START_TIME_IN_MILLIS);
+    MapboxNavigationOptions options = buildLocationDrivenOptions();
+
+    RecordedSession simulated = simulateLap(route, trace, options);
+    RecordedSession processed = processOnExecutor(route, trace, options);
+
+    assertEquals(trace.size(), processed.progresses.size());
+    assertEquals(processed.progresses.size(), simulated.progresses.size());
+    for (int i = 0; i < processed.progresses.size(); i++) {
+      RouteProgress expected = processed.progresses.get(i);
+      RouteProgress actual = simulated.progresses.get(i);
+      assertEquals(expected.distanceRemaining(), actual.distanceRemaining(), 0d);
+      assertEquals(expected.currentLegProgress().stepIndex(), actual.currentLegProgress().stepIndex());
+    }
+    assertEquals(processed.milestoneCount, simulated.milestoneCount);
+    assertEquals(processed.offRouteCount, simulated.offRouteCount);
+  }
+
+  @Test
+  public void retrieveSpeculativeRouteStats_availableWithoutLocationEngineOrTelemetry() throws Exception {
+    DirectionsRoute route = BenchmarkFixtures.loadRoute(BenchmarkFixtures.PRECISION_6_ROUTE);
+    List<Location> trace = SessionTraces.fromRoute(route, 50, 1, TRACE_START_TIME_IN_MILLIS);
+    NavigationSessionSimulator simulator = new NavigationSessionSimulator(route, trace,
+      buildLocationDrivenOptions());
+
+    SpeculativeRouteStats stats = simulator.retrieveNavigation().retrieveSpeculativeRouteStats();
+
+    assertEquals(0, stats.requestCount());
+  }
+
+  private MapboxNavigationOptions buildLocationDrivenOptions() {
+    return MapboxNavigationOptions.builder()
+      .routeProcessingMode(ROUTE_PROCESSING_MODE_LOCATION)
+      .minimumRouteProcessingIntervalInMilliseconds(0)
+      .build();
+  }
+
+  private RecordedSession simulateLap(DirectionsRoute route, List<Location> trace, MapboxNavigationOptions options) {
+    NavigationSessionSimulator simulator = new NavigationSessionSimulator(route, trace, options);
+    RecordedSession session = new RecordedSession();
+    MapboxNavigation navigation = simulator.retrieveNavigation();
+    navigation.addProgressChangeListener(session);
+    navigation.addMilestoneEventListener(session);
+    navigation.addOffRouteListener(session);
+    for (int i = 0; i < trace.size(); i++) {
+      simulator.tick();
+    }
+    return session;
+  }
+
+  /**
+   * Runs the processing on a navigation thread, as a running session with a navigation executor
+   * does, handing over the next location once the progress of the previous one arrived.
+   */
+  private RecordedSession processOnExecutor(DirectionsRoute route, List<Location> trace,
+                                            MapboxNavigationOptions options) throws Exception {
+    TraceNavigator traceNavigator = new TraceNavigator(route, RouteGeometryIndex.create(route));
+    MapboxNavigation navigation = new MapboxNavigation(options,
+      new StatusReplayNavigator(traceNavigator.deriveStatuses(trace)));
+    navigation.updateRoute(route);
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    NavigationScheduler scheduler = new ExecutorNavigationScheduler(executor);
+    RecordingListener listener = new RecordingListener();
+    RouteProcessorBackgroundThread processorThread = new RouteProcessorBackgroundThread(navigation, scheduler,
+      scheduler, listener);
+    RecordedSession session = new RecordedSession();
+    try {
+      for (Location location : trace) {
+        processorThread.updateRawLocation(location);
+        RouteProgress routeProgress = listener.progresses.poll(PROGRESS_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(routeProgress);
+        session.progresses.add(routeProgress);
+      }
+      processorThread.quit();
+      executor.submit(new Runnable() {
+        @Override
+        public void run() {
+          // Waits for the work already posted to the navigation thread
+        }
+      }).get(PROGRESS_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+    session.milestoneCount = listener.milestoneCount;
+    session.offRouteCount = listener.offRouteCount;
+    return session;
+  }
+
+  private static class RecordedSession implements ProgressChangeListener, MilestoneEventListener,
+    OffRouteListener {
+
+    private final List<RouteProgress> progresses = new ArrayList<>();
+    private long milestoneCount;
+    private long offRouteCount;
+
+    @Override
+    public void onProgressChange(Location location, RouteProgress routeProgress) {
+      progresses.add(routeProgress);
+    }
+
+    @Override
+    public void onMilestoneEvent(RouteProgress routeProgress, String instruction, Milestone milestone) {
+      milestoneCount++;
+    }
+
+    @Override
+    public void userOffRoute(Location location) {
+      offRouteCount++;
+    }
+  }
+
+  private static class RecordingListener implements RouteProcessorBackgroundThread.Listener {
+
+    private final BlockingQueue<RouteProgress> progresses = new LinkedBlockingQueue<>();
+    private volatile long milestoneCount;
+    private volatile long offRouteCount;
+
+    @Override
+    public void onNewRouteProgressOnProcessingThread(Location location, RouteProgress routeProgress,
+                                                    NavigationScheduler processingThreadScheduler) {
+      // Progress is recorded once delivered
+    }
+
+    @Override
+    public void onNewRouteProgress(Location location, RouteProgress routeProgress) {
+      progresses.add(routeProgress);
+    }
+
+    @Override
+    public void onMilestoneTrigger(List<Milestone> triggeredMilestones, RouteProgress routeProgress) {
+      milestoneCount += triggeredMilestones.size();
+    }
+
+    @Override
+    public void onUserOffRoute(Location location, boolean userOffRoute) {
+      if (userOffRoute) {
+        offRouteCount++;
+      }
+    }
+
+    @Override
+    public void onCheckFasterRoute(Location location, RouteProgress routeProgress, boolean checkFasterRoute) {
+      // Faster route detection is disabled
+    }
+  }
+}
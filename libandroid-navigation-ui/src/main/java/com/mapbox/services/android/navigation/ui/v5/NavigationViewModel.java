@@ -43,6 +43,7 @@ import com.mapbox.services.android.navigation.v5.navigation.camera.Camera;
 import com.mapbox.services.android.navigation.v5.navigation.metrics.FeedbackEvent;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
 import com.mapbox.services.android.navigation.v5.route.FasterRouteListener;
+import com.mapbox.services.android.navigation.v5.route.SpeculativeRouteListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
@@ -87,7 +88,6 @@ public class NavigationViewModel extends AndroidViewModel {
     super(application);
     this.accessToken = Mapbox.getAccessToken();
     initializeConnectivityManager(application);
-    initializeNavigationRouteEngine();
     initializeNavigationLocationEngine();
     routeUtils = new RouteUtils();
     localeUtils = new LocaleUtils();
@@ -183,6 +183,7 @@ public class NavigationViewModel extends AndroidViewModel {
     initializeDistanceFormatter(options);
     initializeNavigationSpeechPlayer(options);
     if (!isRunning) {
+      initializeNavigationRouteEngine(navigationOptions);
       LocationEngine locationEngine = initializeLocationEngineFrom(options);
       initializeNavigation(getApplication(), navigationOptions, locationEngine);
       addMilestones(options);
@@ -210,8 +211,9 @@ public class NavigationViewModel extends AndroidViewModel {
     connectivityManager = (ConnectivityManager) application.getSystemService(Context.CONNECTIVITY_SERVICE);
   }
 
-  private void initializeNavigationRouteEngine() {
-    navigationViewRouteEngine = new ViewRouteFetcher(getApplication(), accessToken, routeEngineListener);
+  private void initializeNavigationRouteEngine(MapboxNavigationOptions options) {
+    navigationViewRouteEngine = new ViewRouteFetcher(getApplication(), accessToken, options.directionsCache(),
+      routeEngineListener);
   }
 
   private void initializeNavigationLocationEngine() {
@@ -275,6 +277,7 @@ public class NavigationViewModel extends AndroidViewModel {
 
   private void initializeNavigation(Context context, MapboxNavigationOptions options, LocationEngine locationEngine) {
     navigation = new MapboxNavigation(context, accessToken, options, locationEngine);
+    navigation.traceRouteFetcher(navigationViewRouteEngine);
     addNavigationListeners();
   }
 
@@ -284,6 +287,7 @@ public class NavigationViewModel extends AndroidViewModel {
     navigation.addMilestoneEventListener(milestoneEventListener);
     navigation.addNavigationEventListener(navigationEventListener);
     navigation.addFasterRouteListener(fasterRouteListener);
+    navigation.addSpeculativeRouteListener(speculativeRouteListener);
   }
 
   private void addMilestones(NavigationViewOptions options) {
@@ -338,6 +342,13 @@ public class NavigationViewModel extends AndroidViewModel {
     }
   };
 
+  private SpeculativeRouteListener speculativeRouteListener = new SpeculativeRouteListener() {
+    @Override
+    public void speculativeRouteUsed(DirectionsRoute directionsRoute) {
+      updateStartedRoute(directionsRoute);
+    }
+  };
+
   private ViewRouteListener routeEngineListener = new ViewRouteListener() {
     @Override
     public void onRouteUpdate(DirectionsRoute directionsRoute) {
@@ -374,6 +385,17 @@ public class NavigationViewModel extends AndroidViewModel {
     isOffRoute.setValue(false);
   }
 
+  /**
+   * Updates the view for a route {@link MapboxNavigation} already started on its own.
+   */
+  private void updateStartedRoute(DirectionsRoute route) {
+    this.route.setValue(route);
+    updateSimulatedRoute(route);
+    resetConfigurationFlag();
+    sendEventOnRerouteAlong(route);
+    isOffRoute.setValue(false);
+  }
+
   private boolean isOffRoute() {
     try {
       return isOffRoute.getValue();
@@ -218,7 +218,7 @@ public class NavigationCamera implements LifecycleObserver {
    */
   @NonNull
   private RouteInformation buildRouteInformationFromRoute(DirectionsRoute route) {
-    return RouteInformation.create(route, null, null);
+    return RouteInformation.create(route, null, null, navigation.getRouteGeometryIndex());
   }
 
   /**
@@ -240,7 +240,7 @@ public class NavigationCamera implements LifecycleObserver {
     if (routeProgress == null) {
       return RouteInformation.create(null, null, null);
     }
-    return RouteInformation.create(routeProgress.directionsRoute(), null, null);
+    return RouteInformation.create(routeProgress.directionsRoute(), null, null, navigation.getRouteGeometryIndex());
   }
 
   private void setTrackingEnabled(boolean trackingEnabled) {
@@ -0,0 +1,19 @@
+package com.mapbox.services.android.navigation.ui.v5.location;
+
+import android.location.Location;
+
+/**
+ * Receives the locations of an {@link InterpolatedLocationStream}, once per display frame.
+ *
+ * @since 0.21.0
+ */
+public interface InterpolatedLocationListener {
+
+  /**
+   * Called on the main thread with the predicted location for the current frame.
+   *
+   * @param location predicted along the route
+   * @since 0.21.0
+   */
+  void onInterpolatedLocation(Location location);
+}
@@ -0,0 +1,142 @@
+package com.mapbox.services.android.navigation.ui.v5.location;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.view.Choreographer;
+
+import com.mapbox.services.android.navigation.v5.location.RouteLocationInterpolator;
+import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
+import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides a location at each display frame, predicted along the route from the latest progress
+ * of {@link MapboxNavigation} by a {@link RouteLocationInterpolator}.
+ * <p>
+ * The location icon and the map camera can follow these locations to move smoothly, while the
+ * route keeps being processed at its own, lower, rate. While the user is off-route, the snapped
+ * location of each progress update is provided as is, until a new route is being navigated.
+ *
+ * @since 0.21.0
+ */
+public class InterpolatedLocationStream implements Choreographer.FrameCallback {
+
+  private final MapboxNavigation navigation;
+  private final RouteLocationInterpolator interpolator;
+  private final Choreographer choreographer;
+  private final List<InterpolatedLocationListener> listeners = new CopyOnWriteArrayList<>();
+  private RouteGeometryIndex offRouteGeometryIndex;
+  private boolean isOffRoute;
+  private boolean isRunning;
+  private final ProgressChangeListener progressChangeListener = new ProgressChangeListener() {
+    @Override
+    public void onProgressChange(Location location, RouteProgress routeProgress) {
+      updateInterpolator(location, routeProgress);
+    }
+  };
+  private final OffRouteListener offRouteListener = new OffRouteListener() {
+    @Override
+    public void userOffRoute(Location location) {
+      isOffRoute = true;
+      offRouteGeometryIndex = navigation.getRouteGeometryIndex();
+    }
+  };
+
+  /**
+   * Creates a stream following the progress of the given navigation.
+   *
+   * @param navigation providing the progress to predict the locations from
+   * @since 0.21.0
+   */
+  public InterpolatedLocationStream(@NonNull MapboxNavigation navigation) {
+    this(navigation, new RouteLocationInterpolator(), Choreographer.getInstance());
+  }
+
+  // Package private (no modifier) for testing purposes
+  InterpolatedLocationStream(MapboxNavigation navigation, RouteLocationInterpolator interpolator,
+                             Choreographer choreographer) {
+    this.navigation = navigation;
+    this.interpolator = interpolator;
+    this.choreographer = choreographer;
+  }
+
+  /**
+   * @param listener to receive a location at each frame
+   * @since 0.21.0
+   */
+  public void addListener(@NonNull InterpolatedLocationListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * @param listener to stop receiving locations
+   * @since 0.21.0
+   */
+  public void removeListener(@NonNull InterpolatedLocationListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Starts following the progress and providing locations at each frame. Must be called from the
+   * main thread.
+   *
+   * @since 0.21.0
+   */
+  public void start() {
+    if (isRunning) {
+      return;
+    }
+    isRunning = true;
+    navigation.addProgressChangeListener(progressChangeListener);
+    navigation.addOffRouteListener(offRouteListener);
+    choreographer.postFrameCallback(this);
+  }
+
+  /**
+   * Stops following the progress and providing locations. Must be called from the main thread.
+   *
+   * @since 0.21.0
+   */
+  public void stop() {
+    if (!isRunning) {
+      return;
+    }
+    isRunning = false;
+    navigation.removeProgressChangeListener(progressChangeListener);
+    navigation.removeOffRouteListener(offRouteListener);
+    choreographer.removeFrameCallback(this);
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    if (!isRunning) {
+      return;
+    }
+    Location location = interpolator.interpolate(TimeUnit.NANOSECONDS.toMillis(frameTimeNanos));
+    if (location != null) {
+      for (InterpolatedLocationListener listener : listeners) {
+        listener.onInterpolatedLocation(location);
+      }
+    }
+    choreographer.postFrameCallback(this);
+  }
+
+  /**
+   * Progress updates and frames are both timed with {@link System#nanoTime()}, which is the time
+   * base of the frame times given by the {@link Choreographer}.
+   */
+  private void updateInterpolator(Location location, RouteProgress routeProgress) {
+    RouteGeometryIndex geometryIndex = navigation.getRouteGeometryIndex();
+    if (isOffRoute && geometryIndex != offRouteGeometryIndex) {
+      isOffRoute = false;
+    }
+    long elapsedTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    interpolator.update(location, routeProgress, isOffRoute ? null : geometryIndex, elapsedTimeInMillis);
+  }
+}
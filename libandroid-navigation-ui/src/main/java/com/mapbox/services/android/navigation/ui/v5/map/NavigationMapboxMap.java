@@ -28,6 +28,8 @@ import com.mapbox.services.android.navigation.ui.v5.NavigationSnapshotReadyCallb
 import com.mapbox.services.android.navigation.ui.v5.R;
 import com.mapbox.services.android.navigation.ui.v5.ThemeSwitcher;
 import com.mapbox.services.android.navigation.ui.v5.camera.NavigationCamera;
+import com.mapbox.services.android.navigation.ui.v5.location.InterpolatedLocationListener;
+import com.mapbox.services.android.navigation.ui.v5.location.InterpolatedLocationStream;
 import com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute;
 import com.mapbox.services.android.navigation.ui.v5.route.OnRouteSelectionChangeListener;
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
@@ -82,6 +84,13 @@ public class NavigationMapboxMap {
   private SymbolLayer waynameLayer;
   private MapLayerInteractor layerInteractor;
   private List<Marker> mapMarkers = new ArrayList<>();
+  private InterpolatedLocationStream interpolatedLocationStream;
+  private final InterpolatedLocationListener interpolatedLocationListener = new InterpolatedLocationListener() {
+    @Override
+    public void onInterpolatedLocation(Location location) {
+      locationLayer.forceLocationUpdate(location);
+    }
+  };
 
   /**
    * Constructor that can be used once {@link com.mapbox.mapboxsdk.maps.OnMapReadyCallback}
@@ -142,14 +151,46 @@ public class NavigationMapboxMap {
   /**
    * Updates the location icon on the map and way name data (if found)
    * for the given {@link Location}.
+   * <p>
+   * While an {@link InterpolatedLocationStream} is added, only the way name data is updated.
    *
    * @param location to update the icon and query the map
    */
   public void updateLocation(Location location) {
-    locationLayer.forceLocationUpdate(location);
+    if (interpolatedLocationStream == null) {
+      locationLayer.forceLocationUpdate(location);
+    }
     updateMapWaynameWithLocation(location);
   }
 
+  /**
+   * Moves the location icon with the locations of the given stream, at display frame rate,
+   * instead of with each location given to {@link #updateLocation(Location)}. As the camera
+   * tracks the location icon, it follows the same locations.
+   * <p>
+   * Starting and stopping the stream is left to the caller, so it can be shared.
+   *
+   * @param stream providing the locations
+   * @since 0.21.0
+   */
+  public void addInterpolatedLocationStream(@NonNull InterpolatedLocationStream stream) {
+    removeInterpolatedLocationStream();
+    interpolatedLocationStream = stream;
+    stream.addListener(interpolatedLocationListener);
+  }
+
+  /**
+   * Moves the location icon with each location given to {@link #updateLocation(Location)} again.
+   *
+   * @since 0.21.0
+   */
+  public void removeInterpolatedLocationStream() {
+    if (interpolatedLocationStream != null) {
+      interpolatedLocationStream.removeListener(interpolatedLocationListener);
+      interpolatedLocationStream = null;
+    }
+  }
+
   /**
    * Updates how the user location is shown on the map.
    * <p>
@@ -40,6 +40,7 @@ import com.mapbox.services.android.navigation.ui.v5.R;
 import com.mapbox.services.android.navigation.ui.v5.utils.MapImageUtils;
 import com.mapbox.services.android.navigation.ui.v5.utils.MapUtils;
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.turf.TurfConstants;
@@ -1058,15 +1059,25 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
    */
   private FeatureCollection addTrafficToSource(DirectionsRoute route, int index) {
     final List<Feature> features = new ArrayList<>();
-    LineString originalGeometry = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+    LineString originalGeometry = buildRouteLineString(route);
     buildRouteFeatureFromGeometry(index, features, originalGeometry);
     routeLineStrings.put(originalGeometry, route);
-
-    LineString lineString = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
-    buildTrafficFeaturesFromRoute(route, index, features, lineString);
+    buildTrafficFeaturesFromRoute(route, index, features, originalGeometry);
     return FeatureCollection.fromFeatures(features);
   }
 
+  /**
+   * Reuses the geometry already decoded by {@link MapboxNavigation} when drawing the route
+   * being navigated, otherwise the route geometry is decoded once here.
+   */
+  private LineString buildRouteLineString(DirectionsRoute route) {
+    RouteGeometryIndex routeGeometryIndex = navigation == null ? null : navigation.getRouteGeometryIndex();
+    if (routeGeometryIndex != null && routeGeometryIndex.isIndexOf(route)) {
+      return LineString.fromLngLats(routeGeometryIndex.routePoints());
+    }
+    return LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+  }
+
   private void buildRouteFeatureFromGeometry(int index, List<Feature> features, LineString originalGeometry) {
     Feature feat = Feature.fromGeometry(originalGeometry);
     feat.addStringProperty(SOURCE_KEY, String.format(Locale.US, ID_FORMAT, GENERIC_ROUTE_SOURCE_ID, index));
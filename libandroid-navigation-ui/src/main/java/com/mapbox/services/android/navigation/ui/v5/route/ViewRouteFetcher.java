@@ -11,6 +11,7 @@ import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.RouteOptions;
 import com.mapbox.geojson.Point;
 import com.mapbox.services.android.navigation.ui.v5.NavigationViewOptions;
+import com.mapbox.services.android.navigation.v5.route.DirectionsResponseCache;
 import com.mapbox.services.android.navigation.v5.route.RouteFetcher;
 import com.mapbox.services.android.navigation.v5.route.RouteListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
@@ -28,7 +29,22 @@ public class ViewRouteFetcher extends RouteFetcher implements RouteListener {
   private Location rawLocation;
 
   public ViewRouteFetcher(Context context, String accessToken, ViewRouteListener listener) {
-    super(context, accessToken);
+    this(context, accessToken, null, listener);
+  }
+
+  /**
+   * Creates a fetcher for the reroutes of a {@link com.mapbox.services.android.navigation.ui.v5.NavigationView},
+   * looking them up in the given cache before requesting them.
+   *
+   * @param context         for building the route requests
+   * @param accessToken     for the Directions API
+   * @param directionsCache holding the routes already fetched, or null to always request them
+   * @param listener        notified of the routes found
+   * @since 0.21.0
+   */
+  public ViewRouteFetcher(Context context, String accessToken, @Nullable DirectionsResponseCache directionsCache,
+                          ViewRouteListener listener) {
+    super(context, accessToken, directionsCache);
     this.listener = listener;
     addRouteListener(this);
   }
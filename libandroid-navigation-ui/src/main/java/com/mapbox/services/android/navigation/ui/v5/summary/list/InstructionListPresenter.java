@@ -7,6 +7,7 @@ import android.view.View;
 import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.services.android.navigation.v5.instruction.InstructionTimeline;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
@@ -15,6 +16,8 @@ import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.UNKNOWN_ROUTE_GENERATION;
+
 public class InstructionListPresenter {
 
   private static final int TWO_LINES = 2;
@@ -26,6 +29,10 @@ public class InstructionListPresenter {
   private DistanceFormatter distanceFormatter;
   private List<BannerInstructions> instructions;
   private RouteLeg currentLeg;
+  private int currentRouteGeneration = UNKNOWN_ROUTE_GENERATION;
+  private int currentLegIndex;
+  private InstructionTimeline.Cursor instructionCursor;
+  private int removedInstructionCount;
 
   InstructionListPresenter(RouteUtils routeUtils, DistanceFormatter distanceFormatter) {
     this.routeUtils = routeUtils;
@@ -112,6 +119,11 @@ public class InstructionListPresenter {
     if (isNewLeg(routeProgress)) {
       instructions = new ArrayList<>();
       currentLeg = routeProgress.currentLeg();
+      currentRouteGeneration = routeProgress.routeGeneration();
+      currentLegIndex = routeProgress.legIndex();
+      InstructionTimeline timeline = routeProgress.instructionTimeline();
+      instructionCursor = timeline != null ? timeline.newCursor() : null;
+      removedInstructionCount = 0;
       List<LegStep> steps = currentLeg.steps();
       for (LegStep step : steps) {
         List<BannerInstructions> bannerInstructions = step.bannerInstructions();
@@ -123,7 +135,16 @@ public class InstructionListPresenter {
   }
 
   private boolean isNewLeg(RouteProgress routeProgress) {
-    return currentLeg == null || !currentLeg.equals(routeProgress.currentLeg());
+    if (currentLeg == null) {
+      return true;
+    }
+    boolean hasRouteGeneration = currentRouteGeneration != UNKNOWN_ROUTE_GENERATION
+      && routeProgress.routeGeneration() != UNKNOWN_ROUTE_GENERATION;
+    if (hasRouteGeneration) {
+      return currentRouteGeneration != routeProgress.routeGeneration()
+        || currentLegIndex != routeProgress.legIndex();
+    }
+    return !currentLeg.equals(routeProgress.currentLeg());
   }
 
   private boolean updateInstructionList(RouteProgress routeProgress) {
@@ -131,8 +152,18 @@ public class InstructionListPresenter {
       return false;
     }
     RouteLegProgress legProgress = routeProgress.currentLegProgress();
-    LegStep currentStep = legProgress.currentStep();
     double stepDistanceRemaining = legProgress.currentStepProgress().distanceRemaining();
+    if (instructionCursor != null) {
+      int currentLegPosition = instructionCursor.findCurrentBannerPosition(
+        routeProgress.legIndex(), legProgress.stepIndex(), stepDistanceRemaining
+      );
+      int currentInstructionIndex = currentLegPosition - removedInstructionCount;
+      if (currentLegPosition < 0 || currentInstructionIndex < 0) {
+        return false;
+      }
+      return removeInstructionsFrom(currentInstructionIndex);
+    }
+    LegStep currentStep = legProgress.currentStep();
     BannerInstructions currentBannerInstructions = routeUtils.findCurrentBannerInstructions(
       currentStep, stepDistanceRemaining
     );
@@ -146,9 +177,11 @@ public class InstructionListPresenter {
   private boolean removeInstructionsFrom(int currentInstructionIndex) {
     if (currentInstructionIndex == FIRST_INSTRUCTION_INDEX) {
       instructions.remove(FIRST_INSTRUCTION_INDEX);
+      removedInstructionCount++;
       return true;
     } else if (currentInstructionIndex <= instructions.size()) {
       instructions.subList(FIRST_INSTRUCTION_INDEX, currentInstructionIndex).clear();
+      removedInstructionCount += currentInstructionIndex;
       return true;
     }
     return false;
@@ -0,0 +1,138 @@
+package com.mapbox.services.android.navigation.ui.v5.location;
+
+import android.location.Location;
+import android.view.Choreographer;
+
+import com.mapbox.services.android.navigation.v5.location.RouteLocationInterpolator;
+import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
+import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class InterpolatedLocationStreamTest {
+
+  @Test
+  public void start_postsFrameCallback() {
+    Choreographer choreographer = mock(Choreographer.class);
+    InterpolatedLocationStream stream = new InterpolatedLocationStream(mock(MapboxNavigation.class),
+      mock(RouteLocationInterpolator.class), choreographer);
+
+    stream.start();
+
+    verify(choreographer).postFrameCallback(stream);
+  }
+
+  @Test
+  public void doFrame_dispatchesInterpolatedLocationAndPostsNextFrame() {
+    Choreographer choreographer = mock(Choreographer.class);
+    RouteLocationInterpolator interpolator = mock(RouteLocationInterpolator.class);
+    Location location = mock(Location.class);
+    when(interpolator.interpolate(2000)).thenReturn(location);
+    InterpolatedLocationListener listener = mock(InterpolatedLocationListener.class);
+    InterpolatedLocationStream stream = new InterpolatedLocationStream(mock(MapboxNavigation.class),
+      interpolator, choreographer);
+    stream.addListener(listener);
+    stream.start();
+
+    stream.doFrame(2000000000L);
+
+    verify(listener).onInterpolatedLocation(location);
+    verify(choreographer, times(2)).postFrameCallback(stream);
+  }
+
+  @Test
+  public void doFrame_afterStopDoesNotDispatch() {
+    Choreographer choreographer = mock(Choreographer.class);
+    RouteLocationInterpolator interpolator = mock(RouteLocationInterpolator.class);
+    when(interpolator.interpolate(anyLong())).thenReturn(mock(Location.class));
+    InterpolatedLocationListener listener = mock(InterpolatedLocationListener.class);
+    InterpolatedLocationStream stream = new InterpolatedLocationStream(mock(MapboxNavigation.class),
+      interpolator, choreographer);
+    stream.addListener(listener);
+    stream.start();
+    stream.stop();
+
+    stream.doFrame(2000000000L);
+
+    verify(choreographer).removeFrameCallback(stream);
+    verify(listener, never()).onInterpolatedLocation(any(Location.class));
+  }
+
+  @Test
+  public void onProgressChange_updatesInterpolatorWithGeometryIndex() {
+    MapboxNavigation navigation = mock(MapboxNavigation.class);
+    RouteGeometryIndex geometryIndex = mock(RouteGeometryIndex.class);
+    when(navigation.getRouteGeometryIndex()).thenReturn(geometryIndex);
+    RouteLocationInterpolator interpolator = mock(RouteLocationInterpolator.class);
+    InterpolatedLocationStream stream = new InterpolatedLocationStream(navigation, interpolator,
+      mock(Choreographer.class));
+    stream.start();
+    Location location = mock(Location.class);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+
+    captureProgressChangeListener(navigation).onProgressChange(location, routeProgress);
+
+    verify(interpolator).update(eq(location), eq(routeProgress), eq(geometryIndex), anyLong());
+  }
+
+  @Test
+  public void onProgressChange_whileOffRouteUpdatesInterpolatorWithoutGeometryIndex() {
+    MapboxNavigation navigation = mock(MapboxNavigation.class);
+    when(navigation.getRouteGeometryIndex()).thenReturn(mock(RouteGeometryIndex.class));
+    RouteLocationInterpolator interpolator = mock(RouteLocationInterpolator.class);
+    InterpolatedLocationStream stream = new InterpolatedLocationStream(navigation, interpolator,
+      mock(Choreographer.class));
+    stream.start();
+    Location location = mock(Location.class);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+
+    captureOffRouteListener(navigation).userOffRoute(location);
+    captureProgressChangeListener(navigation).onProgressChange(location, routeProgress);
+
+    verify(interpolator).update(eq(location), eq(routeProgress), (RouteGeometryIndex) isNull(), anyLong());
+  }
+
+  @Test
+  public void onProgressChange_newRouteAfterOffRouteUpdatesInterpolatorWithGeometryIndex() {
+    MapboxNavigation navigation = mock(MapboxNavigation.class);
+    RouteGeometryIndex newGeometryIndex = mock(RouteGeometryIndex.class);
+    when(navigation.getRouteGeometryIndex()).thenReturn(mock(RouteGeometryIndex.class), newGeometryIndex);
+    RouteLocationInterpolator interpolator = mock(RouteLocationInterpolator.class);
+    InterpolatedLocationStream stream = new InterpolatedLocationStream(navigation, interpolator,
+      mock(Choreographer.class));
+    stream.start();
+    Location location = mock(Location.class);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+
+    captureOffRouteListener(navigation).userOffRoute(location);
+    captureProgressChangeListener(navigation).onProgressChange(location, routeProgress);
+
+    verify(interpolator).update(eq(location), eq(routeProgress), eq(newGeometryIndex), anyLong());
+  }
+
+  private ProgressChangeListener captureProgressChangeListener(MapboxNavigation navigation) {
+    ArgumentCaptor<ProgressChangeListener> captor = ArgumentCaptor.forClass(ProgressChangeListener.class);
+    verify(navigation).addProgressChangeListener(captor.capture());
+    return captor.getValue();
+  }
+
+  private OffRouteListener captureOffRouteListener(MapboxNavigation navigation) {
+    ArgumentCaptor<OffRouteListener> captor = ArgumentCaptor.forClass(OffRouteListener.class);
+    verify(navigation).addOffRouteListener(captor.capture());
+    return captor.getValue();
+  }
+}
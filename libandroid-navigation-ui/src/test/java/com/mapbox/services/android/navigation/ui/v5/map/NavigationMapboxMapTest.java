@@ -1,12 +1,17 @@
 package com.mapbox.services.android.navigation.ui.v5.map;
 
+import android.location.Location;
+
 import com.mapbox.mapboxsdk.plugins.locationlayer.LocationLayerPlugin;
 import com.mapbox.mapboxsdk.plugins.locationlayer.modes.RenderMode;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.ui.v5.location.InterpolatedLocationListener;
+import com.mapbox.services.android.navigation.ui.v5.location.InterpolatedLocationStream;
 import com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute;
 import com.mapbox.services.android.navigation.ui.v5.route.OnRouteSelectionChangeListener;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -102,4 +107,32 @@ public class NavigationMapboxMapTest {
 
     verify(mapRoute).showAlternativeRoutes(notVisible);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void addInterpolatedLocationStream_locationsAreForcedToLocationLayer() {
+    LocationLayerPlugin locationLayer = mock(LocationLayerPlugin.class);
+    NavigationMapboxMap theNavigationMap = new NavigationMapboxMap(locationLayer);
+    InterpolatedLocationStream stream = mock(InterpolatedLocationStream.class);
+    ArgumentCaptor<InterpolatedLocationListener> listener = ArgumentCaptor.forClass(InterpolatedLocationListener.class);
+    Location location = mock(Location.class);
+
+    theNavigationMap.addInterpolatedLocationStream(stream);
+    verify(stream).addListener(listener.capture());
+    listener.getValue().onInterpolatedLocation(location);
+
+    verify(locationLayer).forceLocationUpdate(eq(location));
+  }
+
+  @Test
+  public void removeInterpolatedLocationStream_listenerIsRemoved() {
+    NavigationMapboxMap theNavigationMap = new NavigationMapboxMap(mock(LocationLayerPlugin.class));
+    InterpolatedLocationStream stream = mock(InterpolatedLocationStream.class);
+    ArgumentCaptor<InterpolatedLocationListener> listener = ArgumentCaptor.forClass(InterpolatedLocationListener.class);
+    theNavigationMap.addInterpolatedLocationStream(stream);
+    verify(stream).addListener(listener.capture());
+
+    theNavigationMap.removeInterpolatedLocationStream();
+
+    verify(stream).removeListener(eq(listener.getValue()));
+  }
+}
@@ -0,0 +1,368 @@
+package com.mapbox.services.android.navigation.v5.instruction;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The banner and voice instructions of a {@link DirectionsRoute}, sorted once per route by their
+ * distance along the step geometry.
+ * <p>
+ * Instructions of all legs and steps are kept in flat arrays, with their distances in a primitive
+ * array and offsets marking where each step begins. Lookups return the same instructions as
+ * {@link com.mapbox.services.android.navigation.v5.utils.RouteUtils#findCurrentBannerInstructions(LegStep, double)}
+ * and
+ * {@link com.mapbox.services.android.navigation.v5.utils.RouteUtils#findCurrentVoiceInstructions(LegStep, double)},
+ * without copying or sorting the step instructions on each call.
+ * <p>
+ * For lookups on every progress update, use a {@link Cursor}, which moves forward as the step
+ * distance remaining decreases and only rewinds once the step changes.
+ *
+ * @since 0.21.0
+ */
+public final class InstructionTimeline {
+
+  private static final int NOT_FOUND = -1;
+
+  private final DirectionsRoute route;
+  private final int[] legOffsets;
+  private final Instructions<BannerInstructions> banners;
+  private final Instructions<VoiceInstructions> voices;
+
+  private InstructionTimeline(DirectionsRoute route) {
+    this.route = route;
+    List<RouteLeg> legs = route.legs() == null ? Collections.<RouteLeg>emptyList() : route.legs();
+    List<LegStep> steps = new ArrayList<>();
+    legOffsets = new int[legs.size() + 1];
+    for (int legIndex = 0; legIndex < legs.size(); legIndex++) {
+      legOffsets[legIndex] = steps.size();
+      RouteLeg leg = legs.get(legIndex);
+      if (leg != null && leg.steps() != null) {
+        steps.addAll(leg.steps());
+      }
+    }
+    legOffsets[legs.size()] = steps.size();
+    banners = new Instructions<>(steps, BANNER_INSTRUCTIONS);
+    voices = new Instructions<>(steps, VOICE_INSTRUCTIONS);
+  }
+
+  /**
+   * Sorts the banner and voice instructions of every step in the given route.
+   *
+   * @param route holding the instructions
+   * @return a new timeline for the route
+   * @since 0.21.0
+   */
+  @NonNull
+  public static InstructionTimeline create(@NonNull DirectionsRoute route) {
+    return new InstructionTimeline(route);
+  }
+
+  /**
+   * Checks if this timeline was built from the given route instance.
+   *
+   * @param route to compare against
+   * @return true if the timeline holds the instructions of this exact route, false otherwise
+   * @since 0.21.0
+   */
+  public boolean isTimelineOf(@Nullable DirectionsRoute route) {
+    return this.route == route;
+  }
+
+  /**
+   * Finds the banner instructions to be shown at the given distance remaining along the step.
+   *
+   * @param legIndex              of the leg
+   * @param stepIndex             of the step within the leg
+   * @param stepDistanceRemaining to determine progress along the step
+   * @return current banner instructions, or null if the step has none
+   * @since 0.21.0
+   */
+  @Nullable
+  public BannerInstructions findCurrentBannerInstructions(int legIndex, int stepIndex, double stepDistanceRemaining) {
+    return banners.find(globalStepIndex(legIndex, stepIndex), stepDistanceRemaining);
+  }
+
+  /**
+   * Finds the voice instructions to be announced at the given distance remaining along the step.
+   *
+   * @param legIndex              of the leg
+   * @param stepIndex             of the step within the leg
+   * @param stepDistanceRemaining to determine progress along the step
+   * @return current voice instructions, or null if the step has none
+   * @since 0.21.0
+   */
+  @Nullable
+  public VoiceInstructions findCurrentVoiceInstructions(int legIndex, int stepIndex, double stepDistanceRemaining) {
+    return voices.find(globalStepIndex(legIndex, stepIndex), stepDistanceRemaining);
+  }
+
+  /**
+   * Creates a new cursor for looking up the instructions of this timeline while traveling along
+   * the route. Cursors aren't thread-safe, each consumer should create its own.
+   *
+   * @return a new cursor, positioned at the start of the route
+   * @since 0.21.0
+   */
+  @NonNull
+  public Cursor newCursor() {
+    return new Cursor();
+  }
+
+  private int globalStepIndex(int legIndex, int stepIndex) {
+    if (legIndex < 0 || legIndex >= legOffsets.length - 1) {
+      return NOT_FOUND;
+    }
+    int stepCount = legOffsets[legIndex + 1] - legOffsets[legIndex];
+    if (stepIndex < 0 || stepIndex >= stepCount) {
+      return NOT_FOUND;
+    }
+    return legOffsets[legIndex] + stepIndex;
+  }
+
+  /**
+   * Position of the step's first banner instructions among all banner instructions of its leg,
+   * in the order the route lists them.
+   */
+  private int bannerLegOffset(int legIndex, int globalStepIndex) {
+    return banners.stepOffsets[globalStepIndex] - banners.stepOffsets[legOffsets[legIndex]];
+  }
+
+  /**
+   * Looks up instructions starting from the position found on the last update.
+   *
+   * @since 0.21.0
+   */
+  public final class Cursor {
+
+    private int bannerStep = NOT_FOUND;
+    private int bannerPosition;
+    private int voiceStep = NOT_FOUND;
+    private int voicePosition;
+
+    private Cursor() {
+    }
+
+    /**
+     * Finds the banner instructions to be shown at the given distance remaining along the step.
+     *
+     * @param legIndex              of the leg
+     * @param stepIndex             of the step within the leg
+     * @param stepDistanceRemaining to determine progress along the step
+     * @return current banner instructions, or null if the step has none
+     * @since 0.21.0
+     */
+    @Nullable
+    public BannerInstructions findCurrentBannerInstructions(int legIndex, int stepIndex,
+                                                            double stepDistanceRemaining) {
+      int position = findCurrentBannerPosition(legIndex, stepIndex, stepDistanceRemaining);
+      if (position == NOT_FOUND) {
+        return null;
+      }
+      return banners.instructionsAt(banners.sortedIndex(bannerPosition, bannerStep));
+    }
+
+    /**
+     * Finds the current banner instructions like {@link #findCurrentBannerInstructions(int, int, double)}
+     * and returns their position among all banner instructions of the leg, in the order the route
+     * lists them.
+     *
+     * @param legIndex              of the leg
+     * @param stepIndex             of the step within the leg
+     * @param stepDistanceRemaining to determine progress along the step
+     * @return position of the current banner instructions within the leg, or -1 if the step has none
+     * @since 0.21.0
+     */
+    public int findCurrentBannerPosition(int legIndex, int stepIndex, double stepDistanceRemaining) {
+      int step = globalStepIndex(legIndex, stepIndex);
+      if (step == NOT_FOUND || banners.isEmpty(step)) {
+        return NOT_FOUND;
+      }
+      if (step != bannerStep) {
+        bannerStep = step;
+        bannerPosition = banners.stepOffsets[step + 1];
+      }
+      bannerPosition = banners.move(step, bannerPosition, stepDistanceRemaining);
+      int sortedIndex = banners.sortedIndex(bannerPosition, step);
+      return bannerLegOffset(legIndex, step) + banners.listIndices[sortedIndex];
+    }
+
+    /**
+     * Finds the voice instructions to be announced at the given distance remaining along the step.
+     *
+     * @param legIndex              of the leg
+     * @param stepIndex             of the step within the leg
+     * @param stepDistanceRemaining to determine progress along the step
+     * @return current voice instructions, or null if the step has none
+     * @since 0.21.0
+     */
+    @Nullable
+    public VoiceInstructions findCurrentVoiceInstructions(int legIndex, int stepIndex,
+                                                          double stepDistanceRemaining) {
+      int step = globalStepIndex(legIndex, stepIndex);
+      if (step == NOT_FOUND || voices.isEmpty(step)) {
+        return null;
+      }
+      if (step != voiceStep) {
+        voiceStep = step;
+        voicePosition = voices.stepOffsets[step + 1];
+      }
+      voicePosition = voices.move(step, voicePosition, stepDistanceRemaining);
+      return voices.instructionsAt(voices.sortedIndex(voicePosition, step));
+    }
+  }
+
+  private static final InstructionSource<BannerInstructions> BANNER_INSTRUCTIONS =
+    new InstructionSource<BannerInstructions>() {
+      @Override
+      List<BannerInstructions> instructionsOf(LegStep step) {
+        return step.bannerInstructions();
+      }
+
+      @Override
+      double distanceOf(BannerInstructions instructions) {
+        return instructions.distanceAlongGeometry();
+      }
+    };
+
+  private static final InstructionSource<VoiceInstructions> VOICE_INSTRUCTIONS =
+    new InstructionSource<VoiceInstructions>() {
+      @Override
+      List<VoiceInstructions> instructionsOf(LegStep step) {
+        return step.voiceInstructions();
+      }
+
+      @Override
+      double distanceOf(VoiceInstructions instructions) {
+        return instructions.distanceAlongGeometry();
+      }
+    };
+
+  private abstract static class InstructionSource<T> {
+
+    @Nullable
+    abstract List<T> instructionsOf(LegStep step);
+
+    abstract double distanceOf(T instructions);
+  }
+
+  /**
+   * Stable sort of the list indices, so instructions with equal distances keep the order they
+   * were listed in.
+   */
+  private static List<Integer> sortedIndices(int size, Comparator<Integer> comparator) {
+    List<Integer> indices = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      indices.add(i);
+    }
+    Collections.sort(indices, comparator);
+    return indices;
+  }
+
+  /**
+   * Instructions of every step sorted by ascending distance along the step geometry. The current
+   * instructions are the first with a distance equal to or greater than the step distance
+   * remaining, or the first of the step if there are none.
+   */
+  private static class Instructions<T> {
+
+    private final int[] stepOffsets;
+    private final Object[] instructions;
+    private final double[] distances;
+    private final int[] listIndices;
+
+    Instructions(List<LegStep> steps, final InstructionSource<T> source) {
+      stepOffsets = new int[steps.size() + 1];
+      List<T> sortedInstructions = new ArrayList<>();
+      List<Integer> sortedListIndices = new ArrayList<>();
+      for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+        stepOffsets[stepIndex] = sortedInstructions.size();
+        LegStep step = steps.get(stepIndex);
+        final List<T> stepInstructions = step == null ? null : source.instructionsOf(step);
+        if (stepInstructions == null) {
+          continue;
+        }
+        List<Integer> indices = sortedIndices(stepInstructions.size(), new Comparator<Integer>() {
+          @Override
+          public int compare(Integer index, Integer nextIndex) {
+            return Double.compare(source.distanceOf(stepInstructions.get(index)),
+              source.distanceOf(stepInstructions.get(nextIndex)));
+          }
+        });
+        for (int index : indices) {
+          sortedInstructions.add(stepInstructions.get(index));
+          sortedListIndices.add(index);
+        }
+      }
+      stepOffsets[steps.size()] = sortedInstructions.size();
+      instructions = sortedInstructions.toArray();
+      distances = new double[instructions.length];
+      listIndices = new int[instructions.length];
+      for (int i = 0; i < instructions.length; i++) {
+        distances[i] = source.distanceOf(sortedInstructions.get(i));
+        listIndices[i] = sortedListIndices.get(i);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    T instructionsAt(int index) {
+      return (T) instructions[index];
+    }
+
+    boolean isEmpty(int step) {
+      return stepOffsets[step] == stepOffsets[step + 1];
+    }
+
+    @Nullable
+    T find(int step, double stepDistanceRemaining) {
+      if (step == NOT_FOUND || isEmpty(step)) {
+        return null;
+      }
+      int low = stepOffsets[step];
+      int high = stepOffsets[step + 1];
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (distances[middle] < stepDistanceRemaining) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return instructionsAt(sortedIndex(low, step));
+    }
+
+    /**
+     * Moves the position to the first instruction with a distance equal to or greater than the
+     * step distance remaining. As the distance remaining decreases, the position only moves back
+     * towards the start of the step, usually by a single instruction at most.
+     */
+    int move(int step, int position, double stepDistanceRemaining) {
+      int end = stepOffsets[step + 1];
+      while (position < end && distances[position] < stepDistanceRemaining) {
+        position++;
+      }
+      int start = stepOffsets[step];
+      while (position > start && distances[position - 1] >= stepDistanceRemaining) {
+        position--;
+      }
+      return position;
+    }
+
+    /**
+     * Falls back to the first instructions of the step if the position is past its end.
+     */
+    int sortedIndex(int position, int step) {
+      return position == stepOffsets[step + 1] ? stepOffsets[step] : position;
+    }
+  }
+}
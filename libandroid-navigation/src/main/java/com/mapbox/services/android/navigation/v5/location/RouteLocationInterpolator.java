@@ -0,0 +1,221 @@
+package com.mapbox.services.android.navigation.v5.location;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+/**
+ * Predicts where the user is between two route progress updates, so the location can be shown at
+ * display frame rate while the route is only processed about once a second.
+ * <p>
+ * Each update places the snapped location on the geometry of the current leg, which
+ * {@link #interpolate(long)} then advances at the latest speed. Interpolated locations always lie on
+ * the route line and follow its bearing. When an update disagrees with the prediction, the
+ * difference is blended out over a short time instead of jumping to the new location.
+ * <p>
+ * Without a {@link RouteGeometryIndex}, the latest snapped location is returned as is.
+ * <p>
+ * This class isn't thread-safe, it's meant to be updated and read from the main thread.
+ *
+ * @since 0.21.0
+ */
+public class RouteLocationInterpolator {
+
+  private static final double EARTH_RADIUS_IN_METERS = 6371008.8;
+  private static final double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_IN_METERS;
+  private static final long MAXIMUM_EXTRAPOLATION_IN_MILLIS = 3000;
+  private static final long CORRECTION_DURATION_IN_MILLIS = 1000;
+  private static final double MAXIMUM_CORRECTION_IN_METERS = 50;
+  private static final int LONGITUDE = 0;
+  private static final int LATITUDE = 1;
+  private static final int BEARING = 2;
+
+  private final double[] coordinate = new double[3];
+  private RouteGeometryIndex geometryIndex;
+  private int legIndex = -1;
+  private double[] longitudes = new double[0];
+  private double[] latitudes = new double[0];
+  private double[] distances = new double[0];
+  private int[] stepStarts = new int[0];
+  private int pointCount;
+  private Location anchorLocation;
+  private double anchorDistance;
+  private double anchorSpeed;
+  private long anchorTimeInMillis;
+  private double correction;
+
+  /**
+   * Updates the prediction with the latest progress.
+   *
+   * @param snappedLocation     from the latest progress update
+   * @param routeProgress       from the latest progress update
+   * @param geometryIndex       of the current route, if any
+   * @param elapsedTimeInMillis when the update was received, on the clock passed to {@link #interpolate(long)}
+   * @since 0.21.0
+   */
+  public void update(@NonNull Location snappedLocation, @NonNull RouteProgress routeProgress,
+                     @Nullable RouteGeometryIndex geometryIndex, long elapsedTimeInMillis) {
+    if (geometryIndex == null) {
+      this.geometryIndex = null;
+      legIndex = -1;
+      pointCount = 0;
+      anchorLocation = snappedLocation;
+      return;
+    }
+    boolean isSameLeg = geometryIndex == this.geometryIndex && routeProgress.legIndex() == legIndex;
+    double predictedDistance = isSameLeg && anchorLocation != null && pointCount >= 2
+      ? distanceAlongLeg(elapsedTimeInMillis) : Double.NaN;
+    if (!isSameLeg) {
+      indexLeg(geometryIndex, routeProgress.legIndex());
+    }
+    anchorDistance = findDistanceAlongLeg(snappedLocation, routeProgress.currentLegProgress().stepIndex());
+    anchorSpeed = snappedLocation.getSpeed();
+    anchorTimeInMillis = elapsedTimeInMillis;
+    anchorLocation = snappedLocation;
+    correction = predictedDistance - anchorDistance;
+    if (Double.isNaN(correction) || Math.abs(correction) > MAXIMUM_CORRECTION_IN_METERS) {
+      correction = 0;
+    }
+  }
+
+  /**
+   * Predicts the location of the user at the given time.
+   *
+   * @param elapsedTimeInMillis to predict the location at, on the clock passed to
+   *                            {@link #update(Location, RouteProgress, RouteGeometryIndex, long)}
+   * @return predicted location along the route, or null before the first update
+   * @since 0.21.0
+   */
+  @Nullable
+  public Location interpolate(long elapsedTimeInMillis) {
+    if (anchorLocation == null || pointCount < 2) {
+      return anchorLocation;
+    }
+    findCoordinateAt(distanceAlongLeg(elapsedTimeInMillis));
+    Location location = new Location(anchorLocation);
+    location.setLongitude(coordinate[LONGITUDE]);
+    location.setLatitude(coordinate[LATITUDE]);
+    location.setBearing((float) coordinate[BEARING]);
+    location.setTime(anchorLocation.getTime() + extrapolationTime(elapsedTimeInMillis));
+    return location;
+  }
+
+  double distanceAlongLeg(long elapsedTimeInMillis) {
+    long extrapolationTime = extrapolationTime(elapsedTimeInMillis);
+    double distance = anchorDistance + anchorSpeed * extrapolationTime / 1000d;
+    if (extrapolationTime < CORRECTION_DURATION_IN_MILLIS) {
+      distance += correction * (1 - extrapolationTime / (double) CORRECTION_DURATION_IN_MILLIS);
+    }
+    return Math.max(0, Math.min(distance, distances[pointCount - 1]));
+  }
+
+  double[] findCoordinateAt(double distance) {
+    int low = 0;
+    int high = pointCount - 2;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (distances[middle] <= distance) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    double segmentLength = distances[low + 1] - distances[low];
+    double fraction = segmentLength > 0 ? (distance - distances[low]) / segmentLength : 0;
+    fraction = Math.max(0, Math.min(1, fraction));
+    coordinate[LONGITUDE] = longitudes[low] + (longitudes[low + 1] - longitudes[low]) * fraction;
+    coordinate[LATITUDE] = latitudes[low] + (latitudes[low + 1] - latitudes[low]) * fraction;
+    coordinate[BEARING] = bearing(low);
+    return coordinate;
+  }
+
+  private long extrapolationTime(long elapsedTimeInMillis) {
+    return Math.max(0, Math.min(elapsedTimeInMillis - anchorTimeInMillis, MAXIMUM_EXTRAPOLATION_IN_MILLIS));
+  }
+
+  /**
+   * Joins the step geometries of the leg into a single line, measuring the distance to each point.
+   */
+  private void indexLeg(RouteGeometryIndex geometryIndex, int legIndex) {
+    this.geometryIndex = geometryIndex;
+    this.legIndex = legIndex;
+    int stepCount = geometryIndex.stepCount(legIndex);
+    int totalPoints = 0;
+    for (int stepIndex = 0; stepIndex < stepCount; stepIndex++) {
+      totalPoints += geometryIndex.stepPointCount(legIndex, stepIndex);
+    }
+    longitudes = new double[totalPoints];
+    latitudes = new double[totalPoints];
+    distances = new double[totalPoints];
+    stepStarts = new int[stepCount];
+    pointCount = 0;
+    for (int stepIndex = 0; stepIndex < stepCount; stepIndex++) {
+      stepStarts[stepIndex] = Math.max(0, pointCount - 1);
+      int stepPointCount = geometryIndex.stepPointCount(legIndex, stepIndex);
+      for (int pointIndex = 0; pointIndex < stepPointCount; pointIndex++) {
+        addPoint(geometryIndex.stepLongitude(legIndex, stepIndex, pointIndex),
+          geometryIndex.stepLatitude(legIndex, stepIndex, pointIndex));
+      }
+    }
+  }
+
+  private void addPoint(double longitude, double latitude) {
+    if (pointCount > 0) {
+      int last = pointCount - 1;
+      if (longitudes[last] == longitude && latitudes[last] == latitude) {
+        return;
+      }
+      double cosLatitude = Math.cos(Math.toRadians((latitudes[last] + latitude) / 2));
+      double x = (longitude - longitudes[last]) * cosLatitude * METERS_PER_DEGREE;
+      double y = (latitude - latitudes[last]) * METERS_PER_DEGREE;
+      distances[pointCount] = distances[last] + Math.sqrt(x * x + y * y);
+    }
+    longitudes[pointCount] = longitude;
+    latitudes[pointCount] = latitude;
+    pointCount++;
+  }
+
+  /**
+   * Projects the location onto the segments of the current and next steps, as the progress may
+   * still be on the previous step when the location has already passed the maneuver.
+   */
+  private double findDistanceAlongLeg(Location location, int stepIndex) {
+    if (pointCount < 2) {
+      return 0;
+    }
+    int firstSegment = stepIndex >= 0 && stepIndex < stepStarts.length ? stepStarts[stepIndex] : 0;
+    int lastSegment = stepIndex + 2 < stepStarts.length ? stepStarts[stepIndex + 2] - 1 : pointCount - 2;
+    double longitude = location.getLongitude();
+    double latitude = location.getLatitude();
+    double cosLatitude = Math.cos(Math.toRadians(latitude));
+    double closestDistanceSquared = Double.MAX_VALUE;
+    double distanceAlongLeg = distances[firstSegment];
+    for (int segment = firstSegment; segment <= Math.max(firstSegment, lastSegment); segment++) {
+      double startX = (longitudes[segment] - longitude) * cosLatitude * METERS_PER_DEGREE;
+      double startY = (latitudes[segment] - latitude) * METERS_PER_DEGREE;
+      double deltaX = (longitudes[segment + 1] - longitudes[segment]) * cosLatitude * METERS_PER_DEGREE;
+      double deltaY = (latitudes[segment + 1] - latitudes[segment]) * METERS_PER_DEGREE;
+      double lengthSquared = deltaX * deltaX + deltaY * deltaY;
+      double fraction = lengthSquared > 0 ? -(startX * deltaX + startY * deltaY) / lengthSquared : 0;
+      fraction = Math.max(0, Math.min(1, fraction));
+      double x = startX + deltaX * fraction;
+      double y = startY + deltaY * fraction;
+      double distanceSquared = x * x + y * y;
+      if (distanceSquared < closestDistanceSquared) {
+        closestDistanceSquared = distanceSquared;
+        distanceAlongLeg = distances[segment] + (distances[segment + 1] - distances[segment]) * fraction;
+      }
+    }
+    return distanceAlongLeg;
+  }
+
+  private double bearing(int segment) {
+    double cosLatitude = Math.cos(Math.toRadians((latitudes[segment] + latitudes[segment + 1]) / 2));
+    double x = (longitudes[segment + 1] - longitudes[segment]) * cosLatitude;
+    double y = latitudes[segment + 1] - latitudes[segment];
+    return (Math.toDegrees(Math.atan2(x, y)) + 360) % 360;
+  }
+}
@@ -4,6 +4,9 @@ import android.location.Location;
 import android.os.Handler;
 import android.support.annotation.NonNull;
 
+import com.mapbox.services.android.navigation.v5.navigation.HandlerNavigationScheduler;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationScheduler;
+
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -15,24 +18,23 @@ class ReplayLocationDispatcher implements Runnable {
   private static final int HEAD = 0;
   private List<Location> locationsToReplay;
   private Location current;
-  private Handler handler;
+  private NavigationScheduler scheduler;
   private CopyOnWriteArraySet<ReplayLocationListener> replayLocationListeners;
 
   ReplayLocationDispatcher(@NonNull List<Location> locationsToReplay) {
-    checkValidInput(locationsToReplay);
-    this.locationsToReplay = new CopyOnWriteArrayList<>(locationsToReplay);
-    initialize();
-    this.replayLocationListeners = new CopyOnWriteArraySet<>();
-    this.handler = new Handler();
+    this(copyOf(locationsToReplay), new HandlerNavigationScheduler(new Handler()));
   }
 
-  // For testing only
-  ReplayLocationDispatcher(List<Location> locationsToReplay, Handler handler) {
+  /**
+   * Replays the given list itself rather than a copy of it, locations are removed from it as they
+   * are replayed.
+   */
+  ReplayLocationDispatcher(List<Location> locationsToReplay, NavigationScheduler scheduler) {
     checkValidInput(locationsToReplay);
     this.locationsToReplay = locationsToReplay;
     initialize();
     this.replayLocationListeners = new CopyOnWriteArraySet<>();
-    this.handler = handler;
+    this.scheduler = scheduler;
   }
 
   @Override
@@ -73,7 +75,12 @@ class ReplayLocationDispatcher implements Runnable {
     replayLocationListeners.remove(listener);
   }
 
-  private void checkValidInput(List<Location> locations) {
+  private static List<Location> copyOf(List<Location> locations) {
+    checkValidInput(locations);
+    return new CopyOnWriteArrayList<>(locations);
+  }
+
+  private static void checkValidInput(List<Location> locations) {
     boolean isValidInput = locations == null || locations.isEmpty();
     if (isValidInput) {
       throw new IllegalArgumentException(NON_NULL_AND_NON_EMPTY_LOCATION_LIST_REQUIRED);
@@ -103,7 +110,7 @@ class ReplayLocationDispatcher implements Runnable {
     current = locationsToReplay.remove(HEAD);
     long nextTime = current.getTime();
     long diff = nextTime - currentTime;
-    handler.postDelayed(this, diff);
+    scheduler.postDelayed(this, diff);
   }
 
   private void clearLocations() {
@@ -111,6 +118,6 @@ class ReplayLocationDispatcher implements Runnable {
   }
 
   private void stopDispatching() {
-    handler.removeCallbacks(this);
+    scheduler.removeCallbacks(this);
   }
 }
\ No newline at end of file
@@ -3,9 +3,9 @@ package com.mapbox.services.android.navigation.v5.location.replay;
 import android.location.Location;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
-import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
 import com.mapbox.turf.TurfConstants;
 import com.mapbox.turf.TurfMeasurement;
 
@@ -20,6 +20,7 @@ class ReplayRouteLocationConverter {
   private static final int ONE_HOUR_IN_SECONDS = 3600;
   private static final String REPLAY_ROUTE = "ReplayRouteLocation";
   private DirectionsRoute route;
+  private RouteGeometryIndex routeGeometryIndex;
   private int speed;
   private int delay;
   private double distance;
@@ -94,6 +95,7 @@ class ReplayRouteLocationConverter {
 
   private void update(DirectionsRoute route) {
     this.route = route;
+    this.routeGeometryIndex = RouteGeometryIndex.create(route);
   }
 
   /**
@@ -114,9 +116,10 @@ class ReplayRouteLocationConverter {
   private List<Point> calculateStepPoints() {
     List<Point> stepPoints = new ArrayList<>();
 
-    LineString line = LineString.fromPolyline(
-      route.legs().get(currentLeg).steps().get(currentStep).geometry(), Constants.PRECISION_6);
-    stepPoints.addAll(sliceRoute(line));
+    List<Point> points = routeGeometryIndex.stepPoints(currentLeg, currentStep);
+    if (points != null) {
+      stepPoints.addAll(sliceRoute(LineString.fromLngLats(points)));
+    }
     increaseIndex();
 
     return stepPoints;
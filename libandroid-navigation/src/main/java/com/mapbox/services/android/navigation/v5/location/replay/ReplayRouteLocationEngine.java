@@ -11,9 +11,12 @@ import com.mapbox.android.core.location.LocationEngineListener;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.navigation.HandlerNavigationScheduler;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationScheduler;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 public class ReplayRouteLocationEngine extends LocationEngine implements Runnable {
@@ -33,7 +36,7 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
   private ReplayRouteLocationConverter converter;
   private int speed = DEFAULT_SPEED;
   private int delay = DEFAULT_DELAY;
-  private Handler handler;
+  private final NavigationScheduler scheduler;
   private List<Location> mockedLocations;
   private ReplayLocationDispatcher dispatcher;
   private Location lastLocation = null;
@@ -51,7 +54,18 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
   };
 
   public ReplayRouteLocationEngine() {
-    this.handler = new Handler();
+    this(new HandlerNavigationScheduler(new Handler()));
+  }
+
+  /**
+   * Creates an engine replaying its locations with the given scheduler, for instance to replay
+   * them off the main thread or with a virtual clock.
+   *
+   * @param scheduler replaying the locations
+   * @since 0.21.0
+   */
+  public ReplayRouteLocationEngine(NavigationScheduler scheduler) {
+    this.scheduler = scheduler;
   }
 
   @SuppressLint("MissingPermission")
@@ -93,7 +107,7 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
   public void run() {
     List<Location> nextMockedLocations = converter.toLocations();
     if (nextMockedLocations.isEmpty()) {
-      handler.removeCallbacks(this);
+      scheduler.removeCallbacks(this);
       return;
     }
     dispatcher.add(nextMockedLocations);
@@ -116,7 +130,7 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
     if (dispatcher != null) {
       dispatcher.stop();
     }
-    handler.removeCallbacks(this);
+    scheduler.removeCallbacks(this);
   }
 
   /**
@@ -163,7 +177,7 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
   }
 
   private void start(DirectionsRoute route) {
-    handler.removeCallbacks(this);
+    scheduler.removeCallbacks(this);
     converter = new ReplayRouteLocationConverter(route, speed, delay);
     converter.initializeTime();
     mockedLocations = converter.toLocations();
@@ -177,14 +191,14 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
       dispatcher.stop();
       dispatcher.removeReplayLocationListener(replayLocationListener);
     }
-    dispatcher = new ReplayLocationDispatcher(mockedLocations);
+    dispatcher = new ReplayLocationDispatcher(new CopyOnWriteArrayList<>(mockedLocations), scheduler);
     dispatcher.addReplayLocationListener(replayLocationListener);
 
     return dispatcher;
   }
 
   private void startRoute(Point point, Location lastLocation) {
-    handler.removeCallbacks(this);
+    scheduler.removeCallbacks(this);
     converter.updateSpeed(speed);
     converter.updateDelay(delay);
     converter.initializeTime();
@@ -205,11 +219,11 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
   private void scheduleNextDispatch() {
     int currentMockedPoints = mockedLocations.size();
     if (currentMockedPoints == ZERO) {
-      handler.postDelayed(this, DO_NOT_DELAY);
+      scheduler.postDelayed(this, DO_NOT_DELAY);
     } else if (currentMockedPoints <= MOCKED_POINTS_LEFT_THRESHOLD) {
-      handler.postDelayed(this, ONE_SECOND_IN_MILLISECONDS);
+      scheduler.postDelayed(this, ONE_SECOND_IN_MILLISECONDS);
     } else {
-      handler.postDelayed(this, (currentMockedPoints - MOCKED_POINTS_LEFT_THRESHOLD) * ONE_SECOND_IN_MILLISECONDS);
+      scheduler.postDelayed(this, (currentMockedPoints - MOCKED_POINTS_LEFT_THRESHOLD) * ONE_SECOND_IN_MILLISECONDS);
     }
   }
 
@@ -2,6 +2,7 @@ package com.mapbox.services.android.navigation.v5.milestone;
 
 import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.services.android.navigation.v5.instruction.InstructionTimeline;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
@@ -17,6 +18,8 @@ public class BannerInstructionMilestone extends Milestone {
 
   private BannerInstructions instructions;
   private RouteUtils routeUtils;
+  private InstructionTimeline instructionTimeline;
+  private InstructionTimeline.Cursor instructionCursor;
 
   BannerInstructionMilestone(Builder builder) {
     super(builder);
@@ -26,9 +29,8 @@ public class BannerInstructionMilestone extends Milestone {
   @Override
   public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
     RouteLegProgress legProgress = routeProgress.currentLegProgress();
-    LegStep currentStep = legProgress.currentStep();
     double stepDistanceRemaining = legProgress.currentStepProgress().distanceRemaining();
-    BannerInstructions instructions = routeUtils.findCurrentBannerInstructions(currentStep, stepDistanceRemaining);
+    BannerInstructions instructions = findCurrentBannerInstructions(routeProgress, stepDistanceRemaining);
     if (shouldBeShown(instructions, stepDistanceRemaining)) {
       this.instructions = instructions;
       return true;
@@ -46,6 +48,24 @@ public class BannerInstructionMilestone extends Milestone {
     return instructions;
   }
 
+  /**
+   * Looks up the current instructions with the route's {@link InstructionTimeline} if available,
+   * only creating a new cursor once the timeline (and so the route) changes.
+   */
+  private BannerInstructions findCurrentBannerInstructions(RouteProgress routeProgress, double stepDistanceRemaining) {
+    InstructionTimeline timeline = routeProgress.instructionTimeline();
+    if (timeline == null) {
+      LegStep currentStep = routeProgress.currentLegProgress().currentStep();
+      return routeUtils.findCurrentBannerInstructions(currentStep, stepDistanceRemaining);
+    }
+    if (timeline != instructionTimeline) {
+      instructionTimeline = timeline;
+      instructionCursor = timeline.newCursor();
+    }
+    int stepIndex = routeProgress.currentLegProgress().stepIndex();
+    return instructionCursor.findCurrentBannerInstructions(routeProgress.legIndex(), stepIndex, stepDistanceRemaining);
+  }
+
   /**
    * Uses the current step distance remaining to check against banner instructions distance.
    *
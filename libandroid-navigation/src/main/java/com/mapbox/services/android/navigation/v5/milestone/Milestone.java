@@ -55,6 +55,25 @@ public abstract class Milestone {
   public abstract boolean isOccurring(RouteProgress previousRouteProgress,
                                       RouteProgress routeProgress);
 
+  /**
+   * Validates the milestone using a {@link TriggerSnapshot} that already holds the
+   * {@link TriggerProperty}s of the given progress. The snapshot is shared by all milestones
+   * added to {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation}, so it's
+   * only built once per progress update.
+   * <p>
+   * By default this calls {@link #isOccurring(RouteProgress, RouteProgress)}.
+   *
+   * @param previousRouteProgress last locations generated {@link RouteProgress} object
+   * @param routeProgress         the current {@link RouteProgress}
+   * @param snapshot              property values of the given progress
+   * @return true if the milestone trigger's valid, else false
+   * @since 0.21.0
+   */
+  public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress,
+                             TriggerSnapshot snapshot) {
+    return isOccurring(previousRouteProgress, routeProgress);
+  }
+
   /**
    * Build a new {@link Milestone}
    *
@@ -111,6 +130,9 @@ public abstract class Milestone {
     /**
      * The list of triggers that are used to determine whether this milestone should invoke
      * {@link MilestoneEventListener#onMilestoneEvent(RouteProgress, String, Milestone)}
+     * <p>
+     * The trigger is compiled when the milestone is built, so it should be set before calling
+     * {@link #build()}.
      *
      * @param trigger a single simple statement or compound statement found in {@link Trigger}
      * @return this builder
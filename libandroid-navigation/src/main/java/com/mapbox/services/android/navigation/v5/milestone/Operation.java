@@ -77,4 +77,75 @@ class Operation {
     return valueOne[0].doubleValue() <= valueTwo.doubleValue();
   }
 
+  /*
+   * Snapshot operations, the property values are read as primitives and compared without boxing.
+   * Properties holding two values are compared with each other, the statement value only decides
+   * whether the result is inverted. A property missing from the snapshot never validates.
+   */
+
+  static boolean greaterThan(TriggerSnapshot snapshot, int key, double value, boolean comparesTrue) {
+    if (!snapshot.contains(key)) {
+      return false;
+    }
+    if (snapshot.hasTwoValues(key)) {
+      boolean greaterThan = snapshot.firstValue(key) > snapshot.secondValue(key);
+      return comparesTrue == greaterThan;
+    }
+    return snapshot.firstValue(key) > value;
+  }
+
+  static boolean lessThan(TriggerSnapshot snapshot, int key, double value, boolean comparesTrue) {
+    if (!snapshot.contains(key)) {
+      return false;
+    }
+    if (snapshot.hasTwoValues(key)) {
+      boolean lessThan = snapshot.firstValue(key) < snapshot.secondValue(key);
+      return comparesTrue == lessThan;
+    }
+    return snapshot.firstValue(key) < value;
+  }
+
+  static boolean notEqual(TriggerSnapshot snapshot, int key, double value, boolean comparesTrue) {
+    if (!snapshot.contains(key)) {
+      return false;
+    }
+    if (snapshot.hasTwoValues(key)) {
+      boolean notEqual = snapshot.firstValue(key) != snapshot.secondValue(key);
+      return comparesTrue == notEqual;
+    }
+    return snapshot.firstValue(key) != value;
+  }
+
+  static boolean equal(TriggerSnapshot snapshot, int key, double value, boolean comparesTrue) {
+    if (!snapshot.contains(key)) {
+      return false;
+    }
+    if (snapshot.hasTwoValues(key)) {
+      boolean equal = snapshot.firstValue(key) == snapshot.secondValue(key);
+      return comparesTrue == equal;
+    }
+    return snapshot.firstValue(key) == value;
+  }
+
+  static boolean greaterThanEqual(TriggerSnapshot snapshot, int key, double value, boolean comparesTrue) {
+    if (!snapshot.contains(key)) {
+      return false;
+    }
+    if (snapshot.hasTwoValues(key)) {
+      boolean greaterThanEqual = snapshot.firstValue(key) >= snapshot.secondValue(key);
+      return comparesTrue == greaterThanEqual;
+    }
+    return snapshot.firstValue(key) >= value;
+  }
+
+  static boolean lessThanEqual(TriggerSnapshot snapshot, int key, double value, boolean comparesTrue) {
+    if (!snapshot.contains(key)) {
+      return false;
+    }
+    if (snapshot.hasTwoValues(key)) {
+      boolean lessThanEqual = snapshot.firstValue(key) <= snapshot.secondValue(key);
+      return comparesTrue == lessThanEqual;
+    }
+    return snapshot.firstValue(key) <= value;
+  }
 }
@@ -11,19 +11,25 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
  */
 public class RouteMilestone extends Milestone {
 
-  private Builder builder;
+  private final TriggerProgram triggerProgram;
   private boolean called;
 
   private RouteMilestone(Builder builder) {
     super(builder);
-    this.builder = builder;
+    this.triggerProgram = TriggerProgram.compile(builder.getTrigger());
   }
 
   @Override
   public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
+    return isOccurring(previousRouteProgress, routeProgress,
+      TriggerSnapshot.from(previousRouteProgress, routeProgress));
+  }
 
-    if (builder.getTrigger().isOccurring(
-      TriggerProperty.getSparseArray(previousRouteProgress, routeProgress)) && !called) {
+  @Override
+  public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress,
+                             TriggerSnapshot snapshot) {
+    // Once called, the trigger no longer needs to be evaluated for this session.
+    if (!called && triggerProgram.isOccurring(snapshot)) {
       called = true;
       return true;
     }
@@ -12,16 +12,23 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
  */
 public class StepMilestone extends Milestone {
 
-  private Builder builder;
+  private final TriggerProgram triggerProgram;
   private boolean called;
 
   private StepMilestone(Builder builder) {
     super(builder);
-    this.builder = builder;
+    this.triggerProgram = TriggerProgram.compile(builder.getTrigger());
   }
 
   @Override
   public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
+    return isOccurring(previousRouteProgress, routeProgress,
+      TriggerSnapshot.from(previousRouteProgress, routeProgress));
+  }
+
+  @Override
+  public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress,
+                             TriggerSnapshot snapshot) {
 
     // Determine if the step index has changed and set called accordingly. This prevents multiple calls to
     // onMilestoneEvent per Step.
@@ -33,8 +40,7 @@ public class StepMilestone extends Milestone {
     if (called) {
       return false;
     }
-    if (builder.getTrigger().isOccurring(
-      TriggerProperty.getSparseArray(previousRouteProgress, routeProgress))) {
+    if (triggerProgram.isOccurring(snapshot)) {
       called = true;
       return true;
     }
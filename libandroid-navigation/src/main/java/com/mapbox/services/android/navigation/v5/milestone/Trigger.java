@@ -34,6 +34,30 @@ public class Trigger {
      * @since 0.4.0
      */
     public abstract boolean isOccurring(SparseArray<Number[]> statementObjects);
+
+    /**
+     * Validates whether the statement meets the specified trigger criteria, reading the property
+     * values straight from the given snapshot.
+     * <p>
+     * The statements found in {@link Trigger} are evaluated without creating any objects. Custom
+     * statements can override this method to do the same, otherwise the snapshot gets converted
+     * and passed to {@link #isOccurring(SparseArray)}.
+     *
+     * @param snapshot holding the current value of each {@link TriggerProperty}
+     * @return true if the statement is valid, otherwise false
+     * @since 0.21.0
+     */
+    public boolean isOccurring(TriggerSnapshot snapshot) {
+      return isOccurring(snapshot.toSparseArray());
+    }
+
+    /**
+     * Adds this statement to a {@link TriggerProgram}. Statements created outside of the SDK are
+     * added as a single node, evaluated through {@link #isOccurring(TriggerSnapshot)}.
+     */
+    void compile(TriggerProgram.Compiler compiler) {
+      compiler.addCustom(this);
+    }
   }
 
   /*
@@ -54,13 +78,27 @@ public class Trigger {
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
-      boolean all = true;
       for (Statement statement : statements) {
         if (!statement.isOccurring(statementObjects)) {
-          all = false;
+          return false;
         }
       }
-      return all;
+      return true;
+    }
+
+    @Override
+    public boolean isOccurring(TriggerSnapshot snapshot) {
+      for (Statement statement : statements) {
+        if (!statement.isOccurring(snapshot)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    void compile(TriggerProgram.Compiler compiler) {
+      compiler.addCompound(TriggerProgram.ALL, statements);
     }
   }
 
@@ -85,6 +123,21 @@ public class Trigger {
       }
       return true;
     }
+
+    @Override
+    public boolean isOccurring(TriggerSnapshot snapshot) {
+      for (Statement statement : statements) {
+        if (statement.isOccurring(snapshot)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    void compile(TriggerProgram.Compiler compiler) {
+      compiler.addCompound(TriggerProgram.NONE, statements);
+    }
   }
 
   /**
@@ -108,31 +161,75 @@ public class Trigger {
       }
       return false;
     }
+
+    @Override
+    public boolean isOccurring(TriggerSnapshot snapshot) {
+      for (Statement statement : statements) {
+        if (statement.isOccurring(snapshot)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    void compile(TriggerProgram.Compiler compiler) {
+      compiler.addCompound(TriggerProgram.ANY, statements);
+    }
   }
 
   /*
    * Simple statement
    */
 
+  /**
+   * Base class for statements comparing a single {@code RouteProgress} key property with a value. The
+   * value is converted once when the statement is created, so evaluating a snapshot doesn't require boxing.
+   *
+   * @since 0.21.0
+   */
+  private abstract static class PropertyStatement extends Statement {
+    final int opcode;
+    final int key;
+    final Object value;
+    final double primitiveValue;
+    final boolean comparesTrue;
+
+    PropertyStatement(int opcode, int key, Object value) {
+      this.opcode = opcode;
+      this.key = key;
+      this.value = value;
+      this.primitiveValue = value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+      this.comparesTrue = value != null && value.equals(TriggerProperty.TRUE);
+    }
+
+    @Override
+    void compile(TriggerProgram.Compiler compiler) {
+      compiler.addComparison(opcode, key, primitiveValue, comparesTrue);
+    }
+  }
+
   /**
    * Greater than class used to determine that the {@code RouteProgress} key property is greater than the specified
    * value.
    *
    * @since 0.4.0
    */
-  private static class GreaterThanStatement extends Statement {
-    private final int key;
-    private final Object value;
+  private static class GreaterThanStatement extends PropertyStatement {
 
     GreaterThanStatement(int key, Object value) {
-      this.key = key;
-      this.value = value;
+      super(TriggerProgram.GREATER_THAN, key, value);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.greaterThan(statementObjects.get(key), (Number) value);
     }
+
+    @Override
+    public boolean isOccurring(TriggerSnapshot snapshot) {
+      return Operation.greaterThan(snapshot, key, primitiveValue, comparesTrue);
+    }
   }
 
   /**
@@ -141,19 +238,21 @@ public class Trigger {
    *
    * @since 0.4.0
    */
-  private static class GreaterThanEqualStatement extends Statement {
-    private final int key;
-    private final Object value;
+  private static class GreaterThanEqualStatement extends PropertyStatement {
 
     GreaterThanEqualStatement(int key, Object value) {
-      this.key = key;
-      this.value = value;
+      super(TriggerProgram.GREATER_THAN_EQUAL, key, value);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.greaterThanEqual(statementObjects.get(key), (Number) value);
     }
+
+    @Override
+    public boolean isOccurring(TriggerSnapshot snapshot) {
+      return Operation.greaterThanEqual(snapshot, key, primitiveValue, comparesTrue);
+    }
   }
 
   /**
@@ -161,19 +260,21 @@ public class Trigger {
    *
    * @since 0.4.0
    */
-  private static class LessThanStatement extends Statement {
-    private final int key;
-    private final Object value;
+  private static class LessThanStatement extends PropertyStatement {
 
     LessThanStatement(int key, Object value) {
-      this.key = key;
-      this.value = value;
+      super(TriggerProgram.LESS_THAN, key, value);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.lessThan(statementObjects.get(key), (Number) value);
     }
+
+    @Override
+    public boolean isOccurring(TriggerSnapshot snapshot) {
+      return Operation.lessThan(snapshot, key, primitiveValue, comparesTrue);
+    }
   }
 
   /**
@@ -182,19 +283,21 @@ public class Trigger {
    *
    * @since 0.4.0
    */
-  private static class LessThanEqualStatement extends Statement {
-    private final int key;
-    private final Object value;
+  private static class LessThanEqualStatement extends PropertyStatement {
 
     LessThanEqualStatement(int key, Object value) {
-      this.key = key;
-      this.value = value;
+      super(TriggerProgram.LESS_THAN_EQUAL, key, value);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.lessThanEqual(statementObjects.get(key), (Number) value);
     }
+
+    @Override
+    public boolean isOccurring(TriggerSnapshot snapshot) {
+      return Operation.lessThanEqual(snapshot, key, primitiveValue, comparesTrue);
+    }
   }
 
   /**
@@ -202,18 +305,20 @@ public class Trigger {
    *
    * @since 0.4.0
    */
-  private static class NotEqualStatement extends Statement {
-    private final int key;
-    private final Object[] values;
+  private static class NotEqualStatement extends PropertyStatement {
 
-    NotEqualStatement(int key, Object... values) {
-      this.key = key;
-      this.values = values;
+    NotEqualStatement(int key, Object value) {
+      super(TriggerProgram.NOT_EQUAL, key, value);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
-      return Operation.notEqual(statementObjects.get(key), (Number) values[0]);
+      return Operation.notEqual(statementObjects.get(key), (Number) value);
+    }
+
+    @Override
+    public boolean isOccurring(TriggerSnapshot snapshot) {
+      return Operation.notEqual(snapshot, key, primitiveValue, comparesTrue);
     }
   }
 
@@ -222,19 +327,21 @@ public class Trigger {
    *
    * @since 0.4.0
    */
-  private static class EqualStatement extends Statement {
-    private final int key;
-    private final Object value;
+  private static class EqualStatement extends PropertyStatement {
 
     EqualStatement(int key, Object value) {
-      this.key = key;
-      this.value = value;
+      super(TriggerProgram.EQUAL, key, value);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.equal(statementObjects.get(key), (Number) value);
     }
+
+    @Override
+    public boolean isOccurring(TriggerSnapshot snapshot) {
+      return Operation.equal(snapshot, key, primitiveValue, comparesTrue);
+    }
   }
 
   /**
@@ -0,0 +1,169 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import android.support.annotation.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A {@link Trigger.Statement} tree compiled into flat arrays, built once when a milestone is built.
+ * <p>
+ * Each statement becomes a node holding an opcode, the property key and value it compares and the
+ * number of nodes it spans. Compound nodes are directly followed by their children, so evaluating
+ * a compound statement walks the arrays and stops as soon as the result is known. Comparisons are
+ * done on the primitive values of a {@link TriggerSnapshot}.
+ *
+ * @since 0.21.0
+ */
+class TriggerProgram {
+
+  static final int ALL = 0;
+  static final int ANY = 1;
+  static final int NONE = 2;
+  static final int GREATER_THAN = 3;
+  static final int GREATER_THAN_EQUAL = 4;
+  static final int LESS_THAN = 5;
+  static final int LESS_THAN_EQUAL = 6;
+  static final int EQUAL = 7;
+  static final int NOT_EQUAL = 8;
+  static final int CUSTOM = 9;
+
+  private static final TriggerProgram EMPTY = new TriggerProgram(new Compiler());
+
+  private final int[] opcodes;
+  private final int[] keys;
+  private final double[] values;
+  private final boolean[] comparesTrue;
+  private final int[] spans;
+  private final Trigger.Statement[] customStatements;
+
+  private TriggerProgram(Compiler compiler) {
+    int nodeCount = compiler.nodeCount;
+    opcodes = Arrays.copyOf(compiler.opcodes, nodeCount);
+    keys = Arrays.copyOf(compiler.keys, nodeCount);
+    values = Arrays.copyOf(compiler.values, nodeCount);
+    comparesTrue = Arrays.copyOf(compiler.comparesTrue, nodeCount);
+    spans = Arrays.copyOf(compiler.spans, nodeCount);
+    customStatements = Arrays.copyOf(compiler.customStatements, nodeCount);
+  }
+
+  /**
+   * Compiles the given statement tree. A missing statement results in a program that never
+   * occurs.
+   *
+   * @param statement root of the statement tree
+   * @return program evaluating the statement
+   */
+  static TriggerProgram compile(@Nullable Trigger.Statement statement) {
+    if (statement == null) {
+      return EMPTY;
+    }
+    Compiler compiler = new Compiler();
+    statement.compile(compiler);
+    return new TriggerProgram(compiler);
+  }
+
+  boolean isOccurring(TriggerSnapshot snapshot) {
+    return opcodes.length > 0 && evaluate(0, snapshot);
+  }
+
+  int nodeCount() {
+    return opcodes.length;
+  }
+
+  private boolean evaluate(int node, TriggerSnapshot snapshot) {
+    switch (opcodes[node]) {
+      case ALL:
+        for (int child = node + 1; child < node + spans[node]; child += spans[child]) {
+          if (!evaluate(child, snapshot)) {
+            return false;
+          }
+        }
+        return true;
+      case ANY:
+        for (int child = node + 1; child < node + spans[node]; child += spans[child]) {
+          if (evaluate(child, snapshot)) {
+            return true;
+          }
+        }
+        return false;
+      case NONE:
+        for (int child = node + 1; child < node + spans[node]; child += spans[child]) {
+          if (evaluate(child, snapshot)) {
+            return false;
+          }
+        }
+        return true;
+      case GREATER_THAN:
+        return Operation.greaterThan(snapshot, keys[node], values[node], comparesTrue[node]);
+      case GREATER_THAN_EQUAL:
+        return Operation.greaterThanEqual(snapshot, keys[node], values[node], comparesTrue[node]);
+      case LESS_THAN:
+        return Operation.lessThan(snapshot, keys[node], values[node], comparesTrue[node]);
+      case LESS_THAN_EQUAL:
+        return Operation.lessThanEqual(snapshot, keys[node], values[node], comparesTrue[node]);
+      case EQUAL:
+        return Operation.equal(snapshot, keys[node], values[node], comparesTrue[node]);
+      case NOT_EQUAL:
+        return Operation.notEqual(snapshot, keys[node], values[node], comparesTrue[node]);
+      case CUSTOM:
+        return customStatements[node].isOccurring(snapshot);
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Collects the nodes of a statement tree, visited by {@link Trigger.Statement#compile(Compiler)}.
+   */
+  static class Compiler {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] opcodes = new int[INITIAL_CAPACITY];
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    private boolean[] comparesTrue = new boolean[INITIAL_CAPACITY];
+    private int[] spans = new int[INITIAL_CAPACITY];
+    private Trigger.Statement[] customStatements = new Trigger.Statement[INITIAL_CAPACITY];
+    private int nodeCount;
+
+    private Compiler() {
+    }
+
+    void addCompound(int opcode, Trigger.Statement[] statements) {
+      int node = addNode(opcode);
+      for (Trigger.Statement statement : statements) {
+        statement.compile(this);
+      }
+      spans[node] = nodeCount - node;
+    }
+
+    void addComparison(int opcode, int key, double value, boolean comparesTrue) {
+      int node = addNode(opcode);
+      keys[node] = key;
+      values[node] = value;
+      this.comparesTrue[node] = comparesTrue;
+    }
+
+    void addCustom(Trigger.Statement statement) {
+      int node = addNode(CUSTOM);
+      customStatements[node] = statement;
+    }
+
+    private int addNode(int opcode) {
+      if (nodeCount == opcodes.length) {
+        int capacity = opcodes.length * 2;
+        opcodes = Arrays.copyOf(opcodes, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        comparesTrue = Arrays.copyOf(comparesTrue, capacity);
+        spans = Arrays.copyOf(spans, capacity);
+        customStatements = Arrays.copyOf(customStatements, capacity);
+      }
+      int node = nodeCount++;
+      opcodes[node] = opcode;
+      spans[node] = 1;
+      return node;
+    }
+  }
+}
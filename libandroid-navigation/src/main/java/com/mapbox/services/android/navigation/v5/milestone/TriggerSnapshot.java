@@ -0,0 +1,161 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import android.util.SparseArray;
+
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteStepProgress;
+
+/**
+ * Holds the current value of every {@link TriggerProperty} as primitives, so trigger statements
+ * can be evaluated without boxing.
+ * <p>
+ * A single snapshot is reused for the whole navigation session. It's updated once for each new
+ * {@link RouteProgress} and shared by all of the milestones evaluated against that progress.
+ * A snapshot isn't thread-safe and should only be used from the thread that updates it.
+ *
+ * @since 0.21.0
+ */
+public final class TriggerSnapshot {
+
+  private static final int PROPERTY_COUNT = TriggerProperty.NEXT_STEP_DURATION_SECONDS + 1;
+  private static final int NO_VALUES = 0;
+  private static final int ONE_VALUE = 1;
+  private static final int TWO_VALUES = 2;
+
+  private final int[] valueCounts = new int[PROPERTY_COUNT];
+  private final double[] firstValues = new double[PROPERTY_COUNT];
+  private final double[] secondValues = new double[PROPERTY_COUNT];
+  private final boolean[] integerValues = new boolean[PROPERTY_COUNT];
+
+  /**
+   * Creates an empty snapshot, {@link #update(RouteProgress, RouteProgress)} needs to be called
+   * before it can be used to evaluate statements.
+   *
+   * @since 0.21.0
+   */
+  public TriggerSnapshot() {
+  }
+
+  static TriggerSnapshot from(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
+    TriggerSnapshot snapshot = new TriggerSnapshot();
+    snapshot.update(previousRouteProgress, routeProgress);
+    return snapshot;
+  }
+
+  /**
+   * Overwrites all property values with the ones found in the given progress.
+   *
+   * @param previousRouteProgress the progress from the last update
+   * @param routeProgress         the current progress
+   * @since 0.21.0
+   */
+  public void update(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    RouteStepProgress stepProgress = legProgress.currentStepProgress();
+    LegStep currentStep = legProgress.currentStep();
+    LegStep upcomingStep = legProgress.upComingStep();
+    int stepIndex = legProgress.stepIndex();
+    int legIndex = routeProgress.legIndex();
+
+    // Filled in the same order as TriggerProperty#getSparseArray, as some properties share a key
+    put(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, currentStep.distance());
+    put(TriggerProperty.STEP_DURATION_TOTAL_SECONDS, currentStep.duration());
+    put(TriggerProperty.STEP_DISTANCE_REMAINING_METERS, stepProgress.distanceRemaining());
+    put(TriggerProperty.STEP_DURATION_REMAINING_SECONDS, stepProgress.durationRemaining());
+    put(TriggerProperty.STEP_DISTANCE_TRAVELED_METERS, stepProgress.distanceTraveled());
+    put(TriggerProperty.STEP_INDEX, stepIndex);
+    put(TriggerProperty.NEW_STEP, previousRouteProgress.currentLegProgress().stepIndex(), stepIndex);
+    put(TriggerProperty.LAST_STEP, stepIndex, routeProgress.currentLeg().steps().size() - 2);
+    put(TriggerProperty.FIRST_STEP, stepIndex, 0);
+    put(TriggerProperty.NEXT_STEP_DURATION_SECONDS, upcomingStep != null ? upcomingStep.duration() : 0);
+    put(TriggerProperty.NEXT_STEP_DISTANCE_METERS, upcomingStep != null ? upcomingStep.distance() : 0);
+    put(TriggerProperty.FIRST_LEG, legIndex, 0);
+    put(TriggerProperty.LAST_LEG, legIndex, routeProgress.directionsRoute().legs().size() - 1);
+  }
+
+  /**
+   * @param key {@link TriggerProperty} to check
+   * @return true if the snapshot holds a value for the property
+   * @since 0.21.0
+   */
+  public boolean contains(int key) {
+    return isValidKey(key) && valueCounts[key] != NO_VALUES;
+  }
+
+  /**
+   * Properties holding two values (such as {@link TriggerProperty#NEW_STEP}) are compared with each
+   * other, rather than with the value of the statement.
+   *
+   * @param key {@link TriggerProperty} to check
+   * @return true if the property holds two values
+   * @since 0.21.0
+   */
+  public boolean hasTwoValues(int key) {
+    return isValidKey(key) && valueCounts[key] == TWO_VALUES;
+  }
+
+  /**
+   * @param key {@link TriggerProperty} to read
+   * @return the first (or only) value of the property
+   * @since 0.21.0
+   */
+  public double firstValue(int key) {
+    return firstValues[key];
+  }
+
+  /**
+   * @param key {@link TriggerProperty} to read
+   * @return the second value of the property, only valid if {@link #hasTwoValues(int)}
+   * @since 0.21.0
+   */
+  public double secondValue(int key) {
+    return secondValues[key];
+  }
+
+  /**
+   * Creates the boxed representation of this snapshot, only used for evaluating custom
+   * {@link Trigger.Statement}s that don't support snapshots.
+   */
+  SparseArray<Number[]> toSparseArray() {
+    SparseArray<Number[]> statementObjects = new SparseArray<>(PROPERTY_COUNT);
+    for (int key = 0; key < PROPERTY_COUNT; key++) {
+      if (valueCounts[key] == ONE_VALUE) {
+        statementObjects.put(key, new Number[] {box(key, firstValues[key])});
+      } else if (valueCounts[key] == TWO_VALUES) {
+        statementObjects.put(key, new Number[] {box(key, firstValues[key]), box(key, secondValues[key])});
+      }
+    }
+    return statementObjects;
+  }
+
+  private void put(int key, double value) {
+    valueCounts[key] = ONE_VALUE;
+    firstValues[key] = value;
+    integerValues[key] = false;
+  }
+
+  private void put(int key, int value) {
+    put(key, (double) value);
+    integerValues[key] = true;
+  }
+
+  private void put(int key, int firstValue, int secondValue) {
+    valueCounts[key] = TWO_VALUES;
+    firstValues[key] = firstValue;
+    secondValues[key] = secondValue;
+    integerValues[key] = true;
+  }
+
+  private Number box(int key, double value) {
+    if (integerValues[key]) {
+      return (int) value;
+    }
+    return value;
+  }
+
+  private static boolean isValidKey(int key) {
+    return key >= 0 && key < PROPERTY_COUNT;
+  }
+}
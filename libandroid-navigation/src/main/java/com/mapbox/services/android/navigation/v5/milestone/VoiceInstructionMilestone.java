@@ -5,6 +5,7 @@ import com.mapbox.navigator.VoiceInstruction;
 import com.mapbox.services.android.navigation.v5.instruction.Instruction;
 import com.mapbox.services.android.navigation.v5.navigation.VoiceInstructionLoader;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
 
 /**
  * A default milestone that is added to {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation}
@@ -18,9 +19,11 @@ public class VoiceInstructionMilestone extends Milestone {
   private static final String EMPTY_STRING = "";
   private String announcement = EMPTY_STRING;
   private String ssmlAnnouncement = EMPTY_STRING;
+  private RouteUtils routeUtils;
 
   VoiceInstructionMilestone(Builder builder) {
     super(builder);
+    routeUtils = new RouteUtils();
   }
 
   @Override
@@ -90,13 +93,20 @@ public class VoiceInstructionMilestone extends Milestone {
   }
 
   private void checkForNewRoute(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
-    DirectionsRoute previousRoute = previousRouteProgress.directionsRoute();
-    DirectionsRoute currentRoute = routeProgress.directionsRoute();
-    if (!previousRoute.equals(currentRoute)) {
+    if (isNewRoute(previousRouteProgress, routeProgress)) {
       cacheInstructions(routeProgress, true);
     }
   }
 
+  private boolean isNewRoute(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
+    if (routeUtils.hasRouteGeneration(previousRouteProgress, routeProgress)) {
+      return previousRouteProgress.routeGeneration() != routeProgress.routeGeneration();
+    }
+    DirectionsRoute previousRoute = previousRouteProgress.directionsRoute();
+    DirectionsRoute currentRoute = routeProgress.directionsRoute();
+    return !previousRoute.equals(currentRoute);
+  }
+
   private void cacheInstructions(RouteProgress routeProgress, boolean isFirst) {
     VoiceInstructionLoader voiceInstructionLoader = VoiceInstructionLoader.getInstance();
     if (voiceInstructionLoader != null) {
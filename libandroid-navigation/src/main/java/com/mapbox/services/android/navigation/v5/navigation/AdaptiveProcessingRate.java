@@ -0,0 +1,148 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.Nullable;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Picks how often the route should be processed, and how often the location engine should provide
+ * locations, from how far the next maneuver is and how fast the user is moving.
+ * <p>
+ * Processing is fastest within the maneuver zone of the next maneuver, even when stopped, so that
+ * the maneuver is never handled late. Away from it, processing slows down while the user is
+ * stationary, or while the maneuver zone is more than {@link #RELAXED_TIME_TO_MANEUVER_ZONE} seconds
+ * away at the current speed. Without a speed, or when disabled, the route is processed at its
+ * usual rate.
+ * <p>
+ * Also counts the ticks processed, and how many ticks the usual rate would have processed over the
+ * same time, to show the ticks saved. Levels are updated and ticks processed on the navigation
+ * thread; the intervals and stats can be read from any thread.
+ */
+class AdaptiveProcessingRate {
+
+  private static final int LEVEL_MANEUVER = 0;
+  private static final int LEVEL_DEFAULT = 1;
+  private static final int LEVEL_RELAXED = 2;
+  private static final int LEVEL_STATIONARY = 3;
+  private static final long[] TIMER_INTERVALS = {250, 1000, 2000, 3000};
+  private static final long[] LOCATION_INTERVALS = {0, 0, 2000, 3000};
+  private static final long[] FASTEST_LOCATION_INTERVALS = {1000, 1000, 2000, 3000};
+  private static final long DEFAULT_TIMER_INTERVAL = TIMER_INTERVALS[LEVEL_DEFAULT];
+  private static final double RELAXED_TIME_TO_MANEUVER_ZONE = 30;
+  private static final float STATIONARY_SPEED = 0.5f;
+  private final boolean isEnabled;
+  private final double maneuverZoneRadius;
+  private final AtomicLong coalescedLocationCount = new AtomicLong();
+  private volatile long processedTickCount;
+  private volatile long locationTickCount;
+  private volatile long timerIntervalTotal;
+  private volatile int level = LEVEL_DEFAULT;
+
+  AdaptiveProcessingRate(boolean isEnabled, double maneuverZoneRadius) {
+    this.isEnabled = isEnabled;
+    this.maneuverZoneRadius = maneuverZoneRadius;
+  }
+
+  /**
+   * Updates the level of the processing rate with the latest progress.
+   *
+   * @param rawLocation   the progress was built from, if any
+   * @param routeProgress latest progress
+   * @param userOffRoute  true if the progress is off-route, and so not along the route anymore
+   * @return true if the level changed, along with the location engine intervals
+   */
+  boolean update(@Nullable Location rawLocation, RouteProgress routeProgress, boolean userOffRoute) {
+    if (!isEnabled) {
+      return false;
+    }
+    int newLevel = findLevel(rawLocation, routeProgress, userOffRoute);
+    boolean hasChanged = newLevel != level;
+    level = newLevel;
+    return hasChanged;
+  }
+
+  /**
+   * @return interval until the next tick with {@link NavigationConstants#ROUTE_PROCESSING_MODE_TIMER}
+   */
+  long timerInterval() {
+    return TIMER_INTERVALS[level];
+  }
+
+  /**
+   * With {@link NavigationConstants#ROUTE_PROCESSING_MODE_LOCATION}, ticks only ever slow down,
+   * they already follow the locations near a maneuver.
+   *
+   * @param minimumInterval from the navigation options
+   * @return minimum interval between two ticks
+   */
+  long locationDrivenInterval(long minimumInterval) {
+    if (level == LEVEL_MANEUVER || level == LEVEL_DEFAULT) {
+      return minimumInterval;
+    }
+    return Math.max(minimumInterval, TIMER_INTERVALS[level]);
+  }
+
+  long locationEngineInterval() {
+    return LOCATION_INTERVALS[level];
+  }
+
+  long locationEngineFastestInterval() {
+    return FASTEST_LOCATION_INTERVALS[level];
+  }
+
+  /**
+   * Counts a tick with {@link NavigationConstants#ROUTE_PROCESSING_MODE_TIMER}, which the usual
+   * rate would have spread over the given interval.
+   *
+   * @param intervalInMilliseconds until the next tick
+   */
+  void recordTimerTick(long intervalInMilliseconds) {
+    processedTickCount++;
+    timerIntervalTotal += intervalInMilliseconds;
+  }
+
+  /**
+   * Counts a tick with {@link NavigationConstants#ROUTE_PROCESSING_MODE_LOCATION}.
+   */
+  void recordLocationTick() {
+    processedTickCount++;
+    locationTickCount++;
+  }
+
+  /**
+   * Counts a location that the usual minimum interval would have processed in its own tick, but
+   * that was merged into the pending tick instead. Called with each raw location.
+   */
+  void recordCoalescedLocation() {
+    coalescedLocationCount.incrementAndGet();
+  }
+
+  ProcessingRateStats stats() {
+    long processed = processedTickCount;
+    long usualRateCount = locationTickCount + coalescedLocationCount.get()
+      + timerIntervalTotal / DEFAULT_TIMER_INTERVAL;
+    return ProcessingRateStats.create(processed, usualRateCount - processed);
+  }
+
+  private int findLevel(@Nullable Location rawLocation, RouteProgress routeProgress, boolean userOffRoute) {
+    if (userOffRoute) {
+      return LEVEL_DEFAULT;
+    }
+    double stepDistanceRemaining = routeProgress.currentLegProgress().currentStepProgress().distanceRemaining();
+    if (stepDistanceRemaining <= maneuverZoneRadius) {
+      return LEVEL_MANEUVER;
+    }
+    if (rawLocation == null || !rawLocation.hasSpeed()) {
+      return LEVEL_DEFAULT;
+    }
+    float speed = rawLocation.getSpeed();
+    if (speed < STATIONARY_SPEED) {
+      return LEVEL_STATIONARY;
+    }
+    double timeToManeuverZone = (stepDistanceRemaining - maneuverZoneRadius) / speed;
+    return timeToManeuverZone > RELAXED_TIME_TO_MANEUVER_ZONE ? LEVEL_RELAXED : LEVEL_DEFAULT;
+  }
+}
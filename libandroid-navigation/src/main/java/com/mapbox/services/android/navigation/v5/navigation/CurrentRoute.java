@@ -0,0 +1,42 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
+
+/**
+ * The route being navigated along with its generation and geometry index. A new instance is
+ * published as a whole each time the route changes, so the navigation thread never sees the route
+ * of one generation with the generation or geometry index of another.
+ */
+final class CurrentRoute {
+
+  private final DirectionsRoute route;
+  private final int generation;
+  private final RouteGeometryIndex geometryIndex;
+
+  private CurrentRoute(DirectionsRoute route, int generation, RouteGeometryIndex geometryIndex) {
+    this.route = route;
+    this.generation = generation;
+    this.geometryIndex = geometryIndex;
+  }
+
+  static CurrentRoute create(DirectionsRoute route, int generation) {
+    return create(route, generation, RouteGeometryIndex.create(route));
+  }
+
+  static CurrentRoute create(DirectionsRoute route, int generation, RouteGeometryIndex geometryIndex) {
+    return new CurrentRoute(route, generation, geometryIndex);
+  }
+
+  DirectionsRoute route() {
+    return route;
+  }
+
+  int generation() {
+    return generation;
+  }
+
+  RouteGeometryIndex geometryIndex() {
+    return geometryIndex;
+  }
+}
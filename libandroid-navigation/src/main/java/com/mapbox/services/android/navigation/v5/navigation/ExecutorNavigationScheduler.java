@@ -0,0 +1,158 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the work of the navigation engine on a {@link ScheduledExecutorService}, timed with
+ * {@link System#nanoTime()}. Doesn't depend on the Android framework, so the engine can also run
+ * on a plain JVM.
+ * <p>
+ * The work is run one runnable at a time, in the order it becomes due, as with a
+ * {@link HandlerNavigationScheduler}, even if the executor runs several threads: a runnable due
+ * while another one runs waits for it, and then runs on the same thread. Shutting the executor down
+ * is left to its owner.
+ *
+ * @since 0.21.0
+ */
+public class ExecutorNavigationScheduler implements NavigationScheduler {
+
+  private final ScheduledExecutorService executor;
+  private final List<ScheduledRun> pendingRuns = new ArrayList<>();
+  private final Queue<ScheduledRun> dueRuns = new ArrayDeque<>();
+  private boolean isRunning;
+
+  /**
+   * @param executor running the work, with one or more threads
+   * @since 0.21.0
+   */
+  public ExecutorNavigationScheduler(ScheduledExecutorService executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public void post(Runnable runnable) {
+    postDelayed(runnable, 0);
+  }
+
+  @Override
+  public void postDelayed(Runnable runnable, long delayInMilliseconds) {
+    ScheduledRun run = new ScheduledRun(runnable);
+    synchronized (pendingRuns) {
+      pendingRuns.add(run);
+    }
+    run.future = executor.schedule(run, Math.max(0, delayInMilliseconds), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void removeCallbacks(Runnable runnable) {
+    synchronized (pendingRuns) {
+      Iterator<ScheduledRun> iterator = pendingRuns.iterator();
+      while (iterator.hasNext()) {
+        ScheduledRun run = iterator.next();
+        if (run.runnable == runnable) {
+          iterator.remove();
+          run.cancel();
+        }
+      }
+      Iterator<ScheduledRun> dueIterator = dueRuns.iterator();
+      while (dueIterator.hasNext()) {
+        if (dueIterator.next().runnable == runnable) {
+          dueIterator.remove();
+        }
+      }
+    }
+  }
+
+  @Override
+  public long elapsedTimeInMilliseconds() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+  }
+
+  /**
+   * Runs the due runs one after the other on the calling thread, until there are none left.
+   */
+  private void runDueRuns() {
+    while (true) {
+      ScheduledRun run;
+      synchronized (pendingRuns) {
+        run = dueRuns.poll();
+        if (run == null) {
+          isRunning = false;
+          return;
+        }
+      }
+      boolean hasCompleted = false;
+      try {
+        run.runnable.run();
+        hasCompleted = true;
+      } finally {
+        if (!hasCompleted) {
+          resumeDueRunsElsewhere();
+        }
+      }
+    }
+  }
+
+  /**
+   * Hands the due runs over to another thread of the executor when a run throws, so they aren't
+   * stuck behind it.
+   */
+  private void resumeDueRunsElsewhere() {
+    synchronized (pendingRuns) {
+      if (dueRuns.isEmpty()) {
+        isRunning = false;
+        return;
+      }
+    }
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        runDueRuns();
+      }
+    });
+  }
+
+  /**
+   * Only runs while still pending, so a run removed before its future is even known won't run.
+   * Once due, it's queued behind the runs already due, and runs on this thread unless another
+   * thread is running them already.
+   */
+  private class ScheduledRun implements Runnable {
+
+    private final Runnable runnable;
+    private volatile ScheduledFuture<?> future;
+
+    ScheduledRun(Runnable runnable) {
+      this.runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+      synchronized (pendingRuns) {
+        if (!pendingRuns.remove(this)) {
+          return;
+        }
+        dueRuns.add(this);
+        if (isRunning) {
+          return;
+        }
+        isRunning = true;
+      }
+      runDueRuns();
+    }
+
+    void cancel() {
+      ScheduledFuture<?> scheduledFuture = future;
+      if (scheduledFuture != null) {
+        scheduledFuture.cancel(false);
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+/**
+ * Runs the work of the navigation engine on the {@link android.os.Looper} of a {@link Handler},
+ * timed with {@link SystemClock#elapsedRealtime()}.
+ *
+ * @since 0.21.0
+ */
+public class HandlerNavigationScheduler implements NavigationScheduler {
+
+  private final Handler handler;
+
+  /**
+   * @param handler running the work
+   * @since 0.21.0
+   */
+  public HandlerNavigationScheduler(Handler handler) {
+    this.handler = handler;
+  }
+
+  @Override
+  public void post(Runnable runnable) {
+    handler.post(runnable);
+  }
+
+  @Override
+  public void postDelayed(Runnable runnable, long delayInMilliseconds) {
+    handler.postDelayed(runnable, delayInMilliseconds);
+  }
+
+  @Override
+  public void removeCallbacks(Runnable runnable) {
+    handler.removeCallbacks(runnable);
+  }
+
+  @Override
+  public long elapsedTimeInMilliseconds() {
+    return SystemClock.elapsedRealtime();
+  }
+}
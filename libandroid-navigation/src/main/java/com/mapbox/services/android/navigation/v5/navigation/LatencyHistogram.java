@@ -0,0 +1,97 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size histogram of durations, cheap enough to record on every navigation update.
+ * <p>
+ * Durations are counted in microsecond buckets that grow with the power of two of the value, split
+ * into {@link #SUB_BUCKET_COUNT} linear sub-buckets each. Percentiles are read back within
+ * 1 / {@link #SUB_BUCKET_COUNT} of the recorded value, without ever allocating while recording.
+ * <p>
+ * Each histogram has a single writer thread, {@link #record(long)} must only be called from one
+ * thread. {@link #snapshot()} can be called from any thread.
+ */
+class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 40;
+  private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (MAX_EXPONENT - SUB_BUCKET_BITS + 2);
+  private static final double NANOS_PER_MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final double MICROS_PER_MILLISECOND = TimeUnit.MILLISECONDS.toMicros(1);
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private volatile long totalNanos;
+  private volatile long maxNanos;
+
+  /**
+   * Adds a duration to the histogram, negative durations are counted as 0.
+   *
+   * @param durationInNanos to be recorded
+   */
+  void record(long durationInNanos) {
+    long duration = Math.max(0, durationInNanos);
+    int index = bucketIndex(TimeUnit.NANOSECONDS.toMicros(duration));
+    counts.lazySet(index, counts.get(index) + 1);
+    totalNanos += duration;
+    if (duration > maxNanos) {
+      maxNanos = duration;
+    }
+  }
+
+  LatencySnapshot snapshot() {
+    long[] bucketCounts = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      bucketCounts[i] = counts.get(i);
+      count += bucketCounts[i];
+    }
+    if (count == 0) {
+      return LatencySnapshot.create(0, 0, 0, 0, 0, 0);
+    }
+    double max = maxNanos / NANOS_PER_MILLISECOND;
+    return LatencySnapshot.create(
+      count,
+      totalNanos / NANOS_PER_MILLISECOND / count,
+      Math.min(max, valueAtPercentile(bucketCounts, count, 50)),
+      Math.min(max, valueAtPercentile(bucketCounts, count, 90)),
+      Math.min(max, valueAtPercentile(bucketCounts, count, 99)),
+      max
+    );
+  }
+
+  static int bucketIndex(long valueInMicros) {
+    if (valueInMicros < SUB_BUCKET_COUNT) {
+      return (int) valueInMicros;
+    }
+    int exponent = Math.min(MAX_EXPONENT, 63 - Long.numberOfLeadingZeros(valueInMicros));
+    int shift = exponent - SUB_BUCKET_BITS;
+    int subBucket = (int) Math.min(SUB_BUCKET_COUNT - 1, (valueInMicros >> shift) - SUB_BUCKET_COUNT);
+    return SUB_BUCKET_COUNT * (shift + 1) + subBucket;
+  }
+
+  /**
+   * @return the largest value, in microseconds, counted in the given bucket
+   */
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long subBucket = index % SUB_BUCKET_COUNT;
+    return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+  }
+
+  private static double valueAtPercentile(long[] bucketCounts, long count, double percentile) {
+    long rank = (long) Math.ceil(count * percentile / 100d);
+    long seen = 0;
+    for (int i = 0; i < bucketCounts.length; i++) {
+      seen += bucketCounts[i];
+      if (seen >= rank) {
+        return bucketUpperBound(i) / MICROS_PER_MILLISECOND;
+      }
+    }
+    return bucketUpperBound(bucketCounts.length - 1) / MICROS_PER_MILLISECOND;
+  }
+}
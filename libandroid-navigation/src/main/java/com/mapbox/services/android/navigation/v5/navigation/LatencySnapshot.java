@@ -0,0 +1,57 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Distribution of the durations recorded for one stage of the navigation processing, see
+ * {@link NavigationPerformanceSnapshot}.
+ * <p>
+ * Percentiles are approximated to within an eighth of the recorded durations.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class LatencySnapshot {
+
+  static LatencySnapshot create(long count, double meanInMilliseconds, double p50InMilliseconds,
+                                double p90InMilliseconds, double p99InMilliseconds, double maxInMilliseconds) {
+    return new AutoValue_LatencySnapshot(count, meanInMilliseconds, p50InMilliseconds, p90InMilliseconds,
+      p99InMilliseconds, maxInMilliseconds);
+  }
+
+  /**
+   * @return number of recorded durations
+   * @since 0.21.0
+   */
+  public abstract long count();
+
+  /**
+   * @return mean duration in milliseconds, 0 if nothing was recorded
+   * @since 0.21.0
+   */
+  public abstract double meanInMilliseconds();
+
+  /**
+   * @return median duration in milliseconds, 0 if nothing was recorded
+   * @since 0.21.0
+   */
+  public abstract double p50InMilliseconds();
+
+  /**
+   * @return 90th percentile duration in milliseconds, 0 if nothing was recorded
+   * @since 0.21.0
+   */
+  public abstract double p90InMilliseconds();
+
+  /**
+   * @return 99th percentile duration in milliseconds, 0 if nothing was recorded
+   * @since 0.21.0
+   */
+  public abstract double p99InMilliseconds();
+
+  /**
+   * @return longest duration in milliseconds, 0 if nothing was recorded
+   * @since 0.21.0
+   */
+  public abstract double maxInMilliseconds();
+}
@@ -0,0 +1,92 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.Nullable;
+
+/**
+ * Thins out raw locations arriving faster than the navigator needs them.
+ * <p>
+ * Locations are grouped in windows of fix time, each starting with the first location past the
+ * previous window. Only the newest location of a window is submitted to the navigator, the older ones
+ * are merged into it. Once all queued locations are coalesced, the newest location held is flushed,
+ * so the navigator always works on the latest position. Submitted locations stay spaced out in time,
+ * which keeps the navigator's heading and speed estimation stable while avoiding the cost of passing
+ * on every fix from a 10 - 20 Hz source.
+ * <p>
+ * Only used from the navigation thread.
+ */
+class LocationCoalescer {
+
+  private static final long NO_WINDOW_START = Long.MIN_VALUE;
+  private final long windowInMilliseconds;
+  private long windowStartTime = NO_WINDOW_START;
+  private Location heldLocation;
+  private volatile long submittedCount;
+  private volatile long mergedCount;
+
+  /**
+   * @param windowInMilliseconds fix time covered by each window, 0 or less submits every location
+   */
+  LocationCoalescer(long windowInMilliseconds) {
+    this.windowInMilliseconds = windowInMilliseconds;
+  }
+
+  /**
+   * Holds the given location as the newest of its window, merging any older location of the window.
+   *
+   * @param location next raw location, in the order received
+   * @return the newest location of the previous window if the given location starts a new one, which
+   * should be submitted now, or null
+   */
+  @Nullable
+  Location coalesce(Location location) {
+    if (windowInMilliseconds <= 0) {
+      submittedCount++;
+      return location;
+    }
+    Location newestOfPreviousWindow = null;
+    long time = location.getTime();
+    if (isWithinWindow(time)) {
+      if (heldLocation != null) {
+        mergedCount++;
+      }
+    } else {
+      newestOfPreviousWindow = flush();
+      windowStartTime = time;
+    }
+    heldLocation = location;
+    return newestOfPreviousWindow;
+  }
+
+  /**
+   * Releases the location held for the current window, to be submitted before the next status
+   * request. Later locations of the same window are held and flushed again.
+   *
+   * @return the newest location coalesced, or null if it was submitted already
+   */
+  @Nullable
+  Location flush() {
+    Location newestLocation = heldLocation;
+    heldLocation = null;
+    if (newestLocation != null) {
+      submittedCount++;
+    }
+    return newestLocation;
+  }
+
+  long submittedCount() {
+    return submittedCount;
+  }
+
+  long mergedCount() {
+    return mergedCount;
+  }
+
+  private boolean isWithinWindow(long time) {
+    if (windowStartTime == NO_WINDOW_START) {
+      return false;
+    }
+    // Fix times going backwards (e.g. a new replay) start a new window
+    return time >= windowStartTime && time - windowStartTime < windowInMilliseconds;
+  }
+}
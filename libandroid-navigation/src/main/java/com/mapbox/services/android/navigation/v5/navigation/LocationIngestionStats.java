@@ -0,0 +1,47 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Counts of the raw locations received during a navigation session and what happened to them
+ * before reaching the navigator. Can be used to tune
+ * {@link MapboxNavigationOptions#locationCoalescingWindowInMilliseconds()}.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class LocationIngestionStats {
+
+  static LocationIngestionStats create(long receivedCount, long submittedCount, long mergedCount,
+                                       long droppedCount) {
+    return new AutoValue_LocationIngestionStats(receivedCount, submittedCount, mergedCount, droppedCount);
+  }
+
+  /**
+   * @return number of raw locations received from the location engine
+   * @since 0.21.0
+   */
+  public abstract long receivedCount();
+
+  /**
+   * @return number of raw locations passed on to the navigator
+   * @since 0.21.0
+   */
+  public abstract long submittedCount();
+
+  /**
+   * Raw locations received within the coalescing window of the last submitted location.
+   *
+   * @return number of raw locations merged into a previous location
+   * @since 0.21.0
+   */
+  public abstract long mergedCount();
+
+  /**
+   * Raw locations dropped because the navigation thread fell behind and too many were waiting.
+   *
+   * @return number of raw locations dropped
+   * @since 0.21.0
+   */
+  public abstract long droppedCount();
+}
@@ -0,0 +1,87 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free queue handing raw locations from the thread receiving location updates over to the
+ * navigation thread.
+ * <p>
+ * This is a bounded ring buffer with a single producer and a single consumer: {@link #offer(Location)}
+ * must only be called from one thread at a time and {@link #poll()} from one (other) thread. Neither
+ * of them ever blocks. Once full, the oldest location is dropped to make room for the newest one, as
+ * navigation is better off with recent locations than with stale ones.
+ */
+class LocationQueue {
+
+  private final AtomicReferenceArray<Location> locations;
+  private final int capacity;
+  private final int mask;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  /**
+   * @param capacity maximum number of queued locations, rounded up to a power of two
+   */
+  LocationQueue(int capacity) {
+    this.capacity = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+    locations = new AtomicReferenceArray<>(this.capacity);
+    mask = this.capacity - 1;
+  }
+
+  /**
+   * Adds a location to the end of the queue, dropping the oldest location if the queue is full.
+   *
+   * @param location to be queued
+   * @return true if the location was queued right away, false if the oldest location was dropped for it
+   */
+  boolean offer(Location location) {
+    boolean isOldestDropped = false;
+    long currentTail = tail.get();
+    long currentHead = head.get();
+    while (currentTail - currentHead == capacity) {
+      // The head is only taken over if the consumer didn't poll the oldest location in the meantime
+      if (head.compareAndSet(currentHead, currentHead + 1)) {
+        isOldestDropped = true;
+        break;
+      }
+      currentHead = head.get();
+    }
+    locations.set((int) (currentTail & mask), location);
+    tail.lazySet(currentTail + 1);
+    return !isOldestDropped;
+  }
+
+  /**
+   * Removes the oldest location of the queue.
+   *
+   * @return the oldest queued location, or null if the queue is empty
+   */
+  @Nullable
+  Location poll() {
+    while (true) {
+      long currentHead = head.get();
+      if (currentHead == tail.get()) {
+        return null;
+      }
+      int index = (int) (currentHead & mask);
+      Location location = locations.get(index);
+      // Fails if the producer dropped this location, and may then have replaced it, meanwhile
+      if (head.compareAndSet(currentHead, currentHead + 1)) {
+        locations.compareAndSet(index, location, null);
+        return location;
+      }
+    }
+  }
+
+  boolean isEmpty() {
+    return head.get() == tail.get();
+  }
+
+  int capacity() {
+    return capacity;
+  }
+}
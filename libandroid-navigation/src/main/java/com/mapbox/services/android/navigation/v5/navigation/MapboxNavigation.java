@@ -25,6 +25,11 @@ import com.mapbox.services.android.navigation.v5.offroute.OffRoute;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
 import com.mapbox.services.android.navigation.v5.route.FasterRoute;
 import com.mapbox.services.android.navigation.v5.route.FasterRouteListener;
+import com.mapbox.services.android.navigation.v5.route.RouteFetcher;
+import com.mapbox.services.android.navigation.v5.route.SpeculativeRouteEngine;
+import com.mapbox.services.android.navigation.v5.route.SpeculativeRouteListener;
+import com.mapbox.services.android.navigation.v5.route.SpeculativeRouteStats;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
 import com.mapbox.services.android.navigation.v5.snap.Snap;
 import com.mapbox.services.android.navigation.v5.utils.ValidationUtils;
@@ -40,6 +45,7 @@ import timber.log.Timber;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.BANNER_INSTRUCTION_MILESTONE_ID;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants
   .NON_NULL_APPLICATION_CONTEXT_REQUIRED;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.UNKNOWN_ROUTE_GENERATION;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.VOICE_INSTRUCTION_MILESTONE_ID;
 
 /**
@@ -57,9 +63,14 @@ public class MapboxNavigation implements ServiceConnection {
   private NavigationTelemetry navigationTelemetry = null;
   private NavigationService navigationService;
   private MapboxNavigator mapboxNavigator;
-  private DirectionsRoute directionsRoute;
+  private NavigationPerformanceMonitor performanceMonitor;
+  private AdaptiveProcessingRate processingRate;
+  private SpeculativeRouteEngine speculativeRouteEngine;
+  private RerouteTracer rerouteTracer;
+  private volatile CurrentRoute currentRoute;
   private MapboxNavigationOptions options;
   private LocationEngine locationEngine = null;
+  private boolean isDefaultLocationEngine;
   private Set<Milestone> milestones;
   private final String accessToken;
   private Context applicationContext;
@@ -158,6 +169,15 @@ public class MapboxNavigation implements ServiceConnection {
     initializeForTest();
   }
 
+  // Package private (no modifier) for running the navigation engine off the device, without a
+  // location engine, telemetry or the navigation service
+  MapboxNavigation(@NonNull MapboxNavigationOptions options, @NonNull MapboxNavigator mapboxNavigator) {
+    this.accessToken = "";
+    this.options = options;
+    initializeEngines();
+    this.mapboxNavigator = mapboxNavigator;
+  }
+
   // Lifecycle
 
   /**
@@ -172,6 +192,8 @@ public class MapboxNavigation implements ServiceConnection {
     removeProgressChangeListener(null);
     removeMilestoneEventListener(null);
     removeNavigationEventListener(null);
+    removeSpeculativeRouteListener(null);
+    removeRerouteTimelineListener(null);
   }
 
   // Public APIs
@@ -284,6 +306,7 @@ public class MapboxNavigation implements ServiceConnection {
    */
   public void setLocationEngine(@NonNull LocationEngine locationEngine) {
     this.locationEngine = locationEngine;
+    isDefaultLocationEngine = false;
     // Setup telemetry with new engine
     navigationTelemetry.updateLocationEngine(locationEngine);
     // Notify service to get new location engine.
@@ -329,6 +352,20 @@ public class MapboxNavigation implements ServiceConnection {
     startNavigationWith(directionsRoute);
   }
 
+  /**
+   * Returns the decoded geometry of the route currently being navigated. The index is built once
+   * each time {@link #startNavigation(DirectionsRoute)} receives a route and can be shared by
+   * anything that would otherwise decode the route or step polylines again.
+   *
+   * @return geometry index of the current route, or null if navigation hasn't been started yet
+   * @since 0.21.0
+   */
+  @Nullable
+  public RouteGeometryIndex getRouteGeometryIndex() {
+    CurrentRoute currentRoute = this.currentRoute;
+    return currentRoute == null ? null : currentRoute.geometryIndex();
+  }
+
   /**
    * Call this when the navigation session needs to end before the user reaches their final
    * destination. There isn't a need to manually end the navigation session using this API when the
@@ -350,6 +387,8 @@ public class MapboxNavigation implements ServiceConnection {
       isBound = false;
       navigationService.endNavigation();
       navigationService.stopSelf();
+      speculativeRouteEngine.clear();
+      rerouteTracer.reset();
       navigationEventDispatcher.onNavigationEvent(false);
     }
   }
@@ -412,6 +451,31 @@ public class MapboxNavigation implements ServiceConnection {
     navigationEventDispatcher.addProgressChangeListener(progressChangeListener);
   }
 
+  /**
+   * This adds a new progress change listener, delivering updates to it on the thread and at the
+   * maximum rate given by the options.
+   * <p>
+   * Updates arriving sooner than {@link ProgressChangeListenerOptions#minimumDeliveryIntervalInMilliseconds()}
+   * after the last delivered one are held back, and only the latest of them is delivered once the
+   * interval expires. Updates replaced by a newer one while waiting on a busy
+   * {@link ProgressChangeListenerOptions#executor()} are skipped.
+   * </p><p>
+   * It is not possible to add the same listener implementation more then once and a warning will be
+   * printed in the log if attempted. The listener is removed with
+   * {@link #removeProgressChangeListener(ProgressChangeListener)}.
+   * </p>
+   *
+   * @param progressChangeListener an implementation of {@code ProgressChangeListener} which hasn't
+   *                               already been added
+   * @param options                delivery thread and rate of the listener
+   * @see ProgressChangeListenerOptions
+   * @since 0.21.0
+   */
+  public void addProgressChangeListener(@NonNull ProgressChangeListener progressChangeListener,
+                                        @NonNull ProgressChangeListenerOptions options) {
+    navigationEventDispatcher.addProgressChangeListener(progressChangeListener, options);
+  }
+
   /**
    * This removes a specific progress change listener by passing in the instance of it or you can
    * pass in null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
@@ -542,6 +606,83 @@ public class MapboxNavigation implements ServiceConnection {
     navigationEventDispatcher.removeFasterRouteListener(fasterRouteListener);
   }
 
+  /**
+   * This adds a new speculative route listener which is invoked when going off-route was answered
+   * with a route fetched ahead, with {@link MapboxNavigationOptions#enableSpeculativeRerouting()}.
+   * Navigation has already started along the route when the listener is invoked, and the
+   * {@link OffRouteListener}s are not notified.
+   * <p>
+   * It is not possible to add the same listener implementation more then once and a warning will be
+   * printed in the log if attempted.
+   * </p>
+   *
+   * @param speculativeRouteListener an implementation of {@code SpeculativeRouteListener}
+   * @see SpeculativeRouteListener
+   * @since 0.21.0
+   */
+  public void addSpeculativeRouteListener(@NonNull SpeculativeRouteListener speculativeRouteListener) {
+    navigationEventDispatcher.addSpeculativeRouteListener(speculativeRouteListener);
+  }
+
+  /**
+   * This removes a specific speculative route listener by passing in the instance of it or you can
+   * pass in null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
+   * get removed automatically.
+   *
+   * @param speculativeRouteListener an implementation of {@code SpeculativeRouteListener} which
+   *                                 currently exist in the speculativeRouteListeners list
+   * @see SpeculativeRouteListener
+   * @since 0.21.0
+   */
+  public void removeSpeculativeRouteListener(@Nullable SpeculativeRouteListener speculativeRouteListener) {
+    navigationEventDispatcher.removeSpeculativeRouteListener(speculativeRouteListener);
+  }
+
+  /**
+   * This adds a new reroute timeline listener which is invoked with the first progress along the
+   * new route of each reroute, with how long each of its stages took.
+   * <p>
+   * The request stages are only timed for the requests of the {@link RouteFetcher}s passed to
+   * {@link #traceRouteFetcher(RouteFetcher)}.
+   * <p>
+   * It is not possible to add the same listener implementation more then once and a warning will be
+   * printed in the log if attempted.
+   * </p>
+   *
+   * @param rerouteTimelineListener an implementation of {@code RerouteTimelineListener}
+   * @see RerouteTimelineListener
+   * @since 0.21.0
+   */
+  public void addRerouteTimelineListener(@NonNull RerouteTimelineListener rerouteTimelineListener) {
+    navigationEventDispatcher.addRerouteTimelineListener(rerouteTimelineListener);
+  }
+
+  /**
+   * This removes a specific reroute timeline listener by passing in the instance of it or you can
+   * pass in null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
+   * get removed automatically.
+   *
+   * @param rerouteTimelineListener an implementation of {@code RerouteTimelineListener} which
+   *                                currently exist in the rerouteTimelineListeners list
+   * @see RerouteTimelineListener
+   * @since 0.21.0
+   */
+  public void removeRerouteTimelineListener(@Nullable RerouteTimelineListener rerouteTimelineListener) {
+    navigationEventDispatcher.removeRerouteTimelineListener(rerouteTimelineListener);
+  }
+
+  /**
+   * Times the requests of the given {@link RouteFetcher}, usually the one fetching the new route
+   * when the user goes off-route, so that the {@link RerouteTimeline}s include how long the new
+   * route took to be requested, received and parsed.
+   *
+   * @param routeFetcher fetching the new routes
+   * @since 0.21.0
+   */
+  public void traceRouteFetcher(@NonNull RouteFetcher routeFetcher) {
+    routeFetcher.addRouteRequestTimingListener(rerouteTracer);
+  }
+
   // Custom engines
 
   /**
@@ -710,14 +851,92 @@ public class MapboxNavigation implements ServiceConnection {
     navigationTelemetry.cancelFeedback(feedbackId);
   }
 
-  public String retrieveHistory() {
-    return mapboxNavigator.retrieveHistory();
+  /**
+   * Gets the history of state changing calls to the navigator, recorded since history was toggled on
+   * with {@link #toggleHistory(boolean)}.
+   * <p>
+   * The navigator is asked for it on the navigation thread, after the update in progress, or in the
+   * background if navigation isn't running. The history is then given to the listener on the main
+   * thread.
+   *
+   * @param listener to be given the json representing the recorded series of events
+   * @since 0.21.0
+   */
+  public void retrieveHistory(@NonNull NavigationHistoryListener listener) {
+    if (isServiceAvailable() && navigationService.retrieveHistory(listener)) {
+      return;
+    }
+    new RetrieveHistoryTask(mapboxNavigator, listener).execute();
   }
 
   public void toggleHistory(boolean isEnabled) {
     mapboxNavigator.toggleHistory(isEnabled);
   }
 
+  /**
+   * Provides counts of the raw locations received during this session, and how many of them were
+   * passed on to the navigator, merged within the
+   * {@link MapboxNavigationOptions#locationCoalescingWindowInMilliseconds()} or dropped.
+   *
+   * @return current location ingestion counts
+   * @since 0.21.0
+   */
+  public LocationIngestionStats retrieveLocationIngestionStats() {
+    return mapboxNavigator.retrieveLocationIngestionStats();
+  }
+
+  /**
+   * Provides the durations of each stage of the navigation processing recorded during this
+   * session, along with the time from a location fix to its progress update reaching the
+   * listeners.
+   * <p>
+   * Durations are only recorded with {@link MapboxNavigationOptions#enablePerformanceMonitoring()},
+   * the snapshot is empty otherwise.
+   *
+   * @return current distribution of the processing durations
+   * @since 0.21.0
+   */
+  public NavigationPerformanceSnapshot retrievePerformanceSnapshot() {
+    return performanceMonitor.snapshot();
+  }
+
+  /**
+   * Provides how many times the route was processed during this session, and how many ticks
+   * {@link MapboxNavigationOptions#enableAdaptiveProcessingRate()} saved compared to the usual
+   * processing rate.
+   *
+   * @return current processing tick counts
+   * @since 0.21.0
+   */
+  public ProcessingRateStats retrieveProcessingRateStats() {
+    return processingRate.stats();
+  }
+
+  /**
+   * Provides how many routes were fetched ahead of maneuvers during this session with
+   * {@link MapboxNavigationOptions#enableSpeculativeRerouting()}, how often they answered going
+   * off-route, and the latency they saved.
+   *
+   * @return current speculative rerouting counts
+   * @since 0.21.0
+   */
+  public SpeculativeRouteStats retrieveSpeculativeRouteStats() {
+    return speculativeRouteEngine.stats();
+  }
+
+  /**
+   * Provides the durations of each stage of the reroutes completed during this session, from the
+   * user going off-route until the first progress along the new route, to be exported along with
+   * the reroute telemetry.
+   *
+   * @return current distribution of the reroute durations
+   * @see RerouteTimeline
+   * @since 0.21.0
+   */
+  public RerouteLatencySnapshot retrieveRerouteLatencySnapshot() {
+    return rerouteTracer.snapshot();
+  }
+
   @Override
   public void onServiceConnected(ComponentName name, IBinder service) {
     Timber.d("Connected to service.");
@@ -739,7 +958,22 @@ public class MapboxNavigation implements ServiceConnection {
   }
 
   DirectionsRoute getRoute() {
-    return directionsRoute;
+    CurrentRoute currentRoute = this.currentRoute;
+    return currentRoute == null ? null : currentRoute.route();
+  }
+
+  int getRouteGeneration() {
+    CurrentRoute currentRoute = this.currentRoute;
+    return currentRoute == null ? UNKNOWN_ROUTE_GENERATION : currentRoute.generation();
+  }
+
+  /**
+   * @return the route, its generation and geometry index, read together, or null before navigation
+   * is started
+   */
+  @Nullable
+  CurrentRoute retrieveCurrentRoute() {
+    return currentRoute;
   }
 
   List<Milestone> getMilestones() {
@@ -762,19 +996,59 @@ public class MapboxNavigation implements ServiceConnection {
     return mapboxNavigator;
   }
 
+  NavigationPerformanceMonitor retrievePerformanceMonitor() {
+    return performanceMonitor;
+  }
+
+  AdaptiveProcessingRate retrieveProcessingRate() {
+    return processingRate;
+  }
+
+  SpeculativeRouteEngine retrieveSpeculativeRouteEngine() {
+    return speculativeRouteEngine;
+  }
+
+  RerouteTracer retrieveRerouteTracer() {
+    return rerouteTracer;
+  }
+
+  /**
+   * Publishes the route as the one being navigated, as a new generation, and hands it to the
+   * navigator for the next status request.
+   */
+  void updateRoute(@NonNull DirectionsRoute directionsRoute) {
+    ValidationUtils.validDirectionsRoute(directionsRoute, options.defaultMilestonesEnabled());
+    int routeGeneration = currentRoute == null ? UNKNOWN_ROUTE_GENERATION : currentRoute.generation();
+    currentRoute = CurrentRoute.create(directionsRoute, routeGeneration + 1);
+    long routeUpdateStart = System.nanoTime();
+    String routeJson = directionsRoute.toJson();
+    rerouteTracer.onRouteUpdated(directionsRoute, routeUpdateStart, System.nanoTime());
+    mapboxNavigator.updateRoute(routeJson);
+  }
+
+  /**
+   * Adjusts the intervals of the location engine to the processing rate, then requests updates
+   * again so that they're applied.
+   * <p>
+   * Only the engine created by default is adjusted, a location engine given by the app keeps the
+   * intervals it was set up with.
+   */
+  @SuppressWarnings("MissingPermission")
+  void updateLocationEngineInterval(long interval, long fastestInterval) {
+    if (locationEngine == null || !isDefaultLocationEngine) {
+      return;
+    }
+    locationEngine.setInterval((int) interval);
+    locationEngine.setFastestInterval((int) fastestInterval);
+    if (locationEngine.isConnected()) {
+      locationEngine.requestLocationUpdates();
+    }
+  }
+
   private void initializeForTest() {
-    // Initialize event dispatcher and add internal listeners
-    navigationEventDispatcher = new NavigationEventDispatcher();
-    navigationEngineFactory = new NavigationEngineFactory();
+    initializeEngines();
     initializeDefaultLocationEngine();
     initializeTelemetry();
-
-    // Create and add default milestones if enabled.
-    milestones = new HashSet<>();
-    if (options.defaultMilestonesEnabled()) {
-      addMilestone(new VoiceInstructionMilestone.Builder().setIdentifier(VOICE_INSTRUCTION_MILESTONE_ID).build());
-      addMilestone(new BannerInstructionMilestone.Builder().setIdentifier(BANNER_INSTRUCTION_MILESTONE_ID).build());
-    }
   }
 
   /**
@@ -783,12 +1057,27 @@ public class MapboxNavigation implements ServiceConnection {
    * to prevent users from removing it.
    */
   private void initialize() {
+    initializeEngines();
+    mapboxNavigator = new MapboxNavigator(new Navigator(), options.locationCoalescingWindowInMilliseconds(),
+      rerouteTracer);
+    initializeDefaultLocationEngine();
+    initializeTelemetry();
+  }
+
+  /**
+   * Initializes the engines shared by every way of creating this class, leaving out the navigator,
+   * the location engine and telemetry.
+   */
+  private void initializeEngines() {
     // Initialize event dispatcher and add internal listeners
-    mapboxNavigator = new MapboxNavigator(new Navigator());
+    rerouteTracer = new RerouteTracer();
     navigationEventDispatcher = new NavigationEventDispatcher();
     navigationEngineFactory = new NavigationEngineFactory();
-    initializeDefaultLocationEngine();
-    initializeTelemetry();
+    performanceMonitor = new NavigationPerformanceMonitor(options.enablePerformanceMonitoring());
+    processingRate = new AdaptiveProcessingRate(options.enableAdaptiveProcessingRate(), options.maneuverZoneRadius());
+    speculativeRouteEngine = new SpeculativeRouteEngine(applicationContext, accessToken,
+      options.enableSpeculativeRerouting(), options.speculativeRouteBudget(),
+      options.speculativeRouteRequestsPerMinute());
 
     // Create and add default milestones if enabled.
     milestones = new HashSet<>();
@@ -822,6 +1111,7 @@ public class MapboxNavigation implements ServiceConnection {
    * which we can use to get information. Therefore, by default we build one.
    */
   private void initializeDefaultLocationEngine() {
+    isDefaultLocationEngine = locationEngine == null;
     locationEngine = obtainLocationEngine();
     locationEngine.setPriority(LocationEnginePriority.HIGH_ACCURACY);
     locationEngine.setFastestInterval(1000);
@@ -848,9 +1138,7 @@ public class MapboxNavigation implements ServiceConnection {
   }
 
   private void startNavigationWith(@NonNull DirectionsRoute directionsRoute) {
-    ValidationUtils.validDirectionsRoute(directionsRoute, options.defaultMilestonesEnabled());
-    this.directionsRoute = directionsRoute;
-    mapboxNavigator.updateRoute(directionsRoute.toJson());
+    updateRoute(directionsRoute);
     if (!isBound) {
       navigationTelemetry.startSession(directionsRoute);
       startNavigationService();
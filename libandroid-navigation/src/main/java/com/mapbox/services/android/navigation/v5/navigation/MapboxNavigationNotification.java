@@ -15,10 +15,13 @@ import android.text.SpannableString;
 import android.text.format.DateFormat;
 import android.widget.RemoteViews;
 
+import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteOptions;
 import com.mapbox.services.android.navigation.R;
+import com.mapbox.services.android.navigation.v5.instruction.InstructionTimeline;
 import com.mapbox.services.android.navigation.v5.navigation.notification.NavigationNotification;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
 import com.mapbox.services.android.navigation.v5.utils.LocaleUtils;
@@ -45,6 +48,8 @@ class MapboxNavigationNotification implements NavigationNotification {
   private SpannableString currentDistanceText;
   private DistanceFormatter distanceFormatter;
   private String instructionText;
+  private InstructionTimeline instructionTimeline;
+  private InstructionTimeline.Cursor instructionCursor;
   private int currentManeuverId;
   private boolean isTwentyFourHourFormat;
   private String etaFormat;
@@ -157,7 +162,7 @@ class MapboxNavigationNotification implements NavigationNotification {
    * @param routeProgress the latest RouteProgress object
    */
   private void updateNotificationViews(RouteProgress routeProgress) {
-    updateInstructionText(routeProgress.currentLegProgress().currentStep());
+    updateInstructionText(routeProgress);
     updateDistanceText(routeProgress);
     updateArrivalTime(routeProgress);
     LegStep step = routeProgress.currentLegProgress().upComingStep() != null
@@ -177,20 +182,40 @@ class MapboxNavigationNotification implements NavigationNotification {
     }
   }
 
-  private void updateInstructionText(LegStep step) {
-    if (hasInstructions(step) && (instructionText == null || newInstructionText(step))) {
-      instructionText = step.bannerInstructions().get(0).primary().text();
+  private void updateInstructionText(RouteProgress routeProgress) {
+    BannerInstructions instructions = findCurrentBannerInstructions(routeProgress);
+    if (instructions != null && (instructionText == null || newInstructionText(instructions))) {
+      instructionText = instructions.primary().text();
       collapsedNotificationRemoteViews.setTextViewText(R.id.notificationInstructionText, instructionText);
       expandedNotificationRemoteViews.setTextViewText(R.id.notificationInstructionText, instructionText);
     }
   }
 
+  /**
+   * Uses the route's {@link InstructionTimeline} if available, otherwise falls back to the first
+   * banner instructions of the current step.
+   */
+  private BannerInstructions findCurrentBannerInstructions(RouteProgress routeProgress) {
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    InstructionTimeline timeline = routeProgress.instructionTimeline();
+    if (timeline == null) {
+      LegStep step = legProgress.currentStep();
+      return hasInstructions(step) ? step.bannerInstructions().get(0) : null;
+    }
+    if (timeline != instructionTimeline) {
+      instructionTimeline = timeline;
+      instructionCursor = timeline.newCursor();
+    }
+    return instructionCursor.findCurrentBannerInstructions(routeProgress.legIndex(), legProgress.stepIndex(),
+      legProgress.currentStepProgress().distanceRemaining());
+  }
+
   private boolean hasInstructions(LegStep step) {
     return step.bannerInstructions() != null && !step.bannerInstructions().isEmpty();
   }
 
-  private boolean newInstructionText(LegStep step) {
-    return !instructionText.equals(step.bannerInstructions().get(0).primary().text());
+  private boolean newInstructionText(BannerInstructions instructions) {
+    return !instructionText.equals(instructions.primary().text());
   }
 
   private void updateDistanceText(RouteProgress routeProgress) {
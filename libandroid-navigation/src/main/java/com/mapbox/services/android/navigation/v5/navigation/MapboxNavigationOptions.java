@@ -1,13 +1,24 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
+import android.os.Process;
 import android.support.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.mapbox.services.android.navigation.v5.navigation.notification.NavigationNotification;
+import com.mapbox.services.android.navigation.v5.route.DirectionsResponseCache;
+
+import java.util.concurrent.ScheduledExecutorService;
 
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants
   .NAVIGATION_LOCATION_ENGINE_INTERVAL_LAG;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.LOCATION_COALESCING_WINDOW;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants
+  .MINIMUM_ROUTE_PROCESSING_INTERVAL;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.ROUNDING_INCREMENT_FIFTY;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.ROUTE_PROCESSING_MODE_TIMER;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.SPECULATIVE_ROUTE_BUDGET;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants
+  .SPECULATIVE_ROUTE_REQUESTS_PER_MINUTE;
 
 /**
  * Immutable and can't be changed after passing into {@link MapboxNavigation}.
@@ -60,6 +71,31 @@ public abstract class MapboxNavigationOptions {
 
   public abstract int navigationLocationEngineIntervalLagInMilliseconds();
 
+  @NavigationConstants.RouteProcessingMode
+  public abstract int routeProcessingMode();
+
+  public abstract int minimumRouteProcessingIntervalInMilliseconds();
+
+  public abstract int locationCoalescingWindowInMilliseconds();
+
+  public abstract boolean enablePerformanceMonitoring();
+
+  public abstract boolean enableAdaptiveProcessingRate();
+
+  public abstract int navigationThreadPriority();
+
+  @Nullable
+  public abstract ScheduledExecutorService navigationExecutor();
+
+  @Nullable
+  public abstract DirectionsResponseCache directionsCache();
+
+  public abstract boolean enableSpeculativeRerouting();
+
+  public abstract int speculativeRouteBudget();
+
+  public abstract int speculativeRouteRequestsPerMinute();
+
   public abstract Builder toBuilder();
 
   @AutoValue.Builder
@@ -107,6 +143,28 @@ public abstract class MapboxNavigationOptions {
 
     public abstract Builder navigationLocationEngineIntervalLagInMilliseconds(int lagInMilliseconds);
 
+    public abstract Builder routeProcessingMode(@NavigationConstants.RouteProcessingMode int routeProcessingMode);
+
+    public abstract Builder minimumRouteProcessingIntervalInMilliseconds(int intervalInMilliseconds);
+
+    public abstract Builder locationCoalescingWindowInMilliseconds(int windowInMilliseconds);
+
+    public abstract Builder enablePerformanceMonitoring(boolean enablePerformanceMonitoring);
+
+    public abstract Builder enableAdaptiveProcessingRate(boolean enableAdaptiveProcessingRate);
+
+    public abstract Builder navigationThreadPriority(int threadPriority);
+
+    public abstract Builder navigationExecutor(@Nullable ScheduledExecutorService executor);
+
+    public abstract Builder directionsCache(@Nullable DirectionsResponseCache directionsCache);
+
+    public abstract Builder enableSpeculativeRerouting(boolean enableSpeculativeRerouting);
+
+    public abstract Builder speculativeRouteBudget(int speculativeRouteBudget);
+
+    public abstract Builder speculativeRouteRequestsPerMinute(int speculativeRouteRequestsPerMinute);
+
     public abstract MapboxNavigationOptions build();
   }
 
@@ -131,6 +189,15 @@ public abstract class MapboxNavigationOptions {
       .roundingIncrement(ROUNDING_INCREMENT_FIFTY)
       .timeFormatType(NavigationTimeFormat.NONE_SPECIFIED)
       .locationAcceptableAccuracyInMetersThreshold(NavigationConstants.ONE_HUNDRED_METER_ACCEPTABLE_ACCURACY_THRESHOLD)
-      .navigationLocationEngineIntervalLagInMilliseconds(NAVIGATION_LOCATION_ENGINE_INTERVAL_LAG);
+      .navigationLocationEngineIntervalLagInMilliseconds(NAVIGATION_LOCATION_ENGINE_INTERVAL_LAG)
+      .routeProcessingMode(ROUTE_PROCESSING_MODE_TIMER)
+      .minimumRouteProcessingIntervalInMilliseconds(MINIMUM_ROUTE_PROCESSING_INTERVAL)
+      .locationCoalescingWindowInMilliseconds(LOCATION_COALESCING_WINDOW)
+      .enablePerformanceMonitoring(false)
+      .enableAdaptiveProcessingRate(false)
+      .navigationThreadPriority(Process.THREAD_PRIORITY_BACKGROUND)
+      .enableSpeculativeRerouting(false)
+      .speculativeRouteBudget(SPECULATIVE_ROUTE_BUDGET)
+      .speculativeRouteRequestsPerMinute(SPECULATIVE_ROUTE_REQUESTS_PER_MINUTE);
   }
 }
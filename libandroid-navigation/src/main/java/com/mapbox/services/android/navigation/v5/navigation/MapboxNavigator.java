@@ -1,6 +1,8 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
 import android.location.Location;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
 
 import com.mapbox.geojson.Point;
 import com.mapbox.navigator.FixLocation;
@@ -8,21 +10,61 @@ import com.mapbox.navigator.NavigationStatus;
 import com.mapbox.navigator.Navigator;
 
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Wraps the native {@link Navigator}.
+ * <p>
+ * New routes, raw locations and history toggles are only handed over here, without waiting on the
+ * navigator: they are passed to the native navigator by the navigation thread, right before it asks
+ * for the next {@link NavigationStatus}. This way the thread receiving location updates (usually the
+ * main thread) never blocks behind a status request. The history is retrieved on the navigation
+ * thread as well, or in the background while it isn't running.
+ */
 class MapboxNavigator {
 
+  private static final int LOCATION_QUEUE_CAPACITY = 32;
   private final Navigator navigator;
+  private final LocationQueue locationQueue = new LocationQueue(LOCATION_QUEUE_CAPACITY);
+  private final AtomicReference<String> pendingRouteJson = new AtomicReference<>();
+  private final AtomicReference<Boolean> pendingHistoryToggle = new AtomicReference<>();
+  private final Object locationProducerLock = new Object();
+  private final AtomicLong receivedLocationCount = new AtomicLong();
+  private final AtomicLong droppedLocationCount = new AtomicLong();
+  private final LocationCoalescer locationCoalescer;
+  private final RerouteTracer rerouteTracer;
 
-  MapboxNavigator(Navigator navigator) {
+  MapboxNavigator(Navigator navigator, long locationCoalescingWindowInMilliseconds) {
+    this(navigator, locationCoalescingWindowInMilliseconds, new RerouteTracer());
+  }
+
+  MapboxNavigator(Navigator navigator, long locationCoalescingWindowInMilliseconds, RerouteTracer rerouteTracer) {
     this.navigator = navigator;
+    this.locationCoalescer = new LocationCoalescer(locationCoalescingWindowInMilliseconds);
+    this.rerouteTracer = rerouteTracer;
   }
 
-  synchronized void updateRoute(String routeJson) {
-    // TODO route_index (Which route to follow) and leg_index (Which leg to follow) are hardcoded for now
-    navigator.setRoute(routeJson, 0, 0);
+  /**
+   * Sets the route to be followed with the next status request.
+   *
+   * @param routeJson of the new route
+   */
+  void updateRoute(String routeJson) {
+    pendingRouteJson.set(routeJson);
   }
 
+  /**
+   * Passes any new route and the queued raw locations, apart from the ones merged by the
+   * {@link LocationCoalescer}, to the navigator and returns its status. The newest queued location is
+   * always passed on.
+   * <p>
+   * Should only be called from the navigation thread.
+   */
   synchronized NavigationStatus retrieveStatus(Date date, long lagInMilliseconds) {
+    applyPendingHistoryToggle();
+    applyPendingRoute();
+    applyQueuedLocations();
     // We ask for a point slightly in the future to account for lag in location services
     if (lagInMilliseconds > 0) {
       date.setTime(date.getTime() + lagInMilliseconds);
@@ -30,33 +72,93 @@ class MapboxNavigator {
     return navigator.getStatus(date);
   }
 
-  void updateLocation(Location raw) {
-    FixLocation fixedLocation = buildFixLocationFromLocation(raw);
-    synchronized (this) {
-      navigator.updateLocation(fixedLocation);
+  /**
+   * Queues a raw location for the next status request. If too many locations are waiting already,
+   * the oldest one is dropped.
+   * <p>
+   * Meant to be called from the thread receiving location updates. The {@link LocationQueue} only
+   * allows a single producer, so calls from other threads are serialized here, without ever waiting
+   * on the navigation thread.
+   *
+   * @param raw location update
+   * @return true if queued right away, false if the oldest queued location was dropped for it
+   */
+  boolean updateLocation(Location raw) {
+    receivedLocationCount.incrementAndGet();
+    boolean isQueued;
+    synchronized (locationProducerLock) {
+      isQueued = locationQueue.offer(raw);
     }
+    if (!isQueued) {
+      droppedLocationCount.incrementAndGet();
+    }
+    return isQueued;
+  }
+
+  LocationIngestionStats retrieveLocationIngestionStats() {
+    return LocationIngestionStats.create(receivedLocationCount.get(), locationCoalescer.submittedCount(),
+      locationCoalescer.mergedCount(), droppedLocationCount.get());
   }
 
   /**
    * Gets the history of state changing calls to the navigator this can be used to
    * replay a sequence of events for the purpose of bug fixing.
+   * <p>
+   * Waits for any status request in progress, so should be called from the navigation thread, or in
+   * the background while it isn't running.
    *
    * @return a json representing the series of events that happened since the last time
    * history was toggled on
    */
+  @WorkerThread
   synchronized String retrieveHistory() {
+    applyPendingHistoryToggle();
     return navigator.getHistory();
   }
 
   /**
    * Toggles the recording of history on or off.
+   * <p>
+   * The toggle is applied before the next call to the navigator, which is the next status or history
+   * request, so this never waits for the navigator.
    *
    * @param isEnabled set this to true to turn on history recording and false to turn it off
    *                  toggling will reset all history call getHistory first before toggling
    *                  to retain a copy
    */
-  synchronized void toggleHistory(boolean isEnabled) {
-    navigator.toggleHistory(isEnabled);
+  void toggleHistory(boolean isEnabled) {
+    pendingHistoryToggle.set(isEnabled);
+  }
+
+  private void applyPendingHistoryToggle() {
+    Boolean isEnabled = pendingHistoryToggle.getAndSet(null);
+    if (isEnabled != null) {
+      navigator.toggleHistory(isEnabled);
+    }
+  }
+
+  private void applyPendingRoute() {
+    String routeJson = pendingRouteJson.getAndSet(null);
+    if (routeJson != null) {
+      long setRouteStart = System.nanoTime();
+      // TODO route_index (Which route to follow) and leg_index (Which leg to follow) are hardcoded for now
+      navigator.setRoute(routeJson, 0, 0);
+      rerouteTracer.onRouteSet(setRouteStart, System.nanoTime());
+    }
+  }
+
+  private void applyQueuedLocations() {
+    Location raw;
+    while ((raw = locationQueue.poll()) != null) {
+      submitLocation(locationCoalescer.coalesce(raw));
+    }
+    submitLocation(locationCoalescer.flush());
+  }
+
+  private void submitLocation(@Nullable Location location) {
+    if (location != null) {
+      navigator.updateLocation(buildFixLocationFromLocation(location));
+    }
   }
 
   FixLocation buildFixLocationFromLocation(Location location) {
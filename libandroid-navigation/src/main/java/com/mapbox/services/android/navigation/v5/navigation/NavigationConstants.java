@@ -208,6 +208,38 @@ public final class NavigationConstants {
    */
   static final int NAVIGATION_LOCATION_ENGINE_INTERVAL_LAG = 1500;
 
+  /**
+   * Default minimum interval, in milliseconds, between two route processing ticks when
+   * {@link #ROUTE_PROCESSING_MODE_LOCATION} is in use. Caps location-driven processing at 10 Hz.
+   *
+   * @since 0.21.0
+   */
+  static final int MINIMUM_ROUTE_PROCESSING_INTERVAL = 100;
+
+  /**
+   * Default window, in milliseconds, within which raw locations are merged before reaching the
+   * navigator. Disabled by default, every raw location is passed on.
+   *
+   * @since 0.21.0
+   */
+  static final int LOCATION_COALESCING_WINDOW = 0;
+
+  /**
+   * Default maximum number of routes fetched ahead of each maneuver when speculative
+   * rerouting is enabled.
+   *
+   * @since 0.21.0
+   */
+  static final int SPECULATIVE_ROUTE_BUDGET = 2;
+
+  /**
+   * Default maximum number of routes fetched ahead within any minute of a navigation session when
+   * speculative rerouting is enabled, counting the requests canceled since.
+   *
+   * @since 0.21.0
+   */
+  static final int SPECULATIVE_ROUTE_REQUESTS_PER_MINUTE = 6;
+
   /**
    * Defines the minimum zoom level of the displayed map.
    */
@@ -309,6 +341,77 @@ public final class NavigationConstants {
   public static final String TURN_LANE_INDICATION_SLIGHT_RIGHT = "slight right";
   public static final String TURN_LANE_INDICATION_UTURN = "uturn";
 
+  // Route Processing Modes
+
+  /**
+   * The route processor builds a new {@link com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress}
+   * once every second, regardless of how often raw locations are received.
+   *
+   * @since 0.21.0
+   */
+  public static final int ROUTE_PROCESSING_MODE_TIMER = 0;
+
+  /**
+   * The route processor builds a new {@link com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress}
+   * for each raw location received, no more often than
+   * {@link MapboxNavigationOptions#minimumRouteProcessingIntervalInMilliseconds()}.
+   * Locations arriving back-to-back are coalesced into a single update.
+   *
+   * @since 0.21.0
+   */
+  public static final int ROUTE_PROCESSING_MODE_LOCATION = 1;
+
+  @IntDef( {
+    ROUTE_PROCESSING_MODE_TIMER,
+    ROUTE_PROCESSING_MODE_LOCATION
+  })
+  public @interface RouteProcessingMode {
+  }
+
+  // Progress Delivery Threads
+
+  /**
+   * {@link com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener}s are
+   * invoked on the main thread, along with the other navigation callbacks.
+   *
+   * @since 0.21.0
+   */
+  public static final int PROGRESS_DELIVERY_MAIN_THREAD = 0;
+
+  /**
+   * {@link com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener}s are
+   * invoked right away on the navigation thread, once the progress is built. Such listeners must
+   * return quickly, as they delay the next update.
+   *
+   * @since 0.21.0
+   */
+  public static final int PROGRESS_DELIVERY_PROCESSING_THREAD = 1;
+
+  /**
+   * {@link com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener}s are
+   * invoked through the {@link java.util.concurrent.Executor} given with
+   * {@link ProgressChangeListenerOptions.Builder#executor(java.util.concurrent.Executor)}.
+   *
+   * @since 0.21.0
+   */
+  public static final int PROGRESS_DELIVERY_EXECUTOR = 2;
+
+  @IntDef( {
+    PROGRESS_DELIVERY_MAIN_THREAD,
+    PROGRESS_DELIVERY_PROCESSING_THREAD,
+    PROGRESS_DELIVERY_EXECUTOR
+  })
+  public @interface ProgressDeliveryThread {
+  }
+
+  /**
+   * Route generation of a {@link com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress}
+   * that wasn't built from a route passed to {@link MapboxNavigation}.
+   *
+   * @since 0.21.0
+   */
+  public static final int UNKNOWN_ROUTE_GENERATION = 0;
+
   // Distance Rounding Increments
   public static final int ROUNDING_INCREMENT_FIVE = 5;
   public static final int ROUNDING_INCREMENT_TEN = 10;
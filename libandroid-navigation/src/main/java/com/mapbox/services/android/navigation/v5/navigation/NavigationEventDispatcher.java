@@ -1,6 +1,8 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
 import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
@@ -10,6 +12,9 @@ import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListene
 import com.mapbox.services.android.navigation.v5.navigation.metrics.NavigationMetricListener;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
 import com.mapbox.services.android.navigation.v5.route.FasterRouteListener;
+import com.mapbox.services.android.navigation.v5.route.FasterRouteScore;
+import com.mapbox.services.android.navigation.v5.route.FasterRouteScoreListener;
+import com.mapbox.services.android.navigation.v5.route.SpeculativeRouteListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
@@ -18,14 +23,20 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 import timber.log.Timber;
 
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.PROGRESS_DELIVERY_MAIN_THREAD;
+
 class NavigationEventDispatcher {
 
   private CopyOnWriteArrayList<NavigationEventListener> navigationEventListeners;
   private CopyOnWriteArrayList<MilestoneEventListener> milestoneEventListeners;
   private CopyOnWriteArrayList<ProgressChangeListener> progressChangeListeners;
+  private CopyOnWriteArrayList<ProgressChangeDelivery> progressChangeDeliveries;
   private CopyOnWriteArrayList<OffRouteListener> offRouteListeners;
   private CopyOnWriteArrayList<FasterRouteListener> fasterRouteListeners;
+  private CopyOnWriteArrayList<SpeculativeRouteListener> speculativeRouteListeners;
+  private CopyOnWriteArrayList<RerouteTimelineListener> rerouteTimelineListeners;
   private NavigationMetricListener metricEventListener;
+  private NavigationScheduler mainThreadScheduler;
   private RouteUtils routeUtils;
 
   NavigationEventDispatcher() {
@@ -36,8 +47,11 @@ class NavigationEventDispatcher {
     navigationEventListeners = new CopyOnWriteArrayList<>();
     milestoneEventListeners = new CopyOnWriteArrayList<>();
     progressChangeListeners = new CopyOnWriteArrayList<>();
+    progressChangeDeliveries = new CopyOnWriteArrayList<>();
     offRouteListeners = new CopyOnWriteArrayList<>();
     fasterRouteListeners = new CopyOnWriteArrayList<>();
+    speculativeRouteListeners = new CopyOnWriteArrayList<>();
+    rerouteTimelineListeners = new CopyOnWriteArrayList<>();
     this.routeUtils = routeUtils;
   }
 
@@ -60,20 +74,38 @@ class NavigationEventDispatcher {
   }
 
   void addProgressChangeListener(@NonNull ProgressChangeListener progressChangeListener) {
-    if (progressChangeListeners.contains(progressChangeListener)) {
+    if (hasProgressChangeListener(progressChangeListener)) {
       Timber.w("The specified ProgressChangeListener has already been added to the stack.");
       return;
     }
     progressChangeListeners.add(progressChangeListener);
   }
 
+  void addProgressChangeListener(@NonNull ProgressChangeListener progressChangeListener,
+                                 @NonNull ProgressChangeListenerOptions options) {
+    if (hasProgressChangeListener(progressChangeListener)) {
+      Timber.w("The specified ProgressChangeListener has already been added to the stack.");
+      return;
+    }
+    progressChangeDeliveries.add(new ProgressChangeDelivery(progressChangeListener, options));
+  }
+
   void removeProgressChangeListener(@Nullable ProgressChangeListener progressChangeListener) {
     if (progressChangeListener == null) {
       progressChangeListeners.clear();
-    } else if (!progressChangeListeners.contains(progressChangeListener)) {
+      for (ProgressChangeDelivery delivery : progressChangeDeliveries) {
+        delivery.cancel();
+      }
+      progressChangeDeliveries.clear();
+    } else if (!hasProgressChangeListener(progressChangeListener)) {
       Timber.w("The specified ProgressChangeListener isn't found in stack, therefore, cannot be removed.");
     } else {
       progressChangeListeners.remove(progressChangeListener);
+      ProgressChangeDelivery delivery = findProgressChangeDelivery(progressChangeListener);
+      if (delivery != null) {
+        delivery.cancel();
+        progressChangeDeliveries.remove(delivery);
+      }
     }
   }
 
@@ -131,6 +163,42 @@ class NavigationEventDispatcher {
     }
   }
 
+  void addSpeculativeRouteListener(@NonNull SpeculativeRouteListener speculativeRouteListener) {
+    if (speculativeRouteListeners.contains(speculativeRouteListener)) {
+      Timber.w("The specified SpeculativeRouteListener has already been added to the stack.");
+      return;
+    }
+    speculativeRouteListeners.add(speculativeRouteListener);
+  }
+
+  void removeSpeculativeRouteListener(@Nullable SpeculativeRouteListener speculativeRouteListener) {
+    if (speculativeRouteListener == null) {
+      speculativeRouteListeners.clear();
+    } else if (!speculativeRouteListeners.contains(speculativeRouteListener)) {
+      Timber.w("The specified SpeculativeRouteListener isn't found in stack, therefore, cannot be removed.");
+    } else {
+      speculativeRouteListeners.remove(speculativeRouteListener);
+    }
+  }
+
+  void addRerouteTimelineListener(@NonNull RerouteTimelineListener rerouteTimelineListener) {
+    if (rerouteTimelineListeners.contains(rerouteTimelineListener)) {
+      Timber.w("The specified RerouteTimelineListener has already been added to the stack.");
+      return;
+    }
+    rerouteTimelineListeners.add(rerouteTimelineListener);
+  }
+
+  void removeRerouteTimelineListener(@Nullable RerouteTimelineListener rerouteTimelineListener) {
+    if (rerouteTimelineListener == null) {
+      rerouteTimelineListeners.clear();
+    } else if (!rerouteTimelineListeners.contains(rerouteTimelineListener)) {
+      Timber.w("The specified RerouteTimelineListener isn't found in stack, therefore, cannot be removed.");
+    } else {
+      rerouteTimelineListeners.remove(rerouteTimelineListener);
+    }
+  }
+
   void onMilestoneEvent(RouteProgress routeProgress, String instruction, Milestone milestone) {
     checkForArrivalEvent(routeProgress, milestone);
     for (MilestoneEventListener milestoneEventListener : milestoneEventListeners) {
@@ -143,6 +211,20 @@ class NavigationEventDispatcher {
     for (ProgressChangeListener progressChangeListener : progressChangeListeners) {
       progressChangeListener.onProgressChange(location, routeProgress);
     }
+    if (!progressChangeDeliveries.isEmpty()) {
+      deliverProgressChange(location, routeProgress, true, retrieveMainThreadScheduler());
+    }
+  }
+
+  /**
+   * Called on the navigation thread as soon as a new progress is built, before it is posted to the
+   * main thread, for the listeners not delivered on the main thread.
+   *
+   * @param processingThreadScheduler running on the navigation thread
+   */
+  void onProcessingThreadProgressChange(Location location, RouteProgress routeProgress,
+                                        NavigationScheduler processingThreadScheduler) {
+    deliverProgressChange(location, routeProgress, false, processingThreadScheduler);
   }
 
   void onUserOffRoute(Location location) {
@@ -166,12 +248,66 @@ class NavigationEventDispatcher {
     }
   }
 
+  void onFasterRouteEvent(DirectionsRoute directionsRoute, FasterRouteScore score) {
+    for (FasterRouteListener fasterRouteListener : fasterRouteListeners) {
+      if (fasterRouteListener instanceof FasterRouteScoreListener) {
+        ((FasterRouteScoreListener) fasterRouteListener).fasterRouteFound(directionsRoute, score);
+      } else {
+        fasterRouteListener.fasterRouteFound(directionsRoute);
+      }
+    }
+  }
+
+  void onSpeculativeRouteEvent(DirectionsRoute directionsRoute) {
+    for (SpeculativeRouteListener speculativeRouteListener : speculativeRouteListeners) {
+      speculativeRouteListener.speculativeRouteUsed(directionsRoute);
+    }
+  }
+
+  void onRerouteTimeline(RerouteTimeline rerouteTimeline) {
+    for (RerouteTimelineListener rerouteTimelineListener : rerouteTimelineListeners) {
+      rerouteTimelineListener.onRerouteTimeline(rerouteTimeline);
+    }
+  }
+
   void addMetricEventListeners(NavigationMetricListener eventListeners) {
     if (metricEventListener == null) {
       metricEventListener = eventListeners;
     }
   }
 
+  private void deliverProgressChange(Location location, RouteProgress routeProgress, boolean isMainThread,
+                                     NavigationScheduler scheduler) {
+    for (ProgressChangeDelivery delivery : progressChangeDeliveries) {
+      boolean isMainThreadDelivery = delivery.deliveryThread() == PROGRESS_DELIVERY_MAIN_THREAD;
+      if (isMainThreadDelivery == isMainThread) {
+        delivery.deliver(location, routeProgress, scheduler);
+      }
+    }
+  }
+
+  private NavigationScheduler retrieveMainThreadScheduler() {
+    if (mainThreadScheduler == null) {
+      mainThreadScheduler = new HandlerNavigationScheduler(new Handler(Looper.getMainLooper()));
+    }
+    return mainThreadScheduler;
+  }
+
+  private boolean hasProgressChangeListener(ProgressChangeListener progressChangeListener) {
+    return progressChangeListeners.contains(progressChangeListener)
+      || findProgressChangeDelivery(progressChangeListener) != null;
+  }
+
+  @Nullable
+  private ProgressChangeDelivery findProgressChangeDelivery(ProgressChangeListener progressChangeListener) {
+    for (ProgressChangeDelivery delivery : progressChangeDeliveries) {
+      if (delivery.isDeliveryOf(progressChangeListener)) {
+        return delivery;
+      }
+    }
+    return null;
+  }
+
   private void checkForArrivalEvent(RouteProgress routeProgress, Milestone milestone) {
     if (metricEventListener != null && routeUtils.isArrivalEvent(routeProgress, milestone)) {
       metricEventListener.onArrival(routeProgress);
@@ -4,6 +4,7 @@ import android.support.annotation.Nullable;
 
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.services.android.navigation.v5.route.FasterRoute;
+import com.mapbox.services.android.navigation.v5.route.FasterRouteScore;
 import com.mapbox.services.android.navigation.v5.route.RouteListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
@@ -23,8 +24,14 @@ class NavigationFasterRouteListener implements RouteListener {
 
   @Override
   public void onResponseReceived(DirectionsResponse response, @Nullable RouteProgress routeProgress) {
-    if (fasterRouteEngine.isFasterRoute(response, routeProgress)) {
+    if (!fasterRouteEngine.isFasterRoute(response, routeProgress)) {
+      return;
+    }
+    FasterRouteScore score = fasterRouteEngine.scoreFasterRoute(response, routeProgress);
+    if (score == null) {
       eventDispatcher.onFasterRouteEvent(response.routes().get(FIRST_ROUTE));
+    } else {
+      eventDispatcher.onFasterRouteEvent(response.routes().get(score.routeIndex()), score);
     }
   }
 
@@ -13,20 +13,19 @@ import com.mapbox.api.directions.v5.models.StepIntersection;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
-import com.mapbox.geojson.utils.PolylineUtils;
 import com.mapbox.services.android.navigation.v5.milestone.Milestone;
+import com.mapbox.services.android.navigation.v5.route.RouteSuffixSums;
 import com.mapbox.services.android.navigation.v5.routeprogress.CurrentLegAnnotation;
+import com.mapbox.services.android.navigation.v5.routeprogress.LegAnnotationIndex;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.StepIntersectionIndex;
 import com.mapbox.turf.TurfConstants;
 import com.mapbox.turf.TurfMeasurement;
 import com.mapbox.turf.TurfMisc;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
-import static com.mapbox.core.constants.Constants.PRECISION_6;
-
 /**
  * This contains several single purpose methods that help out when a new location update occurs and
  * calculations need to be performed on it.
@@ -38,8 +37,6 @@ public class NavigationHelper {
   private static final int ONE_INDEX = 1;
   private static final int INDEX_ZERO = 0;
   private static final String EMPTY_STRING = "";
-  private static final double ZERO_METERS = 0d;
-  private static final int TWO_POINTS = 2;
 
   private NavigationHelper() {
     // Empty private constructor to prevent users creating an instance of this class.
@@ -95,6 +92,14 @@ public class NavigationHelper {
     return legDistanceRemaining;
   }
 
+  /**
+   * Same as {@link #routeDistanceRemaining(double, int, DirectionsRoute)}, reading the distance of
+   * the following legs from sums computed once per route instead of adding them up each time.
+   */
+  static double routeDistanceRemaining(double legDistanceRemaining, int legIndex, RouteSuffixSums routeSuffixSums) {
+    return legDistanceRemaining + routeSuffixSums.distanceAfterLeg(legIndex);
+  }
+
   /**
    * This is used when a user has completed a step maneuver and the indices need to be incremented.
    * The main purpose of this class is to determine if an additional leg exist and the step index
@@ -130,45 +135,6 @@ public class NavigationHelper {
     return NavigationIndices.create(previousLegIndex, (previousStepIndex + 1));
   }
 
-  /**
-   * Given the current {@link DirectionsRoute} and leg / step index,
-   * return a list of {@link Point} representing the current step.
-   * <p>
-   * This method is only used on a per-step basis as {@link PolylineUtils#decode(String, int)}
-   * can be a heavy operation based on the length of the step.
-   * <p>
-   * Returns null if index is invalid.
-   *
-   * @param directionsRoute for list of steps
-   * @param legIndex        to get current step list
-   * @param stepIndex       to get current step
-   * @return list of {@link Point} representing the current step
-   */
-  static List<Point> decodeStepPoints(DirectionsRoute directionsRoute, List<Point> currentPoints,
-                                      int legIndex, int stepIndex) {
-    List<RouteLeg> legs = directionsRoute.legs();
-    if (hasInvalidLegs(legs)) {
-      return currentPoints;
-    }
-    List<LegStep> steps = legs.get(legIndex).steps();
-    if (hasInvalidSteps(steps)) {
-      return currentPoints;
-    }
-    boolean invalidStepIndex = stepIndex < 0 || stepIndex > steps.size() - 1;
-    if (invalidStepIndex) {
-      return currentPoints;
-    }
-    LegStep step = steps.get(stepIndex);
-    if (step == null) {
-      return currentPoints;
-    }
-    String stepGeometry = step.geometry();
-    if (stepGeometry != null) {
-      return PolylineUtils.decode(stepGeometry, PRECISION_6);
-    }
-    return currentPoints;
-  }
-
   /**
    * Given a current and upcoming step, this method assembles a list of {@link StepIntersection}
    * consisting of all of the current step intersections, as well as the first intersection of
@@ -205,27 +171,22 @@ public class NavigationHelper {
   @NonNull
   public static List<Pair<StepIntersection, Double>> createDistancesToIntersections(List<Point> stepPoints,
                                                                              List<StepIntersection> intersections) {
-    boolean lessThanTwoStepPoints = stepPoints.size() < TWO_POINTS;
-    boolean noIntersections = intersections.isEmpty();
-    if (lessThanTwoStepPoints || noIntersections) {
-      return Collections.emptyList();
-    }
-
-    LineString stepLineString = LineString.fromLngLats(stepPoints);
-    Point firstStepPoint = stepPoints.get(FIRST_POINT);
-    List<Pair<StepIntersection, Double>> distancesToIntersections = new ArrayList<>();
+    return createIntersectionIndex(stepPoints, intersections).toIntersectionDistances();
+  }
 
-    for (StepIntersection intersection : intersections) {
-      Point intersectionPoint = intersection.location();
-      if (firstStepPoint.equals(intersectionPoint)) {
-        distancesToIntersections.add(new Pair<>(intersection, ZERO_METERS));
-      } else {
-        LineString beginningLineString = TurfMisc.lineSlice(firstStepPoint, intersectionPoint, stepLineString);
-        double distanceToIntersectionInMeters = TurfMeasurement.length(beginningLineString, TurfConstants.UNIT_METERS);
-        distancesToIntersections.add(new Pair<>(intersection, distanceToIntersectionInMeters));
-      }
-    }
-    return distancesToIntersections;
+  /**
+   * Measures the distance of each intersection from the beginning of the step in a single pass
+   * over the step geometry.
+   *
+   * @param stepPoints    of the current step
+   * @param intersections along the step to be measured
+   * @return index of measured intersections
+   * @since 0.21.0
+   */
+  @NonNull
+  public static StepIntersectionIndex createIntersectionIndex(List<Point> stepPoints,
+                                                              List<StepIntersection> intersections) {
+    return StepIntersectionIndex.create(stepPoints, intersections);
   }
 
   /**
@@ -241,25 +202,61 @@ public class NavigationHelper {
   public static StepIntersection findCurrentIntersection(@NonNull List<StepIntersection> intersections,
                                                   @NonNull List<Pair<StepIntersection, Double>> measuredIntersections,
                                                   double stepDistanceTraveled) {
-    for (Pair<StepIntersection, Double> measuredIntersection : measuredIntersections) {
-      double intersectionDistance = measuredIntersection.second;
-      int intersectionIndex = measuredIntersections.indexOf(measuredIntersection);
-      int nextIntersectionIndex = intersectionIndex + ONE_INDEX;
-      int measuredIntersectionSize = measuredIntersections.size();
-      boolean hasValidNextIntersection = nextIntersectionIndex < measuredIntersectionSize;
-
-      if (hasValidNextIntersection) {
-        double nextIntersectionDistance = measuredIntersections.get(nextIntersectionIndex).second;
-        if (stepDistanceTraveled > intersectionDistance && stepDistanceTraveled < nextIntersectionDistance) {
-          return measuredIntersection.first;
-        }
-      } else if (stepDistanceTraveled > measuredIntersection.second) {
-        return measuredIntersection.first;
+    if (measuredIntersections.isEmpty()) {
+      return intersections.get(FIRST_INTERSECTION);
+    }
+    int low = FIRST_INTERSECTION;
+    int high = measuredIntersections.size() - ONE_INDEX;
+    int currentIndex = FIRST_INTERSECTION;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (measuredIntersections.get(middle).second < stepDistanceTraveled) {
+        currentIndex = middle;
+        low = middle + ONE_INDEX;
       } else {
-        return measuredIntersections.get(FIRST_INTERSECTION).first;
+        high = middle - ONE_INDEX;
       }
     }
-    return intersections.get(FIRST_INTERSECTION);
+    return measuredIntersections.get(currentIndex).first;
+  }
+
+  /**
+   * Based on the measured intersections and the step distance traveled, finds the index of the
+   * current intersection a user is traveling along.
+   * <p>
+   * The search begins at the index found on the previous update, since the user will usually
+   * remain on the same intersection or move to the next one.
+   *
+   * @param intersectionIndex    measured intersections along the step
+   * @param cursor               index of the previous current intersection
+   * @param stepDistanceTraveled how far the user has traveled along the step
+   * @return index of the current intersection, or -1 if no intersections were measured
+   * @since 0.21.0
+   */
+  public static int findCurrentIntersectionIndex(@NonNull StepIntersectionIndex intersectionIndex, int cursor,
+                                                 double stepDistanceTraveled) {
+    return intersectionIndex.findCurrentIndex(stepDistanceTraveled, cursor);
+  }
+
+  /**
+   * Based on the index of the current intersection, finds the upcoming intersection on the step.
+   * If there is not an upcoming intersection on the step, the first intersection of the upcoming
+   * step is returned.
+   *
+   * @param intersectionIndex   measured intersections along the step
+   * @param upcomingStep        for the first intersection if needed
+   * @param currentIndex        of the intersection being traveled along
+   * @return the upcoming intersection, or null if there is none
+   * @since 0.21.0
+   */
+  @Nullable
+  public static StepIntersection findUpcomingIntersection(@NonNull StepIntersectionIndex intersectionIndex,
+                                                          @Nullable LegStep upcomingStep, int currentIndex) {
+    int nextIntersectionIndex = currentIndex + ONE_INDEX;
+    if (nextIntersectionIndex < intersectionIndex.size()) {
+      return intersectionIndex.intersectionAt(nextIntersectionIndex);
+    }
+    return findFirstIntersection(upcomingStep);
   }
 
   /**
@@ -283,13 +280,8 @@ public class NavigationHelper {
     boolean isValidUpcomingIntersection = nextIntersectionIndex < intersectionSize;
     if (isValidUpcomingIntersection) {
       return intersections.get(nextIntersectionIndex);
-    } else if (upcomingStep != null) {
-      List<StepIntersection> upcomingIntersections = upcomingStep.intersections();
-      if (upcomingIntersections != null && !upcomingIntersections.isEmpty()) {
-        return upcomingIntersections.get(FIRST_INTERSECTION);
-      }
     }
-    return null;
+    return findFirstIntersection(upcomingStep);
   }
 
   /**
@@ -339,6 +331,30 @@ public class NavigationHelper {
     return annotationBuilder.build();
   }
 
+  /**
+   * Finds the current annotation using annotations already converted into a {@link LegAnnotationIndex}.
+   * If the user is still traveling along the previous annotation, it is returned as is.
+   *
+   * @param currentLegAnnotation previous annotation along the same leg, if any
+   * @param legAnnotationIndex   holding the annotations of the current leg
+   * @param legDistanceRemaining to determine the new set of annotations
+   * @return a current set of annotation data for the user's position along the route
+   */
+  @Nullable
+  static CurrentLegAnnotation createCurrentAnnotation(@Nullable CurrentLegAnnotation currentLegAnnotation,
+                                                      @Nullable LegAnnotationIndex legAnnotationIndex,
+                                                      double legDistanceRemaining) {
+    if (legAnnotationIndex == null) {
+      return null;
+    }
+    int cursor = currentLegAnnotation != null ? currentLegAnnotation.index() : INDEX_ZERO;
+    int annotationIndex = legAnnotationIndex.findAnnotationIndex(legDistanceRemaining, cursor);
+    if (currentLegAnnotation != null && currentLegAnnotation.index() == annotationIndex) {
+      return currentLegAnnotation;
+    }
+    return legAnnotationIndex.createCurrentAnnotation(annotationIndex);
+  }
+
   /**
    * Retrieves the next steps maneuver position if one exist, otherwise it decodes the current steps
    * geometry and uses the last coordinate in the position list.
@@ -354,7 +370,6 @@ public class NavigationHelper {
   private static int findAnnotationIndex(CurrentLegAnnotation currentLegAnnotation,
                                          CurrentLegAnnotation.Builder annotationBuilder, RouteLeg leg,
                                          double legDistanceRemaining, List<Double> distanceAnnotationList) {
-    List<Double> legDistances = new ArrayList<>(distanceAnnotationList);
     Double totalLegDistance = leg.distance();
     double distanceTraveled = totalLegDistance - legDistanceRemaining;
 
@@ -364,8 +379,8 @@ public class NavigationHelper {
       distanceIndex = currentLegAnnotation.index();
       annotationDistancesTraveled = currentLegAnnotation.distanceToAnnotation();
     }
-    for (int i = distanceIndex; i < legDistances.size(); i++) {
-      Double distance = legDistances.get(i);
+    for (int i = distanceIndex; i < distanceAnnotationList.size(); i++) {
+      Double distance = distanceAnnotationList.get(i);
       annotationDistancesTraveled += distance;
       if (annotationDistancesTraveled > distanceTraveled) {
         double distanceToAnnotation = annotationDistancesTraveled - distance;
@@ -376,11 +391,14 @@ public class NavigationHelper {
     return INDEX_ZERO;
   }
 
-  private static boolean hasInvalidLegs(List<RouteLeg> legs) {
-    return legs == null || legs.isEmpty();
-  }
-
-  private static boolean hasInvalidSteps(List<LegStep> steps) {
-    return steps == null || steps.isEmpty();
+  @Nullable
+  private static StepIntersection findFirstIntersection(@Nullable LegStep step) {
+    if (step != null) {
+      List<StepIntersection> intersections = step.intersections();
+      if (intersections != null && !intersections.isEmpty()) {
+        return intersections.get(FIRST_INTERSECTION);
+      }
+    }
+    return null;
   }
 }
@@ -0,0 +1,18 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+/**
+ * Listener given to {@link MapboxNavigation#retrieveHistory(NavigationHistoryListener)}, to receive
+ * the history once the navigator has been asked for it away from the main thread.
+ *
+ * @since 0.21.0
+ */
+public interface NavigationHistoryListener {
+
+  /**
+   * Will be fired on the main thread once the history has been retrieved.
+   *
+   * @param history a json representing the recorded series of events
+   * @since 0.21.0
+   */
+  void onHistoryRetrieved(String history);
+}
@@ -0,0 +1,134 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.os.Build;
+import android.os.SystemClock;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each stage of the navigation processing takes, into one
+ * {@link LatencyHistogram} per stage.
+ * <p>
+ * Stages are timed back to back: {@link #endStage(int, long)} returns the time it ended at, which is
+ * passed on as the start of the next stage, so each stage costs a single clock read. When disabled,
+ * nothing is read nor recorded.
+ * <p>
+ * The processing stages are recorded on the navigation thread, {@link #STAGE_MAIN_THREAD_HOP} and
+ * {@link #STAGE_LOCATION_TO_PROGRESS} on the main thread. {@link #STAGE_SCHEDULING_JITTER} isn't
+ * a stage as such, but how late each processing starts compared to when it was posted for.
+ */
+class NavigationPerformanceMonitor {
+
+  static final int STAGE_STATUS_RETRIEVAL = 0;
+  static final int STAGE_ROUTE_PROGRESS_BUILD = 1;
+  static final int STAGE_OFF_ROUTE_CHECK = 2;
+  static final int STAGE_SNAPPING = 3;
+  static final int STAGE_FASTER_ROUTE_CHECK = 4;
+  static final int STAGE_MILESTONE_CHECK = 5;
+  static final int STAGE_MAIN_THREAD_HOP = 6;
+  static final int STAGE_LOCATION_TO_PROGRESS = 7;
+  static final int STAGE_SCHEDULING_JITTER = 8;
+  private static final int STAGE_COUNT = 9;
+  private static final long NOT_MONITORED = 0;
+  private final boolean isEnabled;
+  private final LatencyHistogram[] histograms = new LatencyHistogram[STAGE_COUNT];
+
+  NavigationPerformanceMonitor(boolean isEnabled) {
+    this.isEnabled = isEnabled;
+    for (int stage = 0; stage < STAGE_COUNT; stage++) {
+      histograms[stage] = new LatencyHistogram();
+    }
+  }
+
+  boolean isEnabled() {
+    return isEnabled;
+  }
+
+  /**
+   * @return start time of the first stage, in nanoseconds
+   */
+  long startStage() {
+    if (!isEnabled) {
+      return NOT_MONITORED;
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Records the duration of the given stage.
+   *
+   * @param stage             which ended
+   * @param stageStartInNanos as returned by {@link #startStage()} or the previous {@link #endStage(int, long)}
+   * @return end time of the stage, in nanoseconds, to be used as the start of the next stage
+   */
+  long endStage(int stage, long stageStartInNanos) {
+    if (!isEnabled) {
+      return NOT_MONITORED;
+    }
+    long now = System.nanoTime();
+    histograms[stage].record(now - stageStartInNanos);
+    return now;
+  }
+
+  /**
+   * Records the time from the fix of the given raw location until now, once its update has been
+   * delivered.
+   *
+   * @param rawLocation the update was built from
+   */
+  void recordLocationToProgress(@Nullable Location rawLocation) {
+    if (!isEnabled || rawLocation == null) {
+      return;
+    }
+    histograms[STAGE_LOCATION_TO_PROGRESS].record(calculateLocationAge(rawLocation));
+  }
+
+  /**
+   * @param delayInMilliseconds until the processing is posted for
+   * @return time the processing is meant to start at, in nanoseconds
+   */
+  long calculateIntendedStart(long delayInMilliseconds) {
+    if (!isEnabled) {
+      return NOT_MONITORED;
+    }
+    return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayInMilliseconds);
+  }
+
+  /**
+   * Records how late the processing started. Early starts, within the precision of the scheduler,
+   * are recorded as on time.
+   *
+   * @param intendedStartInNanos as returned by {@link #calculateIntendedStart(long)}
+   * @param startInNanos         as returned by {@link #startStage()}
+   */
+  void recordSchedulingJitter(long intendedStartInNanos, long startInNanos) {
+    if (!isEnabled || intendedStartInNanos == NOT_MONITORED) {
+      return;
+    }
+    histograms[STAGE_SCHEDULING_JITTER].record(Math.max(0, startInNanos - intendedStartInNanos));
+  }
+
+  NavigationPerformanceSnapshot snapshot() {
+    return NavigationPerformanceSnapshot.create(
+      histograms[STAGE_STATUS_RETRIEVAL].snapshot(),
+      histograms[STAGE_ROUTE_PROGRESS_BUILD].snapshot(),
+      histograms[STAGE_OFF_ROUTE_CHECK].snapshot(),
+      histograms[STAGE_SNAPPING].snapshot(),
+      histograms[STAGE_FASTER_ROUTE_CHECK].snapshot(),
+      histograms[STAGE_MILESTONE_CHECK].snapshot(),
+      histograms[STAGE_MAIN_THREAD_HOP].snapshot(),
+      histograms[STAGE_LOCATION_TO_PROGRESS].snapshot(),
+      histograms[STAGE_SCHEDULING_JITTER].snapshot()
+    );
+  }
+
+  private long calculateLocationAge(Location location) {
+    // The elapsed realtime of the fix isn't affected by changes of the wall clock
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1 && location.getElapsedRealtimeNanos() > 0) {
+      return SystemClock.elapsedRealtimeNanos() - location.getElapsedRealtimeNanos();
+    }
+    return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - location.getTime());
+  }
+}
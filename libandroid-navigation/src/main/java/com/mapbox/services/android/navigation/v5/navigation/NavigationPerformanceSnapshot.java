@@ -0,0 +1,92 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Durations of each stage of the navigation processing, recorded on every update since the start of
+ * the session when {@link MapboxNavigationOptions#enablePerformanceMonitoring()} is set.
+ * <p>
+ * All stages but {@link #mainThreadHop()} and {@link #locationToProgress()} run on the navigation
+ * thread, one after the other, for each update. {@link #schedulingJitter()} shows how late each
+ * update starts on that thread.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class NavigationPerformanceSnapshot {
+
+  static NavigationPerformanceSnapshot create(LatencySnapshot statusRetrieval, LatencySnapshot routeProgressBuild,
+                                              LatencySnapshot offRouteCheck, LatencySnapshot snapping,
+                                              LatencySnapshot fasterRouteCheck, LatencySnapshot milestoneCheck,
+                                              LatencySnapshot mainThreadHop, LatencySnapshot locationToProgress,
+                                              LatencySnapshot schedulingJitter) {
+    return new AutoValue_NavigationPerformanceSnapshot(statusRetrieval, routeProgressBuild, offRouteCheck, snapping,
+      fasterRouteCheck, milestoneCheck, mainThreadHop, locationToProgress, schedulingJitter);
+  }
+
+  /**
+   * Time spent passing the latest locations and route to the navigator and retrieving its status.
+   *
+   * @return navigator status retrieval durations
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot statusRetrieval();
+
+  /**
+   * @return durations of building the {@link com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress}
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot routeProgressBuild();
+
+  /**
+   * @return durations of the off-route check
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot offRouteCheck();
+
+  /**
+   * @return durations of finding the location snapped to the route
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot snapping();
+
+  /**
+   * @return durations of checking whether a faster route should be looked for
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot fasterRouteCheck();
+
+  /**
+   * @return durations of finding the triggered milestones
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot milestoneCheck();
+
+  /**
+   * Time between an update being posted by the navigation thread and the main thread picking it up.
+   *
+   * @return main thread hop durations
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot mainThreadHop();
+
+  /**
+   * Time from the fix of the raw location to the update having been delivered to the listeners on
+   * the main thread. Includes waiting for the next processing, so it depends on
+   * {@link MapboxNavigationOptions#routeProcessingMode()}.
+   *
+   * @return location to progress durations
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot locationToProgress();
+
+  /**
+   * Time between when each update was meant to start on the navigation thread and when it actually
+   * started. Depends on {@link MapboxNavigationOptions#navigationThreadPriority()} or the
+   * {@link MapboxNavigationOptions#navigationExecutor()} given.
+   *
+   * @return scheduling delays
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot schedulingJitter();
+}
@@ -42,12 +42,14 @@ public final class NavigationRoute {
   private final MapboxDirections mapboxDirections;
 
   /**
-   * Private constructor used for the {@link Builder#build()} method.
+   * Constructor used for the {@link Builder#build()} method.
+   * <p>
+   * Package private (no modifier) for testing purposes.
    *
    * @param mapboxDirections a new instance of a {@link MapboxDirections} class
    * @since 0.5.0
    */
-  private NavigationRoute(MapboxDirections mapboxDirections) {
+  NavigationRoute(MapboxDirections mapboxDirections) {
     this.mapboxDirections = mapboxDirections;
   }
 
@@ -91,8 +93,14 @@ public final class NavigationRoute {
     return mapboxDirections.cloneCall();
   }
 
+  /**
+   * Cancels the call enqueued with {@link #getRoute(Callback)}. Its callback will receive
+   * {@link Callback#onFailure(Call, Throwable)}, unless the response was already delivered.
+   *
+   * @since 0.21.0
+   */
   public void cancelCall() {
-    getCall().cancel();
+    mapboxDirections.cancelCall();
   }
 
   /**
@@ -1,7 +1,6 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
 import android.support.annotation.Nullable;
-import android.support.v4.util.Pair;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
@@ -10,35 +9,49 @@ import com.mapbox.api.directions.v5.models.StepIntersection;
 import com.mapbox.geojson.Point;
 import com.mapbox.navigator.NavigationStatus;
 import com.mapbox.navigator.VoiceInstruction;
+import com.mapbox.services.android.navigation.v5.instruction.InstructionTimeline;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
+import com.mapbox.services.android.navigation.v5.route.RouteSuffixSums;
 import com.mapbox.services.android.navigation.v5.routeprogress.CurrentLegAnnotation;
+import com.mapbox.services.android.navigation.v5.routeprogress.LegAnnotationIndex;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.StepIntersectionIndex;
 
 import java.util.List;
 
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.UNKNOWN_ROUTE_GENERATION;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createCurrentAnnotation;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createDistancesToIntersections;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createIntersectionsList;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.decodeStepPoints;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.findCurrentIntersection;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.findUpcomingIntersection;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createIntersectionIndex;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.findCurrentIntersectionIndex;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.routeDistanceRemaining;
 
 class NavigationRouteProcessor {
 
   private static final int ONE_INDEX = 1;
+  private static final int FIRST_INTERSECTION = 0;
+  private final RouteProgress.Builder progressBuilder = RouteProgress.builder();
   private RouteProgress previousRouteProgress;
   private DirectionsRoute route;
+  private int routeGeneration = UNKNOWN_ROUTE_GENERATION;
+  private RouteGeometryIndex routeGeometryIndex;
+  private InstructionTimeline instructionTimeline;
+  private RouteSuffixSums routeSuffixSums;
   private RouteLeg currentLeg;
   private LegStep currentStep;
   private List<Point> currentStepPoints;
   private LegStep upcomingStep;
   private List<Point> upcomingStepPoints;
   private List<StepIntersection> currentIntersections;
-  private List<Pair<StepIntersection, Double>> currentIntersectionDistances;
+  private StepIntersectionIndex currentIntersectionIndex;
+  private int currentIntersectionCursor;
+  private LegStep measuredStep;
   private CurrentLegAnnotation currentLegAnnotation;
+  private RouteLeg annotatedLeg;
+  private LegAnnotationIndex legAnnotationIndex;
 
-  RouteProgress buildNewRouteProgress(NavigationStatus status, DirectionsRoute route) {
-    updateRoute(route);
+  RouteProgress buildNewRouteProgress(NavigationStatus status, CurrentRoute currentRoute) {
+    updateRoute(currentRoute);
     return buildRouteProgressFrom(status);
   }
 
@@ -51,9 +64,18 @@ class NavigationRouteProcessor {
     return previousRouteProgress;
   }
 
-  private void updateRoute(DirectionsRoute route) {
-    if (this.route == null || !this.route.equals(route)) {
-      this.route = route;
+  private void updateRoute(CurrentRoute currentRoute) {
+    // The route, generation and geometry index are published together, so they are taken together
+    if (route != currentRoute.route() || routeGeneration != currentRoute.generation()) {
+      route = currentRoute.route();
+      routeGeneration = currentRoute.generation();
+      routeGeometryIndex = currentRoute.geometryIndex();
+    }
+    if (instructionTimeline == null || !instructionTimeline.isTimelineOf(this.route)) {
+      instructionTimeline = InstructionTimeline.create(this.route);
+    }
+    if (routeSuffixSums == null || !routeSuffixSums.isSumsOf(this.route)) {
+      routeSuffixSums = RouteSuffixSums.create(this.route);
     }
   }
 
@@ -62,22 +84,23 @@ class NavigationRouteProcessor {
     int stepIndex = status.getStepIndex();
     int upcomingStepIndex = stepIndex + ONE_INDEX;
     updateSteps(route, legIndex, stepIndex, upcomingStepIndex);
-    updateStepPoints(route, legIndex, stepIndex, upcomingStepIndex);
+    updateStepPoints(legIndex, stepIndex, upcomingStepIndex);
     updateIntersections();
 
     double legDistanceRemaining = status.getRemainingLegDistance();
-    double routeDistanceRemaining = routeDistanceRemaining(legDistanceRemaining, legIndex, route);
+    double routeDistanceRemaining = routeDistanceRemaining(legDistanceRemaining, legIndex, routeSuffixSums);
     double stepDistanceRemaining = status.getRemainingStepDistance();
     double stepDistanceTraveled = currentStep.distance() - stepDistanceRemaining;
-    currentLegAnnotation = createCurrentAnnotation(currentLegAnnotation, currentLeg, legDistanceRemaining);
-    StepIntersection currentIntersection = findCurrentIntersection(
-      currentIntersections, currentIntersectionDistances, stepDistanceTraveled
-    );
-    StepIntersection upcomingIntersection = findUpcomingIntersection(
-      currentIntersections, upcomingStep, currentIntersection
+    updateLegAnnotationIndex();
+    currentLegAnnotation = createCurrentAnnotation(currentLegAnnotation, legAnnotationIndex, legDistanceRemaining);
+    currentIntersectionCursor = findCurrentIntersectionIndex(
+      currentIntersectionIndex, currentIntersectionCursor, stepDistanceTraveled
     );
+    StepIntersection currentIntersection = findCurrentIntersection();
+    StepIntersection upcomingIntersection = findUpcomingIntersection(currentIntersection);
 
-    RouteProgress.Builder progressBuilder = RouteProgress.builder()
+    // Every value is set again on each update, the builder is only reused to avoid its allocation
+    progressBuilder
       .stepDistanceRemaining(stepDistanceRemaining)
       .legDistanceRemaining(legDistanceRemaining)
       .distanceRemaining(routeDistanceRemaining)
@@ -89,13 +112,15 @@ class NavigationRouteProcessor {
       .intersections(currentIntersections)
       .currentIntersection(currentIntersection)
       .upcomingIntersection(upcomingIntersection)
-      .intersectionDistancesAlongStep(currentIntersectionDistances)
+      .intersectionIndex(currentIntersectionIndex)
       .currentLegAnnotation(currentLegAnnotation)
-      .inTunnel(status.getInTunnel());
+      .inTunnel(status.getInTunnel())
+      .routeGeneration(routeGeneration)
+      .instructionTimeline(instructionTimeline)
+      .routeSuffixSums(routeSuffixSums);
 
     // TODO build banner instructions from status here
-    addVoiceInstructions(status, progressBuilder);
-    addUpcomingStepPoints(progressBuilder);
+    addVoiceInstructions(status);
     return progressBuilder.build();
   }
 
@@ -106,23 +131,54 @@ class NavigationRouteProcessor {
     upcomingStep = upcomingStepIndex < steps.size() - ONE_INDEX ? steps.get(upcomingStepIndex) : null;
   }
 
-  private void updateStepPoints(DirectionsRoute route, int legIndex, int stepIndex, int upcomingStepIndex) {
-    currentStepPoints = decodeStepPoints(route, currentStepPoints, legIndex, stepIndex);
-    upcomingStepPoints = decodeStepPoints(route, null, legIndex, upcomingStepIndex);
+  private void updateStepPoints(int legIndex, int stepIndex, int upcomingStepIndex) {
+    List<Point> stepPoints = routeGeometryIndex.stepPoints(legIndex, stepIndex);
+    if (stepPoints != null) {
+      currentStepPoints = stepPoints;
+    }
+    upcomingStepPoints = routeGeometryIndex.stepPoints(legIndex, upcomingStepIndex);
   }
 
+  /**
+   * Intersections only need to be measured again once the step (or route) changes.
+   */
   private void updateIntersections() {
+    if (currentIntersectionIndex != null && currentStep == measuredStep) {
+      return;
+    }
+    measuredStep = currentStep;
     currentIntersections = createIntersectionsList(currentStep, upcomingStep);
-    currentIntersectionDistances = createDistancesToIntersections(currentStepPoints, currentIntersections);
+    currentIntersectionIndex = createIntersectionIndex(currentStepPoints, currentIntersections);
+    currentIntersectionCursor = FIRST_INTERSECTION;
+  }
+
+  /**
+   * Leg annotations only need to be converted again once the leg (or route) changes.
+   */
+  private void updateLegAnnotationIndex() {
+    if (currentLeg == annotatedLeg) {
+      return;
+    }
+    annotatedLeg = currentLeg;
+    legAnnotationIndex = LegAnnotationIndex.create(currentLeg);
+    currentLegAnnotation = null;
+  }
+
+  private StepIntersection findCurrentIntersection() {
+    if (currentIntersectionIndex.isEmpty()) {
+      return currentIntersections.get(FIRST_INTERSECTION);
+    }
+    return currentIntersectionIndex.intersectionAt(currentIntersectionCursor);
   }
 
-  private void addUpcomingStepPoints(RouteProgress.Builder progressBuilder) {
-    if (upcomingStepPoints != null && !upcomingStepPoints.isEmpty()) {
-      progressBuilder.upcomingStepPoints(upcomingStepPoints);
+  private StepIntersection findUpcomingIntersection(StepIntersection currentIntersection) {
+    if (currentIntersectionIndex.isEmpty()) {
+      return NavigationHelper.findUpcomingIntersection(currentIntersections, upcomingStep, currentIntersection);
     }
+    return NavigationHelper.findUpcomingIntersection(currentIntersectionIndex, upcomingStep, currentIntersectionCursor);
   }
 
-  private void addVoiceInstructions(NavigationStatus status, RouteProgress.Builder progressBuilder) {
+  private void addVoiceInstructions(NavigationStatus status) {
     VoiceInstruction voiceInstruction = status.getVoiceInstruction();
     progressBuilder.voiceInstruction(voiceInstruction);
   }
@@ -0,0 +1,54 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+/**
+ * Runs the work of the navigation engine on a thread it doesn't own, such as the processing of
+ * each location or the replay of mocked locations.
+ * <p>
+ * The work is run one runnable at a time, in the order it's due, so the engine never runs
+ * concurrently with itself.
+ * <p>
+ * {@link HandlerNavigationScheduler} runs the work on an Android {@link android.os.Looper},
+ * {@link ExecutorNavigationScheduler} on a {@link java.util.concurrent.ScheduledExecutorService}.
+ * Other implementations can run it with a virtual clock, for instance to fast-forward a
+ * simulated session.
+ *
+ * @since 0.21.0
+ */
+public interface NavigationScheduler {
+
+  /**
+   * Runs the given runnable as soon as possible.
+   *
+   * @param runnable to be run
+   * @since 0.21.0
+   */
+  void post(Runnable runnable);
+
+  /**
+   * Runs the given runnable once the delay has elapsed, on the clock of
+   * {@link #elapsedTimeInMilliseconds()}.
+   *
+   * @param runnable            to be run
+   * @param delayInMilliseconds before running it, 0 or less runs it as soon as possible
+   * @since 0.21.0
+   */
+  void postDelayed(Runnable runnable, long delayInMilliseconds);
+
+  /**
+   * Removes all of the pending runs of the given runnable, it doesn't interrupt a run that has
+   * already started.
+   *
+   * @param runnable to be removed
+   * @since 0.21.0
+   */
+  void removeCallbacks(Runnable runnable);
+
+  /**
+   * Monotonic time of the scheduler, which only makes sense compared to another time of the same
+   * scheduler.
+   *
+   * @return current time in milliseconds
+   * @since 0.21.0
+   */
+  long elapsedTimeInMilliseconds();
+}
@@ -72,12 +72,24 @@ public class NavigationService extends Service {
    * Removes the location / route listeners and  quits the thread.
    */
   void endNavigation() {
+    routeFetcher.cancelRouteCall();
     routeFetcher.clearListeners();
     locationUpdater.removeLocationEngineListener();
     notificationProvider.shutdown(getApplication());
     thread.quit();
   }
 
+  /**
+   * Called with {@link MapboxNavigation#retrieveHistory(NavigationHistoryListener)}.
+   * Gets the history on the navigation thread, if it's running.
+   *
+   * @param listener to be given the history
+   * @return true if the history is retrieved on the navigation thread, false if it isn't running
+   */
+  boolean retrieveHistory(NavigationHistoryListener listener) {
+    return thread.retrieveHistory(listener);
+  }
+
   /**
    * Called with {@link MapboxNavigation#setLocationEngine(LocationEngine)}.
    * Updates this service with the new {@link LocationEngine}.
@@ -101,6 +113,7 @@ public class NavigationService extends Service {
                                       NavigationEngineFactory engineProvider) {
     FasterRoute fasterRouteEngine = engineProvider.retrieveFasterRouteEngine();
     NavigationFasterRouteListener listener = new NavigationFasterRouteListener(dispatcher, fasterRouteEngine);
+    // Faster routes are checked against live traffic, a cached response would only repeat an older one
     routeFetcher = new RouteFetcher(getApplication(), accessToken);
     routeFetcher.addRouteListener(listener);
   }
@@ -114,9 +127,10 @@ public class NavigationService extends Service {
                                               RouteFetcher routeFetcher,
                                               NavigationNotificationProvider notificationProvider) {
     RouteProcessorThreadListener listener = new RouteProcessorThreadListener(
-      dispatcher, routeFetcher, notificationProvider
+      mapboxNavigation, dispatcher, routeFetcher, notificationProvider
     );
-    thread = new RouteProcessorBackgroundThread(mapboxNavigation, new Handler(), listener);
+    NavigationScheduler mainThreadScheduler = new HandlerNavigationScheduler(new Handler());
+    thread = new RouteProcessorBackgroundThread(mapboxNavigation, mainThreadScheduler, listener);
   }
 
   private void initializeLocationProvider(MapboxNavigation mapboxNavigation) {
@@ -0,0 +1,32 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Counts of the route processing ticks during a navigation session, showing how many ticks
+ * {@link MapboxNavigationOptions#enableAdaptiveProcessingRate()} saved.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class ProcessingRateStats {
+
+  static ProcessingRateStats create(long processedTickCount, long savedTickCount) {
+    return new AutoValue_ProcessingRateStats(processedTickCount, savedTickCount);
+  }
+
+  /**
+   * @return number of times the route was processed
+   * @since 0.21.0
+   */
+  public abstract long processedTickCount();
+
+  /**
+   * Ticks the usual processing rate would have run over the same time, minus the ticks processed.
+   * Negative if processing near maneuvers added more ticks than were saved elsewhere.
+   *
+   * @return number of ticks saved
+   * @since 0.21.0
+   */
+  public abstract long savedTickCount();
+}
@@ -0,0 +1,163 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.PROGRESS_DELIVERY_EXECUTOR;
+
+/**
+ * Delivers progress updates to a single {@link ProgressChangeListener} according to its
+ * {@link ProgressChangeListenerOptions}.
+ * <p>
+ * Updates arriving sooner than the minimum delivery interval are held back, only the latest of them
+ * is delivered once the interval expires, so the listener still gets the last update of a burst.
+ * With an executor, at most one delivery is pending at a time: updates arriving while it waits
+ * replace the pending one, so a slow listener always gets the latest update next rather than
+ * working through a backlog.
+ */
+class ProgressChangeDelivery {
+
+  private static final long NO_DELIVERY_TIME = Long.MIN_VALUE;
+  private final ProgressChangeListener listener;
+  private final ProgressChangeListenerOptions options;
+  private final AtomicReference<ProgressUpdate> pendingUpdate = new AtomicReference<>();
+  private final AtomicBoolean isDeliveryScheduled = new AtomicBoolean();
+  private final Runnable deliverPendingUpdate = new Runnable() {
+    @Override
+    public void run() {
+      isDeliveryScheduled.set(false);
+      ProgressUpdate update = pendingUpdate.getAndSet(null);
+      if (update != null) {
+        listener.onProgressChange(update.location, update.routeProgress);
+      }
+    }
+  };
+  private final Runnable deliverHeldUpdate = new Runnable() {
+    @Override
+    public void run() {
+      ProgressUpdate update = heldUpdate;
+      heldUpdate = null;
+      if (update != null) {
+        deliverNow(update.location, update.routeProgress, heldUpdateScheduler.elapsedTimeInMilliseconds());
+      }
+    }
+  };
+  private long lastDeliveryTime = NO_DELIVERY_TIME;
+  private ProgressUpdate heldUpdate;
+  private volatile NavigationScheduler heldUpdateScheduler;
+  private volatile long skippedCount;
+
+  ProgressChangeDelivery(ProgressChangeListener listener, ProgressChangeListenerOptions options) {
+    this.listener = listener;
+    this.options = options;
+  }
+
+  /**
+   * Passes the update on to the listener, unless it arrives within the minimum delivery interval
+   * of the last delivered update. It's then held and delivered once the interval expires, unless a
+   * newer update replaces it first.
+   * <p>
+   * Only called from the thread given by the listener's options (the navigation thread for an
+   * executor).
+   *
+   * @param location      of the update
+   * @param routeProgress of the update
+   * @param scheduler     running on the calling thread, timing the update and a held back delivery
+   */
+  void deliver(Location location, RouteProgress routeProgress, NavigationScheduler scheduler) {
+    long timeInMillis = scheduler.elapsedTimeInMilliseconds();
+    if (isWithinInterval(timeInMillis)) {
+      hold(new ProgressUpdate(location, routeProgress), timeInMillis, scheduler);
+      return;
+    }
+    if (heldUpdate != null) {
+      heldUpdate = null;
+      skippedCount++;
+      scheduler.removeCallbacks(deliverHeldUpdate);
+    }
+    deliverNow(location, routeProgress, timeInMillis);
+  }
+
+  /**
+   * Drops the update held back by the rate limit, if any, once the listener is removed.
+   */
+  void cancel() {
+    NavigationScheduler scheduler = heldUpdateScheduler;
+    if (scheduler != null) {
+      scheduler.removeCallbacks(deliverHeldUpdate);
+    }
+  }
+
+  boolean isDeliveryOf(ProgressChangeListener listener) {
+    return this.listener == listener;
+  }
+
+  @NavigationConstants.ProgressDeliveryThread
+  int deliveryThread() {
+    return options.deliveryThread();
+  }
+
+  /**
+   * @return number of updates not delivered because a newer update replaced them, either while held
+   * back by the rate limit or while waiting for the executor
+   */
+  long skippedCount() {
+    return skippedCount;
+  }
+
+  private void hold(ProgressUpdate update, long timeInMillis, NavigationScheduler scheduler) {
+    if (heldUpdate != null) {
+      skippedCount++;
+    } else {
+      heldUpdateScheduler = scheduler;
+      long remainingInterval = lastDeliveryTime + options.minimumDeliveryIntervalInMilliseconds() - timeInMillis;
+      scheduler.postDelayed(deliverHeldUpdate, remainingInterval);
+    }
+    heldUpdate = update;
+  }
+
+  private void deliverNow(Location location, RouteProgress routeProgress, long timeInMillis) {
+    lastDeliveryTime = timeInMillis;
+    if (options.deliveryThread() == PROGRESS_DELIVERY_EXECUTOR) {
+      deliverThroughExecutor(location, routeProgress);
+    } else {
+      listener.onProgressChange(location, routeProgress);
+    }
+  }
+
+  private void deliverThroughExecutor(Location location, RouteProgress routeProgress) {
+    if (pendingUpdate.getAndSet(new ProgressUpdate(location, routeProgress)) != null) {
+      skippedCount++;
+    }
+    if (isDeliveryScheduled.compareAndSet(false, true)) {
+      Executor executor = options.executor();
+      executor.execute(deliverPendingUpdate);
+    }
+  }
+
+  private boolean isWithinInterval(long timeInMillis) {
+    long interval = options.minimumDeliveryIntervalInMilliseconds();
+    if (interval <= 0 || lastDeliveryTime == NO_DELIVERY_TIME) {
+      return false;
+    }
+    // Time going backwards starts a new interval
+    return timeInMillis >= lastDeliveryTime && timeInMillis - lastDeliveryTime < interval;
+  }
+
+  private static class ProgressUpdate {
+
+    private final Location location;
+    private final RouteProgress routeProgress;
+
+    ProgressUpdate(Location location, RouteProgress routeProgress) {
+      this.location = location;
+      this.routeProgress = routeProgress;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.Nullable;
+
+import com.google.auto.value.AutoValue;
+import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
+
+import java.util.concurrent.Executor;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.PROGRESS_DELIVERY_EXECUTOR;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.PROGRESS_DELIVERY_MAIN_THREAD;
+
+/**
+ * Options for delivering progress updates to a single {@link ProgressChangeListener}, passed to
+ * {@link MapboxNavigation#addProgressChangeListener(ProgressChangeListener, ProgressChangeListenerOptions)}.
+ * <p>
+ * Listeners that don't update the UI, such as analytics or logging, can be moved off the main
+ * thread. Listeners that don't need every update, such as a notification, can be limited to a
+ * lower rate.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class ProgressChangeListenerOptions {
+
+  /**
+   * Thread the listener is invoked on, one of {@link NavigationConstants#PROGRESS_DELIVERY_MAIN_THREAD},
+   * {@link NavigationConstants#PROGRESS_DELIVERY_PROCESSING_THREAD} or
+   * {@link NavigationConstants#PROGRESS_DELIVERY_EXECUTOR}.
+   *
+   * @return delivery thread of the listener
+   * @since 0.21.0
+   */
+  @NavigationConstants.ProgressDeliveryThread
+  public abstract int deliveryThread();
+
+  /**
+   * Executor invoking the listener with {@link NavigationConstants#PROGRESS_DELIVERY_EXECUTOR}, ignored
+   * otherwise.
+   * <p>
+   * Only the latest update is kept for the listener while the executor is busy: updates that are
+   * replaced before the executor gets to them are skipped rather than queued.
+   *
+   * @return executor invoking the listener, or null if not delivered through an executor
+   * @since 0.21.0
+   */
+  @Nullable
+  public abstract Executor executor();
+
+  /**
+   * Minimum time between two updates delivered to the listener. Updates arriving sooner are held
+   * back, the latest of them being delivered once the interval expires. 0 delivers every update.
+   *
+   * @return minimum delivery interval in milliseconds
+   * @since 0.21.0
+   */
+  public abstract long minimumDeliveryIntervalInMilliseconds();
+
+  public static Builder builder() {
+    return new AutoValue_ProgressChangeListenerOptions.Builder()
+      .deliveryThread(PROGRESS_DELIVERY_MAIN_THREAD)
+      .minimumDeliveryIntervalInMilliseconds(0);
+  }
+
+  @AutoValue.Builder
+  public abstract static class Builder {
+
+    public abstract Builder deliveryThread(@NavigationConstants.ProgressDeliveryThread int deliveryThread);
+
+    /**
+     * Sets the executor invoking the listener, required with
+     * {@link NavigationConstants#PROGRESS_DELIVERY_EXECUTOR}.
+     *
+     * @param executor invoking the listener
+     * @return this builder
+     * @since 0.21.0
+     */
+    public abstract Builder executor(@Nullable Executor executor);
+
+    public abstract Builder minimumDeliveryIntervalInMilliseconds(long intervalInMilliseconds);
+
+    abstract ProgressChangeListenerOptions autoBuild();
+
+    public ProgressChangeListenerOptions build() {
+      ProgressChangeListenerOptions options = autoBuild();
+      if (options.deliveryThread() == PROGRESS_DELIVERY_EXECUTOR && options.executor() == null) {
+        throw new IllegalStateException("An executor is required to deliver progress through an executor.");
+      }
+      return options;
+    }
+  }
+}
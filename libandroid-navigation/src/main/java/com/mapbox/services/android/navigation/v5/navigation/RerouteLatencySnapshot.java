@@ -0,0 +1,72 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Durations of each stage of the reroutes completed since the navigation was created, as reported
+ * one by one by the {@link RerouteTimeline}s.
+ * <p>
+ * Stages which didn't happen during a reroute aren't counted, so {@link #total()} holds the count of
+ * reroutes.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class RerouteLatencySnapshot {
+
+  static RerouteLatencySnapshot create(LatencySnapshot detectionToRequest, LatencySnapshot request,
+                                       LatencySnapshot parse, LatencySnapshot responseToRouteUpdate,
+                                       LatencySnapshot routeUpdate, LatencySnapshot setRoute,
+                                       LatencySnapshot firstProgress, LatencySnapshot total) {
+    return new AutoValue_RerouteLatencySnapshot(detectionToRequest, request, parse, responseToRouteUpdate,
+      routeUpdate, setRoute, firstProgress, total);
+  }
+
+  /**
+   * @return see {@link RerouteTimeline#detectionToRequestInMilliseconds()}
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot detectionToRequest();
+
+  /**
+   * @return see {@link RerouteTimeline#requestInMilliseconds()}
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot request();
+
+  /**
+   * @return see {@link RerouteTimeline#parseInMilliseconds()}
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot parse();
+
+  /**
+   * @return see {@link RerouteTimeline#responseToRouteUpdateInMilliseconds()}
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot responseToRouteUpdate();
+
+  /**
+   * @return see {@link RerouteTimeline#routeUpdateInMilliseconds()}
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot routeUpdate();
+
+  /**
+   * @return see {@link RerouteTimeline#setRouteInMilliseconds()}
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot setRoute();
+
+  /**
+   * @return see {@link RerouteTimeline#firstProgressInMilliseconds()}
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot firstProgress();
+
+  /**
+   * @return see {@link RerouteTimeline#totalInMilliseconds()}
+   * @since 0.21.0
+   */
+  public abstract LatencySnapshot total();
+}
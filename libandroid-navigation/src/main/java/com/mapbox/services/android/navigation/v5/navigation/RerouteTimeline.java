@@ -0,0 +1,118 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Durations of each stage of a reroute, from the user going off-route until the first progress
+ * along the new route, see {@link RerouteTimelineListener}.
+ * <p>
+ * The stages follow each other, so that their durations add up to {@link #totalInMilliseconds()}.
+ * A stage which didn't happen is {@link #NOT_RECORDED}: the request stages when the new route
+ * wasn't fetched by a {@link com.mapbox.services.android.navigation.v5.route.RouteFetcher} traced
+ * with {@link MapboxNavigation#traceRouteFetcher(com.mapbox.services.android.navigation.v5.route.RouteFetcher)},
+ * for instance a route fetched ahead with {@link MapboxNavigationOptions#enableSpeculativeRerouting()}.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class RerouteTimeline {
+
+  /**
+   * Duration of a stage which didn't happen during the reroute.
+   *
+   * @since 0.21.0
+   */
+  public static final double NOT_RECORDED = -1;
+
+  static Builder builder() {
+    return new AutoValue_RerouteTimeline.Builder()
+      .detectionToRequestInMilliseconds(NOT_RECORDED)
+      .requestInMilliseconds(NOT_RECORDED)
+      .parseInMilliseconds(NOT_RECORDED)
+      .responseToRouteUpdateInMilliseconds(NOT_RECORDED)
+      .routeUpdateInMilliseconds(NOT_RECORDED)
+      .setRouteInMilliseconds(NOT_RECORDED)
+      .firstProgressInMilliseconds(NOT_RECORDED)
+      .totalInMilliseconds(NOT_RECORDED);
+  }
+
+  /**
+   * @return time the user went off-route, in milliseconds since the epoch
+   * @since 0.21.0
+   */
+  public abstract long offRouteTime();
+
+  /**
+   * @return time from going off-route until the new route was requested
+   * @since 0.21.0
+   */
+  public abstract double detectionToRequestInMilliseconds();
+
+  /**
+   * @return time from the request until the response headers were received
+   * @since 0.21.0
+   */
+  public abstract double requestInMilliseconds();
+
+  /**
+   * @return time reading and parsing the response body, then handing it over to the route fetcher
+   * @since 0.21.0
+   */
+  public abstract double parseInMilliseconds();
+
+  /**
+   * @return time from the parsed response until navigation was started along the new route
+   * @since 0.21.0
+   */
+  public abstract double responseToRouteUpdateInMilliseconds();
+
+  /**
+   * Includes the wait for the navigation thread to pass the new route on to the native navigator.
+   *
+   * @return time serializing the new route until the native navigator was given it
+   * @since 0.21.0
+   */
+  public abstract double routeUpdateInMilliseconds();
+
+  /**
+   * @return time the native navigator took to set the new route
+   * @since 0.21.0
+   */
+  public abstract double setRouteInMilliseconds();
+
+  /**
+   * @return time from the native navigator setting the new route until its first progress update
+   * @since 0.21.0
+   */
+  public abstract double firstProgressInMilliseconds();
+
+  /**
+   * @return time from going off-route until the first progress update along the new route
+   * @since 0.21.0
+   */
+  public abstract double totalInMilliseconds();
+
+  @AutoValue.Builder
+  abstract static class Builder {
+
+    abstract Builder offRouteTime(long offRouteTime);
+
+    abstract Builder detectionToRequestInMilliseconds(double detectionToRequestInMilliseconds);
+
+    abstract Builder requestInMilliseconds(double requestInMilliseconds);
+
+    abstract Builder parseInMilliseconds(double parseInMilliseconds);
+
+    abstract Builder responseToRouteUpdateInMilliseconds(double responseToRouteUpdateInMilliseconds);
+
+    abstract Builder routeUpdateInMilliseconds(double routeUpdateInMilliseconds);
+
+    abstract Builder setRouteInMilliseconds(double setRouteInMilliseconds);
+
+    abstract Builder firstProgressInMilliseconds(double firstProgressInMilliseconds);
+
+    abstract Builder totalInMilliseconds(double totalInMilliseconds);
+
+    abstract RerouteTimeline build();
+  }
+}
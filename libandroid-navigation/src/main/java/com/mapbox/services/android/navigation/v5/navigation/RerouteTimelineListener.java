@@ -0,0 +1,18 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+/**
+ * Listener that can be added to know how long each stage of a reroute took, from the user going
+ * off-route until the first progress along the new route.
+ *
+ * @since 0.21.0
+ */
+public interface RerouteTimelineListener {
+
+  /**
+   * Will be fired on the main thread with the first progress update along the new route.
+   *
+   * @param rerouteTimeline durations of the stages of the reroute
+   * @since 0.21.0
+   */
+  void onRerouteTimeline(RerouteTimeline rerouteTimeline);
+}
@@ -0,0 +1,178 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.route.RouteRequestTimingListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows each reroute from the user going off-route until the first progress along the new route,
+ * timing its stages into a {@link RerouteTimeline} and one {@link LatencyHistogram} per stage.
+ * <p>
+ * A single reroute is followed at a time. It is dropped if the user gets back on the route before
+ * navigation starts along a new one. The latest request answered meanwhile is taken as the one which
+ * fetched the new route, and the latest route navigation starts along as the new route.
+ * <p>
+ * Stages are reported from the main thread, apart from {@link #onRouteSet(long, long)} reported
+ * from the navigation thread. Times are all read from {@link System#nanoTime()}.
+ */
+class RerouteTracer implements RouteRequestTimingListener {
+
+  private static final long NOT_RECORDED = -1;
+  private static final double NANOS_PER_MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+  private final LatencyHistogram detectionToRequest = new LatencyHistogram();
+  private final LatencyHistogram request = new LatencyHistogram();
+  private final LatencyHistogram parse = new LatencyHistogram();
+  private final LatencyHistogram responseToRouteUpdate = new LatencyHistogram();
+  private final LatencyHistogram routeUpdate = new LatencyHistogram();
+  private final LatencyHistogram setRoute = new LatencyHistogram();
+  private final LatencyHistogram firstProgress = new LatencyHistogram();
+  private final LatencyHistogram total = new LatencyHistogram();
+  private boolean isTracing;
+  private long offRouteTime;
+  private long offRouteTimeInNanos;
+  private long requestTimeInNanos;
+  private long responseReceivedTimeInNanos;
+  private long responseParsedTimeInNanos;
+  private long routeUpdateStartInNanos;
+  private long routeUpdateEndInNanos;
+  private long setRouteStartInNanos;
+  private long setRouteEndInNanos;
+  private DirectionsRoute newRoute;
+
+  /**
+   * Starts following a reroute, unless already following one.
+   *
+   * @param timeInNanos when the user went off-route
+   * @param time        the same, in milliseconds since the epoch
+   */
+  synchronized void onUserOffRoute(long timeInNanos, long time) {
+    if (isTracing) {
+      return;
+    }
+    isTracing = true;
+    offRouteTime = time;
+    offRouteTimeInNanos = timeInNanos;
+    requestTimeInNanos = NOT_RECORDED;
+    responseReceivedTimeInNanos = NOT_RECORDED;
+    responseParsedTimeInNanos = NOT_RECORDED;
+    routeUpdateStartInNanos = NOT_RECORDED;
+    routeUpdateEndInNanos = NOT_RECORDED;
+    setRouteStartInNanos = NOT_RECORDED;
+    setRouteEndInNanos = NOT_RECORDED;
+    newRoute = null;
+  }
+
+  /**
+   * Drops the reroute followed if navigation hasn't started along a new route yet.
+   */
+  synchronized void onUserOnRoute() {
+    if (newRoute == null) {
+      isTracing = false;
+    }
+  }
+
+  @Override
+  public synchronized void onRouteRequestTimed(long requestTimeInNanos, long responseReceivedTimeInNanos,
+                                               long responseParsedTimeInNanos) {
+    if (!isTracing || newRoute != null || requestTimeInNanos < offRouteTimeInNanos) {
+      return;
+    }
+    this.requestTimeInNanos = requestTimeInNanos;
+    this.responseReceivedTimeInNanos = responseReceivedTimeInNanos;
+    this.responseParsedTimeInNanos = responseParsedTimeInNanos;
+  }
+
+  /**
+   * Called once the new route is serialized, right before it is handed over to the navigation thread.
+   *
+   * @param route        navigation starts along
+   * @param startInNanos when navigation was started along the route
+   * @param endInNanos   when the route was serialized
+   */
+  synchronized void onRouteUpdated(DirectionsRoute route, long startInNanos, long endInNanos) {
+    if (!isTracing) {
+      return;
+    }
+    newRoute = route;
+    routeUpdateStartInNanos = startInNanos;
+    routeUpdateEndInNanos = endInNanos;
+    setRouteStartInNanos = NOT_RECORDED;
+    setRouteEndInNanos = NOT_RECORDED;
+  }
+
+  /**
+   * Called on the navigation thread once the native navigator has set the latest route.
+   *
+   * @param startInNanos when the route was passed to the native navigator
+   * @param endInNanos   when the native navigator returned
+   */
+  synchronized void onRouteSet(long startInNanos, long endInNanos) {
+    if (!isTracing || newRoute == null || setRouteEndInNanos != NOT_RECORDED) {
+      return;
+    }
+    setRouteStartInNanos = startInNanos;
+    setRouteEndInNanos = endInNanos;
+  }
+
+  /**
+   * Completes the reroute followed with the first progress along its new route.
+   *
+   * @param routeProgress delivered to the listeners
+   * @param timeInNanos   when the progress was delivered
+   * @return timeline of the completed reroute, or null if none was completed
+   */
+  @Nullable
+  synchronized RerouteTimeline onRouteProgress(RouteProgress routeProgress, long timeInNanos) {
+    if (!isTracing || newRoute == null || routeProgress.directionsRoute() != newRoute) {
+      return null;
+    }
+    isTracing = false;
+    newRoute = null;
+    RerouteTimeline.Builder timeline = RerouteTimeline.builder()
+      .offRouteTime(offRouteTime)
+      .totalInMilliseconds(record(total, offRouteTimeInNanos, timeInNanos));
+    if (requestTimeInNanos != NOT_RECORDED) {
+      timeline
+        .detectionToRequestInMilliseconds(record(detectionToRequest, offRouteTimeInNanos, requestTimeInNanos))
+        .requestInMilliseconds(record(request, requestTimeInNanos, responseReceivedTimeInNanos))
+        .parseInMilliseconds(record(parse, responseReceivedTimeInNanos, responseParsedTimeInNanos))
+        .responseToRouteUpdateInMilliseconds(record(responseToRouteUpdate, responseParsedTimeInNanos,
+          routeUpdateStartInNanos));
+    }
+    long routeSetTimeInNanos = routeUpdateEndInNanos;
+    if (setRouteEndInNanos == NOT_RECORDED) {
+      timeline.routeUpdateInMilliseconds(record(routeUpdate, routeUpdateStartInNanos, routeUpdateEndInNanos));
+    } else {
+      timeline
+        .routeUpdateInMilliseconds(record(routeUpdate, routeUpdateStartInNanos, setRouteStartInNanos))
+        .setRouteInMilliseconds(record(setRoute, setRouteStartInNanos, setRouteEndInNanos));
+      routeSetTimeInNanos = setRouteEndInNanos;
+    }
+    timeline.firstProgressInMilliseconds(record(firstProgress, routeSetTimeInNanos, timeInNanos));
+    return timeline.build();
+  }
+
+  /**
+   * Stops following the current reroute, if any, once navigation stops.
+   */
+  synchronized void reset() {
+    isTracing = false;
+    newRoute = null;
+  }
+
+  RerouteLatencySnapshot snapshot() {
+    return RerouteLatencySnapshot.create(detectionToRequest.snapshot(), request.snapshot(), parse.snapshot(),
+      responseToRouteUpdate.snapshot(), routeUpdate.snapshot(), setRoute.snapshot(), firstProgress.snapshot(),
+      total.snapshot());
+  }
+
+  private static double record(LatencyHistogram histogram, long startInNanos, long endInNanos) {
+    long durationInNanos = Math.max(0, endInNanos - startInNanos);
+    histogram.record(durationInNanos);
+    return durationInNanos / NANOS_PER_MILLISECOND;
+  }
+}
@@ -0,0 +1,27 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.os.AsyncTask;
+
+/**
+ * Gets the history from the navigator in the background while no navigation thread is running.
+ */
+class RetrieveHistoryTask extends AsyncTask<Void, Void, String> {
+
+  private final MapboxNavigator mapboxNavigator;
+  private final NavigationHistoryListener listener;
+
+  RetrieveHistoryTask(MapboxNavigator mapboxNavigator, NavigationHistoryListener listener) {
+    this.mapboxNavigator = mapboxNavigator;
+    this.listener = listener;
+  }
+
+  @Override
+  protected String doInBackground(Void... paramsUnused) {
+    return mapboxNavigator.retrieveHistory();
+  }
+
+  @Override
+  protected void onPostExecute(String history) {
+    listener.onHistoryRetrieved(history);
+  }
+}
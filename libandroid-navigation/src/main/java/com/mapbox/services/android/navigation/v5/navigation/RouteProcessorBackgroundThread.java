@@ -3,61 +3,137 @@ package com.mapbox.services.android.navigation.v5.navigation;
 import android.location.Location;
 import android.os.Handler;
 import android.os.HandlerThread;
-import android.os.Process;
+import android.support.annotation.Nullable;
 
 import com.mapbox.services.android.navigation.v5.milestone.Milestone;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import timber.log.Timber;
 
 /**
- * This class extends handler thread to run most of the navigation calculations on a separate
- * background thread.
+ * Runs most of the navigation calculations away from the main thread, on a worker
+ * {@link NavigationScheduler}. Unless one is given, they run on the
+ * {@link MapboxNavigationOptions#navigationExecutor()}, or else on a {@link HandlerThread} started
+ * with the {@link MapboxNavigationOptions#navigationThreadPriority()}.
  */
-class RouteProcessorBackgroundThread extends HandlerThread {
+class RouteProcessorBackgroundThread {
 
   private static final String MAPBOX_NAVIGATION_THREAD_NAME = "mapbox_navigation_thread";
   private final MapboxNavigation navigation;
-  private final Handler responseHandler;
+  private final NavigationScheduler responseScheduler;
   private final Listener listener;
   private final NavigationRouteProcessor routeProcessor;
-  private Handler workerHandler;
+  private final NavigationScheduler givenWorkerScheduler;
+  private NavigationScheduler workerScheduler;
+  private HandlerThread handlerThread;
   private RouteProcessorRunnable runnable;
+  private volatile boolean isAlive;
+
+  RouteProcessorBackgroundThread(MapboxNavigation navigation, NavigationScheduler responseScheduler,
+                                 Listener listener) {
+    this(navigation, null, responseScheduler, listener);
+  }
 
-  RouteProcessorBackgroundThread(MapboxNavigation navigation, Handler responseHandler, Listener listener) {
-    super(MAPBOX_NAVIGATION_THREAD_NAME, Process.THREAD_PRIORITY_BACKGROUND);
+  RouteProcessorBackgroundThread(MapboxNavigation navigation, @Nullable NavigationScheduler workerScheduler,
+                                 NavigationScheduler responseScheduler, Listener listener) {
     this.navigation = navigation;
-    this.responseHandler = responseHandler;
+    this.givenWorkerScheduler = workerScheduler;
+    this.responseScheduler = responseScheduler;
     this.listener = listener;
     this.routeProcessor = new NavigationRouteProcessor();
   }
 
-  @Override
-  public synchronized void start() {
-    super.start();
-    if (workerHandler == null) {
-      workerHandler = new Handler(getLooper());
+  synchronized void start() {
+    if (isAlive) {
+      return;
     }
+    workerScheduler = obtainWorkerScheduler();
     runnable = new RouteProcessorRunnable(
-      routeProcessor, navigation, workerHandler, responseHandler, listener
+      routeProcessor, navigation, workerScheduler, responseScheduler, listener
     );
-    workerHandler.post(runnable);
+    isAlive = true;
+    // Location-driven processing is scheduled with each raw location instead
+    if (!runnable.isLocationDriven()) {
+      runnable.postProcessing(0);
+    }
   }
 
-  @Override
-  public boolean quit() {
-    if (isAlive()) {
-      workerHandler.removeCallbacks(runnable);
+  /**
+   * Stops the processing, quitting the thread if it was started for it. A tick already running
+   * completes, but doesn't schedule another one, so a later {@link #start()} runs a single loop.
+   *
+   * @return true if the processing was running
+   */
+  synchronized boolean quit() {
+    if (!isAlive) {
+      return false;
+    }
+    isAlive = false;
+    runnable.stop();
+    if (handlerThread != null) {
+      handlerThread.quit();
+      handlerThread = null;
     }
-    return super.quit();
+    return true;
+  }
+
+  boolean isAlive() {
+    return isAlive;
   }
 
   void updateRawLocation(Location rawLocation) {
     if (!isAlive()) {
       start();
     }
+    // Only queued, the locations are passed to the navigator on this thread before each status request
+    if (!navigation.retrieveMapboxNavigator().updateLocation(rawLocation)) {
+      Timber.w("Navigation thread is falling behind, oldest raw location dropped");
+    }
     runnable.updateRawLocation(rawLocation);
-    navigation.retrieveMapboxNavigator().updateLocation(rawLocation);
+  }
+
+  /**
+   * Gets the history from the navigator on the worker scheduler, so it's never asked for it
+   * concurrently with a status request, and delivers it on the response scheduler.
+   *
+   * @param listener to be given the history
+   * @return true if posted, false if the processing isn't running and nothing was posted
+   */
+  synchronized boolean retrieveHistory(final NavigationHistoryListener listener) {
+    if (!isAlive) {
+      return false;
+    }
+    final MapboxNavigator mapboxNavigator = navigation.retrieveMapboxNavigator();
+    workerScheduler.post(new Runnable() {
+      @Override
+      public void run() {
+        final String history = mapboxNavigator.retrieveHistory();
+        responseScheduler.post(new Runnable() {
+          @Override
+          public void run() {
+            listener.onHistoryRetrieved(history);
+          }
+        });
+      }
+    });
+    return true;
+  }
+
+  private NavigationScheduler obtainWorkerScheduler() {
+    if (givenWorkerScheduler != null) {
+      return givenWorkerScheduler;
+    }
+    MapboxNavigationOptions options = navigation.options();
+    ScheduledExecutorService executor = options.navigationExecutor();
+    if (executor != null) {
+      return new ExecutorNavigationScheduler(executor);
+    }
+    handlerThread = new HandlerThread(MAPBOX_NAVIGATION_THREAD_NAME, options.navigationThreadPriority());
+    handlerThread.start();
+    return new HandlerNavigationScheduler(new Handler(handlerThread.getLooper()));
   }
 
   /**
@@ -69,6 +145,9 @@ class RouteProcessorBackgroundThread extends HandlerThread {
    */
   interface Listener {
 
+    void onNewRouteProgressOnProcessingThread(Location location, RouteProgress routeProgress,
+                                              NavigationScheduler processingThreadScheduler);
+
     void onNewRouteProgress(Location location, RouteProgress routeProgress);
 
     void onMilestoneTrigger(List<Milestone> triggeredMilestones, RouteProgress routeProgress);
@@ -1,11 +1,10 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
 import android.location.Location;
-import android.os.Handler;
 
-import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.navigator.NavigationStatus;
 import com.mapbox.services.android.navigation.v5.milestone.Milestone;
+import com.mapbox.services.android.navigation.v5.milestone.TriggerSnapshot;
 import com.mapbox.services.android.navigation.v5.offroute.OffRoute;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteDetector;
 import com.mapbox.services.android.navigation.v5.route.FasterRoute;
@@ -16,84 +15,181 @@ import com.mapbox.services.android.navigation.v5.snap.SnapToRoute;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.ROUTE_PROCESSING_MODE_LOCATION;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationPerformanceMonitor.STAGE_FASTER_ROUTE_CHECK;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationPerformanceMonitor.STAGE_MAIN_THREAD_HOP;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationPerformanceMonitor.STAGE_MILESTONE_CHECK;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationPerformanceMonitor.STAGE_OFF_ROUTE_CHECK;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationPerformanceMonitor.STAGE_ROUTE_PROGRESS_BUILD;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationPerformanceMonitor.STAGE_SNAPPING;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationPerformanceMonitor.STAGE_STATUS_RETRIEVAL;
 
 class RouteProcessorRunnable implements Runnable {
 
-  private static final int ONE_SECOND_IN_MILLISECONDS = 1000;
   private final NavigationRouteProcessor routeProcessor;
   private final MapboxNavigation navigation;
-  private final Handler workerHandler;
-  private final Handler responseHandler;
+  private final NavigationScheduler workerScheduler;
+  private final NavigationScheduler responseScheduler;
   private final RouteProcessorBackgroundThread.Listener listener;
-  private Location rawLocation;
+  private final AtomicBoolean isProcessingScheduled = new AtomicBoolean(false);
+  private final TriggerSnapshot triggerSnapshot = new TriggerSnapshot();
+  private volatile Location rawLocation;
+  private volatile long lastProcessingTimeInMillis;
+  private volatile long intendedStartInNanos;
+  private volatile boolean isStopped;
 
   RouteProcessorRunnable(NavigationRouteProcessor routeProcessor,
                          MapboxNavigation navigation,
-                         Handler workerHandler,
-                         Handler responseHandler,
+                         NavigationScheduler workerScheduler,
+                         NavigationScheduler responseScheduler,
                          RouteProcessorBackgroundThread.Listener listener) {
     this.routeProcessor = routeProcessor;
     this.navigation = navigation;
-    this.workerHandler = workerHandler;
-    this.responseHandler = responseHandler;
+    this.workerScheduler = workerScheduler;
+    this.responseScheduler = responseScheduler;
     this.listener = listener;
   }
 
   @Override
   public void run() {
-    process();
+    if (!isStopped) {
+      process();
+    }
   }
 
   void updateRawLocation(Location rawLocation) {
     this.rawLocation = rawLocation;
+    if (isLocationDriven()) {
+      scheduleProcessing();
+    }
+  }
+
+  boolean isLocationDriven() {
+    return navigation.options().routeProcessingMode() == ROUTE_PROCESSING_MODE_LOCATION;
+  }
+
+  /**
+   * Stops the processing for good: pending ticks are removed, and a tick already running won't post
+   * the next one.
+   */
+  void stop() {
+    isStopped = true;
+    workerScheduler.removeCallbacks(this);
+  }
+
+  /**
+   * Posts the next processing tick, keeping when it's meant to start to measure the scheduling jitter.
+   * Nothing is posted once stopped.
+   *
+   * @param delayInMilliseconds until the tick should start
+   */
+  void postProcessing(long delayInMilliseconds) {
+    if (isStopped) {
+      return;
+    }
+    intendedStartInNanos = navigation.retrievePerformanceMonitor().calculateIntendedStart(delayInMilliseconds);
+    workerScheduler.postDelayed(this, delayInMilliseconds);
+  }
+
+  /**
+   * Posts a single processing tick, no sooner than the minimum interval after the last one.
+   * <p>
+   * Locations arriving while a tick is already pending are coalesced into it, the tick will
+   * process whichever raw location is the latest at the time it runs.
+   */
+  private void scheduleProcessing() {
+    if (isProcessingScheduled.compareAndSet(false, true)) {
+      postProcessing(calculateProcessingDelay());
+    } else if (calculateElapsedSinceLastProcessing() >= minimumProcessingInterval()) {
+      navigation.retrieveProcessingRate().recordCoalescedLocation();
+    }
+  }
+
+  private long calculateProcessingDelay() {
+    long processingInterval = navigation.retrieveProcessingRate().locationDrivenInterval(minimumProcessingInterval());
+    return Math.max(0, processingInterval - calculateElapsedSinceLastProcessing());
+  }
+
+  private long minimumProcessingInterval() {
+    return navigation.options().minimumRouteProcessingIntervalInMilliseconds();
+  }
+
+  private long calculateElapsedSinceLastProcessing() {
+    return workerScheduler.elapsedTimeInMilliseconds() - lastProcessingTimeInMillis;
   }
 
   private void process() {
+    NavigationPerformanceMonitor monitor = navigation.retrievePerformanceMonitor();
+    long stageStart = monitor.startStage();
+    monitor.recordSchedulingJitter(intendedStartInNanos, stageStart);
+    isProcessingScheduled.set(false);
+    lastProcessingTimeInMillis = workerScheduler.elapsedTimeInMilliseconds();
     MapboxNavigator mapboxNavigator = navigation.retrieveMapboxNavigator();
     MapboxNavigationOptions options = navigation.options();
-    DirectionsRoute route = navigation.getRoute();
+    CurrentRoute currentRoute = navigation.retrieveCurrentRoute();
+    // Read once, every stage of this tick works with the same location even if a newer one arrives
+    Location processedLocation = rawLocation;
 
     NavigationStatus status = mapboxNavigator.retrieveStatus(new Date(),
       options.navigationLocationEngineIntervalLagInMilliseconds());
-    RouteProgress routeProgress = routeProcessor.buildNewRouteProgress(status, route);
+    stageStart = monitor.endStage(STAGE_STATUS_RETRIEVAL, stageStart);
+    RouteProgress routeProgress = routeProcessor.buildNewRouteProgress(status, currentRoute);
+    stageStart = monitor.endStage(STAGE_ROUTE_PROGRESS_BUILD, stageStart);
 
     NavigationEngineFactory engineFactory = navigation.retrieveEngineFactory();
-    final boolean userOffRoute = isUserOffRoute(options, status, rawLocation, routeProgress, engineFactory);
-    final Location snappedLocation = findSnappedLocation(status, rawLocation, routeProgress, engineFactory);
+    final boolean userOffRoute = isUserOffRoute(options, status, processedLocation, routeProgress, engineFactory);
+    stageStart = monitor.endStage(STAGE_OFF_ROUTE_CHECK, stageStart);
+    final Location snappedLocation = findSnappedLocation(status, processedLocation, routeProgress, engineFactory);
+    stageStart = monitor.endStage(STAGE_SNAPPING, stageStart);
     final boolean checkFasterRoute = checkFasterRoute(options, snappedLocation, routeProgress, engineFactory,
       userOffRoute);
+    stageStart = monitor.endStage(STAGE_FASTER_ROUTE_CHECK, stageStart);
     final List<Milestone> milestones = findTriggeredMilestones(navigation, routeProgress);
+    monitor.endStage(STAGE_MILESTONE_CHECK, stageStart);
+    AdaptiveProcessingRate processingRate = navigation.retrieveProcessingRate();
+    if (processingRate.update(processedLocation, routeProgress, userOffRoute)) {
+      sendLocationEngineIntervalUpdate(processingRate);
+    }
 
-    sendUpdateToResponseHandler(userOffRoute, milestones, snappedLocation, checkFasterRoute, routeProgress);
+    sendUpdateToResponseScheduler(userOffRoute, milestones, snappedLocation, checkFasterRoute, routeProgress,
+      monitor, processedLocation);
     routeProcessor.updatePreviousRouteProgress(routeProgress);
-    workerHandler.postDelayed(this, ONE_SECOND_IN_MILLISECONDS);
+    if (isLocationDriven()) {
+      processingRate.recordLocationTick();
+    } else {
+      long timerInterval = processingRate.timerInterval();
+      processingRate.recordTimerTick(timerInterval);
+      postProcessing(timerInterval);
+    }
   }
 
-  private boolean isUserOffRoute(MapboxNavigationOptions options, NavigationStatus status, Location rawLocation,
+  private boolean isUserOffRoute(MapboxNavigationOptions options, NavigationStatus status, Location location,
                                  RouteProgress routeProgress, NavigationEngineFactory engineFactory) {
     OffRoute offRoute = engineFactory.retrieveOffRouteEngine();
     if (offRoute instanceof OffRouteDetector) {
       return ((OffRouteDetector) offRoute).isUserOffRouteWith(status);
     }
-    return offRoute.isUserOffRoute(rawLocation, routeProgress, options);
+    return offRoute.isUserOffRoute(location, routeProgress, options);
   }
 
-  private Location findSnappedLocation(NavigationStatus status, Location rawLocation, RouteProgress routeProgress,
+  private Location findSnappedLocation(NavigationStatus status, Location location, RouteProgress routeProgress,
                                        NavigationEngineFactory engineFactory) {
     Snap snap = engineFactory.retrieveSnapEngine();
     if (snap instanceof SnapToRoute) {
-      return ((SnapToRoute) snap).getSnappedLocationWith(status);
+      return ((SnapToRoute) snap).getSnappedLocationWith(status, location);
     }
-    return snap.getSnappedLocation(rawLocation, routeProgress);
+    return snap.getSnappedLocation(location, routeProgress);
   }
 
-  private boolean checkFasterRoute(MapboxNavigationOptions options, Location rawLocation, RouteProgress routeProgress,
+  private boolean checkFasterRoute(MapboxNavigationOptions options, Location location, RouteProgress routeProgress,
                                    NavigationEngineFactory engineFactory, boolean userOffRoute) {
     FasterRoute fasterRoute = engineFactory.retrieveFasterRouteEngine();
     boolean fasterRouteDetectionEnabled = options.enableFasterRouteDetection();
     return fasterRouteDetectionEnabled
       && !userOffRoute
-      && fasterRoute.shouldCheckFasterRoute(rawLocation, routeProgress);
+      && fasterRoute.shouldCheckFasterRoute(location, routeProgress);
   }
 
   private List<Milestone> findTriggeredMilestones(MapboxNavigation mapboxNavigation, RouteProgress routeProgress) {
@@ -101,26 +197,44 @@ class RouteProcessorRunnable implements Runnable {
     if (previousRouteProgress == null) {
       previousRouteProgress = routeProgress;
     }
+    triggerSnapshot.update(previousRouteProgress, routeProgress);
     List<Milestone> milestones = new ArrayList<>();
     for (Milestone milestone : mapboxNavigation.getMilestones()) {
-      if (milestone.isOccurring(previousRouteProgress, routeProgress)) {
+      if (milestone.isOccurring(previousRouteProgress, routeProgress, triggerSnapshot)) {
         milestones.add(milestone);
       }
     }
     return milestones;
   }
 
-  private void sendUpdateToResponseHandler(final boolean userOffRoute, final List<Milestone> milestones,
+  private void sendUpdateToResponseScheduler(final boolean userOffRoute, final List<Milestone> milestones,
                                            final Location location, final boolean checkFasterRoute,
-                                           final RouteProgress finalRouteProgress) {
-    responseHandler.post(new Runnable() {
+                                           final RouteProgress finalRouteProgress,
+                                           final NavigationPerformanceMonitor monitor,
+                                           final Location processedLocation) {
+    listener.onNewRouteProgressOnProcessingThread(location, finalRouteProgress, workerScheduler);
+    final long postTime = monitor.startStage();
+    responseScheduler.post(new Runnable() {
       @Override
       public void run() {
+        monitor.endStage(STAGE_MAIN_THREAD_HOP, postTime);
         listener.onNewRouteProgress(location, finalRouteProgress);
+        monitor.recordLocationToProgress(processedLocation);
         listener.onMilestoneTrigger(milestones, finalRouteProgress);
         listener.onUserOffRoute(location, userOffRoute);
         listener.onCheckFasterRoute(location, finalRouteProgress, checkFasterRoute);
       }
     });
   }
+
+  private void sendLocationEngineIntervalUpdate(AdaptiveProcessingRate processingRate) {
+    final long interval = processingRate.locationEngineInterval();
+    final long fastestInterval = processingRate.locationEngineFastestInterval();
+    responseScheduler.post(new Runnable() {
+      @Override
+      public void run() {
+        navigation.updateLocationEngineInterval(interval, fastestInterval);
+      }
+    });
+  }
 }
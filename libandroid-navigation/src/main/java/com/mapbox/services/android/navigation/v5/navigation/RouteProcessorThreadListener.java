@@ -5,6 +5,7 @@ import android.location.Location;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.services.android.navigation.v5.milestone.Milestone;
 import com.mapbox.services.android.navigation.v5.route.RouteFetcher;
+import com.mapbox.services.android.navigation.v5.route.SpeculativeRouteEngine;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.List;
@@ -13,25 +14,48 @@ import static com.mapbox.services.android.navigation.v5.navigation.NavigationHel
 
 class RouteProcessorThreadListener implements RouteProcessorBackgroundThread.Listener {
 
+  private final MapboxNavigation navigation;
   private final NavigationEventDispatcher eventDispatcher;
   private final RouteFetcher routeFetcher;
   private final NavigationNotificationProvider notificationProvider;
+  private final SpeculativeRouteEngine speculativeRouteEngine;
+  private final RerouteTracer rerouteTracer;
 
-  RouteProcessorThreadListener(NavigationEventDispatcher eventDispatcher, RouteFetcher routeFetcher,
-                               NavigationNotificationProvider notificationProvider) {
+  RouteProcessorThreadListener(MapboxNavigation navigation, NavigationEventDispatcher eventDispatcher,
+                               RouteFetcher routeFetcher, NavigationNotificationProvider notificationProvider) {
+    this.navigation = navigation;
     this.eventDispatcher = eventDispatcher;
     this.routeFetcher = routeFetcher;
     this.notificationProvider = notificationProvider;
+    this.speculativeRouteEngine = navigation.retrieveSpeculativeRouteEngine();
+    this.rerouteTracer = navigation.retrieveRerouteTracer();
+  }
+
+  /**
+   * Called on the navigation thread once the progress is built, passing it on to the
+   * ProgressChangeListeners not delivered on the main thread.
+   */
+  @Override
+  public void onNewRouteProgressOnProcessingThread(Location location, RouteProgress routeProgress,
+                                                  NavigationScheduler processingThreadScheduler) {
+    eventDispatcher.onProcessingThreadProgressChange(location, routeProgress, processingThreadScheduler);
   }
 
   /**
    * Corresponds to ProgressChangeListener object, updating the notification and passing information
    * to the navigation event dispatcher.
+   * <p>
+   * The first progress along the route of a reroute completes its {@link RerouteTimeline}.
    */
   @Override
   public void onNewRouteProgress(Location location, RouteProgress routeProgress) {
     notificationProvider.updateNavigationNotification(routeProgress);
     eventDispatcher.onProgressChange(location, routeProgress);
+    RerouteTimeline rerouteTimeline = rerouteTracer.onRouteProgress(routeProgress, System.nanoTime());
+    if (rerouteTimeline != null) {
+      eventDispatcher.onRerouteTimeline(rerouteTimeline);
+    }
+    speculativeRouteEngine.onRouteProgress(location, routeProgress);
   }
 
   /**
@@ -50,10 +74,22 @@ class RouteProcessorThreadListener implements RouteProcessorBackgroundThread.Lis
   /**
    * With each valid and successful rawLocation update, this callback gets invoked and depending on
    * whether or not the user is off route, the event dispatcher gets called.
+   * <p>
+   * If a route fetched ahead by the {@link SpeculativeRouteEngine} starts where the user went off
+   * route, navigation starts along it right away instead.
    */
   @Override
   public void onUserOffRoute(Location location, boolean userOffRoute) {
     if (userOffRoute) {
+      rerouteTracer.onUserOffRoute(System.nanoTime(), System.currentTimeMillis());
+    } else {
+      rerouteTracer.onUserOnRoute();
+    }
+    DirectionsRoute speculativeRoute = speculativeRouteEngine.findRoute(location, userOffRoute);
+    if (speculativeRoute != null) {
+      navigation.startNavigation(speculativeRoute);
+      eventDispatcher.onSpeculativeRouteEvent(speculativeRoute);
+    } else if (userOffRoute) {
       eventDispatcher.onUserOffRoute(location);
     }
   }
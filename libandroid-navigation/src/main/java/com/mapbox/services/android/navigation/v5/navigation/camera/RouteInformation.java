@@ -5,6 +5,7 @@ import android.support.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 /**
@@ -44,8 +45,23 @@ public abstract class RouteInformation {
   @Nullable
   public abstract RouteProgress routeProgress();
 
+  /**
+   * The decoded geometry of the route being navigated, if available. Cameras can use this rather
+   * than decoding the route geometry themselves.
+   * @return geometry index of the current route
+   * @since 0.21.0
+   */
+  @Nullable
+  public abstract RouteGeometryIndex routeGeometryIndex();
+
   public static RouteInformation create(@Nullable DirectionsRoute route, @Nullable Location location,
                                         @Nullable RouteProgress routeProgress) {
-    return new AutoValue_RouteInformation(route, location, routeProgress);
+    return create(route, location, routeProgress, null);
+  }
+
+  public static RouteInformation create(@Nullable DirectionsRoute route, @Nullable Location location,
+                                        @Nullable RouteProgress routeProgress,
+                                        @Nullable RouteGeometryIndex routeGeometryIndex) {
+    return new AutoValue_RouteInformation(route, location, routeProgress, routeGeometryIndex);
   }
 }
@@ -4,6 +4,7 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
 import com.mapbox.turf.TurfMeasurement;
 
 import java.util.ArrayList;
@@ -27,7 +28,7 @@ public class SimpleCamera extends Camera {
   @Override
   public double bearing(RouteInformation routeInformation) {
     if (routeInformation.route() != null) {
-      setupLineStringAndBearing(routeInformation.route());
+      setupLineStringAndBearing(routeInformation.route(), routeInformation.routeGeometryIndex());
       return initialBearing;
     } else if (routeInformation.location() != null) {
       return routeInformation.location().getBearing();
@@ -56,28 +57,32 @@ public class SimpleCamera extends Camera {
 
   private void buildRouteCoordinatesFromRouteData(RouteInformation routeInformation) {
     if (routeInformation.route() != null) {
-      setupLineStringAndBearing(routeInformation.route());
+      setupLineStringAndBearing(routeInformation.route(), routeInformation.routeGeometryIndex());
     } else if (routeInformation.routeProgress() != null) {
-      setupLineStringAndBearing(routeInformation.routeProgress().directionsRoute());
+      setupLineStringAndBearing(routeInformation.routeProgress().directionsRoute(),
+        routeInformation.routeGeometryIndex());
     }
   }
 
-  private void setupLineStringAndBearing(DirectionsRoute route) {
+  private void setupLineStringAndBearing(DirectionsRoute route, RouteGeometryIndex routeGeometryIndex) {
     if (initialRoute != null && route.equals(initialRoute)) {
       return; //no need to recalculate these values
     }
     initialRoute = route;
-    routeCoordinates = generateRouteCoordinates(route);
+    routeCoordinates = generateRouteCoordinates(route, routeGeometryIndex);
     initialBearing = TurfMeasurement.bearing(
       Point.fromLngLat(routeCoordinates.get(0).longitude(), routeCoordinates.get(0).latitude()),
       Point.fromLngLat(routeCoordinates.get(1).longitude(), routeCoordinates.get(1).latitude())
     );
   }
 
-  private List<Point> generateRouteCoordinates(DirectionsRoute route) {
+  private List<Point> generateRouteCoordinates(DirectionsRoute route, RouteGeometryIndex routeGeometryIndex) {
     if (route == null) {
       return Collections.emptyList();
     }
+    if (routeGeometryIndex != null && routeGeometryIndex.isIndexOf(route)) {
+      return routeGeometryIndex.routePoints();
+    }
     LineString lineString = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
     return lineString.coordinates();
   }
@@ -0,0 +1,28 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+
+/**
+ * Decides whether a response found in a {@link DirectionsResponseCache} can still be used for a
+ * new route, and whether it should be fetched again in the background once used.
+ *
+ * @since 0.21.0
+ */
+public interface CachedRouteValidityPolicy {
+
+  /**
+   * @param response     found in the cache
+   * @param ageInMillis  time since the response was received
+   * @return true if the response can be used, false to fetch a new one instead
+   * @since 0.21.0
+   */
+  boolean isValid(DirectionsResponse response, long ageInMillis);
+
+  /**
+   * @param response    used from the cache
+   * @param ageInMillis time since the response was received
+   * @return true to fetch the route again and update the cache, without notifying the listeners
+   * @since 0.21.0
+   */
+  boolean shouldRefresh(DirectionsResponse response, long ageInMillis);
+}
@@ -0,0 +1,46 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.RouteOptions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mapbox.api.directions.v5.DirectionsCriteria.PROFILE_DRIVING_TRAFFIC;
+
+/**
+ * Uses cached responses holding at least one route for up to 30 minutes, or up to 5 minutes when
+ * routed with traffic, as traffic changes faster. Responses older than a minute are fetched again
+ * in the background once used.
+ *
+ * @since 0.21.0
+ */
+public class DefaultCachedRouteValidityPolicy implements CachedRouteValidityPolicy {
+
+  private static final String CODE_OK = "Ok";
+  private static final long MAXIMUM_AGE_IN_MILLIS = TimeUnit.MINUTES.toMillis(30);
+  private static final long MAXIMUM_TRAFFIC_AGE_IN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  private static final long REFRESH_AGE_IN_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  @Override
+  public boolean isValid(DirectionsResponse response, long ageInMillis) {
+    List<DirectionsRoute> routes = response.routes();
+    if (!CODE_OK.equals(response.code()) || routes == null || routes.isEmpty()) {
+      return false;
+    }
+    return ageInMillis <= findMaximumAge(routes.get(0).routeOptions());
+  }
+
+  @Override
+  public boolean shouldRefresh(DirectionsResponse response, long ageInMillis) {
+    return ageInMillis >= REFRESH_AGE_IN_MILLIS;
+  }
+
+  private long findMaximumAge(RouteOptions routeOptions) {
+    if (routeOptions != null && PROFILE_DRIVING_TRAFFIC.equals(routeOptions.profile())) {
+      return MAXIMUM_TRAFFIC_AGE_IN_MILLIS;
+    }
+    return MAXIMUM_AGE_IN_MILLIS;
+  }
+}
@@ -0,0 +1,106 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.RouteOptions;
+import com.mapbox.geojson.Point;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Normalizes a route request into the key of its {@link DirectionsResponseCache} entry.
+ * <p>
+ * Requests share a key when their origins fall in the same grid cell and their bearings in the same
+ * bucket, with the same remaining waypoints and the same options shaping the response: every route
+ * option but the coordinates, which the origin and remaining waypoints replace, the access token and
+ * the request UUID.
+ */
+final class DirectionsCacheKey {
+
+  private static final double ORIGIN_CELL_SIZE_IN_DEGREES = 0.0005;
+  private static final double BEARING_BUCKET_SIZE_IN_DEGREES = 45;
+  private static final int BEARING_BUCKET_COUNT = 8;
+  private static final double WAYPOINT_PRECISION = 1e5;
+  private static final String NO_BEARING = "-";
+  private static final String SEPARATOR = "|";
+  private static final String HASH_ALGORITHM = "SHA-1";
+  private static final String UTF_8 = "UTF-8";
+
+  private DirectionsCacheKey() {
+    // Utility class
+  }
+
+  /**
+   * @param origin             of the request, usually the current location
+   * @param bearing            at the origin, if known
+   * @param remainingWaypoints including the destination
+   * @param options            of the route being navigated
+   * @return hash of the normalized request, usable as a file name
+   */
+  static String create(Point origin, @Nullable Double bearing, List<Point> remainingWaypoints,
+                       @Nullable RouteOptions options) {
+    StringBuilder request = new StringBuilder()
+      .append(quantize(origin.longitude(), ORIGIN_CELL_SIZE_IN_DEGREES)).append(',')
+      .append(quantize(origin.latitude(), ORIGIN_CELL_SIZE_IN_DEGREES)).append(SEPARATOR)
+      .append(bearing == null ? NO_BEARING : String.valueOf(findBearingBucket(bearing))).append(SEPARATOR);
+    for (Point waypoint : remainingWaypoints) {
+      request.append(Math.round(waypoint.longitude() * WAYPOINT_PRECISION)).append(',')
+        .append(Math.round(waypoint.latitude() * WAYPOINT_PRECISION)).append(';');
+    }
+    if (options != null) {
+      appendOptions(request, options);
+    }
+    return hash(request.toString());
+  }
+
+  private static void appendOptions(StringBuilder request, RouteOptions options) {
+    request.append(SEPARATOR).append(options.baseUrl())
+      .append(SEPARATOR).append(options.user())
+      .append(SEPARATOR).append(options.profile())
+      .append(SEPARATOR).append(options.alternatives())
+      .append(SEPARATOR).append(options.language())
+      .append(SEPARATOR).append(options.radiuses())
+      .append(SEPARATOR).append(options.bearings())
+      .append(SEPARATOR).append(options.continueStraight())
+      .append(SEPARATOR).append(options.roundaboutExits())
+      .append(SEPARATOR).append(options.geometries())
+      .append(SEPARATOR).append(options.overview())
+      .append(SEPARATOR).append(options.steps())
+      .append(SEPARATOR).append(options.annotations())
+      .append(SEPARATOR).append(options.exclude())
+      .append(SEPARATOR).append(options.voiceInstructions())
+      .append(SEPARATOR).append(options.bannerInstructions())
+      .append(SEPARATOR).append(options.voiceUnits())
+      .append(SEPARATOR).append(options.approaches())
+      .append(SEPARATOR).append(options.waypointNames())
+      .append(SEPARATOR).append(options.waypointTargets());
+  }
+
+  private static long quantize(double coordinate, double cellSize) {
+    return (long) Math.floor(coordinate / cellSize);
+  }
+
+  private static int findBearingBucket(double bearing) {
+    double normalizedBearing = ((bearing % 360) + 360) % 360;
+    int bucket = (int) Math.floor((normalizedBearing + BEARING_BUCKET_SIZE_IN_DEGREES / 2)
+      / BEARING_BUCKET_SIZE_IN_DEGREES);
+    return bucket % BEARING_BUCKET_COUNT;
+  }
+
+  private static String hash(String request) {
+    try {
+      byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(request.getBytes(UTF_8));
+      StringBuilder hex = new StringBuilder(digest.length * 2);
+      for (byte value : digest) {
+        hex.append(String.format(Locale.US, "%02x", value));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException | UnsupportedEncodingException exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+}
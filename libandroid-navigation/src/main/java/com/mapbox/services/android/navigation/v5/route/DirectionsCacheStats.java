@@ -0,0 +1,43 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Counts of the lookups into a {@link DirectionsResponseCache} since it was created, along with its
+ * current size.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class DirectionsCacheStats {
+
+  static DirectionsCacheStats create(long hitCount, long missCount, long evictionCount, long sizeInBytes) {
+    return new AutoValue_DirectionsCacheStats(hitCount, missCount, evictionCount, sizeInBytes);
+  }
+
+  /**
+   * @return number of lookups which found a valid response
+   * @since 0.21.0
+   */
+  public abstract long hitCount();
+
+  /**
+   * Includes lookups which found a response rejected by the {@link CachedRouteValidityPolicy}.
+   *
+   * @return number of lookups which found no valid response
+   * @since 0.21.0
+   */
+  public abstract long missCount();
+
+  /**
+   * @return number of responses removed as expired or to keep within the maximum size
+   * @since 0.21.0
+   */
+  public abstract long evictionCount();
+
+  /**
+   * @return size of the cached responses on disk
+   * @since 0.21.0
+   */
+  public abstract long sizeInBytes();
+}
@@ -0,0 +1,321 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import android.content.Context;
+import android.support.annotation.Nullable;
+
+import com.google.gson.JsonParseException;
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import timber.log.Timber;
+
+/**
+ * Stores the responses fetched by a {@link RouteFetcher} on disk, so a route already requested from
+ * about the same place, heading and with the same remaining waypoints can be used again without
+ * waiting for the network.
+ * <p>
+ * Each response is kept in its own file. Responses older than the time to live are removed when found,
+ * and the least recently used responses are removed to keep the cache within its maximum size. Whether
+ * a response younger than the time to live can still be used is decided by the
+ * {@link CachedRouteValidityPolicy}.
+ * <p>
+ * Disk access is done on a single background thread, stopped while the cache is idle.
+ *
+ * @since 0.21.0
+ */
+public class DirectionsResponseCache {
+
+  private static final String CACHE_DIRECTORY_NAME = "mapbox_directions_cache";
+  private static final String FILE_EXTENSION = ".json";
+  private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+  private static final String UTF_8 = "UTF-8";
+  private static final long DEFAULT_MAXIMUM_SIZE_IN_BYTES = 10 * 1024 * 1024;
+  private static final long DEFAULT_TIME_TO_LIVE_IN_MILLIS = TimeUnit.DAYS.toMillis(1);
+  private static final long THREAD_KEEP_ALIVE_IN_SECONDS = 30;
+  private static final int BUFFER_SIZE = 8192;
+
+  private final File directory;
+  private final long maximumSizeInBytes;
+  private final long timeToLiveInMillis;
+  private final CachedRouteValidityPolicy validityPolicy;
+  private final LinkedHashMap<String, File> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final ExecutorService executor;
+  private boolean isIndexed;
+  private long sizeInBytes;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+
+  /**
+   * Creates a cache of up to 10 MB in the application cache directory, keeping responses for up to a day
+   * and using them as allowed by the {@link DefaultCachedRouteValidityPolicy}.
+   *
+   * @param context to find the cache directory
+   * @return cache to provide with {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigationOptions}
+   * @since 0.21.0
+   */
+  public static DirectionsResponseCache create(Context context) {
+    File directory = new File(context.getCacheDir(), CACHE_DIRECTORY_NAME);
+    return new DirectionsResponseCache(directory, DEFAULT_MAXIMUM_SIZE_IN_BYTES, DEFAULT_TIME_TO_LIVE_IN_MILLIS,
+      new DefaultCachedRouteValidityPolicy());
+  }
+
+  /**
+   * @param directory          holding the cached responses, created if needed
+   * @param maximumSizeInBytes of the cached responses on disk
+   * @param timeToLiveInMillis after which a response is removed
+   * @param validityPolicy     deciding whether a response can still be used
+   * @since 0.21.0
+   */
+  public DirectionsResponseCache(File directory, long maximumSizeInBytes, long timeToLiveInMillis,
+                                 CachedRouteValidityPolicy validityPolicy) {
+    this.directory = directory;
+    this.maximumSizeInBytes = maximumSizeInBytes;
+    this.timeToLiveInMillis = timeToLiveInMillis;
+    this.validityPolicy = validityPolicy;
+    this.executor = buildExecutor();
+  }
+
+  /**
+   * @return counts of the lookups since this cache was created, with its current size
+   * @since 0.21.0
+   */
+  public synchronized DirectionsCacheStats stats() {
+    return DirectionsCacheStats.create(hitCount, missCount, evictionCount, sizeInBytes);
+  }
+
+  /**
+   * Removes all cached responses. Blocks on disk access, so should not be called from the main thread.
+   *
+   * @since 0.21.0
+   */
+  public synchronized void clear() {
+    indexEntries();
+    for (File file : entries.values()) {
+      deleteFile(file);
+    }
+    entries.clear();
+    sizeInBytes = 0;
+  }
+
+  void lookup(final String key, final LookupCallback callback) {
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        callback.onLookup(get(key));
+      }
+    });
+  }
+
+  void store(final String key, final DirectionsResponse response) {
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        put(key, response);
+      }
+    });
+  }
+
+  @Nullable
+  synchronized CachedResponse get(String key) {
+    indexEntries();
+    File file = entries.get(key);
+    if (file == null) {
+      missCount++;
+      return null;
+    }
+    long ageInMillis = Math.max(0, System.currentTimeMillis() - file.lastModified());
+    if (ageInMillis > timeToLiveInMillis) {
+      remove(key);
+      evictionCount++;
+      missCount++;
+      return null;
+    }
+    DirectionsResponse response = read(file);
+    if (response == null) {
+      remove(key);
+      missCount++;
+      return null;
+    }
+    if (!validityPolicy.isValid(response, ageInMillis)) {
+      missCount++;
+      return null;
+    }
+    hitCount++;
+    return new CachedResponse(response, validityPolicy.shouldRefresh(response, ageInMillis));
+  }
+
+  synchronized void put(String key, DirectionsResponse response) {
+    indexEntries();
+    if (!directory.exists() && !directory.mkdirs()) {
+      Timber.e("Unable to create directions cache directory %s", directory);
+      return;
+    }
+    File temporaryFile = new File(directory, key + TEMPORARY_FILE_EXTENSION);
+    if (!write(temporaryFile, response)) {
+      deleteFile(temporaryFile);
+      return;
+    }
+    remove(key);
+    File file = new File(directory, key + FILE_EXTENSION);
+    if (!temporaryFile.renameTo(file)) {
+      deleteFile(temporaryFile);
+      return;
+    }
+    entries.put(key, file);
+    sizeInBytes += file.length();
+    trimToSize();
+  }
+
+  private void indexEntries() {
+    if (isIndexed) {
+      return;
+    }
+    isIndexed = true;
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    Arrays.sort(files, new Comparator<File>() {
+      @Override
+      public int compare(File first, File second) {
+        long firstModified = first.lastModified();
+        long secondModified = second.lastModified();
+        return firstModified < secondModified ? -1 : (firstModified == secondModified ? 0 : 1);
+      }
+    });
+    for (File file : files) {
+      String name = file.getName();
+      if (name.endsWith(FILE_EXTENSION)) {
+        entries.put(name.substring(0, name.length() - FILE_EXTENSION.length()), file);
+        sizeInBytes += file.length();
+      } else if (name.endsWith(TEMPORARY_FILE_EXTENSION)) {
+        deleteFile(file);
+      }
+    }
+    trimToSize();
+  }
+
+  private void trimToSize() {
+    Iterator<Map.Entry<String, File>> iterator = entries.entrySet().iterator();
+    while (sizeInBytes > maximumSizeInBytes && iterator.hasNext()) {
+      File leastRecentlyUsed = iterator.next().getValue();
+      iterator.remove();
+      sizeInBytes -= leastRecentlyUsed.length();
+      deleteFile(leastRecentlyUsed);
+      evictionCount++;
+    }
+  }
+
+  private void remove(String key) {
+    File file = entries.remove(key);
+    if (file != null) {
+      sizeInBytes -= file.length();
+      deleteFile(file);
+    }
+  }
+
+  @Nullable
+  private DirectionsResponse read(File file) {
+    InputStream inputStream = null;
+    try {
+      inputStream = new FileInputStream(file);
+      ByteArrayOutputStream json = new ByteArrayOutputStream((int) file.length());
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int count;
+      while ((count = inputStream.read(buffer)) != -1) {
+        json.write(buffer, 0, count);
+      }
+      return DirectionsResponse.fromJson(json.toString(UTF_8));
+    } catch (IOException | JsonParseException exception) {
+      Timber.e(exception, "Unable to read cached directions response %s", file);
+      return null;
+    } finally {
+      close(inputStream);
+    }
+  }
+
+  private boolean write(File file, DirectionsResponse response) {
+    OutputStream outputStream = null;
+    try {
+      outputStream = new FileOutputStream(file);
+      outputStream.write(response.toJson().getBytes(UTF_8));
+      return true;
+    } catch (IOException exception) {
+      Timber.e(exception, "Unable to cache directions response %s", file);
+      return false;
+    } finally {
+      close(outputStream);
+    }
+  }
+
+  private void close(@Nullable Closeable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (IOException exception) {
+      Timber.e(exception);
+    }
+  }
+
+  private void deleteFile(File file) {
+    if (file.exists() && !file.delete()) {
+      Timber.e("Unable to delete cached directions response %s", file);
+    }
+  }
+
+  private static ExecutorService buildExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, THREAD_KEEP_ALIVE_IN_SECONDS, TimeUnit.SECONDS,
+      new LinkedBlockingQueue<Runnable>());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  interface LookupCallback {
+
+    /**
+     * Called on the cache thread.
+     *
+     * @param cachedResponse found, or null on a miss
+     */
+    void onLookup(@Nullable CachedResponse cachedResponse);
+  }
+
+  static class CachedResponse {
+
+    private final DirectionsResponse response;
+    private final boolean shouldRefresh;
+
+    CachedResponse(DirectionsResponse response, boolean shouldRefresh) {
+      this.response = response;
+      this.shouldRefresh = shouldRefresh;
+    }
+
+    DirectionsResponse response() {
+      return response;
+    }
+
+    boolean shouldRefresh() {
+      return shouldRefresh;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.mapbox.services.android.navigation.v5.route;
 
 import android.location.Location;
+import android.support.annotation.Nullable;
 
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
@@ -17,11 +18,18 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
  * <p>
  * {@link FasterRoute#isFasterRoute(DirectionsResponse, RouteProgress)} determines if the new route
  * retrieved by {@link RouteFetcher} is actually faster than the current route.
+ * <p>
+ * {@link FasterRoute#scoreFasterRoute(DirectionsResponse, RouteProgress)} then picks the route of the
+ * response to switch to, with its {@link FasterRouteScore}.
  *
  * @since 0.9.0
  */
 public abstract class FasterRoute {
 
+  private static final int FIRST_ROUTE = 0;
+
+  private FasterRouteEvaluator defaultEvaluator;
+
   /**
    * This method determine if a new {@link DirectionsResponse} should
    * be retrieved by {@link RouteFetcher}.
@@ -48,4 +56,24 @@ public abstract class FasterRoute {
    * @return true if the new route is considered faster, false if not
    */
   public abstract boolean isFasterRoute(DirectionsResponse response, RouteProgress routeProgress);
+
+  /**
+   * This method will be used, once {@link #isFasterRoute(DirectionsResponse, RouteProgress)} is true,
+   * to pick the route of the response to switch to and give the score it was picked with.
+   * <p>
+   * By default, the first route of the response is picked, scored with the default
+   * {@link FasterRouteCostModel}.
+   *
+   * @param response      provided by {@link RouteFetcher}
+   * @param routeProgress current route progress
+   * @return score of the route to switch to, or null to switch to the first route without a score
+   * @since 0.21.0
+   */
+  @Nullable
+  public FasterRouteScore scoreFasterRoute(DirectionsResponse response, RouteProgress routeProgress) {
+    if (defaultEvaluator == null) {
+      defaultEvaluator = new FasterRouteEvaluator(FasterRouteCostModel.builder().build());
+    }
+    return defaultEvaluator.scoreRoute(response, FIRST_ROUTE, routeProgress);
+  }
 }
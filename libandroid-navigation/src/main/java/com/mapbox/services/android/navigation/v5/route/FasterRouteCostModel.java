@@ -0,0 +1,121 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Weights used by the {@link FasterRouteDetector} to give each route a cost, in seconds, and the
+ * improvement over the current route needed to switch to another.
+ * <p>
+ * The cost of a route is the weighted sum of its duration, distance, number of maneuvers and of the
+ * share of it which leaves the current route. The remaining part of the current route is costed the
+ * same way, without leaving itself. The defaults only weigh the duration, and ask for a 10%
+ * improvement.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class FasterRouteCostModel {
+
+  private static final double DEFAULT_DURATION_WEIGHT = 1;
+  private static final double DEFAULT_MINIMUM_IMPROVEMENT = 0.1;
+
+  /**
+   * @return builder with the default weights
+   * @since 0.21.0
+   */
+  public static Builder builder() {
+    return new AutoValue_FasterRouteCostModel.Builder()
+      .durationWeight(DEFAULT_DURATION_WEIGHT)
+      .distanceWeight(0)
+      .maneuverWeight(0)
+      .overlapWeight(0)
+      .minimumImprovement(DEFAULT_MINIMUM_IMPROVEMENT);
+  }
+
+  /**
+   * @return cost of each second of the route
+   * @since 0.21.0
+   */
+  public abstract double durationWeight();
+
+  /**
+   * @return cost, in seconds, of each meter of the route
+   * @since 0.21.0
+   */
+  public abstract double distanceWeight();
+
+  /**
+   * @return cost, in seconds, of each maneuver along the route
+   * @since 0.21.0
+   */
+  public abstract double maneuverWeight();
+
+  /**
+   * Added in proportion of the distance along maneuvers the current route doesn't have, so that
+   * routes staying on the current route are preferred.
+   *
+   * @return cost, in seconds, of a route leaving the current route entirely
+   * @since 0.21.0
+   */
+  public abstract double overlapWeight();
+
+  /**
+   * @return share by which the cost of a route must be lower than the current route's to switch to it
+   * @since 0.21.0
+   */
+  public abstract double minimumImprovement();
+
+  /**
+   * @return builder with the weights of this model
+   * @since 0.21.0
+   */
+  public abstract Builder toBuilder();
+
+  /**
+   * @since 0.21.0
+   */
+  @AutoValue.Builder
+  public abstract static class Builder {
+
+    /**
+     * @param durationWeight cost of each second of the route
+     * @return this builder
+     * @since 0.21.0
+     */
+    public abstract Builder durationWeight(double durationWeight);
+
+    /**
+     * @param distanceWeight cost, in seconds, of each meter of the route
+     * @return this builder
+     * @since 0.21.0
+     */
+    public abstract Builder distanceWeight(double distanceWeight);
+
+    /**
+     * @param maneuverWeight cost, in seconds, of each maneuver along the route
+     * @return this builder
+     * @since 0.21.0
+     */
+    public abstract Builder maneuverWeight(double maneuverWeight);
+
+    /**
+     * @param overlapWeight cost, in seconds, of a route leaving the current route entirely
+     * @return this builder
+     * @since 0.21.0
+     */
+    public abstract Builder overlapWeight(double overlapWeight);
+
+    /**
+     * @param minimumImprovement share by which the cost of a route must be lower to switch to it
+     * @return this builder
+     * @since 0.21.0
+     */
+    public abstract Builder minimumImprovement(double minimumImprovement);
+
+    /**
+     * @return new cost model
+     * @since 0.21.0
+     */
+    public abstract FasterRouteCostModel build();
+  }
+}
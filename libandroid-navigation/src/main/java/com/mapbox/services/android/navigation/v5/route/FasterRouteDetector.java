@@ -1,11 +1,9 @@
 package com.mapbox.services.android.navigation.v5.route;
 
 import android.location.Location;
+import android.support.annotation.Nullable;
 
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
-import com.mapbox.api.directions.v5.models.DirectionsRoute;
-import com.mapbox.api.directions.v5.models.LegStep;
-import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteStepProgress;
 
@@ -19,7 +17,25 @@ public class FasterRouteDetector extends FasterRoute {
 
   private static final int VALID_ROUTE_DURATION_REMAINING = 600;
 
+  private final FasterRouteEvaluator evaluator;
   private Location lastCheckedLocation;
+  private DirectionsResponse scoredResponse;
+  private RouteProgress scoredRouteProgress;
+  private FasterRouteScore fasterRouteScore;
+
+  public FasterRouteDetector() {
+    this(FasterRouteCostModel.builder().build());
+  }
+
+  /**
+   * Creates a detector choosing among the routes of each response with the given cost model.
+   *
+   * @param costModel giving each route a cost
+   * @since 0.21.0
+   */
+  public FasterRouteDetector(FasterRouteCostModel costModel) {
+    evaluator = new FasterRouteEvaluator(costModel);
+  }
 
   @Override
   public boolean shouldCheckFasterRoute(Location location, RouteProgress routeProgress) {
@@ -41,76 +57,28 @@ public class FasterRouteDetector extends FasterRoute {
     return false;
   }
 
-  @Override
-  public boolean isFasterRoute(DirectionsResponse response, RouteProgress routeProgress) {
-    if (validRouteResponse(response)) {
-
-      double currentDurationRemaining = routeProgress.durationRemaining();
-      DirectionsRoute newRoute = response.routes().get(0);
-
-      if (hasLegs(newRoute)) {
-        // Extract the first leg
-        RouteLeg routeLeg = newRoute.legs().get(0);
-        if (hasAtLeastTwoSteps(routeLeg)) {
-          // Extract the first two steps
-          LegStep firstStep = routeLeg.steps().get(0);
-          LegStep secondStep = routeLeg.steps().get(1);
-          // Check for valid first and second steps of the new route
-          if (!validFirstStep(firstStep) || !validSecondStep(secondStep, routeProgress)) {
-            return false;
-          }
-        }
-      }
-      // New route must be at least 10% faster
-      if (newRoute.duration() <= (0.9 * currentDurationRemaining)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
-  private boolean hasLegs(DirectionsRoute newRoute) {
-    return newRoute.legs() != null && !newRoute.legs().isEmpty();
-  }
-
-  private boolean hasAtLeastTwoSteps(RouteLeg routeLeg) {
-    return routeLeg.steps() != null && routeLeg.steps().size() > 2;
-  }
-
   /**
-   * The second step of the new route is valid if
-   * it equals the current route upcoming step.
-   *
-   * @param secondStep of the new route
-   * @param routeProgress current route progress
-   * @return true if valid, false if not
+   * A route is faster when its cost, with the {@link FasterRouteCostModel} of this detector, is lower
+   * than the remaining current route's by at least the minimum improvement. Every route of the response
+   * is scored.
    */
-  private boolean validSecondStep(LegStep secondStep, RouteProgress routeProgress) {
-    return routeProgress.currentLegProgress().upComingStep() != null
-      && routeProgress.currentLegProgress().upComingStep().equals(secondStep);
-  }
-
-  /**
-   * First step is valid if it is greater than
-   * {@link com.mapbox.services.android.navigation.v5.navigation.NavigationConstants#NAVIGATION_MEDIUM_ALERT_DURATION}.
-   *
-   * @param firstStep of the new route
-   * @return true if valid, false if not
-   */
-  private boolean validFirstStep(LegStep firstStep) {
-    return firstStep.duration() > NAVIGATION_MEDIUM_ALERT_DURATION;
+  @Override
+  public boolean isFasterRoute(DirectionsResponse response, RouteProgress routeProgress) {
+    return scoreFasterRoute(response, routeProgress) != null;
   }
 
   /**
-   * Checks if we have at least one {@link DirectionsRoute} in the given
-   * {@link DirectionsResponse}.
-   *
-   * @param response to be checked
-   * @return true if valid, false if not
+   * @return score of the cheapest route of the response, if faster, or null if none is faster
    */
-  private boolean validRouteResponse(DirectionsResponse response) {
-    return response != null
-      && !response.routes().isEmpty();
+  @Nullable
+  @Override
+  public FasterRouteScore scoreFasterRoute(DirectionsResponse response, RouteProgress routeProgress) {
+    if (response != scoredResponse || routeProgress != scoredRouteProgress) {
+      scoredResponse = response;
+      scoredRouteProgress = routeProgress;
+      fasterRouteScore = evaluator.findFasterRoute(response, routeProgress);
+    }
+    return fasterRouteScore;
   }
 
   private boolean validRouteDurationRemaining(RouteProgress routeProgress) {
@@ -0,0 +1,179 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.List;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.NAVIGATION_MEDIUM_ALERT_DURATION;
+
+/**
+ * Scores the routes of a {@link DirectionsResponse} with a {@link FasterRouteCostModel}, against the
+ * remaining part of the route being navigated.
+ * <p>
+ * Steps are compared through their {@link StepSignatures}, computed a single time for the route
+ * being navigated and once per step of each new route.
+ */
+class FasterRouteEvaluator {
+
+  private static final int FIRST_STEP = 0;
+  private static final int SECOND_STEP = 1;
+  private static final int MINIMUM_STEP_COUNT = 2;
+  private static final double FULL_OVERLAP = 1;
+
+  private final FasterRouteCostModel costModel;
+  private StepSignatures currentSignatures;
+
+  FasterRouteEvaluator(FasterRouteCostModel costModel) {
+    this.costModel = costModel;
+  }
+
+  /**
+   * Scores every route of the response which can be switched to right away, starting with a step long
+   * enough and followed by the upcoming maneuver of the current route.
+   *
+   * @param response      with the routes to be scored
+   * @param routeProgress along the current route
+   * @return score of the cheapest route, or null if none is cheaper than the current route by the
+   * minimum improvement
+   */
+  @Nullable
+  FasterRouteScore findFasterRoute(@Nullable DirectionsResponse response, @Nullable RouteProgress routeProgress) {
+    if (!isValidResponse(response) || routeProgress == null) {
+      return null;
+    }
+    StepSignatures signatures = retrieveSignatures(routeProgress.directionsRoute());
+    int currentStepIndex = findCurrentStepIndex(signatures, routeProgress);
+    int upcomingStepIndex = signatures.findStepIndex(routeProgress.legIndex(),
+      routeProgress.currentLegProgress().stepIndex() + 1);
+    double currentRouteCost = costCurrentRoute(signatures, currentStepIndex, routeProgress);
+    FasterRouteScore fasterRouteScore = null;
+    List<DirectionsRoute> routes = response.routes();
+    for (int routeIndex = 0; routeIndex < routes.size(); routeIndex++) {
+      DirectionsRoute route = routes.get(routeIndex);
+      if (!isValidRoute(route, signatures, upcomingStepIndex)) {
+        continue;
+      }
+      FasterRouteScore score = score(route, routeIndex, signatures, currentStepIndex, currentRouteCost);
+      if (fasterRouteScore == null || score.cost() < fasterRouteScore.cost()) {
+        fasterRouteScore = score;
+      }
+    }
+    boolean isImprovement = fasterRouteScore != null
+      && fasterRouteScore.cost() <= (1 - costModel.minimumImprovement()) * currentRouteCost;
+    return isImprovement ? fasterRouteScore : null;
+  }
+
+  /**
+   * Scores a single route of the response, whether it can be switched to or not.
+   *
+   * @param response      with the route to be scored
+   * @param routeIndex    of the route in the response
+   * @param routeProgress along the current route
+   * @return score of the route, or null if the response has no such route
+   */
+  @Nullable
+  FasterRouteScore scoreRoute(@Nullable DirectionsResponse response, int routeIndex,
+                              @Nullable RouteProgress routeProgress) {
+    if (!isValidResponse(response) || routeIndex >= response.routes().size() || routeProgress == null) {
+      return null;
+    }
+    StepSignatures signatures = retrieveSignatures(routeProgress.directionsRoute());
+    int currentStepIndex = findCurrentStepIndex(signatures, routeProgress);
+    double currentRouteCost = costCurrentRoute(signatures, currentStepIndex, routeProgress);
+    return score(response.routes().get(routeIndex), routeIndex, signatures, currentStepIndex, currentRouteCost);
+  }
+
+  private FasterRouteScore score(DirectionsRoute route, int routeIndex, StepSignatures signatures,
+                                 int currentStepIndex, double currentRouteCost) {
+    int maneuverCount = -1;
+    double distance = 0;
+    double overlappingDistance = 0;
+    List<RouteLeg> legs = route.legs();
+    if (legs != null) {
+      for (RouteLeg leg : legs) {
+        List<LegStep> steps = leg == null ? null : leg.steps();
+        if (steps == null) {
+          continue;
+        }
+        for (LegStep step : steps) {
+          maneuverCount++;
+          // The first step starts from the current location, so it is never on the current route
+          if (maneuverCount == 0 || step == null) {
+            continue;
+          }
+          distance += step.distance();
+          if (signatures.contains(StepSignatures.signatureOf(step), currentStepIndex + 1)) {
+            overlappingDistance += step.distance();
+          }
+        }
+      }
+    }
+    double overlap = distance > 0 ? overlappingDistance / distance : FULL_OVERLAP;
+    return FasterRouteScore.builder()
+      .routeIndex(routeIndex)
+      .durationCost(costModel.durationWeight() * valueOf(route.duration()))
+      .distanceCost(costModel.distanceWeight() * valueOf(route.distance()))
+      .maneuverCost(costModel.maneuverWeight() * Math.max(0, maneuverCount))
+      .overlapCost(costModel.overlapWeight() * (FULL_OVERLAP - overlap))
+      .overlap(overlap)
+      .currentRouteCost(currentRouteCost)
+      .build();
+  }
+
+  private double costCurrentRoute(StepSignatures signatures, int currentStepIndex, RouteProgress routeProgress) {
+    int remainingManeuverCount = currentStepIndex < 0 ? 0 : signatures.stepCount() - currentStepIndex - 1;
+    return costModel.durationWeight() * routeProgress.durationRemaining()
+      + costModel.distanceWeight() * routeProgress.distanceRemaining()
+      + costModel.maneuverWeight() * remainingManeuverCount;
+  }
+
+  /**
+   * Routes with more than two steps in their first leg are only valid if their first step is longer
+   * than
+   * {@link com.mapbox.services.android.navigation.v5.navigation.NavigationConstants#NAVIGATION_MEDIUM_ALERT_DURATION}
+   * and their second step is the upcoming step of the current leg.
+   */
+  private boolean isValidRoute(DirectionsRoute route, StepSignatures signatures, int upcomingStepIndex) {
+    if (route == null) {
+      return false;
+    }
+    if (route.legs() == null || route.legs().isEmpty()) {
+      return true;
+    }
+    RouteLeg firstLeg = route.legs().get(0);
+    List<LegStep> steps = firstLeg == null ? null : firstLeg.steps();
+    if (steps == null || steps.size() <= MINIMUM_STEP_COUNT) {
+      return true;
+    }
+    if (steps.get(FIRST_STEP).duration() <= NAVIGATION_MEDIUM_ALERT_DURATION) {
+      return false;
+    }
+    return upcomingStepIndex >= 0
+      && signatures.signatureAt(upcomingStepIndex) == StepSignatures.signatureOf(steps.get(SECOND_STEP));
+  }
+
+  private int findCurrentStepIndex(StepSignatures signatures, RouteProgress routeProgress) {
+    return signatures.findStepIndex(routeProgress.legIndex(), routeProgress.currentLegProgress().stepIndex());
+  }
+
+  private StepSignatures retrieveSignatures(DirectionsRoute currentRoute) {
+    if (currentSignatures == null || !currentSignatures.isSignaturesOf(currentRoute)) {
+      currentSignatures = StepSignatures.create(currentRoute);
+    }
+    return currentSignatures;
+  }
+
+  private boolean isValidResponse(@Nullable DirectionsResponse response) {
+    return response != null && response.routes() != null && !response.routes().isEmpty();
+  }
+
+  private static double valueOf(@Nullable Double value) {
+    return value == null ? 0 : value;
+  }
+}
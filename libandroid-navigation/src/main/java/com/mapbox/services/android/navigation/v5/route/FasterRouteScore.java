@@ -0,0 +1,97 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Breakdown of the cost given to a route of a {@link com.mapbox.api.directions.v5.models.DirectionsResponse}
+ * by the {@link FasterRouteCostModel}, compared to the cost of the remaining current route.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class FasterRouteScore {
+
+  static Builder builder() {
+    return new AutoValue_FasterRouteScore.Builder();
+  }
+
+  /**
+   * @return index of the route in the response
+   * @since 0.21.0
+   */
+  public abstract int routeIndex();
+
+  /**
+   * @return part of the cost due to the route duration
+   * @since 0.21.0
+   */
+  public abstract double durationCost();
+
+  /**
+   * @return part of the cost due to the route distance
+   * @since 0.21.0
+   */
+  public abstract double distanceCost();
+
+  /**
+   * @return part of the cost due to the maneuvers along the route
+   * @since 0.21.0
+   */
+  public abstract double maneuverCost();
+
+  /**
+   * @return part of the cost due to the route leaving the current route
+   * @since 0.21.0
+   */
+  public abstract double overlapCost();
+
+  /**
+   * Past its first step, which starts from the current location.
+   *
+   * @return share of the route distance along maneuvers ahead on the current route, from 0 to 1
+   * @since 0.21.0
+   */
+  public abstract double overlap();
+
+  /**
+   * @return cost of the remaining current route
+   * @since 0.21.0
+   */
+  public abstract double currentRouteCost();
+
+  /**
+   * @return total cost of the route, in seconds
+   * @since 0.21.0
+   */
+  public double cost() {
+    return durationCost() + distanceCost() + maneuverCost() + overlapCost();
+  }
+
+  /**
+   * @return share by which the cost is lower than the current route's, negative if higher
+   * @since 0.21.0
+   */
+  public double improvement() {
+    return currentRouteCost() <= 0 ? 0 : 1 - cost() / currentRouteCost();
+  }
+
+  @AutoValue.Builder
+  abstract static class Builder {
+
+    abstract Builder routeIndex(int routeIndex);
+
+    abstract Builder durationCost(double durationCost);
+
+    abstract Builder distanceCost(double distanceCost);
+
+    abstract Builder maneuverCost(double maneuverCost);
+
+    abstract Builder overlapCost(double overlapCost);
+
+    abstract Builder overlap(double overlap);
+
+    abstract Builder currentRouteCost(double currentRouteCost);
+
+    abstract FasterRouteScore build();
+  }
+}
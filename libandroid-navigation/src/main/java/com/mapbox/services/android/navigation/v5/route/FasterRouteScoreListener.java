@@ -0,0 +1,25 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+
+/**
+ * {@link FasterRouteListener} which is also given the {@link FasterRouteScore} of the faster
+ * route found, when the {@link FasterRoute} in use scores it.
+ * <p>
+ * Added with {@link MapboxNavigation#addFasterRouteListener(FasterRouteListener)}.
+ *
+ * @since 0.21.0
+ */
+public interface FasterRouteScoreListener extends FasterRouteListener {
+
+  /**
+   * Will be fired instead of {@link #fasterRouteFound(DirectionsRoute)} when a faster route has
+   * been found and scored.
+   *
+   * @param directionsRoute faster route retrieved
+   * @param score           breakdown of the cost of the faster route
+   * @since 0.21.0
+   */
+  void fasterRouteFound(DirectionsRoute directionsRoute, FasterRouteScore score);
+}
@@ -2,6 +2,8 @@ package com.mapbox.services.android.navigation.v5.route;
 
 import android.content.Context;
 import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
@@ -17,6 +19,7 @@ import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -26,6 +29,14 @@ import timber.log.Timber;
 /**
  * This class can be used to fetch new routes given a {@link Location} origin and
  * {@link RouteOptions} provided by a {@link RouteProgress}.
+ * <p>
+ * When given a {@link DirectionsResponseCache}, a route already fetched for about the same request
+ * is used from the cache instead of waiting for the network, and refreshed in the background when
+ * the cache validity policy asks for it.
+ * <p>
+ * Only the latest request is answered: a new request cancels the one in flight, unless both are
+ * identical, in which case they share a single call. Responses are delivered with the
+ * {@link RouteProgress} they were requested for.
  */
 public class RouteFetcher {
 
@@ -37,14 +48,32 @@ public class RouteFetcher {
   private static final int SECOND_POSITION = 1;
 
   private final List<RouteListener> routeListeners = new CopyOnWriteArrayList<>();
+  private final List<RouteRequestTimingListener> timingListeners = new CopyOnWriteArrayList<>();
   private final String accessToken;
   private final WeakReference<Context> contextWeakReference;
+  @Nullable
+  private final DirectionsResponseCache directionsCache;
 
-  private RouteProgress routeProgress;
   private RouteUtils routeUtils;
+  private Handler mainHandler;
+  @Nullable
+  private RouteRequest inFlightRequest;
 
   public RouteFetcher(Context context, String accessToken) {
+    this(context, accessToken, null);
+  }
+
+  /**
+   * Creates a fetcher looking up routes in the given cache before requesting them.
+   *
+   * @param context          for building the route requests
+   * @param accessToken      for the Directions API
+   * @param directionsCache  holding the routes already fetched, or null to always request them
+   * @since 0.21.0
+   */
+  public RouteFetcher(Context context, String accessToken, @Nullable DirectionsResponseCache directionsCache) {
     this.accessToken = accessToken;
+    this.directionsCache = directionsCache;
     contextWeakReference = new WeakReference<>(context);
     routeUtils = new RouteUtils();
   }
@@ -55,8 +84,33 @@ public class RouteFetcher {
     }
   }
 
+  /**
+   * Adds a listener told how long each request took, right before its response is delivered.
+   *
+   * @param listener to be added
+   * @since 0.21.0
+   */
+  public void addRouteRequestTimingListener(RouteRequestTimingListener listener) {
+    if (!timingListeners.contains(listener)) {
+      timingListeners.add(listener);
+    }
+  }
+
   public void clearListeners() {
     routeListeners.clear();
+    timingListeners.clear();
+  }
+
+  /**
+   * Cancels the route request in flight, if any. Its response will not reach the listeners.
+   *
+   * @since 0.21.0
+   */
+  public void cancelRouteCall() {
+    if (inFlightRequest != null) {
+      inFlightRequest.cancel();
+      inFlightRequest = null;
+    }
   }
 
   /**
@@ -65,6 +119,10 @@ public class RouteFetcher {
    * <p>
    * Uses {@link RouteOptions#coordinates()} and {@link RouteProgress#remainingWaypoints()}
    * to determine the amount of remaining waypoints there are along the given route.
+   * <p>
+   * Supersedes the request in flight, unless it was made from about the same location and
+   * bearing for the same remaining waypoints, in which case its response is delivered with the
+   * given {@link RouteProgress}.
    *
    * @param location      current location of the device
    * @param routeProgress for remaining waypoints along the route
@@ -74,19 +132,46 @@ public class RouteFetcher {
     if (isInvalidProgress(location, routeProgress)) {
       return;
     }
-    this.routeProgress = routeProgress;
     NavigationRoute.Builder builder = buildRequestFromLocation(location, routeProgress);
-    executeRouteCall(builder);
+    if (builder == null) {
+      return;
+    }
+    String requestKey = buildRequestKey(location, routeProgress);
+    if (inFlightRequest != null && inFlightRequest.isSameRequest(requestKey)) {
+      inFlightRequest.updateRouteProgress(routeProgress);
+      return;
+    }
+    cancelRouteCall();
+    RouteRequest request = new RouteRequest(requestKey, routeProgress);
+    inFlightRequest = request;
+    if (directionsCache == null) {
+      request.execute(builder);
+      return;
+    }
+    findCachedRoute(builder, request);
   }
 
   @Nullable
   private NavigationRoute.Builder buildRequestFromLocation(Location location, RouteProgress progress) {
+    Point origin = Point.fromLngLat(location.getLongitude(), location.getLatitude());
+    Double bearing = location.hasBearing() ? Float.valueOf(location.getBearing()).doubleValue() : null;
+    return buildRequest(origin, bearing, progress);
+  }
+
+  /**
+   * Builds a request from the given origin to the remaining waypoints of the route being navigated.
+   *
+   * @param origin   of the new route
+   * @param bearing  at the origin, if known
+   * @param progress for the remaining waypoints and route options
+   * @return request builder with the access token set, or null if the request can't be built
+   */
+  @Nullable
+  NavigationRoute.Builder buildRequest(Point origin, @Nullable Double bearing, RouteProgress progress) {
     Context context = contextWeakReference.get();
     if (context == null) {
       return null;
     }
-    Point origin = Point.fromLngLat(location.getLongitude(), location.getLatitude());
-    Double bearing = location.hasBearing() ? Float.valueOf(location.getBearing()).doubleValue() : null;
     RouteOptions options = progress.directionsRoute().routeOptions();
     NavigationRoute.Builder builder = NavigationRoute.builder(context)
       .origin(origin, bearing, BEARING_TOLERANCE)
@@ -101,9 +186,60 @@ public class RouteFetcher {
     addWaypoints(remainingWaypoints, builder);
     addWaypointNames(progress, builder);
     addApproaches(progress, builder);
+    builder.accessToken(accessToken);
     return builder;
   }
 
+  @Nullable
+  private String buildRequestKey(Location location, RouteProgress progress) {
+    List<Point> remainingWaypoints = routeUtils.calculateRemainingWaypoints(progress);
+    if (remainingWaypoints == null) {
+      return null;
+    }
+    Point origin = Point.fromLngLat(location.getLongitude(), location.getLatitude());
+    Double bearing = location.hasBearing() ? Float.valueOf(location.getBearing()).doubleValue() : null;
+    return DirectionsCacheKey.create(origin, bearing, remainingWaypoints, progress.directionsRoute().routeOptions());
+  }
+
+  private void findCachedRoute(final NavigationRoute.Builder builder, final RouteRequest request) {
+    directionsCache.lookup(request.key, new DirectionsResponseCache.LookupCallback() {
+      @Override
+      public void onLookup(@Nullable final DirectionsResponseCache.CachedResponse cachedResponse) {
+        retrieveMainHandler().post(new Runnable() {
+          @Override
+          public void run() {
+            onCachedRouteFound(builder, request, cachedResponse);
+          }
+        });
+      }
+    });
+  }
+
+  private void onCachedRouteFound(NavigationRoute.Builder builder, RouteRequest request,
+                                  @Nullable DirectionsResponseCache.CachedResponse cachedResponse) {
+    if (!request.isInFlight()) {
+      return;
+    }
+    if (cachedResponse == null) {
+      request.execute(builder);
+      return;
+    }
+    inFlightRequest = null;
+    long now = System.nanoTime();
+    updateTimingListeners(request.requestTimeInNanos, now, now);
+    updateListeners(cachedResponse.response(), request.routeProgress);
+    if (cachedResponse.shouldRefresh()) {
+      builder.build().getRoute(new CacheRefreshCallback(request.key));
+    }
+  }
+
+  private Handler retrieveMainHandler() {
+    if (mainHandler == null) {
+      mainHandler = new Handler(Looper.getMainLooper());
+    }
+    return mainHandler;
+  }
+
   private void addDestination(List<Point> remainingWaypoints, NavigationRoute.Builder builder) {
     if (!remainingWaypoints.isEmpty()) {
       builder.destination(retrieveDestinationWaypoint(remainingWaypoints));
@@ -153,31 +289,117 @@ public class RouteFetcher {
     return approaches;
   }
 
-  private void executeRouteCall(NavigationRoute.Builder builder) {
-    if (builder != null) {
-      builder.accessToken(accessToken);
-      builder.build().getRoute(directionsResponseCallback);
-    }
-  }
-
   private boolean isInvalidProgress(Location location, RouteProgress routeProgress) {
     return location == null || routeProgress == null;
   }
 
-  private Callback<DirectionsResponse> directionsResponseCallback = new Callback<DirectionsResponse>() {
+  /**
+   * A request issued for a {@link RouteProgress}, delivering its response to the listeners only
+   * while it is the request in flight.
+   */
+  private class RouteRequest implements Callback<DirectionsResponse> {
+
+    @Nullable
+    private final String key;
+    private final long requestTimeInNanos;
+    private RouteProgress routeProgress;
+    private NavigationRoute navigationRoute;
+    private boolean isCanceled;
+
+    RouteRequest(@Nullable String key, RouteProgress routeProgress) {
+      this.key = key;
+      this.routeProgress = routeProgress;
+      this.requestTimeInNanos = System.nanoTime();
+    }
+
+    void execute(NavigationRoute.Builder builder) {
+      navigationRoute = builder.build();
+      navigationRoute.getRoute(this);
+    }
+
+    boolean isSameRequest(@Nullable String otherKey) {
+      return key != null && key.equals(otherKey);
+    }
+
+    void updateRouteProgress(RouteProgress routeProgress) {
+      this.routeProgress = routeProgress;
+    }
+
+    boolean isInFlight() {
+      return !isCanceled && inFlightRequest == this;
+    }
+
+    void cancel() {
+      isCanceled = true;
+      if (navigationRoute != null) {
+        navigationRoute.cancelCall();
+      }
+    }
+
     @Override
     public void onResponse(@NonNull Call<DirectionsResponse> call, @NonNull Response<DirectionsResponse> response) {
-      if (!response.isSuccessful()) {
+      if (!isInFlight()) {
+        return;
+      }
+      inFlightRequest = null;
+      if (!response.isSuccessful() || response.body() == null) {
         return;
       }
+      if (directionsCache != null && key != null) {
+        directionsCache.store(key, response.body());
+      }
+      long parsedTimeInNanos = System.nanoTime();
+      updateTimingListeners(requestTimeInNanos, findReceivedTime(response, parsedTimeInNanos), parsedTimeInNanos);
       updateListeners(response.body(), routeProgress);
     }
 
+    /**
+     * The response is timed on the wall clock as its headers arrive, so it is brought back to the clock
+     * of the parsed response it preceded.
+     */
+    private long findReceivedTime(Response<DirectionsResponse> response, long parsedTimeInNanos) {
+      if (response.raw() == null || response.raw().receivedResponseAtMillis() <= 0) {
+        return parsedTimeInNanos;
+      }
+      long sinceReceivedInMillis = System.currentTimeMillis() - response.raw().receivedResponseAtMillis();
+      long receivedTimeInNanos = parsedTimeInNanos - TimeUnit.MILLISECONDS.toNanos(sinceReceivedInMillis);
+      return Math.max(requestTimeInNanos, Math.min(parsedTimeInNanos, receivedTimeInNanos));
+    }
+
     @Override
     public void onFailure(@NonNull Call<DirectionsResponse> call, @NonNull Throwable throwable) {
+      if (!isInFlight()) {
+        return;
+      }
+      inFlightRequest = null;
       updateListenersWithError(throwable);
     }
-  };
+  }
+
+  /**
+   * Stores the response refreshing a route already used from the cache, without notifying the
+   * listeners.
+   */
+  private class CacheRefreshCallback implements Callback<DirectionsResponse> {
+
+    private final String cacheKey;
+
+    CacheRefreshCallback(String cacheKey) {
+      this.cacheKey = cacheKey;
+    }
+
+    @Override
+    public void onResponse(@NonNull Call<DirectionsResponse> call, @NonNull Response<DirectionsResponse> response) {
+      if (response.isSuccessful() && response.body() != null) {
+        directionsCache.store(cacheKey, response.body());
+      }
+    }
+
+    @Override
+    public void onFailure(@NonNull Call<DirectionsResponse> call, @NonNull Throwable throwable) {
+      Timber.e(throwable, "Unable to refresh cached route");
+    }
+  }
 
   private void updateListeners(DirectionsResponse response, RouteProgress routeProgress) {
     for (RouteListener listener : routeListeners) {
@@ -185,6 +407,12 @@ public class RouteFetcher {
     }
   }
 
+  private void updateTimingListeners(long requestTimeInNanos, long receivedTimeInNanos, long parsedTimeInNanos) {
+    for (RouteRequestTimingListener listener : timingListeners) {
+      listener.onRouteRequestTimed(requestTimeInNanos, receivedTimeInNanos, parsedTimeInNanos);
+    }
+  }
+
   private void updateListenersWithError(Throwable throwable) {
     for (RouteListener listener : routeListeners) {
       listener.onErrorReceived(throwable);
@@ -0,0 +1,291 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds the decoded geometry of a {@link DirectionsRoute} so the route and step polylines only
+ * need to be decoded a single time per route.
+ * <p>
+ * Coordinates are stored as packed longitude / latitude pairs in primitive arrays. Steps are
+ * addressed globally across all legs, with offsets kept for both the first step of each leg and
+ * the first coordinate of each step.
+ * <p>
+ * {@link Point} lists are only created on request and are cached for the lifetime of the index.
+ *
+ * @since 0.21.0
+ */
+public final class RouteGeometryIndex {
+
+  private static final double PRECISION_6 = 1e6;
+  private static final int COORDINATE_SIZE = 2;
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int CHUNK_SHIFT = 5;
+  private static final int CHUNK_MASK = 0x1f;
+  private static final int ASCII_OFFSET = 63;
+
+  private final DirectionsRoute route;
+  private final double[] routeCoordinates;
+  private final double[] stepCoordinates;
+  private final int[] stepOffsets;
+  private final int[] legOffsets;
+  private final List<Point>[] stepPointsCache;
+  private List<Point> routePointsCache;
+
+  /**
+   * Decodes all geometry found in the given route.
+   *
+   * @param route to be indexed
+   * @return a new index holding the decoded route and step geometries
+   * @since 0.21.0
+   */
+  @NonNull
+  public static RouteGeometryIndex create(@NonNull DirectionsRoute route) {
+    return new RouteGeometryIndex(route);
+  }
+
+  @SuppressWarnings("unchecked")
+  private RouteGeometryIndex(DirectionsRoute route) {
+    this.route = route;
+    this.routeCoordinates = decode(route.geometry(), new CoordinateBuffer()).toArray();
+    List<RouteLeg> legs = route.legs() == null ? Collections.<RouteLeg>emptyList() : route.legs();
+    legOffsets = new int[legs.size() + 1];
+    int totalSteps = 0;
+    for (int legIndex = 0; legIndex < legs.size(); legIndex++) {
+      legOffsets[legIndex] = totalSteps;
+      totalSteps += stepsFor(legs.get(legIndex)).size();
+    }
+    legOffsets[legs.size()] = totalSteps;
+
+    stepOffsets = new int[totalSteps + 1];
+    CoordinateBuffer buffer = new CoordinateBuffer();
+    int stepIndex = 0;
+    for (RouteLeg leg : legs) {
+      for (LegStep step : stepsFor(leg)) {
+        stepOffsets[stepIndex++] = buffer.pointCount();
+        decode(step == null ? null : step.geometry(), buffer);
+      }
+    }
+    stepOffsets[totalSteps] = buffer.pointCount();
+    stepCoordinates = buffer.toArray();
+    stepPointsCache = new List[totalSteps];
+  }
+
+  /**
+   * Checks if this index was built from the given route instance.
+   *
+   * @param route to compare against
+   * @return true if the index holds the geometry of this exact route, false otherwise
+   * @since 0.21.0
+   */
+  public boolean isIndexOf(@Nullable DirectionsRoute route) {
+    return this.route == route;
+  }
+
+  /**
+   * @return number of legs in the indexed route
+   * @since 0.21.0
+   */
+  public int legCount() {
+    return legOffsets.length - 1;
+  }
+
+  /**
+   * @param legIndex of the leg
+   * @return number of steps in the given leg, or 0 if the leg index is invalid
+   * @since 0.21.0
+   */
+  public int stepCount(int legIndex) {
+    if (legIndex < 0 || legIndex >= legCount()) {
+      return 0;
+    }
+    return legOffsets[legIndex + 1] - legOffsets[legIndex];
+  }
+
+  /**
+   * @return number of coordinates in the overall route geometry
+   * @since 0.21.0
+   */
+  public int routePointCount() {
+    return routeCoordinates.length / COORDINATE_SIZE;
+  }
+
+  /**
+   * @param legIndex  of the leg
+   * @param stepIndex of the step within the leg
+   * @return number of coordinates in the step geometry, or 0 if either index is invalid
+   * @since 0.21.0
+   */
+  public int stepPointCount(int legIndex, int stepIndex) {
+    int globalStepIndex = globalStepIndex(legIndex, stepIndex);
+    if (globalStepIndex < 0) {
+      return 0;
+    }
+    return stepOffsets[globalStepIndex + 1] - stepOffsets[globalStepIndex];
+  }
+
+  /**
+   * @param legIndex   of the leg
+   * @param stepIndex  of the step within the leg
+   * @param pointIndex of the coordinate within the step
+   * @return longitude of the step coordinate
+   * @since 0.21.0
+   */
+  public double stepLongitude(int legIndex, int stepIndex, int pointIndex) {
+    return stepCoordinates[stepCoordinateOffset(legIndex, stepIndex, pointIndex)];
+  }
+
+  /**
+   * @param legIndex   of the leg
+   * @param stepIndex  of the step within the leg
+   * @param pointIndex of the coordinate within the step
+   * @return latitude of the step coordinate
+   * @since 0.21.0
+   */
+  public double stepLatitude(int legIndex, int stepIndex, int pointIndex) {
+    return stepCoordinates[stepCoordinateOffset(legIndex, stepIndex, pointIndex) + 1];
+  }
+
+  /**
+   * Returns the decoded step geometry. The returned list is cached and shared between callers,
+   * so it cannot be modified.
+   *
+   * @param legIndex  of the leg
+   * @param stepIndex of the step within the leg
+   * @return step coordinates, or null if either index is invalid
+   * @since 0.21.0
+   */
+  @Nullable
+  public synchronized List<Point> stepPoints(int legIndex, int stepIndex) {
+    int globalStepIndex = globalStepIndex(legIndex, stepIndex);
+    if (globalStepIndex < 0) {
+      return null;
+    }
+    List<Point> stepPoints = stepPointsCache[globalStepIndex];
+    if (stepPoints == null) {
+      int from = stepOffsets[globalStepIndex];
+      int to = stepOffsets[globalStepIndex + 1];
+      stepPoints = toPoints(stepCoordinates, from, to);
+      stepPointsCache[globalStepIndex] = stepPoints;
+    }
+    return stepPoints;
+  }
+
+  /**
+   * Returns the decoded overall route geometry. The returned list is cached and shared between
+   * callers, so it cannot be modified.
+   *
+   * @return route coordinates
+   * @since 0.21.0
+   */
+  @NonNull
+  public synchronized List<Point> routePoints() {
+    if (routePointsCache == null) {
+      routePointsCache = toPoints(routeCoordinates, 0, routePointCount());
+    }
+    return routePointsCache;
+  }
+
+  private int globalStepIndex(int legIndex, int stepIndex) {
+    if (stepIndex < 0 || stepIndex >= stepCount(legIndex)) {
+      return -1;
+    }
+    return legOffsets[legIndex] + stepIndex;
+  }
+
+  private int stepCoordinateOffset(int legIndex, int stepIndex, int pointIndex) {
+    int globalStepIndex = globalStepIndex(legIndex, stepIndex);
+    if (globalStepIndex < 0 || pointIndex < 0 || pointIndex >= stepPointCount(legIndex, stepIndex)) {
+      throw new IndexOutOfBoundsException(String.format("Invalid coordinate %d of step %d in leg %d",
+        pointIndex, stepIndex, legIndex));
+    }
+    return (stepOffsets[globalStepIndex] + pointIndex) * COORDINATE_SIZE;
+  }
+
+  private static List<LegStep> stepsFor(RouteLeg leg) {
+    if (leg == null || leg.steps() == null) {
+      return Collections.emptyList();
+    }
+    return leg.steps();
+  }
+
+  private static List<Point> toPoints(double[] coordinates, int fromPoint, int toPoint) {
+    List<Point> points = new ArrayList<>(toPoint - fromPoint);
+    for (int i = fromPoint; i < toPoint; i++) {
+      int offset = i * COORDINATE_SIZE;
+      points.add(Point.fromLngLat(coordinates[offset], coordinates[offset + 1]));
+    }
+    return Collections.unmodifiableList(points);
+  }
+
+  /**
+   * Decodes an encoded polyline with a precision of 6 straight into the buffer, without
+   * creating intermediate {@link Point} objects.
+   */
+  private static CoordinateBuffer decode(@Nullable String encodedPath, CoordinateBuffer buffer) {
+    if (encodedPath == null) {
+      return buffer;
+    }
+    int length = encodedPath.length();
+    int index = 0;
+    long latitude = 0;
+    long longitude = 0;
+    while (index < length) {
+      long result = 1;
+      int shift = 0;
+      int chunk;
+      do {
+        chunk = encodedPath.charAt(index++) - ASCII_OFFSET - 1;
+        result += (long) chunk << shift;
+        shift += CHUNK_SHIFT;
+      }
+      while (chunk >= CHUNK_MASK && index < length);
+      latitude += (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+
+      result = 1;
+      shift = 0;
+      do {
+        chunk = index < length ? encodedPath.charAt(index++) - ASCII_OFFSET - 1 : 0;
+        result += (long) chunk << shift;
+        shift += CHUNK_SHIFT;
+      }
+      while (chunk >= CHUNK_MASK && index < length);
+      longitude += (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+
+      buffer.add(longitude / PRECISION_6, latitude / PRECISION_6);
+    }
+    return buffer;
+  }
+
+  private static class CoordinateBuffer {
+
+    private double[] coordinates = new double[INITIAL_CAPACITY];
+    private int size;
+
+    void add(double longitude, double latitude) {
+      if (size + COORDINATE_SIZE > coordinates.length) {
+        coordinates = Arrays.copyOf(coordinates, coordinates.length * 2);
+      }
+      coordinates[size++] = longitude;
+      coordinates[size++] = latitude;
+    }
+
+    int pointCount() {
+      return size / COORDINATE_SIZE;
+    }
+
+    double[] toArray() {
+      return Arrays.copyOf(coordinates, size);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+/**
+ * Listener that can be added to a {@link RouteFetcher} to know how long each of its requests took.
+ * <p>
+ * Times are read from {@link System#nanoTime()}, to be compared with other times from the same clock.
+ *
+ * @since 0.21.0
+ */
+public interface RouteRequestTimingListener {
+
+  /**
+   * Will be fired on the main thread for each response delivered to the {@link RouteListener}s,
+   * right before they are notified. A response found in a {@link DirectionsResponseCache} is
+   * received and parsed at the time it is delivered.
+   *
+   * @param requestTimeInNanos          when the request was made
+   * @param responseReceivedTimeInNanos when the response headers were received, before its body was read
+   * @param responseParsedTimeInNanos   when the parsed response reached the route fetcher
+   * @since 0.21.0
+   */
+  void onRouteRequestTimed(long requestTimeInNanos, long responseReceivedTimeInNanos,
+                           long responseParsedTimeInNanos);
+}
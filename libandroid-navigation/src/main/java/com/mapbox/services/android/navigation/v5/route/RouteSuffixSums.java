@@ -0,0 +1,148 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds the distances and durations remaining after each leg, and the durations remaining after each
+ * step, of a {@link DirectionsRoute}, summed a single time per route.
+ * <p>
+ * Instead of adding up the distances or durations of the remaining legs (or steps) on every update,
+ * the sum of everything after a given leg or step is read from a primitive array. Steps are addressed
+ * globally across all legs, with an offset kept for the first step of each leg.
+ *
+ * @since 0.21.0
+ */
+public final class RouteSuffixSums {
+
+  private final DirectionsRoute route;
+  private final double[] legDistancesAfter;
+  private final double[] legDurationsAfter;
+  private final double[] stepDurationsAfter;
+  private final int[] legOffsets;
+
+  /**
+   * Sums the leg and step distances and durations of the given route.
+   *
+   * @param route to be summed
+   * @return new suffix sums for the route
+   * @since 0.21.0
+   */
+  @NonNull
+  public static RouteSuffixSums create(@NonNull DirectionsRoute route) {
+    return new RouteSuffixSums(route);
+  }
+
+  private RouteSuffixSums(DirectionsRoute route) {
+    this.route = route;
+    List<RouteLeg> legs = route.legs() == null ? Collections.<RouteLeg>emptyList() : route.legs();
+    int legCount = legs.size();
+    legOffsets = new int[legCount + 1];
+    for (int legIndex = 0; legIndex < legCount; legIndex++) {
+      legOffsets[legIndex + 1] = legOffsets[legIndex] + stepsFor(legs.get(legIndex)).size();
+    }
+
+    legDistancesAfter = new double[legCount + 1];
+    legDurationsAfter = new double[legCount + 1];
+    for (int legIndex = legCount - 2; legIndex >= 0; legIndex--) {
+      RouteLeg nextLeg = legs.get(legIndex + 1);
+      legDistancesAfter[legIndex] = legDistancesAfter[legIndex + 1] + valueOf(nextLeg.distance());
+      legDurationsAfter[legIndex] = legDurationsAfter[legIndex + 1] + valueOf(nextLeg.duration());
+    }
+
+    int totalSteps = legOffsets[legCount];
+    stepDurationsAfter = new double[totalSteps];
+    for (int legIndex = 0; legIndex < legCount; legIndex++) {
+      List<LegStep> steps = stepsFor(legs.get(legIndex));
+      double durationAfter = 0;
+      for (int stepIndex = steps.size() - 1; stepIndex >= 0; stepIndex--) {
+        int globalStepIndex = legOffsets[legIndex] + stepIndex;
+        stepDurationsAfter[globalStepIndex] = durationAfter;
+        LegStep step = steps.get(stepIndex);
+        if (step != null) {
+          durationAfter += step.duration();
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks if these sums were built from the given route instance.
+   *
+   * @param route to compare against
+   * @return true if the sums belong to this exact route, false otherwise
+   * @since 0.21.0
+   */
+  public boolean isSumsOf(@Nullable DirectionsRoute route) {
+    return this.route == route;
+  }
+
+  /**
+   * Distance of all legs following the given leg.
+   *
+   * @param legIndex of the current leg
+   * @return distance in meters of the legs after the given leg, or 0 if the leg index is invalid
+   * @since 0.21.0
+   */
+  public double distanceAfterLeg(int legIndex) {
+    if (!isValidLeg(legIndex)) {
+      return 0;
+    }
+    return legDistancesAfter[legIndex];
+  }
+
+  /**
+   * Duration of all legs following the given leg.
+   *
+   * @param legIndex of the current leg
+   * @return duration in seconds of the legs after the given leg, or 0 if the leg index is invalid
+   * @since 0.21.0
+   */
+  public double durationAfterLeg(int legIndex) {
+    if (!isValidLeg(legIndex)) {
+      return 0;
+    }
+    return legDurationsAfter[legIndex];
+  }
+
+  /**
+   * Duration of all steps following the given step, within the same leg.
+   *
+   * @param legIndex  of the current leg
+   * @param stepIndex of the current step
+   * @return duration in seconds of the steps after the given step, or 0 if the indices are invalid
+   * @since 0.21.0
+   */
+  public double legDurationAfterStep(int legIndex, int stepIndex) {
+    if (!isValidStep(legIndex, stepIndex)) {
+      return 0;
+    }
+    return stepDurationsAfter[legOffsets[legIndex] + stepIndex];
+  }
+
+  private boolean isValidLeg(int legIndex) {
+    return legIndex >= 0 && legIndex < legOffsets.length - 1;
+  }
+
+  private boolean isValidStep(int legIndex, int stepIndex) {
+    return isValidLeg(legIndex) && stepIndex >= 0 && stepIndex < legOffsets[legIndex + 1] - legOffsets[legIndex];
+  }
+
+  private static double valueOf(@Nullable Double value) {
+    return value == null ? 0 : value;
+  }
+
+  private static List<LegStep> stepsFor(RouteLeg leg) {
+    if (leg == null || leg.steps() == null) {
+      return Collections.emptyList();
+    }
+    return leg.steps();
+  }
+}
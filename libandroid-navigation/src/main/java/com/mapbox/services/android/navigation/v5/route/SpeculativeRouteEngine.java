@@ -0,0 +1,311 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import android.content.Context;
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationRoute;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Fetches routes ahead of the upcoming maneuver, starting from each road the user could take there
+ * instead of the one along the route, so a reroute can start without waiting for the network.
+ * <p>
+ * Once the maneuver of the upcoming step is within 300 meters, up to the budget of roads are
+ * requested, those closest in bearing to the road along the route first, as they are the easiest to
+ * take by mistake. Intersections without a maneuver are passed by. When the user goes off-route on
+ * one of these roads, its route is returned by {@link #findRoute(Location, boolean)}.
+ * <p>
+ * Requests are also capped for the whole session, to a number within any minute of location fix
+ * time. Canceled requests still count, as they were sent already.
+ * <p>
+ * Meant to be used on the main thread.
+ *
+ * @since 0.21.0
+ */
+public class SpeculativeRouteEngine {
+
+  private static final double LOOKAHEAD_DISTANCE_IN_METERS = 300;
+  private static final double DETOUR_ORIGIN_DISTANCE_IN_METERS = 25;
+  private static final double MATCHING_RADIUS_IN_METERS = 40;
+  private static final double MATCHING_BEARING_TOLERANCE = 45;
+  private static final double FULL_CIRCLE = 360;
+  private static final double HALF_CIRCLE = 180;
+  private static final long REQUEST_WINDOW_IN_MILLIS = TimeUnit.MINUTES.toMillis(1);
+  private static final int MANEUVER_INTERSECTION = 0;
+
+  private final RouteFetcher routeFetcher;
+  private final boolean isEnabled;
+  private final int routeBudget;
+  private final int requestsPerMinute;
+  private final List<SpeculativeRoute> speculativeRoutes = new ArrayList<>();
+  private final ArrayDeque<Long> requestTimes = new ArrayDeque<>();
+  private DirectionsRoute currentRoute;
+  private Point maneuverPoint;
+  private boolean isOffRoute;
+  private long requestCount;
+  private long cappedRequestCount;
+  private long offRouteCount;
+  private long hitCount;
+  private long savedLatencyInMillis;
+
+  /**
+   * @param context     for building the route requests
+   * @param accessToken for the Directions API
+   * @param isEnabled   false to never fetch routes ahead
+   * @param routeBudget       maximum number of routes fetched for each maneuver
+   * @param requestsPerMinute maximum number of routes fetched within any minute of the session
+   * @since 0.21.0
+   */
+  public SpeculativeRouteEngine(Context context, String accessToken, boolean isEnabled, int routeBudget,
+                                int requestsPerMinute) {
+    this(new RouteFetcher(context, accessToken), isEnabled, routeBudget, requestsPerMinute);
+  }
+
+  SpeculativeRouteEngine(RouteFetcher routeFetcher, boolean isEnabled, int routeBudget, int requestsPerMinute) {
+    this.routeFetcher = routeFetcher;
+    this.isEnabled = isEnabled;
+    this.routeBudget = routeBudget;
+    this.requestsPerMinute = requestsPerMinute;
+  }
+
+  /**
+   * Fetches the routes for the upcoming maneuver once it is close enough, dropping the routes
+   * fetched for the previous one.
+   *
+   * @param location      current location of the device
+   * @param routeProgress along the route being navigated
+   * @since 0.21.0
+   */
+  public void onRouteProgress(Location location, RouteProgress routeProgress) {
+    if (!isEnabled || isOffRoute) {
+      return;
+    }
+    if (routeProgress.directionsRoute() != currentRoute) {
+      clear();
+      currentRoute = routeProgress.directionsRoute();
+    }
+    StepIntersection intersection = findManeuverIntersection(routeProgress.currentLegProgress().upComingStep());
+    if (intersection == null || intersection.location().equals(maneuverPoint)) {
+      return;
+    }
+    Point currentPoint = Point.fromLngLat(location.getLongitude(), location.getLatitude());
+    double distanceToIntersection = TurfMeasurement.distance(currentPoint, intersection.location(),
+      TurfConstants.UNIT_METERS);
+    if (distanceToIntersection > LOOKAHEAD_DISTANCE_IN_METERS) {
+      return;
+    }
+    cancelSpeculativeRoutes();
+    maneuverPoint = intersection.location();
+    long time = location.getTime();
+    for (Double bearing : findDetourBearings(intersection)) {
+      if (hasRequestLeft(time)) {
+        fetchDetour(bearing, routeProgress, time);
+      } else {
+        cappedRequestCount++;
+      }
+    }
+  }
+
+  /**
+   * Looks for a route fetched ahead which starts where the user went off-route, heading the same way.
+   *
+   * @param location     current location of the device
+   * @param userOffRoute true if the user is off-route
+   * @return route to navigate instead of fetching a new one, or null if none matches
+   * @since 0.21.0
+   */
+  @Nullable
+  public DirectionsRoute findRoute(Location location, boolean userOffRoute) {
+    if (!userOffRoute) {
+      isOffRoute = false;
+      return null;
+    }
+    if (!isOffRoute) {
+      isOffRoute = true;
+      offRouteCount++;
+    }
+    Point currentPoint = Point.fromLngLat(location.getLongitude(), location.getLatitude());
+    Double currentBearing = location.hasBearing() ? Float.valueOf(location.getBearing()).doubleValue() : null;
+    for (SpeculativeRoute speculativeRoute : speculativeRoutes) {
+      if (speculativeRoute.matches(currentPoint, currentBearing)) {
+        DirectionsRoute route = speculativeRoute.route;
+        hitCount++;
+        savedLatencyInMillis += speculativeRoute.latencyInMillis;
+        isOffRoute = false;
+        clear();
+        return route;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return counts of the routes fetched ahead during this session
+   * @since 0.21.0
+   */
+  public SpeculativeRouteStats stats() {
+    return SpeculativeRouteStats.create(requestCount, cappedRequestCount, requestsPerMinute, offRouteCount,
+      hitCount, savedLatencyInMillis);
+  }
+
+  /**
+   * Cancels and drops all the routes fetched ahead.
+   *
+   * @since 0.21.0
+   */
+  public void clear() {
+    cancelSpeculativeRoutes();
+    maneuverPoint = null;
+  }
+
+  List<Double> findDetourBearings(StepIntersection intersection) {
+    List<Integer> bearings = intersection.bearings();
+    List<Boolean> entries = intersection.entry();
+    Integer out = intersection.out();
+    List<Double> detourBearings = new ArrayList<>();
+    if (bearings == null || entries == null || out == null || out >= bearings.size()) {
+      return detourBearings;
+    }
+    Integer in = intersection.in();
+    for (int i = 0; i < bearings.size() && i < entries.size(); i++) {
+      boolean isAlongRoute = i == out || (in != null && i == in);
+      if (!isAlongRoute && entries.get(i)) {
+        detourBearings.add(bearings.get(i).doubleValue());
+      }
+    }
+    final double routeBearing = bearings.get(out);
+    Collections.sort(detourBearings, new Comparator<Double>() {
+      @Override
+      public int compare(Double first, Double second) {
+        return Double.compare(findBearingDifference(first, routeBearing),
+          findBearingDifference(second, routeBearing));
+      }
+    });
+    return detourBearings.subList(0, Math.min(routeBudget, detourBearings.size()));
+  }
+
+  @Nullable
+  private StepIntersection findManeuverIntersection(@Nullable LegStep upcomingStep) {
+    if (upcomingStep == null) {
+      return null;
+    }
+    // The first intersection of a step is where its maneuver takes place
+    List<StepIntersection> intersections = upcomingStep.intersections();
+    if (intersections == null || intersections.isEmpty()) {
+      return null;
+    }
+    return intersections.get(MANEUVER_INTERSECTION);
+  }
+
+  private boolean hasRequestLeft(long time) {
+    // Fix times going backwards (e.g. a new replay) start the count over
+    if (!requestTimes.isEmpty() && time < requestTimes.peekLast()) {
+      requestTimes.clear();
+    }
+    while (!requestTimes.isEmpty() && time - requestTimes.peekFirst() >= REQUEST_WINDOW_IN_MILLIS) {
+      requestTimes.pollFirst();
+    }
+    return requestTimes.size() < requestsPerMinute;
+  }
+
+  private void fetchDetour(double bearing, RouteProgress routeProgress, long time) {
+    Point origin = TurfMeasurement.destination(maneuverPoint, DETOUR_ORIGIN_DISTANCE_IN_METERS, bearing,
+      TurfConstants.UNIT_METERS);
+    NavigationRoute.Builder builder = routeFetcher.buildRequest(origin, bearing, routeProgress);
+    if (builder == null) {
+      return;
+    }
+    SpeculativeRoute speculativeRoute = new SpeculativeRoute(origin, bearing, builder.build());
+    speculativeRoutes.add(speculativeRoute);
+    speculativeRoute.fetch();
+    requestTimes.addLast(time);
+    requestCount++;
+  }
+
+  private void cancelSpeculativeRoutes() {
+    for (SpeculativeRoute speculativeRoute : speculativeRoutes) {
+      speculativeRoute.cancel();
+    }
+    speculativeRoutes.clear();
+  }
+
+  private static double findBearingDifference(double first, double second) {
+    double difference = Math.abs(first - second) % FULL_CIRCLE;
+    return difference > HALF_CIRCLE ? FULL_CIRCLE - difference : difference;
+  }
+
+  private static class SpeculativeRoute implements Callback<DirectionsResponse> {
+
+    private final Point origin;
+    private final double bearing;
+    private final NavigationRoute navigationRoute;
+    private long requestTime;
+    private long latencyInMillis;
+    private DirectionsRoute route;
+    private boolean isCanceled;
+
+    SpeculativeRoute(Point origin, double bearing, NavigationRoute navigationRoute) {
+      this.origin = origin;
+      this.bearing = bearing;
+      this.navigationRoute = navigationRoute;
+    }
+
+    void fetch() {
+      requestTime = System.nanoTime();
+      navigationRoute.getRoute(this);
+    }
+
+    void cancel() {
+      isCanceled = true;
+      if (route == null) {
+        navigationRoute.cancelCall();
+      }
+    }
+
+    boolean matches(Point point, @Nullable Double pointBearing) {
+      if (route == null) {
+        return false;
+      }
+      double distance = TurfMeasurement.distance(origin, point, TurfConstants.UNIT_METERS);
+      boolean isHeadingSameWay = pointBearing == null
+        || findBearingDifference(pointBearing, bearing) <= MATCHING_BEARING_TOLERANCE;
+      return distance <= MATCHING_RADIUS_IN_METERS && isHeadingSameWay;
+    }
+
+    @Override
+    public void onResponse(@NonNull Call<DirectionsResponse> call, @NonNull Response<DirectionsResponse> response) {
+      DirectionsResponse body = response.body();
+      if (isCanceled || !response.isSuccessful() || body == null || body.routes() == null
+        || body.routes().isEmpty()) {
+        return;
+      }
+      route = body.routes().get(0);
+      latencyInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestTime);
+    }
+
+    @Override
+    public void onFailure(@NonNull Call<DirectionsResponse> call, @NonNull Throwable throwable) {
+      // A reroute will fetch the route if needed
+    }
+  }
+}
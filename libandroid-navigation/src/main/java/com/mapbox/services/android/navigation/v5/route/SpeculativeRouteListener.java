@@ -0,0 +1,21 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+
+/**
+ * Listener that can be added to know when going off-route was answered with a route fetched ahead
+ * by the {@link SpeculativeRouteEngine}, instead of notifying the
+ * {@link com.mapbox.services.android.navigation.v5.offroute.OffRouteListener}s.
+ *
+ * @since 0.21.0
+ */
+public interface SpeculativeRouteListener {
+
+  /**
+   * Will be fired once navigation has started along the route fetched ahead.
+   *
+   * @param directionsRoute now being navigated
+   * @since 0.21.0
+   */
+  void speculativeRouteUsed(DirectionsRoute directionsRoute);
+}
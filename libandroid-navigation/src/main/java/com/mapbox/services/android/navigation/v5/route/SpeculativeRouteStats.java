@@ -0,0 +1,65 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Counts of the routes fetched ahead of maneuvers by a {@link SpeculativeRouteEngine} during a
+ * navigation session, and of how many reroutes they answered.
+ *
+ * @since 0.21.0
+ */
+@AutoValue
+public abstract class SpeculativeRouteStats {
+
+  static SpeculativeRouteStats create(long requestCount, long cappedRequestCount, int requestLimitPerMinute,
+                                      long offRouteCount, long hitCount, long savedLatencyInMillis) {
+    return new AutoValue_SpeculativeRouteStats(requestCount, cappedRequestCount, requestLimitPerMinute,
+      offRouteCount, hitCount, savedLatencyInMillis);
+  }
+
+  /**
+   * @return number of routes requested ahead of maneuvers, including the requests canceled since
+   * @since 0.21.0
+   */
+  public abstract long requestCount();
+
+  /**
+   * @return number of routes not requested because the limit of requests per minute was reached
+   * @since 0.21.0
+   */
+  public abstract long cappedRequestCount();
+
+  /**
+   * @return maximum number of routes requested within any minute of the session
+   * @since 0.21.0
+   */
+  public abstract int requestLimitPerMinute();
+
+  /**
+   * @return number of times the user went off-route
+   * @since 0.21.0
+   */
+  public abstract long offRouteCount();
+
+  /**
+   * @return number of times going off-route was answered with a route fetched ahead
+   * @since 0.21.0
+   */
+  public abstract long hitCount();
+
+  /**
+   * Sum of the request durations of the routes used, which a reroute would otherwise have waited for.
+   *
+   * @return latency saved by using routes fetched ahead
+   * @since 0.21.0
+   */
+  public abstract long savedLatencyInMillis();
+
+  /**
+   * @return share of the times going off-route answered with a route fetched ahead, 0 if never off-route
+   * @since 0.21.0
+   */
+  public double hitRate() {
+    return offRouteCount() == 0 ? 0 : hitCount() / (double) offRouteCount();
+  }
+}
@@ -0,0 +1,171 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.StepManeuver;
+import com.mapbox.geojson.Point;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds a compact signature of each step of a {@link DirectionsRoute}, computed a single time per
+ * route, so steps of different routes can be compared without a deep equals.
+ * <p>
+ * A signature is a 64-bit FNV-1a hash of the step maneuver: its type, modifier, location rounded to
+ * about a meter and bearing after, along with the name of the road. It leaves out the step geometry,
+ * distance and duration, which differ for a step requested from a different origin. Steps are
+ * addressed globally across all legs, with an offset kept for the first step of each leg.
+ */
+final class StepSignatures {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final double COORDINATE_PRECISION = 1e5;
+  private static final int BYTE_MASK = 0xff;
+  private static final int BYTE_SIZE = 8;
+  private static final int LONG_SIZE = 64;
+
+  private final DirectionsRoute route;
+  private final long[] signatures;
+  private final int[] legOffsets;
+  private final long[] sortedSignatures;
+  private final int[] sortedStepIndices;
+
+  static StepSignatures create(DirectionsRoute route) {
+    return new StepSignatures(route);
+  }
+
+  private StepSignatures(DirectionsRoute route) {
+    this.route = route;
+    List<RouteLeg> legs = route.legs() == null ? Collections.<RouteLeg>emptyList() : route.legs();
+    legOffsets = new int[legs.size() + 1];
+    for (int legIndex = 0; legIndex < legs.size(); legIndex++) {
+      legOffsets[legIndex + 1] = legOffsets[legIndex] + stepsFor(legs.get(legIndex)).size();
+    }
+    signatures = new long[legOffsets[legs.size()]];
+    for (int legIndex = 0; legIndex < legs.size(); legIndex++) {
+      List<LegStep> steps = stepsFor(legs.get(legIndex));
+      for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+        signatures[legOffsets[legIndex] + stepIndex] = signatureOf(steps.get(stepIndex));
+      }
+    }
+    sortedSignatures = Arrays.copyOf(signatures, signatures.length);
+    Arrays.sort(sortedSignatures);
+    sortedStepIndices = new int[signatures.length];
+    // Steps sharing a signature are placed one after the other, from the first sorted position on
+    boolean[] isPlaced = new boolean[signatures.length];
+    for (int stepIndex = 0; stepIndex < signatures.length; stepIndex++) {
+      int sortedIndex = findFirst(signatures[stepIndex]);
+      while (isPlaced[sortedIndex]) {
+        sortedIndex++;
+      }
+      isPlaced[sortedIndex] = true;
+      sortedStepIndices[sortedIndex] = stepIndex;
+    }
+  }
+
+  boolean isSignaturesOf(DirectionsRoute route) {
+    return this.route == route;
+  }
+
+  int stepCount() {
+    return signatures.length;
+  }
+
+  /**
+   * @return global index of the given step, or -1 if the route has no such step
+   */
+  int findStepIndex(int legIndex, int stepIndex) {
+    if (legIndex < 0 || legIndex >= legOffsets.length - 1 || stepIndex < 0
+      || legOffsets[legIndex] + stepIndex >= legOffsets[legIndex + 1]) {
+      return -1;
+    }
+    return legOffsets[legIndex] + stepIndex;
+  }
+
+  long signatureAt(int globalStepIndex) {
+    return signatures[globalStepIndex];
+  }
+
+  /**
+   * @param signature           of a step of another route
+   * @param fromGlobalStepIndex first step to look from
+   * @return true if a step from the given one on has the signature
+   */
+  boolean contains(long signature, int fromGlobalStepIndex) {
+    for (int sortedIndex = findFirst(signature);
+         sortedIndex < sortedSignatures.length && sortedSignatures[sortedIndex] == signature; sortedIndex++) {
+      if (sortedStepIndices[sortedIndex] >= fromGlobalStepIndex) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static long signatureOf(@Nullable LegStep step) {
+    long hash = FNV_OFFSET_BASIS;
+    if (step == null) {
+      return hash;
+    }
+    hash = hash(hash, step.name());
+    StepManeuver maneuver = step.maneuver();
+    if (maneuver != null) {
+      hash = hash(hash, maneuver.type());
+      hash = hash(hash, maneuver.modifier());
+      Point location = maneuver.location();
+      if (location != null) {
+        hash = hash(hash, Math.round(location.longitude() * COORDINATE_PRECISION));
+        hash = hash(hash, Math.round(location.latitude() * COORDINATE_PRECISION));
+      }
+      if (maneuver.bearingAfter() != null) {
+        hash = hash(hash, Math.round(maneuver.bearingAfter()));
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * @return index of the first occurrence of the signature in the sorted signatures, or of where it
+   * would be inserted
+   */
+  private int findFirst(long signature) {
+    int low = 0;
+    int high = sortedSignatures.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedSignatures[middle] < signature) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static long hash(long hash, @Nullable String value) {
+    if (value == null) {
+      return hash(hash, 0L);
+    }
+    for (int i = 0; i < value.length(); i++) {
+      hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+    }
+    // Separates consecutive strings, so that "ab" + "c" differs from "a" + "bc"
+    return (hash ^ BYTE_MASK) * FNV_PRIME;
+  }
+
+  private static long hash(long hash, long value) {
+    for (int shift = 0; shift < LONG_SIZE; shift += BYTE_SIZE) {
+      hash = (hash ^ ((value >>> shift) & BYTE_MASK)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  private static List<LegStep> stepsFor(RouteLeg leg) {
+    return leg == null || leg.steps() == null ? Collections.<LegStep>emptyList() : leg.steps();
+  }
+}
@@ -0,0 +1,252 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.MaxSpeed;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link LegAnnotation} of a {@link RouteLeg} converted once per leg into columns of primitive
+ * arrays.
+ * <p>
+ * Distances are kept as the cumulative distance along the leg up to each annotation, so the
+ * annotation being traveled along can be found with a binary search. Durations and speeds are
+ * stored as doubles, while congestion and max speed values, which only take a few distinct values,
+ * are stored as byte codes into a table of those values.
+ *
+ * @since 0.21.0
+ */
+public final class LegAnnotationIndex {
+
+  private static final int FIRST_ANNOTATION = 0;
+  private static final int NO_VALUE = 0;
+  private static final int MAX_CODED_VALUES = 0xff;
+
+  private final RouteLeg leg;
+  private final double legDistance;
+  private final double[] distances;
+  private final double[] cumulativeDistances;
+  private final double[] durations;
+  private final double[] speeds;
+  private final CodedColumn<String> congestion;
+  private final CodedColumn<MaxSpeed> maxspeed;
+
+  private LegAnnotationIndex(RouteLeg leg, LegAnnotation annotation, List<Double> distanceList) {
+    this.leg = leg;
+    this.legDistance = leg.distance() == null ? 0 : leg.distance();
+    int size = distanceList.size();
+    distances = new double[size];
+    cumulativeDistances = new double[size + 1];
+    for (int i = 0; i < size; i++) {
+      distances[i] = distanceList.get(i);
+      cumulativeDistances[i + 1] = cumulativeDistances[i] + distances[i];
+    }
+    durations = toDoubleColumn(annotation.duration(), size);
+    speeds = toDoubleColumn(annotation.speed(), size);
+    congestion = CodedColumn.create(annotation.congestion(), size);
+    maxspeed = CodedColumn.create(annotation.maxspeed(), size);
+  }
+
+  /**
+   * Converts the annotations of the given leg.
+   *
+   * @param leg holding the annotations
+   * @return a new index, or null if the leg has no distance annotations
+   * @since 0.21.0
+   */
+  @Nullable
+  public static LegAnnotationIndex create(@NonNull RouteLeg leg) {
+    LegAnnotation annotation = leg.annotation();
+    if (annotation == null) {
+      return null;
+    }
+    List<Double> distanceList = annotation.distance();
+    if (distanceList == null || distanceList.isEmpty()) {
+      return null;
+    }
+    return new LegAnnotationIndex(leg, annotation, distanceList);
+  }
+
+  /**
+   * Checks if this index was built from the given leg instance.
+   *
+   * @param leg to compare against
+   * @return true if the index holds the annotations of this exact leg, false otherwise
+   * @since 0.21.0
+   */
+  public boolean isIndexOf(@Nullable RouteLeg leg) {
+    return this.leg == leg;
+  }
+
+  /**
+   * @return number of annotations along the leg
+   * @since 0.21.0
+   */
+  public int size() {
+    return distances.length;
+  }
+
+  /**
+   * @param index of the annotation
+   * @return distance along the leg, in meters, up to the given annotation
+   * @since 0.21.0
+   */
+  public double distanceToAnnotation(int index) {
+    return cumulativeDistances[index];
+  }
+
+  /**
+   * Finds the annotation being traveled along, given the distance remaining along the leg.
+   * If the distance traveled exceeds the annotated distance, the first annotation is returned.
+   *
+   * @param legDistanceRemaining to determine the position along the leg
+   * @return index of the current annotation
+   * @since 0.21.0
+   */
+  public int findAnnotationIndex(double legDistanceRemaining) {
+    double legDistanceTraveled = legDistance - legDistanceRemaining;
+    int low = 0;
+    int high = distances.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (cumulativeDistances[middle + 1] > legDistanceTraveled) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low == distances.length ? FIRST_ANNOTATION : low;
+  }
+
+  /**
+   * Finds the annotation being traveled along starting from the annotation found on the last
+   * update. Usually the user is still on the same annotation or has moved to the next one, in
+   * which case no search is needed. Otherwise, this falls back to {@link #findAnnotationIndex(double)}.
+   *
+   * @param legDistanceRemaining to determine the position along the leg
+   * @param cursor               index of the previously current annotation
+   * @return index of the current annotation
+   * @since 0.21.0
+   */
+  public int findAnnotationIndex(double legDistanceRemaining, int cursor) {
+    double legDistanceTraveled = legDistance - legDistanceRemaining;
+    if (isCurrentIndex(cursor, legDistanceTraveled)) {
+      return cursor;
+    }
+    if (isCurrentIndex(cursor + 1, legDistanceTraveled)) {
+      return cursor + 1;
+    }
+    return findAnnotationIndex(legDistanceRemaining);
+  }
+
+  /**
+   * Creates the {@link CurrentLegAnnotation} holding the values of the given annotation.
+   *
+   * @param index of the annotation
+   * @return the annotation values
+   * @since 0.21.0
+   */
+  @NonNull
+  public CurrentLegAnnotation createCurrentAnnotation(int index) {
+    return CurrentLegAnnotation.builder()
+      .index(index)
+      .distanceToAnnotation(cumulativeDistances[index])
+      .distance(distances[index])
+      .duration(valueAt(durations, index))
+      .speed(valueAt(speeds, index))
+      .maxspeed(maxspeed == null ? null : maxspeed.valueAt(index))
+      .congestion(congestion == null ? null : congestion.valueAt(index))
+      .build();
+  }
+
+  private boolean isCurrentIndex(int index, double legDistanceTraveled) {
+    if (index < 0 || index >= distances.length) {
+      return false;
+    }
+    boolean isNotPassed = cumulativeDistances[index + 1] > legDistanceTraveled;
+    boolean isFirstNotPassed = index == 0 || cumulativeDistances[index] <= legDistanceTraveled;
+    return isNotPassed && isFirstNotPassed;
+  }
+
+  @Nullable
+  private static double[] toDoubleColumn(@Nullable List<Double> values, int size) {
+    if (values == null) {
+      return null;
+    }
+    double[] column = new double[size];
+    for (int i = 0; i < size; i++) {
+      Double value = i < values.size() ? values.get(i) : null;
+      column[i] = value == null ? Double.NaN : value;
+    }
+    return column;
+  }
+
+  @Nullable
+  private static Double valueAt(@Nullable double[] column, int index) {
+    if (column == null || Double.isNaN(column[index])) {
+      return null;
+    }
+    return column[index];
+  }
+
+  /**
+   * Column of values coded as bytes, with each code pointing into a table of the distinct values.
+   * Code 0 stands for a missing value. If there are too many distinct values to be coded, the
+   * original list is kept instead.
+   */
+  private static class CodedColumn<T> {
+
+    private final byte[] codes;
+    private final List<T> table;
+    private final List<T> values;
+
+    private CodedColumn(byte[] codes, List<T> table, List<T> values) {
+      this.codes = codes;
+      this.table = table;
+      this.values = values;
+    }
+
+    @Nullable
+    static <T> CodedColumn<T> create(@Nullable List<T> values, int size) {
+      if (values == null) {
+        return null;
+      }
+      byte[] codes = new byte[size];
+      List<T> table = new ArrayList<>();
+      Map<T, Integer> tableCodes = new HashMap<>();
+      for (int i = 0; i < size && i < values.size(); i++) {
+        T value = values.get(i);
+        if (value == null) {
+          continue;
+        }
+        Integer code = tableCodes.get(value);
+        if (code == null) {
+          if (table.size() == MAX_CODED_VALUES) {
+            return new CodedColumn<>(null, null, values);
+          }
+          table.add(value);
+          code = table.size();
+          tableCodes.put(value, code);
+        }
+        codes[i] = (byte) code.intValue();
+      }
+      return new CodedColumn<>(codes, table, null);
+    }
+
+    @Nullable
+    T valueAt(int index) {
+      if (values != null) {
+        return index < values.size() ? values.get(index) : null;
+      }
+      int code = codes[index] & MAX_CODED_VALUES;
+      return code == NO_VALUE ? null : table.get(code - 1);
+    }
+  }
+}
@@ -3,14 +3,15 @@ package com.mapbox.services.android.navigation.v5.routeprogress;
 import android.content.Context;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
-import android.support.v4.util.Pair;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.StepIntersection;
 import com.mapbox.geojson.Point;
 import com.mapbox.services.android.navigation.v5.navigation.NavigationRoute;
+import com.mapbox.services.android.navigation.v5.route.RouteSuffixSums;
 
 import java.util.List;
 
@@ -44,6 +45,7 @@ public abstract class RouteLegProgress {
    * leg, using unit meters.
    * @since 0.1.0
    */
+  @Memoized
   public double distanceTraveled() {
     double distanceTraveled = routeLeg().distance() - distanceRemaining();
     if (distanceTraveled < 0) {
@@ -61,13 +63,23 @@ public abstract class RouteLegProgress {
   public abstract double distanceRemaining();
 
   /**
-   * Provides the duration remaining in seconds till the user reaches the end of the current step.
+   * Provides the duration remaining in seconds till the user reaches the end of the current leg.
+   * <p>
+   * With the suffix sums of the route, this is the duration remaining along the current step plus
+   * the durations of the steps after it in this leg. Otherwise, it is estimated from the fraction
+   * of the leg distance traveled.
    *
-   * @return long value representing the duration remaining till end of step, in unit seconds.
+   * @return long value representing the duration remaining till end of leg, in unit seconds.
    * @since 0.1.0
    */
+  @Memoized
   public double durationRemaining() {
-    return (1 - fractionTraveled()) * routeLeg().duration();
+    RouteSuffixSums routeSuffixSums = routeSuffixSums();
+    if (routeSuffixSums == null) {
+      return (1 - fractionTraveled()) * routeLeg().duration();
+    }
+    return currentStepProgress().durationRemaining()
+      + routeSuffixSums.legDurationAfterStep(legIndex(), stepIndex());
   }
 
   /**
@@ -78,6 +90,7 @@ public abstract class RouteLegProgress {
    * current leg
    * @since 0.1.0
    */
+  @Memoized
   public float fractionTraveled() {
     float fractionTraveled = 1;
 
@@ -195,6 +208,11 @@ public abstract class RouteLegProgress {
    */
   abstract RouteLeg routeLeg();
 
+  abstract int legIndex();
+
+  @Nullable
+  abstract RouteSuffixSums routeSuffixSums();
+
   abstract double stepDistanceRemaining();
 
   abstract List<StepIntersection> intersections();
@@ -204,11 +222,21 @@ public abstract class RouteLegProgress {
   @Nullable
   abstract StepIntersection upcomingIntersection();
 
-  abstract List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep();
+  /**
+   * Provides the intersections of the current step along with their distance from the beginning of
+   * the step, for looking up intersections without creating boxed pairs.
+   *
+   * @return measured intersections of the current step
+   * @since 0.21.0
+   */
+  public abstract StepIntersectionIndex intersectionIndex();
 
   @AutoValue.Builder
   public abstract static class Builder {
 
+    private RouteStepProgress.Builder stepProgressBuilder;
+    private RouteLegProgress lastLegProgress;
+
     abstract Builder routeLeg(RouteLeg routeLeg);
 
     abstract RouteLeg routeLeg();
@@ -217,27 +245,39 @@ public abstract class RouteLegProgress {
 
     abstract int stepIndex();
 
+    abstract Builder legIndex(int legIndex);
+
+    abstract int legIndex();
+
+    abstract Builder routeSuffixSums(@Nullable RouteSuffixSums routeSuffixSums);
+
+    abstract RouteSuffixSums routeSuffixSums();
+
     abstract Builder stepDistanceRemaining(double stepDistanceRemaining);
 
     abstract double stepDistanceRemaining();
 
     abstract Builder distanceRemaining(double distanceRemaining);
 
+    abstract double distanceRemaining();
+
     abstract Builder currentStepProgress(RouteStepProgress routeStepProgress);
 
     abstract Builder currentStepPoints(List<Point> currentStepPoints);
 
+    abstract List<Point> currentStepPoints();
+
     abstract Builder upcomingStepPoints(@Nullable List<Point> upcomingStepPoints);
 
+    abstract List<Point> upcomingStepPoints();
+
     abstract Builder intersections(List<StepIntersection> intersections);
 
     abstract List<StepIntersection> intersections();
 
-    abstract Builder intersectionDistancesAlongStep(
-      List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep
-    );
+    abstract Builder intersectionIndex(StepIntersectionIndex intersectionIndex);
 
-    abstract List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep();
+    abstract StepIntersectionIndex intersectionIndex();
 
     abstract Builder currentIntersection(StepIntersection currentIntersection);
 
@@ -249,27 +289,56 @@ public abstract class RouteLegProgress {
 
     abstract Builder currentLegAnnotation(@Nullable CurrentLegAnnotation currentLegAnnotation);
 
+    abstract CurrentLegAnnotation currentLegAnnotation();
+
     abstract RouteLegProgress autoBuild(); // not public
 
+    /**
+     * Builds the leg progress. If this builder is reused and none of its values changed since the
+     * last build, the previously built (immutable) leg progress is returned instead of a copy.
+     */
     public RouteLegProgress build() {
+      if (lastLegProgress != null && isBuiltFromCurrentValues(lastLegProgress)) {
+        return lastLegProgress;
+      }
       int lastStepIndex = routeLeg().steps().size() - 1;
       boolean isOnLastStep = stepIndex() == lastStepIndex;
       int nextStepIndex = stepIndex() + 1;
       LegStep nextStep = isOnLastStep ? null : routeLeg().steps().get(nextStepIndex);
 
       LegStep currentStep = routeLeg().steps().get(stepIndex());
-      RouteStepProgress stepProgress = RouteStepProgress.builder()
+      if (stepProgressBuilder == null) {
+        stepProgressBuilder = RouteStepProgress.builder();
+      }
+      RouteStepProgress stepProgress = stepProgressBuilder
         .step(currentStep)
         .nextStep(nextStep)
         .distanceRemaining(stepDistanceRemaining())
         .intersections(intersections())
         .currentIntersection(currentIntersection())
         .upcomingIntersection(upcomingIntersection())
-        .intersectionDistancesAlongStep(intersectionDistancesAlongStep())
+        .intersectionIndex(intersectionIndex())
         .build();
       currentStepProgress(stepProgress);
 
-      return autoBuild();
+      lastLegProgress = autoBuild();
+      return lastLegProgress;
+    }
+
+    private boolean isBuiltFromCurrentValues(RouteLegProgress legProgress) {
+      return legProgress.routeLeg() == routeLeg()
+        && legProgress.stepIndex() == stepIndex()
+        && legProgress.legIndex() == legIndex()
+        && legProgress.routeSuffixSums() == routeSuffixSums()
+        && legProgress.distanceRemaining() == distanceRemaining()
+        && legProgress.stepDistanceRemaining() == stepDistanceRemaining()
+        && legProgress.currentStepPoints() == currentStepPoints()
+        && legProgress.upcomingStepPoints() == upcomingStepPoints()
+        && legProgress.intersections() == intersections()
+        && legProgress.currentIntersection() == currentIntersection()
+        && legProgress.upcomingIntersection() == upcomingIntersection()
+        && legProgress.intersectionIndex() == intersectionIndex()
+        && legProgress.currentLegAnnotation() == currentLegAnnotation();
     }
   }
 
@@ -5,14 +5,19 @@ import android.support.annotation.Nullable;
 import android.support.v4.util.Pair;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.StepIntersection;
 import com.mapbox.geojson.Point;
 import com.mapbox.navigator.VoiceInstruction;
+import com.mapbox.services.android.navigation.v5.instruction.InstructionTimeline;
+import com.mapbox.services.android.navigation.v5.route.RouteSuffixSums;
 
 import java.util.List;
 
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.UNKNOWN_ROUTE_GENERATION;
+
 /**
  * This class contains all progress information at any given time during a navigation session. This
  * progress includes information for the current route, leg and step the user is traversing along.
@@ -68,6 +73,7 @@ public abstract class RouteProgress {
    * using unit meters
    * @since 0.1.0
    */
+  @Memoized
   public double distanceTraveled() {
     double distanceTraveled = directionsRoute().distance() - distanceRemaining();
     if (distanceTraveled < 0) {
@@ -78,13 +84,24 @@ public abstract class RouteProgress {
 
   /**
    * Provides the duration remaining in seconds till the user reaches the end of the route.
+   * <p>
+   * With the {@link #routeSuffixSums()} of the route, this is the duration remaining along the current
+   * step plus the durations of the steps and legs after it. Otherwise, it is estimated from the
+   * fraction of the route distance traveled.
    *
    * @return {@code long} value representing the duration remaining till end of route, in unit
    * seconds
    * @since 0.1.0
    */
+  @Memoized
   public double durationRemaining() {
-    return (1 - fractionTraveled()) * directionsRoute().duration();
+    RouteSuffixSums routeSuffixSums = routeSuffixSums();
+    if (routeSuffixSums == null || !routeSuffixSums.isSumsOf(directionsRoute())) {
+      return (1 - fractionTraveled()) * directionsRoute().duration();
+    }
+    return currentLegProgress().currentStepProgress().durationRemaining()
+      + routeSuffixSums.legDurationAfterStep(legIndex(), stepIndex())
+      + routeSuffixSums.durationAfterLeg(legIndex());
   }
 
   /**
@@ -95,6 +112,7 @@ public abstract class RouteProgress {
    * route
    * @since 0.1.0
    */
+  @Memoized
   public float fractionTraveled() {
     float fractionRemaining = 1;
 
@@ -168,6 +186,47 @@ public abstract class RouteProgress {
   @Nullable
   public abstract VoiceInstruction voiceInstruction();
 
+  /**
+   * Identifies the route this progress was built from. Each route passed to
+   * {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation#startNavigation(DirectionsRoute)}
+   * is assigned a new, higher generation. Comparing generations is a cheap way to check if two
+   * progress updates belong to the same route, without comparing the routes themselves.
+   * <p>
+   * Equals {@link com.mapbox.services.android.navigation.v5.navigation.NavigationConstants#UNKNOWN_ROUTE_GENERATION}
+   * if the progress wasn't built by
+   * {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation}.
+   *
+   * @return generation of the current route
+   * @since 0.21.0
+   */
+  public abstract int routeGeneration();
+
+  /**
+   * The banner and voice instructions of the current route, sorted once per route. Use
+   * {@link InstructionTimeline#newCursor()} to look up the current instructions on each update.
+   * <p>
+   * Null if the progress wasn't built by
+   * {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation}.
+   *
+   * @return instruction timeline of the current route
+   * @since 0.21.0
+   */
+  @Nullable
+  public abstract InstructionTimeline instructionTimeline();
+
+  /**
+   * The durations and distances following each leg and step of the current route, summed once per
+   * route and used for the {@link #durationRemaining()} of the route and of its current leg.
+   * <p>
+   * Null if the progress wasn't built by
+   * {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation}.
+   *
+   * @return suffix sums of the current route
+   * @since 0.21.0
+   */
+  @Nullable
+  public abstract RouteSuffixSums routeSuffixSums();
+
   public abstract RouteProgress.Builder toBuilder();
 
   abstract int stepIndex();
@@ -186,11 +245,13 @@ public abstract class RouteProgress {
   @Nullable
   abstract CurrentLegAnnotation currentLegAnnotation();
 
-  abstract List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep();
+  abstract StepIntersectionIndex intersectionIndex();
 
   @AutoValue.Builder
   public abstract static class Builder {
 
+    private RouteLegProgress.Builder legProgressBuilder;
+
     public abstract Builder directionsRoute(DirectionsRoute directionsRoute);
 
     abstract DirectionsRoute directionsRoute();
@@ -233,11 +294,14 @@ public abstract class RouteProgress {
 
     abstract StepIntersection upcomingIntersection();
 
-    public abstract Builder intersectionDistancesAlongStep(
-      List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep
-    );
+    public Builder intersectionDistancesAlongStep(
+      List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep) {
+      return intersectionIndex(StepIntersectionIndex.fromIntersectionDistances(intersectionDistancesAlongStep));
+    }
 
-    abstract List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep();
+    public abstract Builder intersectionIndex(StepIntersectionIndex intersectionIndex);
+
+    abstract StepIntersectionIndex intersectionIndex();
 
     public abstract Builder currentLegAnnotation(@Nullable CurrentLegAnnotation currentLegAnnotation);
 
@@ -249,12 +313,38 @@ public abstract class RouteProgress {
 
     public abstract Builder voiceInstruction(@Nullable VoiceInstruction voiceInstruction);
 
+    public abstract Builder routeGeneration(int routeGeneration);
+
+    public abstract Builder instructionTimeline(@Nullable InstructionTimeline instructionTimeline);
+
+    public abstract Builder routeSuffixSums(@Nullable RouteSuffixSums routeSuffixSums);
+
+    abstract RouteSuffixSums routeSuffixSums();
+
     abstract RouteProgress autoBuild(); // not public
 
+    /**
+     * Builds the route progress.
+     * <p>
+     * A builder can be reused to build the progress of each update: only the values set since the
+     * previous build need to change. The leg and step progress builders are then reused as well,
+     * and the previous leg and step progress are shared if none of their values changed.
+     *
+     * @return a new route progress
+     */
     public RouteProgress build() {
       RouteLeg currentLeg = directionsRoute().legs().get(legIndex());
-      RouteLegProgress legProgress = RouteLegProgress.builder()
+      if (legProgressBuilder == null) {
+        legProgressBuilder = RouteLegProgress.builder();
+      }
+      RouteSuffixSums routeSuffixSums = routeSuffixSums();
+      if (routeSuffixSums != null && !routeSuffixSums.isSumsOf(directionsRoute())) {
+        routeSuffixSums = null;
+      }
+      RouteLegProgress legProgress = legProgressBuilder
         .routeLeg(currentLeg)
+        .legIndex(legIndex())
+        .routeSuffixSums(routeSuffixSums)
         .stepIndex(stepIndex())
         .distanceRemaining(legDistanceRemaining())
         .stepDistanceRemaining(stepDistanceRemaining())
@@ -263,7 +353,7 @@ public abstract class RouteProgress {
         .intersections(intersections())
         .currentIntersection(currentIntersection())
         .upcomingIntersection(upcomingIntersection())
-        .intersectionDistancesAlongStep(intersectionDistancesAlongStep())
+        .intersectionIndex(intersectionIndex())
         .currentLegAnnotation(currentLegAnnotation())
         .build();
       currentLegProgress(legProgress);
@@ -273,6 +363,7 @@ public abstract class RouteProgress {
   }
 
   public static Builder builder() {
-    return new AutoValue_RouteProgress.Builder();
+    return new AutoValue_RouteProgress.Builder()
+      .routeGeneration(UNKNOWN_ROUTE_GENERATION);
   }
 }
\ No newline at end of file
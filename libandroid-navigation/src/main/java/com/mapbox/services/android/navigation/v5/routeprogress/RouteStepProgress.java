@@ -6,6 +6,7 @@ import android.support.annotation.Nullable;
 import android.support.v4.util.Pair;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.StepIntersection;
 
@@ -45,7 +46,14 @@ public abstract class RouteStepProgress {
    * step. Uses unit meters.
    * @since 0.1.0
    */
-  public abstract double distanceTraveled();
+  @Memoized
+  public double distanceTraveled() {
+    double distanceTraveled = step().distance() - distanceRemaining();
+    if (distanceTraveled < 0) {
+      distanceTraveled = 0;
+    }
+    return distanceTraveled;
+  }
 
   /**
    * Get the fraction traveled along the current step, this is a float value between 0 and 1 and
@@ -55,7 +63,18 @@ public abstract class RouteStepProgress {
    * the current step.
    * @since 0.1.0
    */
-  public abstract float fractionTraveled();
+  @Memoized
+  public float fractionTraveled() {
+    float fractionTraveled = 1;
+
+    if (step().distance() > 0) {
+      fractionTraveled = (float) (distanceTraveled() / step().distance());
+      if (fractionTraveled < 0) {
+        fractionTraveled = 0;
+      }
+    }
+    return fractionTraveled;
+  }
 
   /**
    * Provides the duration remaining in seconds till the user reaches the end of the current step.
@@ -63,7 +82,10 @@ public abstract class RouteStepProgress {
    * @return {@code long} value representing the duration remaining till end of step, in unit seconds.
    * @since 0.1.0
    */
-  public abstract double durationRemaining();
+  @Memoized
+  public double durationRemaining() {
+    return (1 - fractionTraveled()) * step().duration();
+  }
 
   /**
    * A collection of all the current steps intersections and the next steps maneuver location
@@ -106,7 +128,19 @@ public abstract class RouteStepProgress {
    * @return list of pairs containing tunnnel entrance and exit distances
    * @since 0.13.0
    */
-  public abstract List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep();
+  public List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep() {
+    return intersectionIndex().toIntersectionDistances();
+  }
+
+  /**
+   * Provides the step intersections along with their distance, in meters, from the beginning of
+   * the step. Unlike {@link #intersectionDistancesAlongStep()}, the distances are held in a
+   * primitive array and can be searched without creating boxed pairs.
+   *
+   * @return measured intersections along the step
+   * @since 0.21.0
+   */
+  public abstract StepIntersectionIndex intersectionIndex();
 
   abstract LegStep step();
 
@@ -118,64 +152,18 @@ public abstract class RouteStepProgress {
 
     abstract Builder step(LegStep step);
 
-    abstract LegStep step();
-
     abstract Builder distanceRemaining(double distanceRemaining);
 
-    abstract double distanceRemaining();
-
     abstract Builder nextStep(@Nullable LegStep nextStep);
 
-    abstract Builder distanceTraveled(double distanceTraveled);
-
-    abstract Builder fractionTraveled(float fractionTraveled);
-
-    abstract Builder durationRemaining(double durationRemaining);
-
     abstract Builder intersections(@NonNull List<StepIntersection> intersections);
 
     abstract Builder currentIntersection(StepIntersection currentIntersection);
 
     abstract Builder upcomingIntersection(@Nullable StepIntersection upcomingIntersection);
 
-    abstract Builder intersectionDistancesAlongStep(List<Pair<StepIntersection, Double>> intersections);
-
-    abstract RouteStepProgress autoBuild();
-
-    RouteStepProgress build() {
-      LegStep step = step();
-      double distanceRemaining = distanceRemaining();
-      double distanceTraveled = calculateDistanceTraveled(step, distanceRemaining);
-      distanceTraveled(distanceTraveled);
-      float fractionTraveled = calculateFractionTraveled(step, distanceTraveled);
-      fractionTraveled(fractionTraveled);
-      durationRemaining(calculateDurationRemaining(step, fractionTraveled));
-
-      return autoBuild();
-    }
-
-    private double calculateDistanceTraveled(LegStep step, double distanceRemaining) {
-      double distanceTraveled = step.distance() - distanceRemaining;
-      if (distanceTraveled < 0) {
-        distanceTraveled = 0;
-      }
-      return distanceTraveled;
-    }
+    abstract Builder intersectionIndex(StepIntersectionIndex intersectionIndex);
 
-    private float calculateFractionTraveled(LegStep step, double distanceTraveled) {
-      float fractionTraveled = 1;
-
-      if (step.distance() > 0) {
-        fractionTraveled = (float) (distanceTraveled / step.distance());
-        if (fractionTraveled < 0) {
-          fractionTraveled = 0;
-        }
-      }
-      return fractionTraveled;
-    }
-
-    private double calculateDurationRemaining(LegStep step, float fractionTraveled) {
-      return (1 - fractionTraveled) * step.duration();
-    }
+    abstract RouteStepProgress build();
   }
-}
\ No newline at end of file
+}
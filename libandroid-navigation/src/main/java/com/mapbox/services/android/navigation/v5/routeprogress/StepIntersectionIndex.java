@@ -0,0 +1,302 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import android.support.annotation.NonNull;
+import android.support.v4.util.Pair;
+
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfConversion;
+import com.mapbox.turf.TurfMeasurement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The intersections of a step along with their distance, in meters, from the beginning of the step
+ * geometry. Distances are stored in a primitive array sorted along the step, so the intersection
+ * being traveled along can be found with a binary search.
+ * <p>
+ * Distances are measured in a single pass over the step geometry using the cumulative distance of
+ * each step coordinate, rather than slicing the step geometry once for every intersection. As the
+ * intersections are traveled through in order, a segment cursor only moves forward along the step.
+ *
+ * @since 0.21.0
+ */
+public final class StepIntersectionIndex {
+
+  private static final StepIntersectionIndex EMPTY = new StepIntersectionIndex(
+    Collections.<StepIntersection>emptyList(), new double[0]
+  );
+  private static final int TWO_POINTS = 2;
+  private static final double METERS_PER_DEGREE = TurfConversion.radiansToLength(
+    TurfConversion.degreesToRadians(1), TurfConstants.UNIT_METERS);
+  private static final double ON_SEGMENT_TOLERANCE_IN_METERS = 1;
+
+  private final List<StepIntersection> intersections;
+  private final double[] distances;
+  private List<Pair<StepIntersection, Double>> intersectionDistances;
+
+  private StepIntersectionIndex(List<StepIntersection> intersections, double[] distances) {
+    this.intersections = intersections;
+    this.distances = distances;
+  }
+
+  /**
+   * Measures the distance of each intersection along the given step geometry. If there are fewer
+   * than two step points or no intersections, an empty index is returned.
+   *
+   * @param stepPoints    the step geometry
+   * @param intersections along the step, in the order they are traveled through
+   * @return index of measured intersections
+   * @since 0.21.0
+   */
+  @NonNull
+  public static StepIntersectionIndex create(@NonNull List<Point> stepPoints,
+                                             @NonNull List<StepIntersection> intersections) {
+    if (stepPoints.size() < TWO_POINTS || intersections.isEmpty()) {
+      return EMPTY;
+    }
+    double[] cumulativeDistances = calculateCumulativeDistances(stepPoints);
+    double[] distances = new double[intersections.size()];
+    int segmentCursor = 0;
+    double distanceCursor = 0;
+    for (int i = 0; i < intersections.size(); i++) {
+      Point location = intersections.get(i).location();
+      segmentCursor = findSegment(stepPoints, cumulativeDistances, location, segmentCursor, distanceCursor);
+      distances[i] = distanceAlongSegment(stepPoints, cumulativeDistances, segmentCursor, location);
+      distanceCursor = Math.max(distanceCursor, distances[i]);
+    }
+    return new StepIntersectionIndex(intersections, distances);
+  }
+
+  /**
+   * Creates an index from already measured intersections.
+   *
+   * @param intersectionDistances pairs of intersections and their distance along the step
+   * @return index of the measured intersections
+   * @since 0.21.0
+   */
+  @NonNull
+  public static StepIntersectionIndex fromIntersectionDistances(
+    @NonNull List<Pair<StepIntersection, Double>> intersectionDistances) {
+    if (intersectionDistances.isEmpty()) {
+      return EMPTY;
+    }
+    List<StepIntersection> intersections = new ArrayList<>(intersectionDistances.size());
+    double[] distances = new double[intersectionDistances.size()];
+    for (int i = 0; i < intersectionDistances.size(); i++) {
+      intersections.add(intersectionDistances.get(i).first);
+      distances[i] = intersectionDistances.get(i).second;
+    }
+    return new StepIntersectionIndex(Collections.unmodifiableList(intersections), distances);
+  }
+
+  /**
+   * @return number of measured intersections
+   * @since 0.21.0
+   */
+  public int size() {
+    return distances.length;
+  }
+
+  /**
+   * @return true if no intersections could be measured along the step
+   * @since 0.21.0
+   */
+  public boolean isEmpty() {
+    return distances.length == 0;
+  }
+
+  /**
+   * @param index of the intersection
+   * @return the intersection at the given index
+   * @since 0.21.0
+   */
+  @NonNull
+  public StepIntersection intersectionAt(int index) {
+    return intersections.get(index);
+  }
+
+  /**
+   * @param index of the intersection
+   * @return distance in meters from the beginning of the step to the intersection
+   * @since 0.21.0
+   */
+  public double distanceAt(int index) {
+    return distances[index];
+  }
+
+  /**
+   * Finds the index of the last intersection passed through, given the distance traveled along
+   * the step. If no intersection has been passed yet, the first index is returned.
+   *
+   * @param stepDistanceTraveled how far the user has traveled along the step
+   * @return index of the current intersection, or -1 if the index is empty
+   * @since 0.21.0
+   */
+  public int findCurrentIndex(double stepDistanceTraveled) {
+    if (isEmpty()) {
+      return -1;
+    }
+    int low = 0;
+    int high = distances.length - 1;
+    int current = 0;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (distances[middle] < stepDistanceTraveled) {
+        current = middle;
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Finds the index of the current intersection starting from the index found on the last update.
+   * Users usually remain on the same intersection or move to the next one, in which case no search
+   * is needed. Otherwise, this falls back to {@link #findCurrentIndex(double)}.
+   *
+   * @param stepDistanceTraveled how far the user has traveled along the step
+   * @param cursor               index of the previously current intersection
+   * @return index of the current intersection, or -1 if the index is empty
+   * @since 0.21.0
+   */
+  public int findCurrentIndex(double stepDistanceTraveled, int cursor) {
+    if (isCurrentIndex(cursor, stepDistanceTraveled)) {
+      return cursor;
+    }
+    if (isCurrentIndex(cursor + 1, stepDistanceTraveled)) {
+      return cursor + 1;
+    }
+    return findCurrentIndex(stepDistanceTraveled);
+  }
+
+  /**
+   * Provides the measured intersections as pairs, which are only created once per index.
+   *
+   * @return list of intersections paired with their distance along the step
+   * @since 0.21.0
+   */
+  @NonNull
+  public synchronized List<Pair<StepIntersection, Double>> toIntersectionDistances() {
+    if (intersectionDistances == null) {
+      List<Pair<StepIntersection, Double>> pairs = new ArrayList<>(distances.length);
+      for (int i = 0; i < distances.length; i++) {
+        pairs.add(new Pair<>(intersections.get(i), distances[i]));
+      }
+      intersectionDistances = Collections.unmodifiableList(pairs);
+    }
+    return intersectionDistances;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof StepIntersectionIndex)) {
+      return false;
+    }
+    StepIntersectionIndex that = (StepIntersectionIndex) other;
+    return Arrays.equals(distances, that.distances) && intersections.equals(that.intersections);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * intersections.hashCode() + Arrays.hashCode(distances);
+  }
+
+  private boolean isCurrentIndex(int index, double stepDistanceTraveled) {
+    if (index < 0 || index >= distances.length || distances[index] >= stepDistanceTraveled) {
+      return false;
+    }
+    boolean isLastIndex = index == distances.length - 1;
+    return isLastIndex || distances[index + 1] >= stepDistanceTraveled;
+  }
+
+  private static double[] calculateCumulativeDistances(List<Point> stepPoints) {
+    double[] cumulativeDistances = new double[stepPoints.size()];
+    for (int i = 1; i < stepPoints.size(); i++) {
+      double segmentDistance = TurfMeasurement.distance(stepPoints.get(i - 1), stepPoints.get(i),
+        TurfConstants.UNIT_METERS);
+      cumulativeDistances[i] = cumulativeDistances[i - 1] + segmentDistance;
+    }
+    return cumulativeDistances;
+  }
+
+  /**
+   * Finds the first segment, from the given one on, the location lies on past the given distance along
+   * the step. Intersections are part of the step geometry, so the search usually stops right away and
+   * the cursor moves forward along the step. Only a location off the step has every remaining segment
+   * checked for the nearest one.
+   */
+  private static int findSegment(List<Point> stepPoints, double[] cumulativeDistances, Point location,
+                                 int fromSegment, double fromDistance) {
+    int lastSegment = stepPoints.size() - TWO_POINTS;
+    int nearestSegment = fromSegment;
+    double nearestDistance = Double.MAX_VALUE;
+    for (int i = fromSegment; i <= lastSegment; i++) {
+      double distance = distanceToSegment(stepPoints.get(i), stepPoints.get(i + 1), location);
+      if (distance <= ON_SEGMENT_TOLERANCE_IN_METERS) {
+        // A location passed again further along the step lies behind the cursor on its first segment
+        boolean isBehindCursor = i == fromSegment && distanceAlongSegment(stepPoints, cumulativeDistances, i,
+          location) + ON_SEGMENT_TOLERANCE_IN_METERS < fromDistance;
+        if (!isBehindCursor) {
+          return i;
+        }
+        continue;
+      }
+      if (distance < nearestDistance) {
+        nearestDistance = distance;
+        nearestSegment = i;
+      }
+    }
+    return nearestSegment;
+  }
+
+  private static double distanceAlongSegment(List<Point> stepPoints, double[] cumulativeDistances,
+                                             int segmentIndex, Point location) {
+    Point start = stepPoints.get(segmentIndex);
+    Point end = stepPoints.get(segmentIndex + 1);
+    double fraction = projectOntoSegment(start, end, location);
+    double segmentDistance = cumulativeDistances[segmentIndex + 1] - cumulativeDistances[segmentIndex];
+    return cumulativeDistances[segmentIndex] + fraction * segmentDistance;
+  }
+
+  /**
+   * Projects the location onto the segment using an equirectangular approximation, which is
+   * accurate enough over the length of a single segment.
+   */
+  private static double projectOntoSegment(Point start, Point end, Point location) {
+    double longitudeScale = Math.cos(Math.toRadians(start.latitude()));
+    double segmentX = (end.longitude() - start.longitude()) * longitudeScale;
+    double segmentY = end.latitude() - start.latitude();
+    double segmentLengthSquared = segmentX * segmentX + segmentY * segmentY;
+    if (segmentLengthSquared == 0) {
+      return 0;
+    }
+    double locationX = (location.longitude() - start.longitude()) * longitudeScale;
+    double locationY = location.latitude() - start.latitude();
+    double fraction = (locationX * segmentX + locationY * segmentY) / segmentLengthSquared;
+    return Math.max(0, Math.min(1, fraction));
+  }
+
+  /**
+   * @return distance in meters from the location to its projection onto the segment, using the same
+   * approximation as {@link #projectOntoSegment(Point, Point, Point)}
+   */
+  private static double distanceToSegment(Point start, Point end, Point location) {
+    double longitudeScale = Math.cos(Math.toRadians(start.latitude()));
+    double segmentX = (end.longitude() - start.longitude()) * longitudeScale;
+    double segmentY = end.latitude() - start.latitude();
+    double fraction = projectOntoSegment(start, end, location);
+    double offsetX = (location.longitude() - start.longitude()) * longitudeScale - fraction * segmentX;
+    double offsetY = location.latitude() - start.latitude() - fraction * segmentY;
+    return Math.sqrt(offsetX * offsetX + offsetY * offsetY) * METERS_PER_DEGREE;
+  }
+}
@@ -16,17 +16,28 @@ public class SnapToRoute extends Snap {
     return location;
   }
 
-  public Location getSnappedLocationWith(NavigationStatus status) {
-    return buildSnappedLocation(status);
+  /**
+   * Builds the location snapped by the navigator, keeping the speed of the raw location it was
+   * snapped from, as the navigator doesn't report one.
+   *
+   * @param status      of the navigator for the raw location
+   * @param rawLocation the status was built from
+   * @return snapped location
+   */
+  public Location getSnappedLocationWith(NavigationStatus status, Location rawLocation) {
+    return buildSnappedLocation(status, rawLocation);
   }
 
   @NonNull
-  private Location buildSnappedLocation(NavigationStatus status) {
+  private Location buildSnappedLocation(NavigationStatus status, Location rawLocation) {
     Location snappedLocation = new Location(NAVIGATOR_SNAPPED_LOCATION);
     snappedLocation.setLatitude(status.getLocation().latitude());
     snappedLocation.setLongitude(status.getLocation().longitude());
     snappedLocation.setBearing(status.getBearing());
     snappedLocation.setTime(status.getTime().getTime());
+    if (rawLocation.hasSpeed()) {
+      snappedLocation.setSpeed(rawLocation.getSpeed());
+    }
     return snappedLocation;
   }
 }
\ No newline at end of file
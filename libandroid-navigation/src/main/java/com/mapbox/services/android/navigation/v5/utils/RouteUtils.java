@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Set;
 
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_TYPE_ARRIVE;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.UNKNOWN_ROUTE_GENERATION;
 
 public class RouteUtils {
 
@@ -48,19 +49,41 @@ public class RouteUtils {
   };
 
   /**
-   * Compares a new routeProgress geometry to a previousRouteProgress geometry to determine if the
-   * user is traversing along a new route. If the route geometries do not match, this returns true.
+   * Compares a new routeProgress to a previousRouteProgress to determine if the user is traversing
+   * along a new route.
+   * <p>
+   * If both progress objects carry a {@link RouteProgress#routeGeneration()}, only the generations
+   * are compared. Otherwise, this falls back to comparing the route geometries.
    *
    * @param previousRouteProgress the past route progress with the directions route included
    * @param routeProgress         the route progress with the directions route included
-   * @return true if the direction route geometries do not match up, otherwise, false
+   * @return true if the routes do not match up, otherwise, false
    * @since 0.7.0
    */
   public boolean isNewRoute(@Nullable RouteProgress previousRouteProgress,
                             @NonNull RouteProgress routeProgress) {
+    if (previousRouteProgress != null && hasRouteGeneration(previousRouteProgress, routeProgress)) {
+      return previousRouteProgress.routeGeneration() != routeProgress.routeGeneration();
+    }
     return isNewRoute(previousRouteProgress, routeProgress.directionsRoute());
   }
 
+  /**
+   * Checks if both progress objects were built by
+   * {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation}, in which case
+   * their {@link RouteProgress#routeGeneration()} can be compared instead of their routes.
+   *
+   * @param previousRouteProgress the past route progress
+   * @param routeProgress         the current route progress
+   * @return true if both route generations are known, false otherwise
+   * @since 0.21.0
+   */
+  public boolean hasRouteGeneration(@NonNull RouteProgress previousRouteProgress,
+                                    @NonNull RouteProgress routeProgress) {
+    return previousRouteProgress.routeGeneration() != UNKNOWN_ROUTE_GENERATION
+      && routeProgress.routeGeneration() != UNKNOWN_ROUTE_GENERATION;
+  }
+
   /**
    * Compares a new routeProgress geometry to a previousRouteProgress geometry to determine if the
    * user is traversing along a new route. If the route geometries do not match, this returns true.
@@ -0,0 +1,126 @@
+package com.mapbox.services.android.navigation.v5.instruction;
+
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class InstructionTimelineTest extends BaseTest {
+
+  private static final String ROUTE_FIXTURE = "directions_v5_precision_6.json";
+  private static final double DISTANCE_INCREMENT = 2.5;
+
+  @Test
+  public void findCurrentInstructions_matchesRouteUtils() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ROUTE_FIXTURE);
+    RouteUtils routeUtils = new RouteUtils();
+    InstructionTimeline timeline = InstructionTimeline.create(route);
+
+    List<LegStep> steps = route.legs().get(0).steps();
+    for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+      LegStep step = steps.get(stepIndex);
+      for (double remaining = step.distance() + 10; remaining >= 0; remaining -= DISTANCE_INCREMENT) {
+        assertEquals(routeUtils.findCurrentBannerInstructions(step, remaining),
+          timeline.findCurrentBannerInstructions(0, stepIndex, remaining));
+        assertEquals(routeUtils.findCurrentVoiceInstructions(step, remaining),
+          timeline.findCurrentVoiceInstructions(0, stepIndex, remaining));
+      }
+    }
+  }
+
+  @Test
+  public void cursor_matchesTimelineWhileTravelingAlongRoute() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ROUTE_FIXTURE);
+    InstructionTimeline timeline = InstructionTimeline.create(route);
+    InstructionTimeline.Cursor cursor = timeline.newCursor();
+
+    List<LegStep> steps = route.legs().get(0).steps();
+    for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+      for (double remaining = steps.get(stepIndex).distance(); remaining >= 0; remaining -= DISTANCE_INCREMENT) {
+        assertEquals(timeline.findCurrentBannerInstructions(0, stepIndex, remaining),
+          cursor.findCurrentBannerInstructions(0, stepIndex, remaining));
+        assertEquals(timeline.findCurrentVoiceInstructions(0, stepIndex, remaining),
+          cursor.findCurrentVoiceInstructions(0, stepIndex, remaining));
+      }
+    }
+  }
+
+  @Test
+  public void cursor_distanceRemainingIncreasingWithinStepMatchesTimeline() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ROUTE_FIXTURE);
+    InstructionTimeline timeline = InstructionTimeline.create(route);
+    InstructionTimeline.Cursor cursor = timeline.newCursor();
+    int stepIndex = findStepWithMostBannerInstructions(route);
+    double stepDistance = route.legs().get(0).steps().get(stepIndex).distance();
+
+    cursor.findCurrentBannerInstructions(0, stepIndex, 0);
+
+    assertEquals(timeline.findCurrentBannerInstructions(0, stepIndex, stepDistance),
+      cursor.findCurrentBannerInstructions(0, stepIndex, stepDistance));
+  }
+
+  @Test
+  public void findCurrentBannerPosition_matchesPositionInLegInstructions() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ROUTE_FIXTURE);
+    InstructionTimeline timeline = InstructionTimeline.create(route);
+    InstructionTimeline.Cursor cursor = timeline.newCursor();
+    List<BannerInstructions> legInstructions = new ArrayList<>();
+    List<LegStep> steps = route.legs().get(0).steps();
+    for (LegStep step : steps) {
+      if (step.bannerInstructions() != null) {
+        legInstructions.addAll(step.bannerInstructions());
+      }
+    }
+
+    for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+      for (double remaining = steps.get(stepIndex).distance(); remaining >= 0; remaining -= DISTANCE_INCREMENT) {
+        BannerInstructions current = timeline.findCurrentBannerInstructions(0, stepIndex, remaining);
+        int position = cursor.findCurrentBannerPosition(0, stepIndex, remaining);
+        assertEquals(legInstructions.indexOf(current), position);
+      }
+    }
+  }
+
+  @Test
+  public void findCurrentInstructions_invalidIndicesReturnNull() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ROUTE_FIXTURE);
+    InstructionTimeline timeline = InstructionTimeline.create(route);
+    int stepCount = route.legs().get(0).steps().size();
+
+    assertNull(timeline.findCurrentBannerInstructions(1, 0, 0));
+    assertNull(timeline.findCurrentVoiceInstructions(0, stepCount, 0));
+    assertEquals(-1, timeline.newCursor().findCurrentBannerPosition(0, -1, 0));
+  }
+
+  @Test
+  public void isTimelineOf_onlyMatchesRouteInstance() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ROUTE_FIXTURE);
+
+    InstructionTimeline timeline = InstructionTimeline.create(route);
+
+    assertTrue(timeline.isTimelineOf(route));
+    assertFalse(timeline.isTimelineOf(buildTestDirectionsRoute(ROUTE_FIXTURE)));
+  }
+
+  private int findStepWithMostBannerInstructions(DirectionsRoute route) {
+    List<LegStep> steps = route.legs().get(0).steps();
+    int stepIndex = 0;
+    for (int i = 0; i < steps.size(); i++) {
+      if (steps.get(i).bannerInstructions().size() > steps.get(stepIndex).bannerInstructions().size()) {
+        stepIndex = i;
+      }
+    }
+    return stepIndex;
+  }
+}
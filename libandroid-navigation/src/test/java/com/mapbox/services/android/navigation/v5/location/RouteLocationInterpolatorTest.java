@@ -0,0 +1,142 @@
+package com.mapbox.services.android.navigation.v5.location;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.geojson.Point;
+import com.mapbox.navigator.NavigationStatus;
+import com.mapbox.services.android.navigation.BuildConfig;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.route.RouteGeometryIndex;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.snap.SnapToRoute;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class)
+public class RouteLocationInterpolatorTest extends BaseTest {
+
+  private static final double METERS_DELTA = 1E-6;
+  private RouteGeometryIndex geometryIndex;
+  private RouteProgress routeProgress;
+  private List<Point> stepPoints;
+
+  @Before
+  public void setUp() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    geometryIndex = RouteGeometryIndex.create(route);
+    routeProgress = buildDefaultTestRouteProgress(route);
+    stepPoints = geometryIndex.stepPoints(0, 0);
+  }
+
+  @Test
+  public void interpolate_beforeUpdateReturnsNull() {
+    RouteLocationInterpolator interpolator = new RouteLocationInterpolator();
+
+    assertNull(interpolator.interpolate(0));
+  }
+
+  @Test
+  public void interpolate_withoutGeometryIndexReturnsSnappedLocation() {
+    RouteLocationInterpolator interpolator = new RouteLocationInterpolator();
+    Location snappedLocation = buildLocation(stepPoints.get(0), 10f);
+
+    interpolator.update(snappedLocation, routeProgress, null, 0);
+
+    assertSame(snappedLocation, interpolator.interpolate(500));
+  }
+
+  @Test
+  public void update_snapsLocationOntoStepGeometry() {
+    RouteLocationInterpolator interpolator = new RouteLocationInterpolator();
+    Point stepPoint = stepPoints.get(1);
+
+    interpolator.update(buildLocation(stepPoint, 0f), routeProgress, geometryIndex, 0);
+    double[] coordinate = interpolator.findCoordinateAt(interpolator.distanceAlongLeg(0));
+
+    assertEquals(stepPoint.longitude(), coordinate[0], DELTA);
+    assertEquals(stepPoint.latitude(), coordinate[1], DELTA);
+  }
+
+  @Test
+  public void distanceAlongLeg_advancesWithSpeed() {
+    RouteLocationInterpolator interpolator = new RouteLocationInterpolator();
+    interpolator.update(buildLocation(stepPoints.get(0), 10f), routeProgress, geometryIndex, 1000);
+
+    double distance = interpolator.distanceAlongLeg(1500) - interpolator.distanceAlongLeg(1000);
+
+    assertEquals(5, distance, METERS_DELTA);
+  }
+
+  @Test
+  public void distanceAlongLeg_stopsExtrapolatingAfterMaximum() {
+    RouteLocationInterpolator interpolator = new RouteLocationInterpolator();
+    interpolator.update(buildLocation(stepPoints.get(0), 10f), routeProgress, geometryIndex, 0);
+
+    double distance = interpolator.distanceAlongLeg(10000);
+
+    assertEquals(30, distance, METERS_DELTA);
+  }
+
+  @Test
+  public void update_blendsOutDisagreementWithPrediction() {
+    RouteLocationInterpolator interpolator = new RouteLocationInterpolator();
+    Location snappedLocation = buildLocation(stepPoints.get(0), 10f);
+    interpolator.update(snappedLocation, routeProgress, geometryIndex, 0);
+
+    interpolator.update(snappedLocation, routeProgress, geometryIndex, 1000);
+
+    assertEquals(10, interpolator.distanceAlongLeg(1000), METERS_DELTA);
+    assertEquals(10, interpolator.distanceAlongLeg(2000), METERS_DELTA);
+    assertEquals(15, interpolator.distanceAlongLeg(2500), METERS_DELTA);
+  }
+
+  @Test
+  public void distanceAlongLeg_advancesWithSpeedOfLocationSnappedByNavigator() {
+    RouteLocationInterpolator interpolator = new RouteLocationInterpolator();
+    NavigationStatus status = mock(NavigationStatus.class);
+    when(status.getLocation()).thenReturn(stepPoints.get(0));
+    when(status.getTime()).thenReturn(new Date(1000));
+    Location rawLocation = new Location("gps");
+    rawLocation.setSpeed(10f);
+    Location snappedLocation = new SnapToRoute().getSnappedLocationWith(status, rawLocation);
+    interpolator.update(snappedLocation, routeProgress, geometryIndex, 1000);
+
+    double distance = interpolator.distanceAlongLeg(1500) - interpolator.distanceAlongLeg(1000);
+
+    assertEquals(5, distance, METERS_DELTA);
+  }
+
+  @Test
+  public void findCoordinateAt_startOfLegIsFirstStepPoint() {
+    RouteLocationInterpolator interpolator = new RouteLocationInterpolator();
+    interpolator.update(buildLocation(stepPoints.get(0), 0f), routeProgress, geometryIndex, 0);
+
+    double[] coordinate = interpolator.findCoordinateAt(-10);
+
+    assertEquals(stepPoints.get(0).longitude(), coordinate[0], DELTA);
+    assertEquals(stepPoints.get(0).latitude(), coordinate[1], DELTA);
+  }
+
+  private Location buildLocation(Point point, float speed) {
+    Location location = mock(Location.class);
+    when(location.getLongitude()).thenReturn(point.longitude());
+    when(location.getLatitude()).thenReturn(point.latitude());
+    when(location.getSpeed()).thenReturn(speed);
+    return location;
+  }
+}
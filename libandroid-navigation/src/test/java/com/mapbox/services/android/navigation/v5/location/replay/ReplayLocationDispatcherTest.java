@@ -1,7 +1,8 @@
 package com.mapbox.services.android.navigation.v5.location.replay;
 
 import android.location.Location;
-import android.os.Handler;
+
+import com.mapbox.services.android.navigation.v5.navigation.NavigationScheduler;
 
 import org.junit.Test;
 
@@ -57,12 +58,12 @@ public class ReplayLocationDispatcherTest {
     when(secondLocation.getTime()).thenReturn(2000L);
     anyLocations.add(firstLocation);
     anyLocations.add(secondLocation);
-    Handler aHandler = mock(Handler.class);
-    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    NavigationScheduler aScheduler = mock(NavigationScheduler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aScheduler);
 
     theReplayLocationDispatcher.run();
 
-    verify(aHandler, times(1)).postDelayed(eq(theReplayLocationDispatcher), eq(1000L));
+    verify(aScheduler, times(1)).postDelayed(eq(theReplayLocationDispatcher), eq(1000L));
   }
 
   @Test
@@ -70,12 +71,12 @@ public class ReplayLocationDispatcherTest {
     List<Location> anyLocations = new ArrayList<>(1);
     Location firstLocation = createALocation();
     anyLocations.add(firstLocation);
-    Handler aHandler = mock(Handler.class);
-    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    NavigationScheduler aScheduler = mock(NavigationScheduler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aScheduler);
 
     theReplayLocationDispatcher.run();
 
-    verify(aHandler, never()).postDelayed(any(Runnable.class), anyLong());
+    verify(aScheduler, never()).postDelayed(any(Runnable.class), anyLong());
   }
 
   @Test
@@ -83,19 +84,19 @@ public class ReplayLocationDispatcherTest {
     List<Location> anyLocations = new ArrayList<>(1);
     Location firstLocation = createALocation();
     anyLocations.add(firstLocation);
-    Handler aHandler = mock(Handler.class);
-    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    NavigationScheduler aScheduler = mock(NavigationScheduler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aScheduler);
 
     theReplayLocationDispatcher.run();
 
-    verify(aHandler, times(1)).removeCallbacks(eq(theReplayLocationDispatcher));
+    verify(aScheduler, times(1)).removeCallbacks(eq(theReplayLocationDispatcher));
   }
 
   @Test
   public void checksClearLocationsWhenStop() {
     List<Location> theLocations = mock(List.class);
-    Handler aHandler = mock(Handler.class);
-    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(theLocations, aHandler);
+    NavigationScheduler aScheduler = mock(NavigationScheduler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(theLocations, aScheduler);
 
     theReplayLocationDispatcher.stop();
 
@@ -105,30 +106,30 @@ public class ReplayLocationDispatcherTest {
   @Test
   public void checksStopDispatchingWhenStop() {
     List<Location> anyLocations = mock(List.class);
-    Handler aHandler = mock(Handler.class);
-    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    NavigationScheduler aScheduler = mock(NavigationScheduler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aScheduler);
 
     theReplayLocationDispatcher.stop();
 
-    verify(aHandler, times(1)).removeCallbacks(eq(theReplayLocationDispatcher));
+    verify(aScheduler, times(1)).removeCallbacks(eq(theReplayLocationDispatcher));
   }
 
   @Test
   public void checksStopDispatchingWhenPause() {
     List<Location> anyLocations = mock(List.class);
-    Handler aHandler = mock(Handler.class);
-    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    NavigationScheduler aScheduler = mock(NavigationScheduler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aScheduler);
 
     theReplayLocationDispatcher.pause();
 
-    verify(aHandler, times(1)).removeCallbacks(eq(theReplayLocationDispatcher));
+    verify(aScheduler, times(1)).removeCallbacks(eq(theReplayLocationDispatcher));
   }
 
   @Test(expected = IllegalArgumentException.class)
   public void checksNonNullLocationListRequiredWhenUpdate() {
     List<Location> anyLocations = mock(List.class);
-    Handler aHandler = mock(Handler.class);
-    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    NavigationScheduler aScheduler = mock(NavigationScheduler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aScheduler);
     List<Location> nullLocations = null;
 
     theReplayLocationDispatcher.update(nullLocations);
@@ -137,8 +138,8 @@ public class ReplayLocationDispatcherTest {
   @Test(expected = IllegalArgumentException.class)
   public void checksNonEmptyLocationListRequiredWhenUpdate() {
     List<Location> anyLocations = mock(List.class);
-    Handler aHandler = mock(Handler.class);
-    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    NavigationScheduler aScheduler = mock(NavigationScheduler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aScheduler);
     List<Location> empty = Collections.emptyList();
 
     theReplayLocationDispatcher.update(empty);
@@ -147,8 +148,8 @@ public class ReplayLocationDispatcherTest {
   @Test
   public void checksAddLocationsWhenAdd() {
     List<Location> anyLocations = mock(List.class);
-    Handler aHandler = mock(Handler.class);
-    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    NavigationScheduler aScheduler = mock(NavigationScheduler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aScheduler);
     List<Location> locationsToReplay = mock(List.class);
 
     theReplayLocationDispatcher.add(locationsToReplay);
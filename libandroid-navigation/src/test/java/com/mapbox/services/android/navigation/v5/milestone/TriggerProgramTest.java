@@ -0,0 +1,174 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import android.util.SparseArray;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.BuildConfig;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class)
+public class TriggerProgramTest extends BaseTest {
+
+  private static final String ROUTE_FIXTURE = "directions_v5_precision_6.json";
+  private static final int FIFTY_MILESTONES = 50;
+
+  @Test
+  public void compile_nestedStatementsAreFlattened() throws Exception {
+    Trigger.Statement statement = Trigger.all(
+      Trigger.gt(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, 100d),
+      Trigger.any(
+        Trigger.eq(TriggerProperty.STEP_INDEX, 1),
+        Trigger.none(Trigger.eq(TriggerProperty.NEW_STEP, TriggerProperty.TRUE))
+      )
+    );
+
+    TriggerProgram program = TriggerProgram.compile(statement);
+
+    assertEquals(6, program.nodeCount());
+  }
+
+  @Test
+  public void isOccurring_matchesStatementEvaluation() throws Exception {
+    RouteProgress previousRouteProgress = buildProgramRouteProgress(0);
+    RouteProgress routeProgress = buildProgramRouteProgress(1);
+    TriggerSnapshot snapshot = TriggerSnapshot.from(previousRouteProgress, routeProgress);
+    SparseArray<Number[]> statementObjects = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress);
+    Trigger.Statement[] statements = {
+      Trigger.all(),
+      Trigger.any(),
+      Trigger.none(),
+      Trigger.all(
+        Trigger.gt(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, 100d),
+        Trigger.eq(TriggerProperty.STEP_INDEX, 1)
+      ),
+      Trigger.all(
+        Trigger.lte(TriggerProperty.STEP_DISTANCE_REMAINING_METERS, 10d),
+        Trigger.eq(TriggerProperty.STEP_INDEX, 1)
+      ),
+      Trigger.any(
+        Trigger.lt(TriggerProperty.STEP_DURATION_TOTAL_SECONDS, 1d),
+        Trigger.all(
+          Trigger.eq(TriggerProperty.NEW_STEP, TriggerProperty.TRUE),
+          Trigger.gte(TriggerProperty.STEP_INDEX, 1)
+        )
+      ),
+      Trigger.none(
+        Trigger.neq(TriggerProperty.FIRST_STEP, TriggerProperty.FALSE),
+        Trigger.gt(TriggerProperty.NEXT_STEP_DISTANCE_METERS, 0d)
+      )
+    };
+
+    for (Trigger.Statement statement : statements) {
+      TriggerProgram program = TriggerProgram.compile(statement);
+      assertEquals(statement.isOccurring(statementObjects), program.isOccurring(snapshot));
+    }
+  }
+
+  @Test
+  public void isOccurring_fiftyMilestonesMatchStatementEvaluation() throws Exception {
+    RouteProgress previousRouteProgress = buildProgramRouteProgress(0);
+    RouteProgress routeProgress = buildProgramRouteProgress(1);
+    TriggerSnapshot snapshot = TriggerSnapshot.from(previousRouteProgress, routeProgress);
+    SparseArray<Number[]> statementObjects = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress);
+
+    for (int i = 0; i < FIFTY_MILESTONES; i++) {
+      double distance = 50d * (i + 1);
+      Trigger.Statement statement = Trigger.all(
+        Trigger.gt(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, distance),
+        Trigger.lte(TriggerProperty.STEP_DISTANCE_REMAINING_METERS, distance),
+        Trigger.any(
+          Trigger.eq(TriggerProperty.NEW_STEP, TriggerProperty.TRUE),
+          Trigger.gte(TriggerProperty.STEP_INDEX, i % 3),
+          Trigger.none(Trigger.eq(TriggerProperty.LAST_STEP, TriggerProperty.TRUE))
+        )
+      );
+      TriggerProgram program = TriggerProgram.compile(statement);
+      assertEquals(statement.isOccurring(statementObjects), program.isOccurring(snapshot));
+    }
+  }
+
+  @Test
+  public void isOccurring_allStopsAtFirstFalseStatement() throws Exception {
+    RouteProgress routeProgress = buildProgramRouteProgress(1);
+    CountingStatement countingStatement = new CountingStatement();
+    TriggerProgram program = TriggerProgram.compile(Trigger.all(
+      Trigger.eq(TriggerProperty.STEP_INDEX, 0),
+      countingStatement
+    ));
+
+    boolean result = program.isOccurring(TriggerSnapshot.from(routeProgress, routeProgress));
+
+    assertFalse(result);
+    assertEquals(0, countingStatement.evaluations);
+  }
+
+  @Test
+  public void isOccurring_anyStopsAtFirstTrueStatement() throws Exception {
+    RouteProgress routeProgress = buildProgramRouteProgress(1);
+    CountingStatement countingStatement = new CountingStatement();
+    TriggerProgram program = TriggerProgram.compile(Trigger.any(
+      Trigger.eq(TriggerProperty.STEP_INDEX, 1),
+      countingStatement
+    ));
+
+    boolean result = program.isOccurring(TriggerSnapshot.from(routeProgress, routeProgress));
+
+    assertTrue(result);
+    assertEquals(0, countingStatement.evaluations);
+  }
+
+  @Test
+  public void isOccurring_customStatementIsEvaluated() throws Exception {
+    RouteProgress routeProgress = buildProgramRouteProgress(1);
+    CountingStatement countingStatement = new CountingStatement();
+    TriggerProgram program = TriggerProgram.compile(Trigger.all(
+      Trigger.eq(TriggerProperty.STEP_INDEX, 1),
+      countingStatement
+    ));
+
+    boolean result = program.isOccurring(TriggerSnapshot.from(routeProgress, routeProgress));
+
+    assertTrue(result);
+    assertEquals(1, countingStatement.evaluations);
+  }
+
+  @Test
+  public void isOccurring_missingStatementNeverOccurs() throws Exception {
+    RouteProgress routeProgress = buildProgramRouteProgress(1);
+
+    TriggerProgram program = TriggerProgram.compile(null);
+
+    assertFalse(program.isOccurring(TriggerSnapshot.from(routeProgress, routeProgress)));
+  }
+
+  private RouteProgress buildProgramRouteProgress(int stepIndex) throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ROUTE_FIXTURE);
+    double distanceRemaining = route.distance();
+    double legDistanceRemaining = route.legs().get(0).distance();
+    double stepDistanceRemaining = route.legs().get(0).steps().get(stepIndex).distance();
+    return buildTestRouteProgress(route, stepDistanceRemaining,
+      legDistanceRemaining, distanceRemaining, stepIndex, 0);
+  }
+
+  private static class CountingStatement extends Trigger.Statement {
+
+    private int evaluations;
+
+    @Override
+    public boolean isOccurring(SparseArray<Number[]> statementObjects) {
+      evaluations++;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import android.util.SparseArray;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.BuildConfig;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class)
+public class TriggerSnapshotTest extends BaseTest {
+
+  private static final String ROUTE_FIXTURE = "directions_v5_precision_6.json";
+
+  @Test
+  public void toSparseArray_matchesTriggerPropertySparseArray() throws Exception {
+    RouteProgress previousRouteProgress = buildSnapshotRouteProgress(0);
+    RouteProgress routeProgress = buildSnapshotRouteProgress(1);
+    SparseArray<Number[]> expected = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress);
+
+    SparseArray<Number[]> actual = TriggerSnapshot.from(previousRouteProgress, routeProgress).toSparseArray();
+
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      int key = expected.keyAt(i);
+      assertTrue(Arrays.equals(expected.get(key), actual.get(key)));
+    }
+  }
+
+  @Test
+  public void isOccurring_snapshotMatchesSparseArrayEvaluation() throws Exception {
+    RouteProgress previousRouteProgress = buildSnapshotRouteProgress(0);
+    RouteProgress routeProgress = buildSnapshotRouteProgress(1);
+    SparseArray<Number[]> statementObjects = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress);
+    TriggerSnapshot snapshot = TriggerSnapshot.from(previousRouteProgress, routeProgress);
+    double stepDistance = routeProgress.currentLegProgress().currentStep().distance();
+    Trigger.Statement[] statements = {
+      Trigger.gt(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, 100d),
+      Trigger.gte(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, stepDistance),
+      Trigger.lt(TriggerProperty.STEP_DURATION_REMAINING_SECONDS, 10d),
+      Trigger.lte(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, stepDistance),
+      Trigger.eq(TriggerProperty.STEP_INDEX, 1),
+      Trigger.neq(TriggerProperty.STEP_INDEX, 1),
+      Trigger.eq(TriggerProperty.NEW_STEP, TriggerProperty.TRUE),
+      Trigger.eq(TriggerProperty.NEW_STEP, TriggerProperty.FALSE),
+      Trigger.neq(TriggerProperty.FIRST_STEP, TriggerProperty.TRUE),
+      Trigger.gt(TriggerProperty.LAST_LEG, TriggerProperty.FALSE),
+      Trigger.all(
+        Trigger.gt(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, 100d),
+        Trigger.eq(TriggerProperty.STEP_INDEX, 1)
+      ),
+      Trigger.any(
+        Trigger.lt(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, 100d),
+        Trigger.neq(TriggerProperty.NEW_STEP, TriggerProperty.FALSE)
+      ),
+      Trigger.none(
+        Trigger.eq(TriggerProperty.LAST_STEP, TriggerProperty.TRUE)
+      )
+    };
+
+    for (Trigger.Statement statement : statements) {
+      assertEquals(statement.isOccurring(statementObjects), statement.isOccurring(snapshot));
+    }
+  }
+
+  @Test
+  public void isOccurring_customStatementReceivesSnapshotValues() throws Exception {
+    RouteProgress routeProgress = buildSnapshotRouteProgress(1);
+    TriggerSnapshot snapshot = TriggerSnapshot.from(routeProgress, routeProgress);
+    Trigger.Statement customStatement = new Trigger.Statement() {
+      @Override
+      public boolean isOccurring(SparseArray<Number[]> statementObjects) {
+        return statementObjects.get(TriggerProperty.STEP_INDEX)[0].equals(1);
+      }
+    };
+
+    assertTrue(customStatement.isOccurring(snapshot));
+  }
+
+  @Test
+  public void isOccurring_propertyMissingFromSnapshotIsFalse() throws Exception {
+    TriggerSnapshot snapshot = new TriggerSnapshot();
+
+    assertFalse(Trigger.lt(TriggerProperty.STEP_INDEX, 1).isOccurring(snapshot));
+    assertFalse(Trigger.eq(TriggerProperty.TRUE, 0).isOccurring(snapshot));
+  }
+
+  @Test
+  public void update_overwritesPreviousValues() throws Exception {
+    RouteProgress firstStepProgress = buildSnapshotRouteProgress(0);
+    RouteProgress secondStepProgress = buildSnapshotRouteProgress(1);
+    TriggerSnapshot snapshot = new TriggerSnapshot();
+
+    snapshot.update(firstStepProgress, firstStepProgress);
+    snapshot.update(firstStepProgress, secondStepProgress);
+
+    assertEquals(1d, snapshot.firstValue(TriggerProperty.STEP_INDEX));
+    assertTrue(snapshot.hasTwoValues(TriggerProperty.NEW_STEP));
+    assertEquals(0d, snapshot.firstValue(TriggerProperty.NEW_STEP));
+    assertEquals(1d, snapshot.secondValue(TriggerProperty.NEW_STEP));
+  }
+
+  private RouteProgress buildSnapshotRouteProgress(int stepIndex) throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ROUTE_FIXTURE);
+    double distanceRemaining = route.distance();
+    double legDistanceRemaining = route.legs().get(0).distance();
+    double stepDistanceRemaining = route.legs().get(0).steps().get(stepIndex).distance();
+    return buildTestRouteProgress(route, stepDistanceRemaining,
+      legDistanceRemaining, distanceRemaining, stepIndex, 0);
+  }
+}
@@ -0,0 +1,125 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AdaptiveProcessingRateTest {
+
+  private static final double MANEUVER_ZONE_RADIUS = 40;
+
+  @Test
+  public void update_disabledKeepsDefaultInterval() {
+    AdaptiveProcessingRate processingRate = new AdaptiveProcessingRate(false, MANEUVER_ZONE_RADIUS);
+
+    boolean hasChanged = processingRate.update(buildLocation(0f), buildRouteProgress(1000), false);
+
+    assertFalse(hasChanged);
+    assertEquals(1000, processingRate.timerInterval());
+  }
+
+  @Test
+  public void update_withinManeuverZoneRaisesRate() {
+    AdaptiveProcessingRate processingRate = new AdaptiveProcessingRate(true, MANEUVER_ZONE_RADIUS);
+
+    boolean hasChanged = processingRate.update(buildLocation(0f), buildRouteProgress(30), false);
+
+    assertTrue(hasChanged);
+    assertEquals(250, processingRate.timerInterval());
+    assertEquals(0, processingRate.locationEngineInterval());
+  }
+
+  @Test
+  public void update_stationaryLowersRate() {
+    AdaptiveProcessingRate processingRate = new AdaptiveProcessingRate(true, MANEUVER_ZONE_RADIUS);
+
+    processingRate.update(buildLocation(0.2f), buildRouteProgress(200), false);
+
+    assertEquals(3000, processingRate.timerInterval());
+    assertEquals(3000, processingRate.locationEngineInterval());
+    assertEquals(3000, processingRate.locationEngineFastestInterval());
+  }
+
+  @Test
+  public void update_maneuverZoneFarAwayLowersRate() {
+    AdaptiveProcessingRate processingRate = new AdaptiveProcessingRate(true, MANEUVER_ZONE_RADIUS);
+
+    processingRate.update(buildLocation(10f), buildRouteProgress(1000), false);
+
+    assertEquals(2000, processingRate.timerInterval());
+  }
+
+  @Test
+  public void update_maneuverZoneCloseKeepsDefaultRate() {
+    AdaptiveProcessingRate processingRate = new AdaptiveProcessingRate(true, MANEUVER_ZONE_RADIUS);
+
+    boolean hasChanged = processingRate.update(buildLocation(10f), buildRouteProgress(200), false);
+
+    assertFalse(hasChanged);
+    assertEquals(1000, processingRate.timerInterval());
+  }
+
+  @Test
+  public void update_offRouteKeepsDefaultRate() {
+    AdaptiveProcessingRate processingRate = new AdaptiveProcessingRate(true, MANEUVER_ZONE_RADIUS);
+
+    processingRate.update(buildLocation(0f), buildRouteProgress(30), true);
+
+    assertEquals(1000, processingRate.timerInterval());
+  }
+
+  @Test
+  public void locationDrivenInterval_neverBelowMinimum() {
+    AdaptiveProcessingRate processingRate = new AdaptiveProcessingRate(true, MANEUVER_ZONE_RADIUS);
+    processingRate.update(buildLocation(0f), buildRouteProgress(30), false);
+
+    assertEquals(500, processingRate.locationDrivenInterval(500));
+  }
+
+  @Test
+  public void stats_countsSavedTimerTicks() {
+    AdaptiveProcessingRate processingRate = new AdaptiveProcessingRate(true, MANEUVER_ZONE_RADIUS);
+
+    processingRate.recordTimerTick(3000);
+    processingRate.recordTimerTick(3000);
+    ProcessingRateStats stats = processingRate.stats();
+
+    assertEquals(2, stats.processedTickCount());
+    assertEquals(4, stats.savedTickCount());
+  }
+
+  @Test
+  public void stats_countsCoalescedLocationsAsSaved() {
+    AdaptiveProcessingRate processingRate = new AdaptiveProcessingRate(true, MANEUVER_ZONE_RADIUS);
+
+    processingRate.recordLocationTick();
+    processingRate.recordCoalescedLocation();
+    ProcessingRateStats stats = processingRate.stats();
+
+    assertEquals(1, stats.processedTickCount());
+    assertEquals(1, stats.savedTickCount());
+  }
+
+  private Location buildLocation(float speed) {
+    Location location = mock(Location.class);
+    when(location.hasSpeed()).thenReturn(true);
+    when(location.getSpeed()).thenReturn(speed);
+    return location;
+  }
+
+  private RouteProgress buildRouteProgress(double stepDistanceRemaining) {
+    RouteProgress routeProgress = mock(RouteProgress.class, RETURNS_DEEP_STUBS);
+    when(routeProgress.currentLegProgress().currentStepProgress().distanceRemaining())
+      .thenReturn(stepDistanceRemaining);
+    return routeProgress;
+  }
+}
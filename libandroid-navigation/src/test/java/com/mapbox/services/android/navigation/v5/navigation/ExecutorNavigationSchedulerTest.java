@@ -0,0 +1,165 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutorNavigationSchedulerTest {
+
+  private static final long TIMEOUT_IN_SECONDS = 5;
+  private ScheduledExecutorService executor;
+  private ExecutorNavigationScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newSingleThreadScheduledExecutor();
+    scheduler = new ExecutorNavigationScheduler(executor);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void post_runsRunnable() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+
+    scheduler.post(countDown(latch));
+
+    assertTrue(latch.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void postDelayed_runsRunnablesInOrderOfDelay() throws Exception {
+    final List<Integer> runs = new ArrayList<>();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    scheduler.postDelayed(record(runs, 2), 50);
+    scheduler.postDelayed(record(runs, 1), 0);
+    scheduler.postDelayed(countDown(latch), 100);
+
+    assertTrue(latch.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+    assertEquals(2, runs.size());
+    assertEquals(1, (int) runs.get(0));
+    assertEquals(2, (int) runs.get(1));
+  }
+
+  @Test
+  public void removeCallbacks_pendingRunsAreNotRun() throws Exception {
+    final List<Integer> runs = new ArrayList<>();
+    Runnable removedRunnable = record(runs, 1);
+    CountDownLatch latch = new CountDownLatch(1);
+
+    scheduler.postDelayed(removedRunnable, 50);
+    scheduler.postDelayed(removedRunnable, 60);
+    scheduler.removeCallbacks(removedRunnable);
+    scheduler.postDelayed(countDown(latch), 100);
+
+    assertTrue(latch.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+    assertTrue(runs.isEmpty());
+  }
+
+  @Test
+  public void removeCallbacks_otherRunnablesAreStillRun() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+
+    scheduler.postDelayed(countDown(latch), 50);
+    scheduler.removeCallbacks(countDown(new CountDownLatch(1)));
+
+    assertTrue(latch.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void post_multiThreadedExecutorRunsOneRunnableAtATime() throws Exception {
+    ScheduledExecutorService multiThreadedExecutor = Executors.newScheduledThreadPool(4);
+    ExecutorNavigationScheduler multiThreadedScheduler = new ExecutorNavigationScheduler(multiThreadedExecutor);
+    final AtomicInteger runningCount = new AtomicInteger();
+    final AtomicInteger maximumRunningCount = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(50);
+
+    try {
+      for (int i = 0; i < 50; i++) {
+        multiThreadedScheduler.post(trackConcurrency(runningCount, maximumRunningCount, latch));
+      }
+      assertTrue(latch.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+    } finally {
+      multiThreadedExecutor.shutdownNow();
+    }
+
+    assertEquals(1, maximumRunningCount.get());
+  }
+
+  @Test
+  public void post_runnableThrowingDoesNotStopLaterRuns() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+
+    scheduler.post(new Runnable() {
+      @Override
+      public void run() {
+        throw new IllegalStateException();
+      }
+    });
+    scheduler.post(countDown(latch));
+
+    assertTrue(latch.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void elapsedTimeInMilliseconds_doesNotGoBackwards() {
+    long firstTime = scheduler.elapsedTimeInMilliseconds();
+
+    long secondTime = scheduler.elapsedTimeInMilliseconds();
+
+    assertTrue(secondTime >= firstTime);
+  }
+
+  private Runnable countDown(final CountDownLatch latch) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    };
+  }
+
+  private Runnable trackConcurrency(final AtomicInteger runningCount, final AtomicInteger maximumRunningCount,
+                                    final CountDownLatch latch) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        int running = runningCount.incrementAndGet();
+        if (running > maximumRunningCount.get()) {
+          maximumRunningCount.set(running);
+        }
+        try {
+          Thread.sleep(1);
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+        runningCount.decrementAndGet();
+        latch.countDown();
+      }
+    };
+  }
+
+  private Runnable record(final List<Integer> runs, final int run) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        runs.add(run);
+      }
+    };
+  }
+}
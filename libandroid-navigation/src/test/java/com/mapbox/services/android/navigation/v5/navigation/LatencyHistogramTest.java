@@ -0,0 +1,78 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+  private static final double DELTA = 1E-9;
+  private static final double MAXIMUM_RELATIVE_ERROR = 0.125;
+
+  @Test
+  public void snapshot_emptyHistogramIsAllZero() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    LatencySnapshot snapshot = histogram.snapshot();
+
+    assertEquals(0, snapshot.count());
+    assertEquals(0d, snapshot.p99InMilliseconds(), DELTA);
+    assertEquals(0d, snapshot.maxInMilliseconds(), DELTA);
+  }
+
+  @Test
+  public void snapshot_countsMeanAndMaxAreExact() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(2));
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(4));
+
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertEquals(2, snapshot.count());
+    assertEquals(3d, snapshot.meanInMilliseconds(), DELTA);
+    assertEquals(4d, snapshot.maxInMilliseconds(), DELTA);
+  }
+
+  @Test
+  public void snapshot_percentilesAreWithinBucketPrecision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int millis = 1; millis <= 100; millis++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    LatencySnapshot snapshot = histogram.snapshot();
+
+    assertWithinPrecision(50, snapshot.p50InMilliseconds());
+    assertWithinPrecision(90, snapshot.p90InMilliseconds());
+    assertWithinPrecision(99, snapshot.p99InMilliseconds());
+  }
+
+  @Test
+  public void record_negativeDurationCountsAsZero() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    histogram.record(-1);
+
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertEquals(1, snapshot.count());
+    assertEquals(0d, snapshot.maxInMilliseconds(), DELTA);
+  }
+
+  @Test
+  public void bucketUpperBound_containsValuesOfBucket() {
+    for (long micros = 0; micros < 100000; micros += 7) {
+      int index = LatencyHistogram.bucketIndex(micros);
+
+      assertTrue(micros <= LatencyHistogram.bucketUpperBound(index));
+      assertTrue(index == 0 || micros > LatencyHistogram.bucketUpperBound(index - 1));
+    }
+  }
+
+  private void assertWithinPrecision(double expected, double actual) {
+    assertTrue(actual >= expected);
+    assertTrue(actual <= expected * (1 + MAXIMUM_RELATIVE_ERROR));
+  }
+}
@@ -0,0 +1,90 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LocationCoalescerTest {
+
+  private static final long ONE_SECOND_WINDOW = 1000;
+
+  @Test
+  public void flush_firstLocationIsSubmitted() {
+    LocationCoalescer coalescer = new LocationCoalescer(ONE_SECOND_WINDOW);
+    Location location = buildLocationAt(5000);
+
+    assertNull(coalescer.coalesce(location));
+    assertSame(location, coalescer.flush());
+  }
+
+  @Test
+  public void flush_newestLocationWithinWindowIsSubmitted() {
+    LocationCoalescer coalescer = new LocationCoalescer(ONE_SECOND_WINDOW);
+    Location newest = buildLocationAt(5999);
+    coalescer.coalesce(buildLocationAt(5000));
+    coalescer.coalesce(buildLocationAt(5500));
+    coalescer.coalesce(newest);
+
+    Location submitted = coalescer.flush();
+
+    assertSame(newest, submitted);
+    assertEquals(2, coalescer.mergedCount());
+    assertEquals(1, coalescer.submittedCount());
+  }
+
+  @Test
+  public void coalesce_locationAfterWindowSubmitsNewestOfPreviousWindow() {
+    LocationCoalescer coalescer = new LocationCoalescer(ONE_SECOND_WINDOW);
+    Location newestOfWindow = buildLocationAt(5500);
+    coalescer.coalesce(buildLocationAt(5000));
+    coalescer.coalesce(newestOfWindow);
+
+    Location submitted = coalescer.coalesce(buildLocationAt(6000));
+
+    assertSame(newestOfWindow, submitted);
+    assertEquals(1, coalescer.mergedCount());
+  }
+
+  @Test
+  public void flush_nothingHeldSubmitsNothing() {
+    LocationCoalescer coalescer = new LocationCoalescer(ONE_SECOND_WINDOW);
+    coalescer.coalesce(buildLocationAt(5000));
+    coalescer.flush();
+
+    assertNull(coalescer.flush());
+    assertEquals(1, coalescer.submittedCount());
+  }
+
+  @Test
+  public void coalesce_timeGoingBackwardsStartsNewWindow() {
+    LocationCoalescer coalescer = new LocationCoalescer(ONE_SECOND_WINDOW);
+    Location previous = buildLocationAt(5000);
+    coalescer.coalesce(previous);
+
+    assertSame(previous, coalescer.coalesce(buildLocationAt(4900)));
+  }
+
+  @Test
+  public void coalesce_noWindowSubmitsEveryLocation() {
+    LocationCoalescer coalescer = new LocationCoalescer(0);
+    Location first = buildLocationAt(5000);
+    Location second = buildLocationAt(5000);
+
+    assertSame(first, coalescer.coalesce(first));
+    assertSame(second, coalescer.coalesce(second));
+    assertNull(coalescer.flush());
+    assertEquals(0, coalescer.mergedCount());
+  }
+
+  private Location buildLocationAt(long time) {
+    Location location = mock(Location.class);
+    when(location.getTime()).thenReturn(time);
+    return location;
+  }
+}
@@ -0,0 +1,99 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class LocationQueueTest {
+
+  @Test
+  public void capacity_isRoundedUpToPowerOfTwo() {
+    LocationQueue queue = new LocationQueue(20);
+
+    assertEquals(32, queue.capacity());
+  }
+
+  @Test
+  public void poll_returnsLocationsInOfferedOrder() {
+    LocationQueue queue = new LocationQueue(4);
+    Location first = mock(Location.class);
+    Location second = mock(Location.class);
+
+    queue.offer(first);
+    queue.offer(second);
+
+    assertSame(first, queue.poll());
+    assertSame(second, queue.poll());
+    assertNull(queue.poll());
+  }
+
+  @Test
+  public void offer_fullQueueDropsOldestLocation() {
+    LocationQueue queue = new LocationQueue(2);
+    Location second = mock(Location.class);
+    Location third = mock(Location.class);
+    queue.offer(mock(Location.class));
+    queue.offer(second);
+
+    boolean isQueued = queue.offer(third);
+
+    assertFalse(isQueued);
+    assertSame(second, queue.poll());
+    assertSame(third, queue.poll());
+    assertNull(queue.poll());
+  }
+
+  @Test
+  public void offer_wrapsAroundOncePolled() {
+    LocationQueue queue = new LocationQueue(2);
+    for (int i = 0; i < 5; i++) {
+      Location location = mock(Location.class);
+
+      assertTrue(queue.offer(location));
+      assertSame(location, queue.poll());
+    }
+    assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void offerAndPoll_fromTwoThreadsKeepsOrderAndNewestLocation() throws Exception {
+    final LocationQueue queue = new LocationQueue(8);
+    final int count = 10000;
+    final List<Location> locations = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      locations.add(mock(Location.class));
+    }
+    Thread producer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        for (Location location : locations) {
+          queue.offer(location);
+        }
+      }
+    });
+
+    producer.start();
+    int lastPolledIndex = -1;
+    while (lastPolledIndex < count - 1) {
+      Location location = queue.poll();
+      if (location != null) {
+        int polledIndex = locations.indexOf(location);
+        assertTrue(polledIndex > lastPolledIndex);
+        lastPolledIndex = polledIndex;
+      }
+    }
+    producer.join();
+
+    assertTrue(queue.isEmpty());
+  }
+}
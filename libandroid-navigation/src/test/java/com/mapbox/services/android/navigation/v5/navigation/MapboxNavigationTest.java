@@ -26,8 +26,10 @@ import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertNotSame;
 import static junit.framework.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class MapboxNavigationTest extends BaseTest {
@@ -218,6 +220,32 @@ public class MapboxNavigationTest extends BaseTest {
     assertEquals(locationEngine, navigation.getLocationEngine());
   }
 
+  @Test
+  public void updateLocationEngineInterval_givenLocationEngineIsNotChanged() throws Exception {
+    Context context = mock(Context.class);
+    when(context.getApplicationContext()).thenReturn(context);
+    LocationEngine locationEngine = mock(LocationEngine.class);
+    MapboxNavigation navigation = new MapboxNavigation(context, ACCESS_TOKEN, mock(NavigationTelemetry.class),
+      locationEngine);
+
+    navigation.updateLocationEngineInterval(2000, 2000);
+
+    verify(locationEngine, never()).setInterval(2000);
+    verify(locationEngine, never()).setFastestInterval(2000);
+    verify(locationEngine, never()).requestLocationUpdates();
+  }
+
+  @Test
+  public void updateLocationEngineInterval_locationEngineSetLaterIsNotChanged() throws Exception {
+    MapboxNavigation navigation = buildMapboxNavigation();
+    LocationEngine locationEngine = mock(LocationEngine.class);
+    navigation.setLocationEngine(locationEngine);
+
+    navigation.updateLocationEngineInterval(2000, 2000);
+
+    verifyZeroInteractions(locationEngine);
+  }
+
   @Test
   @Ignore
   public void startNavigation_doesSendTrueToNavigationEvent() throws Exception {
@@ -0,0 +1,173 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.navigator.FixLocation;
+import com.mapbox.navigator.Navigator;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.util.Date;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class MapboxNavigatorTest {
+
+  private static final long NO_COALESCING_WINDOW = 0;
+
+  @Test
+  public void updateLocation_doesNotCallNavigator() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator, NO_COALESCING_WINDOW);
+
+    boolean isQueued = mapboxNavigator.updateLocation(mock(Location.class));
+
+    assertTrue(isQueued);
+    verifyZeroInteractions(navigator);
+  }
+
+  @Test
+  public void updateRoute_doesNotCallNavigator() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator, NO_COALESCING_WINDOW);
+
+    mapboxNavigator.updateRoute("{}");
+
+    verifyZeroInteractions(navigator);
+  }
+
+  @Test
+  public void retrieveStatus_appliesRouteAndQueuedLocationsBeforeStatus() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator, NO_COALESCING_WINDOW);
+    mapboxNavigator.updateLocation(mock(Location.class));
+    mapboxNavigator.updateRoute("{}");
+    mapboxNavigator.updateLocation(mock(Location.class));
+
+    mapboxNavigator.retrieveStatus(new Date(), 0);
+
+    InOrder order = inOrder(navigator);
+    order.verify(navigator).setRoute(eq("{}"), anyInt(), anyInt());
+    order.verify(navigator, times(2)).updateLocation(any(FixLocation.class));
+    order.verify(navigator).getStatus(any(Date.class));
+  }
+
+  @Test
+  public void retrieveStatus_appliesRouteOnlyOnce() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator, NO_COALESCING_WINDOW);
+    mapboxNavigator.updateRoute("{}");
+
+    mapboxNavigator.retrieveStatus(new Date(), 0);
+    mapboxNavigator.retrieveStatus(new Date(), 0);
+
+    verify(navigator, times(1)).setRoute(anyString(), anyInt(), anyInt());
+  }
+
+  @Test
+  public void retrieveStatus_mergedLocationsAreNotSubmitted() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator, 1000);
+    mapboxNavigator.updateLocation(buildLocationAt(0));
+    mapboxNavigator.updateLocation(buildLocationAt(500));
+    mapboxNavigator.updateLocation(buildLocationAt(1000));
+
+    mapboxNavigator.retrieveStatus(new Date(), 0);
+
+    verify(navigator, times(2)).updateLocation(any(FixLocation.class));
+  }
+
+  @Test
+  public void retrieveStatus_newestLocationOfEachWindowIsSubmitted() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator, 1000);
+    mapboxNavigator.updateLocation(buildLocationAt(0));
+    mapboxNavigator.updateLocation(buildLocationAt(500));
+    mapboxNavigator.updateLocation(buildLocationAt(1000));
+    mapboxNavigator.updateLocation(buildLocationAt(1200));
+    ArgumentCaptor<FixLocation> fixLocations = ArgumentCaptor.forClass(FixLocation.class);
+
+    mapboxNavigator.retrieveStatus(new Date(), 0);
+
+    verify(navigator, times(2)).updateLocation(fixLocations.capture());
+    assertEquals(500, fixLocations.getAllValues().get(0).getTime().getTime());
+    assertEquals(1200, fixLocations.getAllValues().get(1).getTime().getTime());
+  }
+
+  @Test
+  public void toggleHistory_isAppliedBeforeNextStatus() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator, NO_COALESCING_WINDOW);
+
+    mapboxNavigator.toggleHistory(true);
+    verifyZeroInteractions(navigator);
+    mapboxNavigator.retrieveStatus(new Date(), 0);
+
+    InOrder inOrder = inOrder(navigator);
+    inOrder.verify(navigator).toggleHistory(true);
+    inOrder.verify(navigator).getStatus(any(Date.class));
+  }
+
+  @Test
+  public void retrieveHistory_appliesPendingToggleFirst() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator, NO_COALESCING_WINDOW);
+    mapboxNavigator.toggleHistory(false);
+
+    mapboxNavigator.retrieveHistory();
+    mapboxNavigator.retrieveHistory();
+
+    InOrder inOrder = inOrder(navigator);
+    inOrder.verify(navigator, times(1)).toggleHistory(false);
+    inOrder.verify(navigator, times(2)).getHistory();
+  }
+
+  @Test
+  public void updateLocation_fullQueueDropsOldestLocation() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator, NO_COALESCING_WINDOW);
+    for (int i = 0; i < 32; i++) {
+      mapboxNavigator.updateLocation(buildLocationAt(i));
+    }
+
+    boolean isQueued = mapboxNavigator.updateLocation(buildLocationAt(32));
+
+    assertFalse(isQueued);
+    assertEquals(1, mapboxNavigator.retrieveLocationIngestionStats().droppedCount());
+  }
+
+  @Test
+  public void retrieveLocationIngestionStats_countsReceivedSubmittedAndMerged() {
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(mock(Navigator.class), 1000);
+    mapboxNavigator.updateLocation(buildLocationAt(0));
+    mapboxNavigator.updateLocation(buildLocationAt(500));
+    mapboxNavigator.retrieveStatus(new Date(), 0);
+
+    LocationIngestionStats stats = mapboxNavigator.retrieveLocationIngestionStats();
+
+    assertEquals(2, stats.receivedCount());
+    assertEquals(1, stats.submittedCount());
+    assertEquals(1, stats.mergedCount());
+    assertEquals(0, stats.droppedCount());
+  }
+
+  private Location buildLocationAt(long time) {
+    Location location = mock(Location.class);
+    when(location.getTime()).thenReturn(time);
+    return location;
+  }
+}
@@ -18,6 +18,8 @@ import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListene
 import com.mapbox.services.android.navigation.v5.navigation.metrics.NavigationMetricListener;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
 import com.mapbox.services.android.navigation.v5.route.FasterRouteListener;
+import com.mapbox.services.android.navigation.v5.route.FasterRouteScore;
+import com.mapbox.services.android.navigation.v5.route.FasterRouteScoreListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
@@ -172,6 +174,51 @@ public class NavigationEventDispatcherTest extends BaseTest {
     verify(progressChangeListener, times(0)).onProgressChange(location, routeProgress);
   }
 
+  @Test
+  public void addProgressChangeListenerWithOptions_processingThreadListenerSkipsMainThreadUpdate() throws Exception {
+    ProgressChangeListenerOptions options = ProgressChangeListenerOptions.builder()
+      .deliveryThread(NavigationConstants.PROGRESS_DELIVERY_PROCESSING_THREAD)
+      .build();
+    navigation.addProgressChangeListener(progressChangeListener, options);
+
+    navigationEventDispatcher.onProgressChange(location, routeProgress);
+    verify(progressChangeListener, times(0)).onProgressChange(location, routeProgress);
+
+    navigationEventDispatcher.onProcessingThreadProgressChange(location, routeProgress,
+      mock(NavigationScheduler.class));
+    verify(progressChangeListener, times(1)).onProgressChange(location, routeProgress);
+  }
+
+  @Test
+  public void addProgressChangeListenerWithOptions_mainThreadListenerSkipsProcessingThreadUpdate() throws Exception {
+    navigation.addProgressChangeListener(progressChangeListener, ProgressChangeListenerOptions.builder().build());
+
+    navigationEventDispatcher.onProcessingThreadProgressChange(location, routeProgress,
+      mock(NavigationScheduler.class));
+    verify(progressChangeListener, times(0)).onProgressChange(location, routeProgress);
+
+    navigationEventDispatcher.onProgressChange(location, routeProgress);
+    verify(progressChangeListener, times(1)).onProgressChange(location, routeProgress);
+  }
+
+  @Test
+  public void addProgressChangeListenerWithOptions_onlyAddsListenerOnce() throws Exception {
+    navigation.addProgressChangeListener(progressChangeListener);
+    navigation.addProgressChangeListener(progressChangeListener, ProgressChangeListenerOptions.builder().build());
+
+    navigationEventDispatcher.onProgressChange(location, routeProgress);
+    verify(progressChangeListener, times(1)).onProgressChange(location, routeProgress);
+  }
+
+  @Test
+  public void removeProgressChangeListener_didRemoveListenerWithOptions() throws Exception {
+    navigation.addProgressChangeListener(progressChangeListener, ProgressChangeListenerOptions.builder().build());
+    navigation.removeProgressChangeListener(progressChangeListener);
+
+    navigationEventDispatcher.onProgressChange(location, routeProgress);
+    verify(progressChangeListener, times(0)).onProgressChange(location, routeProgress);
+  }
+
   @Test
   public void addOffRouteListener_didAddListener() throws Exception {
     navigationEventDispatcher.onUserOffRoute(location);
@@ -288,6 +335,20 @@ public class NavigationEventDispatcherTest extends BaseTest {
     verify(fasterRouteListener, times(0)).fasterRouteFound(route);
   }
 
+  @Test
+  public void onFasterRouteEvent_scoreListenerReceivesScore() throws Exception {
+    FasterRouteScoreListener fasterRouteScoreListener = mock(FasterRouteScoreListener.class);
+    FasterRouteScore score = mock(FasterRouteScore.class);
+    navigation.addFasterRouteListener(fasterRouteScoreListener);
+    navigation.addFasterRouteListener(fasterRouteListener);
+
+    navigationEventDispatcher.onFasterRouteEvent(route, score);
+
+    verify(fasterRouteScoreListener, times(1)).fasterRouteFound(route, score);
+    verify(fasterRouteScoreListener, times(0)).fasterRouteFound(route);
+    verify(fasterRouteListener, times(1)).fasterRouteFound(route);
+  }
+
   @Test
   public void removeFasterRouteListener_nullRemovesAllListeners() throws Exception {
     navigation.addFasterRouteListener(fasterRouteListener);
@@ -5,6 +5,7 @@ import android.support.annotation.NonNull;
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.services.android.navigation.v5.route.FasterRoute;
+import com.mapbox.services.android.navigation.v5.route.FasterRouteScore;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import org.junit.Test;
@@ -33,6 +34,24 @@ public class NavigationFasterRouteListenerTest {
     verify(eventDispatcher).onFasterRouteEvent(any(DirectionsRoute.class));
   }
 
+  @Test
+  public void onResponseReceived_scoredRouteIsSentToDispatcher() {
+    NavigationEventDispatcher eventDispatcher = mock(NavigationEventDispatcher.class);
+    FasterRoute fasterRoute = buildFasterRouteThatReturns(true);
+    FasterRouteScore score = mock(FasterRouteScore.class);
+    when(score.routeIndex()).thenReturn(1);
+    when(fasterRoute.scoreFasterRoute(any(DirectionsResponse.class), any(RouteProgress.class))).thenReturn(score);
+    NavigationFasterRouteListener listener = new NavigationFasterRouteListener(eventDispatcher, fasterRoute);
+    DirectionsResponse response = buildDirectionsResponse();
+    DirectionsRoute alternative = mock(DirectionsRoute.class);
+    response.routes().add(alternative);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+
+    listener.onResponseReceived(response, routeProgress);
+
+    verify(eventDispatcher).onFasterRouteEvent(alternative, score);
+  }
+
   @Test
   public void onResponseReceived_slowerRouteIsNotSentToDispatcher() {
     NavigationEventDispatcher eventDispatcher = mock(NavigationEventDispatcher.class);
@@ -0,0 +1,80 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationPerformanceMonitor.STAGE_OFF_ROUTE_CHECK;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationPerformanceMonitor.STAGE_ROUTE_PROGRESS_BUILD;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationPerformanceMonitor.STAGE_STATUS_RETRIEVAL;
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class NavigationPerformanceMonitorTest {
+
+  @Test
+  public void endStage_disabledMonitorRecordsNothing() {
+    NavigationPerformanceMonitor monitor = new NavigationPerformanceMonitor(false);
+
+    long stageStart = monitor.startStage();
+    monitor.endStage(STAGE_STATUS_RETRIEVAL, stageStart);
+
+    assertEquals(0, monitor.snapshot().statusRetrieval().count());
+  }
+
+  @Test
+  public void endStage_recordsIntoGivenStage() {
+    NavigationPerformanceMonitor monitor = new NavigationPerformanceMonitor(true);
+
+    long stageStart = monitor.startStage();
+    stageStart = monitor.endStage(STAGE_STATUS_RETRIEVAL, stageStart);
+    monitor.endStage(STAGE_ROUTE_PROGRESS_BUILD, stageStart);
+
+    NavigationPerformanceSnapshot snapshot = monitor.snapshot();
+    assertEquals(1, snapshot.statusRetrieval().count());
+    assertEquals(1, snapshot.routeProgressBuild().count());
+    assertEquals(0, snapshot.offRouteCheck().count());
+  }
+
+  @Test
+  public void endStage_returnsStartOfNextStage() {
+    NavigationPerformanceMonitor monitor = new NavigationPerformanceMonitor(true);
+
+    long stageStart = monitor.startStage();
+    long nextStageStart = monitor.endStage(STAGE_OFF_ROUTE_CHECK, stageStart);
+
+    assertTrue(nextStageStart >= stageStart);
+  }
+
+  @Test
+  public void recordSchedulingJitter_recordsLateStart() {
+    NavigationPerformanceMonitor monitor = new NavigationPerformanceMonitor(true);
+    long intendedStart = monitor.calculateIntendedStart(0);
+
+    monitor.recordSchedulingJitter(intendedStart, intendedStart + TimeUnit.MILLISECONDS.toNanos(200));
+
+    LatencySnapshot schedulingJitter = monitor.snapshot().schedulingJitter();
+    assertEquals(1, schedulingJitter.count());
+    assertTrue(schedulingJitter.maxInMilliseconds() >= 150);
+  }
+
+  @Test
+  public void recordSchedulingJitter_earlyStartIsOnTime() {
+    NavigationPerformanceMonitor monitor = new NavigationPerformanceMonitor(true);
+    long intendedStart = monitor.calculateIntendedStart(1000);
+
+    monitor.recordSchedulingJitter(intendedStart, intendedStart - TimeUnit.MILLISECONDS.toNanos(1));
+
+    assertEquals(0d, monitor.snapshot().schedulingJitter().maxInMilliseconds());
+  }
+
+  @Test
+  public void recordSchedulingJitter_disabledMonitorRecordsNothing() {
+    NavigationPerformanceMonitor monitor = new NavigationPerformanceMonitor(false);
+    long intendedStart = monitor.calculateIntendedStart(0);
+
+    monitor.recordSchedulingJitter(intendedStart, monitor.startStage());
+
+    assertEquals(0, monitor.snapshot().schedulingJitter().count());
+  }
+}
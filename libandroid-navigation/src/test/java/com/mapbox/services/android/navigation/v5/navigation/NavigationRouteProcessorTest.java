@@ -20,7 +20,8 @@ public class NavigationRouteProcessorTest extends BaseTest {
     NavigationRouteProcessor processor = new NavigationRouteProcessor();
 
     // TODO mock final status
-    RouteProgress progress = processor.buildNewRouteProgress(mock(NavigationStatus.class), buildTestDirectionsRoute());
+    RouteProgress progress = processor.buildNewRouteProgress(mock(NavigationStatus.class),
+      CurrentRoute.create(buildTestDirectionsRoute(), 1));
 
     assertNotNull(progress);
   }
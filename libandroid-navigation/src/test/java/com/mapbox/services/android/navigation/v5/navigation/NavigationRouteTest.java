@@ -3,6 +3,8 @@ package com.mapbox.services.android.navigation.v5.navigation;
 import android.content.Context;
 
 import com.mapbox.api.directions.v5.DirectionsCriteria;
+import com.mapbox.api.directions.v5.MapboxDirections;
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.RouteOptions;
 import com.mapbox.geojson.Point;
 import com.mapbox.services.android.navigation.v5.BaseTest;
@@ -13,14 +15,28 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class NavigationRouteTest extends BaseTest {
@@ -152,4 +168,65 @@ public class NavigationRouteTest extends BaseTest {
     assertThat(request, containsString("curb"));
     assertThat(request, containsString("Origin"));
   }
+
+  @Test
+  public void cancelCall_cancelsEnqueuedCall() {
+    okhttp3.Call rawCall = buildPendingRawCall();
+    NavigationRoute navigationRoute = new NavigationRoute(buildDirectionsEnqueuing(rawCall));
+    final AtomicBoolean isDelivered = new AtomicBoolean(false);
+    navigationRoute.getRoute(new Callback<DirectionsResponse>() {
+      @Override
+      public void onResponse(Call<DirectionsResponse> call, Response<DirectionsResponse> response) {
+        isDelivered.set(true);
+      }
+
+      @Override
+      public void onFailure(Call<DirectionsResponse> call, Throwable throwable) {
+        isDelivered.set(true);
+      }
+    });
+    verify(rawCall).enqueue(any(okhttp3.Callback.class));
+
+    navigationRoute.cancelCall();
+
+    assertTrue(rawCall.isCanceled());
+    assertFalse(isDelivered.get());
+  }
+
+  private MapboxDirections buildDirectionsEnqueuing(final okhttp3.Call rawCall) {
+    MapboxDirections directions = MapboxDirections.builder()
+      .accessToken(ACCESS_TOKEN)
+      .origin(Point.fromLngLat(1.0, 2.0))
+      .destination(Point.fromLngLat(1.0, 5.0))
+      .build();
+    directions.setCallFactory(new okhttp3.Call.Factory() {
+      @Override
+      public okhttp3.Call newCall(Request request) {
+        return rawCall;
+      }
+    });
+    return directions;
+  }
+
+  /**
+   * Stands in for a request in flight, which never completes on its own.
+   */
+  private okhttp3.Call buildPendingRawCall() {
+    okhttp3.Call rawCall = mock(okhttp3.Call.class);
+    final AtomicBoolean isCanceled = new AtomicBoolean(false);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        isCanceled.set(true);
+        return null;
+      }
+    }).when(rawCall).cancel();
+    when(rawCall.isCanceled()).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) {
+        return isCanceled.get();
+      }
+    });
+    return rawCall;
+  }
 }
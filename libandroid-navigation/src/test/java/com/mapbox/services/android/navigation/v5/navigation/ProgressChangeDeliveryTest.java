@@ -0,0 +1,251 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.PROGRESS_DELIVERY_EXECUTOR;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.PROGRESS_DELIVERY_PROCESSING_THREAD;
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ProgressChangeDeliveryTest {
+
+  private static final long ONE_SECOND_INTERVAL = 1000;
+
+  @Test
+  public void deliver_everyUpdateIsDeliveredWithoutInterval() {
+    ProgressChangeListener listener = mock(ProgressChangeListener.class);
+    ProgressChangeDelivery delivery = new ProgressChangeDelivery(listener, buildProcessingThreadOptions(0));
+    ManualScheduler scheduler = new ManualScheduler(1000);
+
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+
+    verify(listener, times(2)).onProgressChange(any(Location.class), any(RouteProgress.class));
+  }
+
+  @Test
+  public void deliver_updateWithinIntervalIsHeldUntilIntervalExpires() {
+    ProgressChangeListener listener = mock(ProgressChangeListener.class);
+    ProgressChangeDelivery delivery = new ProgressChangeDelivery(listener,
+      buildProcessingThreadOptions(ONE_SECOND_INTERVAL));
+    ManualScheduler scheduler = new ManualScheduler(5000);
+    Location heldLocation = mock(Location.class);
+    RouteProgress heldProgress = mock(RouteProgress.class);
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    scheduler.time = 5999;
+
+    delivery.deliver(heldLocation, heldProgress, scheduler);
+    verify(listener, never()).onProgressChange(heldLocation, heldProgress);
+    scheduler.advanceTo(6000);
+
+    verify(listener).onProgressChange(heldLocation, heldProgress);
+    assertEquals(0, delivery.skippedCount());
+  }
+
+  @Test
+  public void deliver_onlyLatestHeldUpdateIsDelivered() {
+    ProgressChangeListener listener = mock(ProgressChangeListener.class);
+    ProgressChangeDelivery delivery = new ProgressChangeDelivery(listener,
+      buildProcessingThreadOptions(ONE_SECOND_INTERVAL));
+    ManualScheduler scheduler = new ManualScheduler(5000);
+    Location latestLocation = mock(Location.class);
+    RouteProgress latestProgress = mock(RouteProgress.class);
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    scheduler.time = 5300;
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    scheduler.time = 5600;
+    delivery.deliver(latestLocation, latestProgress, scheduler);
+
+    scheduler.advanceTo(6000);
+
+    verify(listener).onProgressChange(latestLocation, latestProgress);
+    verify(listener, times(2)).onProgressChange(any(Location.class), any(RouteProgress.class));
+    assertEquals(1, delivery.skippedCount());
+  }
+
+  @Test
+  public void deliver_updateAfterIntervalReplacesHeldUpdate() {
+    ProgressChangeListener listener = mock(ProgressChangeListener.class);
+    ProgressChangeDelivery delivery = new ProgressChangeDelivery(listener,
+      buildProcessingThreadOptions(ONE_SECOND_INTERVAL));
+    ManualScheduler scheduler = new ManualScheduler(5000);
+    Location location = mock(Location.class);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    scheduler.time = 5500;
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    scheduler.time = 6000;
+
+    delivery.deliver(location, routeProgress, scheduler);
+    scheduler.advanceTo(6000);
+
+    verify(listener).onProgressChange(location, routeProgress);
+    verify(listener, times(2)).onProgressChange(any(Location.class), any(RouteProgress.class));
+    assertEquals(1, delivery.skippedCount());
+  }
+
+  @Test
+  public void cancel_heldUpdateIsNotDelivered() {
+    ProgressChangeListener listener = mock(ProgressChangeListener.class);
+    ProgressChangeDelivery delivery = new ProgressChangeDelivery(listener,
+      buildProcessingThreadOptions(ONE_SECOND_INTERVAL));
+    ManualScheduler scheduler = new ManualScheduler(5000);
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    scheduler.time = 5500;
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+
+    delivery.cancel();
+    scheduler.advanceTo(6000);
+
+    verify(listener, times(1)).onProgressChange(any(Location.class), any(RouteProgress.class));
+  }
+
+  @Test
+  public void deliver_busyExecutorOnlyGetsLatestUpdate() {
+    ProgressChangeListener listener = mock(ProgressChangeListener.class);
+    ManualExecutor executor = new ManualExecutor();
+    ProgressChangeDelivery delivery = new ProgressChangeDelivery(listener, buildExecutorOptions(executor));
+    ManualScheduler scheduler = new ManualScheduler(1000);
+    Location latestLocation = mock(Location.class);
+    RouteProgress latestProgress = mock(RouteProgress.class);
+
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    delivery.deliver(latestLocation, latestProgress, scheduler);
+    executor.runAll();
+
+    assertEquals(1, executor.executedCount);
+    verify(listener).onProgressChange(latestLocation, latestProgress);
+    verify(listener, times(1)).onProgressChange(any(Location.class), any(RouteProgress.class));
+    assertEquals(2, delivery.skippedCount());
+  }
+
+  @Test
+  public void deliver_executorIsUsedAgainOnceIdle() {
+    ProgressChangeListener listener = mock(ProgressChangeListener.class);
+    ManualExecutor executor = new ManualExecutor();
+    ProgressChangeDelivery delivery = new ProgressChangeDelivery(listener, buildExecutorOptions(executor));
+    ManualScheduler scheduler = new ManualScheduler(1000);
+
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    executor.runAll();
+    delivery.deliver(mock(Location.class), mock(RouteProgress.class), scheduler);
+    executor.runAll();
+
+    assertEquals(2, executor.executedCount);
+    verify(listener, times(2)).onProgressChange(any(Location.class), any(RouteProgress.class));
+  }
+
+  @Test
+  public void isDeliveryOf_onlyMatchesListenerInstance() {
+    ProgressChangeListener listener = mock(ProgressChangeListener.class);
+    ProgressChangeDelivery delivery = new ProgressChangeDelivery(listener, buildProcessingThreadOptions(0));
+
+    assertTrue(delivery.isDeliveryOf(listener));
+    assertFalse(delivery.isDeliveryOf(mock(ProgressChangeListener.class)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void build_executorDeliveryRequiresExecutor() {
+    ProgressChangeListenerOptions.builder()
+      .deliveryThread(PROGRESS_DELIVERY_EXECUTOR)
+      .build();
+  }
+
+  private ProgressChangeListenerOptions buildProcessingThreadOptions(long intervalInMilliseconds) {
+    return ProgressChangeListenerOptions.builder()
+      .deliveryThread(PROGRESS_DELIVERY_PROCESSING_THREAD)
+      .minimumDeliveryIntervalInMilliseconds(intervalInMilliseconds)
+      .build();
+  }
+
+  private ProgressChangeListenerOptions buildExecutorOptions(Executor executor) {
+    return ProgressChangeListenerOptions.builder()
+      .deliveryThread(PROGRESS_DELIVERY_EXECUTOR)
+      .executor(executor)
+      .build();
+  }
+
+  private static class ManualExecutor implements Executor {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private int executedCount;
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    void runAll() {
+      List<Runnable> pendingTasks = new ArrayList<>(tasks);
+      tasks.clear();
+      for (Runnable task : pendingTasks) {
+        executedCount++;
+        task.run();
+      }
+    }
+  }
+
+  private static class ManualScheduler implements NavigationScheduler {
+
+    private final List<Runnable> runs = new ArrayList<>();
+    private final List<Long> dueTimes = new ArrayList<>();
+    private long time;
+
+    ManualScheduler(long time) {
+      this.time = time;
+    }
+
+    @Override
+    public void post(Runnable runnable) {
+      postDelayed(runnable, 0);
+    }
+
+    @Override
+    public void postDelayed(Runnable runnable, long delayInMilliseconds) {
+      runs.add(runnable);
+      dueTimes.add(time + delayInMilliseconds);
+    }
+
+    @Override
+    public void removeCallbacks(Runnable runnable) {
+      for (int i = runs.size() - 1; i >= 0; i--) {
+        if (runs.get(i) == runnable) {
+          runs.remove(i);
+          dueTimes.remove(i);
+        }
+      }
+    }
+
+    @Override
+    public long elapsedTimeInMilliseconds() {
+      return time;
+    }
+
+    void advanceTo(long time) {
+      this.time = time;
+      for (int i = 0; i < runs.size(); i++) {
+        if (dueTimes.get(i) <= time) {
+          dueTimes.remove(i);
+          runs.remove(i).run();
+          i--;
+        }
+      }
+    }
+  }
+}
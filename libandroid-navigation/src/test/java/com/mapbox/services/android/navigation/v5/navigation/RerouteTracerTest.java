@@ -0,0 +1,148 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RerouteTracerTest {
+
+  private static final double DELTA = 1E-6;
+  private static final long OFF_ROUTE_TIME = 1500000000000L;
+
+  @Test
+  public void onRouteProgress_timelineHasDurationOfEachStage() {
+    RerouteTracer tracer = new RerouteTracer();
+    DirectionsRoute newRoute = mock(DirectionsRoute.class);
+    tracer.onUserOffRoute(nanos(1000), OFF_ROUTE_TIME);
+    tracer.onRouteRequestTimed(nanos(1100), nanos(1400), nanos(1450));
+    tracer.onRouteUpdated(newRoute, nanos(1460), nanos(1470));
+    tracer.onRouteSet(nanos(1500), nanos(1520));
+
+    RerouteTimeline timeline = tracer.onRouteProgress(buildRouteProgress(newRoute), nanos(1600));
+
+    assertEquals(OFF_ROUTE_TIME, timeline.offRouteTime());
+    assertEquals(100d, timeline.detectionToRequestInMilliseconds(), DELTA);
+    assertEquals(300d, timeline.requestInMilliseconds(), DELTA);
+    assertEquals(50d, timeline.parseInMilliseconds(), DELTA);
+    assertEquals(10d, timeline.responseToRouteUpdateInMilliseconds(), DELTA);
+    assertEquals(40d, timeline.routeUpdateInMilliseconds(), DELTA);
+    assertEquals(20d, timeline.setRouteInMilliseconds(), DELTA);
+    assertEquals(80d, timeline.firstProgressInMilliseconds(), DELTA);
+    assertEquals(600d, timeline.totalInMilliseconds(), DELTA);
+  }
+
+  @Test
+  public void onRouteProgress_progressAlongPreviousRouteIsIgnored() {
+    RerouteTracer tracer = new RerouteTracer();
+    tracer.onUserOffRoute(nanos(1000), OFF_ROUTE_TIME);
+    tracer.onRouteUpdated(mock(DirectionsRoute.class), nanos(1460), nanos(1470));
+
+    RerouteTimeline timeline = tracer.onRouteProgress(buildRouteProgress(mock(DirectionsRoute.class)), nanos(1600));
+
+    assertNull(timeline);
+  }
+
+  @Test
+  public void onRouteProgress_rerouteIsOnlyCompletedOnce() {
+    RerouteTracer tracer = new RerouteTracer();
+    DirectionsRoute newRoute = mock(DirectionsRoute.class);
+    tracer.onUserOffRoute(nanos(1000), OFF_ROUTE_TIME);
+    tracer.onRouteUpdated(newRoute, nanos(1460), nanos(1470));
+    tracer.onRouteProgress(buildRouteProgress(newRoute), nanos(1600));
+
+    RerouteTimeline timeline = tracer.onRouteProgress(buildRouteProgress(newRoute), nanos(1700));
+
+    assertNull(timeline);
+  }
+
+  @Test
+  public void onUserOffRoute_firstOffRouteTimeIsKept() {
+    RerouteTracer tracer = new RerouteTracer();
+    DirectionsRoute newRoute = mock(DirectionsRoute.class);
+    tracer.onUserOffRoute(nanos(1000), OFF_ROUTE_TIME);
+    tracer.onUserOffRoute(nanos(1200), OFF_ROUTE_TIME + 200);
+    tracer.onRouteUpdated(newRoute, nanos(1460), nanos(1470));
+
+    RerouteTimeline timeline = tracer.onRouteProgress(buildRouteProgress(newRoute), nanos(1600));
+
+    assertEquals(OFF_ROUTE_TIME, timeline.offRouteTime());
+    assertEquals(600d, timeline.totalInMilliseconds(), DELTA);
+  }
+
+  @Test
+  public void onUserOnRoute_rerouteIsDroppedBeforeRouteUpdate() {
+    RerouteTracer tracer = new RerouteTracer();
+    DirectionsRoute newRoute = mock(DirectionsRoute.class);
+    tracer.onUserOffRoute(nanos(1000), OFF_ROUTE_TIME);
+    tracer.onUserOnRoute();
+    tracer.onRouteUpdated(newRoute, nanos(1460), nanos(1470));
+
+    RerouteTimeline timeline = tracer.onRouteProgress(buildRouteProgress(newRoute), nanos(1600));
+
+    assertNull(timeline);
+  }
+
+  @Test
+  public void onRouteRequestTimed_requestMadeBeforeOffRouteIsIgnored() {
+    RerouteTracer tracer = new RerouteTracer();
+    DirectionsRoute newRoute = mock(DirectionsRoute.class);
+    tracer.onUserOffRoute(nanos(1000), OFF_ROUTE_TIME);
+    tracer.onRouteRequestTimed(nanos(900), nanos(1400), nanos(1450));
+    tracer.onRouteUpdated(newRoute, nanos(1460), nanos(1470));
+
+    RerouteTimeline timeline = tracer.onRouteProgress(buildRouteProgress(newRoute), nanos(1600));
+
+    assertEquals(RerouteTimeline.NOT_RECORDED, timeline.requestInMilliseconds(), DELTA);
+    assertEquals(RerouteTimeline.NOT_RECORDED, timeline.setRouteInMilliseconds(), DELTA);
+    assertEquals(10d, timeline.routeUpdateInMilliseconds(), DELTA);
+    assertEquals(130d, timeline.firstProgressInMilliseconds(), DELTA);
+  }
+
+  @Test
+  public void onRouteSet_latestRouteUpdateIsTimed() {
+    RerouteTracer tracer = new RerouteTracer();
+    DirectionsRoute newRoute = mock(DirectionsRoute.class);
+    tracer.onUserOffRoute(nanos(1000), OFF_ROUTE_TIME);
+    tracer.onRouteUpdated(mock(DirectionsRoute.class), nanos(1100), nanos(1110));
+    tracer.onRouteSet(nanos(1150), nanos(1160));
+    tracer.onRouteUpdated(newRoute, nanos(1460), nanos(1470));
+    tracer.onRouteSet(nanos(1500), nanos(1530));
+
+    RerouteTimeline timeline = tracer.onRouteProgress(buildRouteProgress(newRoute), nanos(1600));
+
+    assertEquals(30d, timeline.setRouteInMilliseconds(), DELTA);
+  }
+
+  @Test
+  public void snapshot_countsCompletedReroutes() {
+    RerouteTracer tracer = new RerouteTracer();
+    DirectionsRoute newRoute = mock(DirectionsRoute.class);
+    tracer.onUserOffRoute(nanos(1000), OFF_ROUTE_TIME);
+    tracer.onRouteUpdated(newRoute, nanos(1460), nanos(1470));
+    tracer.onRouteProgress(buildRouteProgress(newRoute), nanos(1600));
+
+    RerouteLatencySnapshot snapshot = tracer.snapshot();
+
+    assertEquals(1, snapshot.total().count());
+    assertEquals(1, snapshot.routeUpdate().count());
+    assertEquals(0, snapshot.request().count());
+  }
+
+  private static long nanos(long milliseconds) {
+    return TimeUnit.MILLISECONDS.toNanos(milliseconds);
+  }
+
+  private RouteProgress buildRouteProgress(DirectionsRoute route) {
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    when(routeProgress.directionsRoute()).thenReturn(route);
+    return routeProgress;
+  }
+}
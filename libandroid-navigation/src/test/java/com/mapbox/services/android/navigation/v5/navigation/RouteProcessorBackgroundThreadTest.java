@@ -0,0 +1,71 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class RouteProcessorBackgroundThreadTest {
+
+  @Test
+  public void retrieveHistory_nothingIsPostedWhileNotRunning() {
+    NavigationScheduler workerScheduler = mock(NavigationScheduler.class);
+    MapboxNavigator mapboxNavigator = mock(MapboxNavigator.class);
+    RouteProcessorBackgroundThread thread = buildThread(buildNavigation(mapboxNavigator), workerScheduler,
+      mock(NavigationScheduler.class));
+
+    boolean isPosted = thread.retrieveHistory(mock(NavigationHistoryListener.class));
+
+    assertFalse(isPosted);
+    verify(workerScheduler, never()).post(any(Runnable.class));
+    verifyZeroInteractions(mapboxNavigator);
+  }
+
+  @Test
+  public void retrieveHistory_isRetrievedOnWorkerSchedulerAndDeliveredOnResponseScheduler() {
+    NavigationScheduler workerScheduler = mock(NavigationScheduler.class);
+    NavigationScheduler responseScheduler = mock(NavigationScheduler.class);
+    MapboxNavigator mapboxNavigator = mock(MapboxNavigator.class);
+    when(mapboxNavigator.retrieveHistory()).thenReturn("{history}");
+    NavigationHistoryListener listener = mock(NavigationHistoryListener.class);
+    RouteProcessorBackgroundThread thread = buildThread(buildNavigation(mapboxNavigator), workerScheduler,
+      responseScheduler);
+    thread.start();
+
+    boolean isPosted = thread.retrieveHistory(listener);
+
+    assertTrue(isPosted);
+    verify(mapboxNavigator, never()).retrieveHistory();
+    ArgumentCaptor<Runnable> workerRunnable = ArgumentCaptor.forClass(Runnable.class);
+    verify(workerScheduler).post(workerRunnable.capture());
+    workerRunnable.getValue().run();
+    verify(mapboxNavigator).retrieveHistory();
+    verify(listener, never()).onHistoryRetrieved(any(String.class));
+    ArgumentCaptor<Runnable> responseRunnable = ArgumentCaptor.forClass(Runnable.class);
+    verify(responseScheduler).post(responseRunnable.capture());
+    responseRunnable.getValue().run();
+    verify(listener).onHistoryRetrieved("{history}");
+  }
+
+  private MapboxNavigation buildNavigation(MapboxNavigator mapboxNavigator) {
+    MapboxNavigation navigation = mock(MapboxNavigation.class);
+    when(navigation.options()).thenReturn(MapboxNavigationOptions.builder().build());
+    when(navigation.retrieveMapboxNavigator()).thenReturn(mapboxNavigator);
+    when(navigation.retrievePerformanceMonitor()).thenReturn(new NavigationPerformanceMonitor(false));
+    return navigation;
+  }
+
+  private RouteProcessorBackgroundThread buildThread(MapboxNavigation navigation,
+                                                     NavigationScheduler workerScheduler,
+                                                     NavigationScheduler responseScheduler) {
+    return new RouteProcessorBackgroundThread(navigation, workerScheduler, responseScheduler,
+      mock(RouteProcessorBackgroundThread.Listener.class));
+  }
+}
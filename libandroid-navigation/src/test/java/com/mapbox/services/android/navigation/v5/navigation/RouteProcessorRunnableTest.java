@@ -0,0 +1,215 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.navigator.NavigationStatus;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.offroute.OffRoute;
+import com.mapbox.services.android.navigation.v5.route.FasterRoute;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.snap.Snap;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.ROUTE_PROCESSING_MODE_LOCATION;
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class RouteProcessorRunnableTest extends BaseTest {
+
+  private static final int MINIMUM_INTERVAL_IN_MILLIS = 1000;
+  private static final long START_TIME_IN_MILLIS = 5000;
+
+  @Test
+  public void stop_pendingTicksAreRemoved() throws Exception {
+    NavigationScheduler workerScheduler = mock(NavigationScheduler.class);
+    RouteProcessorRunnable runnable = buildRunnable(mock(MapboxNavigation.class), workerScheduler);
+
+    runnable.stop();
+
+    verify(workerScheduler).removeCallbacks(runnable);
+  }
+
+  @Test
+  public void postProcessing_nothingIsPostedOnceStopped() throws Exception {
+    NavigationScheduler workerScheduler = mock(NavigationScheduler.class);
+    RouteProcessorRunnable runnable = buildRunnable(mock(MapboxNavigation.class), workerScheduler);
+    runnable.stop();
+
+    runnable.postProcessing(1000);
+
+    verify(workerScheduler, never()).postDelayed(any(Runnable.class), anyLong());
+  }
+
+  @Test
+  public void run_stoppedRunnableDoesNotProcess() throws Exception {
+    MapboxNavigation navigation = mock(MapboxNavigation.class);
+    RouteProcessorRunnable runnable = buildRunnable(navigation, mock(NavigationScheduler.class));
+    runnable.stop();
+
+    runnable.run();
+
+    verifyZeroInteractions(navigation);
+  }
+
+  @Test
+  public void updateRawLocation_locationsAreCoalescedWhileTickIsPending() throws Exception {
+    FakeNavigationScheduler workerScheduler = new FakeNavigationScheduler(START_TIME_IN_MILLIS);
+    RouteProcessorRunnable runnable = buildRunnable(buildLocationDrivenNavigation(), workerScheduler);
+
+    runnable.updateRawLocation(mock(Location.class));
+    runnable.updateRawLocation(mock(Location.class));
+    runnable.updateRawLocation(mock(Location.class));
+
+    assertEquals(1, workerScheduler.delays.size());
+  }
+
+  @Test
+  public void updateRawLocation_firstTickIsPostedWithoutDelay() throws Exception {
+    FakeNavigationScheduler workerScheduler = new FakeNavigationScheduler(START_TIME_IN_MILLIS);
+    RouteProcessorRunnable runnable = buildRunnable(buildLocationDrivenNavigation(), workerScheduler);
+
+    runnable.updateRawLocation(mock(Location.class));
+
+    assertEquals(0L, (long) workerScheduler.delays.get(0));
+  }
+
+  @Test
+  public void updateRawLocation_nextTickWaitsForMinimumIntervalSinceLastTick() throws Exception {
+    FakeNavigationScheduler workerScheduler = new FakeNavigationScheduler(START_TIME_IN_MILLIS);
+    RouteProcessorRunnable runnable = buildRunnable(buildLocationDrivenNavigation(), workerScheduler);
+    runnable.updateRawLocation(mock(Location.class));
+    workerScheduler.runPending();
+    workerScheduler.currentTimeInMillis += 400;
+
+    runnable.updateRawLocation(mock(Location.class));
+
+    assertEquals(2, workerScheduler.delays.size());
+    assertEquals(MINIMUM_INTERVAL_IN_MILLIS - 400, (long) workerScheduler.delays.get(1));
+  }
+
+  @Test
+  public void updateRawLocation_nextTickIsNotDelayedOnceMinimumIntervalElapsed() throws Exception {
+    FakeNavigationScheduler workerScheduler = new FakeNavigationScheduler(START_TIME_IN_MILLIS);
+    RouteProcessorRunnable runnable = buildRunnable(buildLocationDrivenNavigation(), workerScheduler);
+    runnable.updateRawLocation(mock(Location.class));
+    workerScheduler.runPending();
+    workerScheduler.currentTimeInMillis += MINIMUM_INTERVAL_IN_MILLIS + 500;
+
+    runnable.updateRawLocation(mock(Location.class));
+
+    assertEquals(0L, (long) workerScheduler.delays.get(1));
+  }
+
+  @Test
+  public void updateRawLocation_newTickIsPostedOncePendingTickRan() throws Exception {
+    FakeNavigationScheduler workerScheduler = new FakeNavigationScheduler(START_TIME_IN_MILLIS);
+    RouteProcessorRunnable runnable = buildRunnable(buildLocationDrivenNavigation(), workerScheduler);
+    runnable.updateRawLocation(mock(Location.class));
+    runnable.updateRawLocation(mock(Location.class));
+    workerScheduler.runPending();
+
+    runnable.updateRawLocation(mock(Location.class));
+
+    assertEquals(2, workerScheduler.delays.size());
+  }
+
+  @Test
+  public void run_latestCoalescedLocationIsCheckedForOffRouteAndSnapped() throws Exception {
+    MapboxNavigation navigation = buildLocationDrivenNavigation();
+    FakeNavigationScheduler workerScheduler = new FakeNavigationScheduler(START_TIME_IN_MILLIS);
+    RouteProcessorRunnable runnable = buildRunnable(navigation, workerScheduler);
+    Location latestLocation = mock(Location.class);
+    runnable.updateRawLocation(mock(Location.class));
+    runnable.updateRawLocation(latestLocation);
+
+    workerScheduler.runPending();
+
+    NavigationEngineFactory engineFactory = navigation.retrieveEngineFactory();
+    verify(engineFactory.retrieveOffRouteEngine()).isUserOffRoute(eq(latestLocation), any(RouteProgress.class),
+      any(MapboxNavigationOptions.class));
+    verify(engineFactory.retrieveSnapEngine()).getSnappedLocation(eq(latestLocation), any(RouteProgress.class));
+  }
+
+  private MapboxNavigation buildLocationDrivenNavigation() throws Exception {
+    MapboxNavigation navigation = mock(MapboxNavigation.class);
+    MapboxNavigationOptions options = MapboxNavigationOptions.builder()
+      .routeProcessingMode(ROUTE_PROCESSING_MODE_LOCATION)
+      .minimumRouteProcessingIntervalInMilliseconds(MINIMUM_INTERVAL_IN_MILLIS)
+      .build();
+    when(navigation.options()).thenReturn(options);
+    when(navigation.retrieveProcessingRate()).thenReturn(new AdaptiveProcessingRate(false, 0));
+    when(navigation.retrievePerformanceMonitor()).thenReturn(new NavigationPerformanceMonitor(false));
+    when(navigation.retrieveMapboxNavigator()).thenReturn(mock(MapboxNavigator.class));
+    NavigationEngineFactory engineFactory = mock(NavigationEngineFactory.class);
+    when(engineFactory.retrieveOffRouteEngine()).thenReturn(mock(OffRoute.class));
+    when(engineFactory.retrieveSnapEngine()).thenReturn(mock(Snap.class));
+    when(engineFactory.retrieveFasterRouteEngine()).thenReturn(mock(FasterRoute.class));
+    when(navigation.retrieveEngineFactory()).thenReturn(engineFactory);
+    return navigation;
+  }
+
+  private RouteProcessorRunnable buildRunnable(MapboxNavigation navigation, NavigationScheduler workerScheduler)
+    throws Exception {
+    NavigationRouteProcessor routeProcessor = mock(NavigationRouteProcessor.class);
+    RouteProgress routeProgress = buildDefaultTestRouteProgress();
+    when(routeProcessor.buildNewRouteProgress(nullable(NavigationStatus.class), nullable(CurrentRoute.class)))
+      .thenReturn(routeProgress);
+    return new RouteProcessorRunnable(routeProcessor, navigation, workerScheduler,
+      mock(NavigationScheduler.class), mock(RouteProcessorBackgroundThread.Listener.class));
+  }
+
+  /**
+   * Keeps the posted runnables until they're run on demand, with a clock only moved by the test.
+   */
+  private static class FakeNavigationScheduler implements NavigationScheduler {
+
+    private final List<Runnable> pending = new ArrayList<>();
+    private final List<Long> delays = new ArrayList<>();
+    private long currentTimeInMillis;
+
+    FakeNavigationScheduler(long currentTimeInMillis) {
+      this.currentTimeInMillis = currentTimeInMillis;
+    }
+
+    @Override
+    public void post(Runnable runnable) {
+      postDelayed(runnable, 0);
+    }
+
+    @Override
+    public void postDelayed(Runnable runnable, long delayInMilliseconds) {
+      pending.add(runnable);
+      delays.add(delayInMilliseconds);
+    }
+
+    @Override
+    public void removeCallbacks(Runnable runnable) {
+      pending.remove(runnable);
+    }
+
+    @Override
+    public long elapsedTimeInMilliseconds() {
+      return currentTimeInMillis;
+    }
+
+    void runPending() {
+      List<Runnable> toRun = new ArrayList<>(pending);
+      pending.clear();
+      for (Runnable runnable : toRun) {
+        runnable.run();
+      }
+    }
+  }
+}
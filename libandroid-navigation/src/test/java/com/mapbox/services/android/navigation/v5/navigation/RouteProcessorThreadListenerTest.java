@@ -3,10 +3,12 @@ package com.mapbox.services.android.navigation.v5.navigation;
 import android.location.Location;
 import android.support.annotation.NonNull;
 
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.services.android.navigation.v5.instruction.Instruction;
 import com.mapbox.services.android.navigation.v5.milestone.Milestone;
 import com.mapbox.services.android.navigation.v5.milestone.StepMilestone;
 import com.mapbox.services.android.navigation.v5.route.RouteFetcher;
+import com.mapbox.services.android.navigation.v5.route.SpeculativeRouteEngine;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import org.junit.Test;
@@ -14,11 +16,14 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 public class RouteProcessorThreadListenerTest {
 
@@ -45,6 +50,20 @@ public class RouteProcessorThreadListenerTest {
     verify(dispatcher).onProgressChange(eq(location), eq(routeProgress));
   }
 
+  @Test
+  public void onNewRouteProgressOnProcessingThread_eventDispatcherProcessingThreadProgressIsUpdated() {
+    NavigationEventDispatcher dispatcher = mock(NavigationEventDispatcher.class);
+    RouteProcessorThreadListener listener = buildListener(dispatcher);
+    Location location = mock(Location.class);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    NavigationScheduler processingThreadScheduler = mock(NavigationScheduler.class);
+
+    listener.onNewRouteProgressOnProcessingThread(location, routeProgress, processingThreadScheduler);
+
+    verify(dispatcher).onProcessingThreadProgressChange(eq(location), eq(routeProgress),
+      eq(processingThreadScheduler));
+  }
+
   @Test
   public void onMilestoneTrigger_eventDispatcherSendsMilestone() {
     List<Milestone> milestones = new ArrayList<>();
@@ -96,6 +115,62 @@ public class RouteProcessorThreadListenerTest {
     verifyZeroInteractions(dispatcher);
   }
 
+  @Test
+  public void onNewRouteProgress_speculativeRouteEngineIsUpdated() {
+    SpeculativeRouteEngine engine = mock(SpeculativeRouteEngine.class);
+    RouteProcessorThreadListener listener = buildListener(buildNavigation(engine),
+      mock(NavigationEventDispatcher.class));
+    Location location = mock(Location.class);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+
+    listener.onNewRouteProgress(location, routeProgress);
+
+    verify(engine).onRouteProgress(eq(location), eq(routeProgress));
+  }
+
+  @Test
+  public void onUserOffRouteTrue_speculativeRouteStartsNavigation() {
+    SpeculativeRouteEngine engine = mock(SpeculativeRouteEngine.class);
+    Location location = mock(Location.class);
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    when(engine.findRoute(location, true)).thenReturn(route);
+    MapboxNavigation navigation = buildNavigation(engine);
+    NavigationEventDispatcher dispatcher = mock(NavigationEventDispatcher.class);
+    RouteProcessorThreadListener listener = buildListener(navigation, dispatcher);
+
+    listener.onUserOffRoute(location, true);
+
+    verify(navigation).startNavigation(route);
+    verify(dispatcher).onSpeculativeRouteEvent(route);
+    verify(dispatcher, never()).onUserOffRoute(location);
+  }
+
+  @Test
+  public void onUserOffRouteTrue_rerouteIsTraced() {
+    RerouteTracer rerouteTracer = mock(RerouteTracer.class);
+    MapboxNavigation navigation = buildNavigation(mock(SpeculativeRouteEngine.class), rerouteTracer);
+    RouteProcessorThreadListener listener = buildListener(navigation, mock(NavigationEventDispatcher.class));
+
+    listener.onUserOffRoute(mock(Location.class), true);
+
+    verify(rerouteTracer).onUserOffRoute(anyLong(), anyLong());
+  }
+
+  @Test
+  public void onNewRouteProgress_completedRerouteTimelineIsSent() {
+    RerouteTracer rerouteTracer = mock(RerouteTracer.class);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    RerouteTimeline rerouteTimeline = RerouteTimeline.builder().offRouteTime(0).build();
+    when(rerouteTracer.onRouteProgress(eq(routeProgress), anyLong())).thenReturn(rerouteTimeline);
+    MapboxNavigation navigation = buildNavigation(mock(SpeculativeRouteEngine.class), rerouteTracer);
+    NavigationEventDispatcher dispatcher = mock(NavigationEventDispatcher.class);
+    RouteProcessorThreadListener listener = buildListener(navigation, dispatcher);
+
+    listener.onNewRouteProgress(mock(Location.class), routeProgress);
+
+    verify(dispatcher).onRerouteTimeline(rerouteTimeline);
+  }
+
   @Test
   public void onCheckFasterRouteTrue_eventDispatcherSendsEvent() {
     RouteFetcher routeFetcher = mock(RouteFetcher.class);
@@ -121,19 +196,38 @@ public class RouteProcessorThreadListenerTest {
   private RouteProcessorThreadListener buildListener(NavigationNotificationProvider provider) {
     RouteFetcher routeFetcher = mock(RouteFetcher.class);
     NavigationEventDispatcher eventDispatcher = mock(NavigationEventDispatcher.class);
-    return new RouteProcessorThreadListener(eventDispatcher, routeFetcher, provider);
+    MapboxNavigation navigation = buildNavigation(mock(SpeculativeRouteEngine.class));
+    return new RouteProcessorThreadListener(navigation, eventDispatcher, routeFetcher, provider);
   }
 
   private RouteProcessorThreadListener buildListener(RouteFetcher routeFetcher) {
     NavigationNotificationProvider provider = mock(NavigationNotificationProvider.class);
     NavigationEventDispatcher eventDispatcher = mock(NavigationEventDispatcher.class);
-    return new RouteProcessorThreadListener(eventDispatcher, routeFetcher, provider);
+    MapboxNavigation navigation = buildNavigation(mock(SpeculativeRouteEngine.class));
+    return new RouteProcessorThreadListener(navigation, eventDispatcher, routeFetcher, provider);
   }
 
   private RouteProcessorThreadListener buildListener(NavigationEventDispatcher eventDispatcher) {
+    MapboxNavigation navigation = buildNavigation(mock(SpeculativeRouteEngine.class));
+    return buildListener(navigation, eventDispatcher);
+  }
+
+  private RouteProcessorThreadListener buildListener(MapboxNavigation navigation,
+                                                     NavigationEventDispatcher eventDispatcher) {
     NavigationNotificationProvider provider = mock(NavigationNotificationProvider.class);
     RouteFetcher routeFetcher = mock(RouteFetcher.class);
-    return new RouteProcessorThreadListener(eventDispatcher, routeFetcher, provider);
+    return new RouteProcessorThreadListener(navigation, eventDispatcher, routeFetcher, provider);
+  }
+
+  private MapboxNavigation buildNavigation(SpeculativeRouteEngine engine) {
+    return buildNavigation(engine, mock(RerouteTracer.class));
+  }
+
+  private MapboxNavigation buildNavigation(SpeculativeRouteEngine engine, RerouteTracer rerouteTracer) {
+    MapboxNavigation navigation = mock(MapboxNavigation.class);
+    when(navigation.retrieveSpeculativeRouteEngine()).thenReturn(engine);
+    when(navigation.retrieveRerouteTracer()).thenReturn(rerouteTracer);
+    return navigation;
   }
 
   @NonNull
@@ -0,0 +1,116 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.api.directions.v5.models.RouteOptions;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DirectionsCacheKeyTest {
+
+  private static final Point ORIGIN = Point.fromLngLat(-77.03195, 38.90995);
+  private static final List<Point> WAYPOINTS = Arrays.asList(Point.fromLngLat(-77.0365, 38.8977));
+
+  @Test
+  public void create_nearbyOriginsShareKey() {
+    Point nearbyOrigin = Point.fromLngLat(-77.03191, 38.90991);
+
+    String key = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, null);
+    String nearbyKey = DirectionsCacheKey.create(nearbyOrigin, 90d, WAYPOINTS, null);
+
+    assertEquals(key, nearbyKey);
+  }
+
+  @Test
+  public void create_distantOriginsDoNotShareKey() {
+    Point distantOrigin = Point.fromLngLat(-77.03295, 38.90995);
+
+    String key = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, null);
+    String distantKey = DirectionsCacheKey.create(distantOrigin, 90d, WAYPOINTS, null);
+
+    assertFalse(key.equals(distantKey));
+  }
+
+  @Test
+  public void create_bearingsInSameBucketShareKey() {
+    String key = DirectionsCacheKey.create(ORIGIN, 350d, WAYPOINTS, null);
+    String sameBucketKey = DirectionsCacheKey.create(ORIGIN, 10d, WAYPOINTS, null);
+
+    assertEquals(key, sameBucketKey);
+  }
+
+  @Test
+  public void create_bearingsInDifferentBucketsDoNotShareKey() {
+    String key = DirectionsCacheKey.create(ORIGIN, 0d, WAYPOINTS, null);
+    String otherBucketKey = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, null);
+
+    assertFalse(key.equals(otherBucketKey));
+  }
+
+  @Test
+  public void create_differentProfilesDoNotShareKey() {
+    RouteOptions drivingOptions = buildRouteOptions("driving");
+    RouteOptions walkingOptions = buildRouteOptions("walking");
+
+    String drivingKey = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, drivingOptions);
+    String walkingKey = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, walkingOptions);
+
+    assertFalse(drivingKey.equals(walkingKey));
+  }
+
+  @Test
+  public void create_differentResponseShapesDoNotShareKey() {
+    RouteOptions options = buildRouteOptions("driving");
+    RouteOptions alternativesOptions = buildRouteOptions("driving");
+    when(alternativesOptions.alternatives()).thenReturn(true);
+    RouteOptions polylineOptions = buildRouteOptions("driving");
+    when(polylineOptions.geometries()).thenReturn("polyline");
+
+    String key = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, options);
+    String alternativesKey = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, alternativesOptions);
+    String polylineKey = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, polylineOptions);
+
+    assertFalse(key.equals(alternativesKey));
+    assertFalse(key.equals(polylineKey));
+  }
+
+  @Test
+  public void create_differentBaseUrlsDoNotShareKey() {
+    RouteOptions options = buildRouteOptions("driving");
+    RouteOptions stagingOptions = buildRouteOptions("driving");
+    when(stagingOptions.baseUrl()).thenReturn("https://api-staging.mapbox.com");
+
+    String key = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, options);
+    String stagingKey = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, stagingOptions);
+
+    assertFalse(key.equals(stagingKey));
+  }
+
+  @Test
+  public void create_requestUuidIsIgnored() {
+    RouteOptions options = buildRouteOptions("driving");
+    when(options.requestUuid()).thenReturn("first");
+    RouteOptions otherRequestOptions = buildRouteOptions("driving");
+    when(otherRequestOptions.requestUuid()).thenReturn("second");
+
+    String key = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, options);
+    String otherRequestKey = DirectionsCacheKey.create(ORIGIN, 90d, WAYPOINTS, otherRequestOptions);
+
+    assertEquals(key, otherRequestKey);
+  }
+
+  private RouteOptions buildRouteOptions(String profile) {
+    RouteOptions options = mock(RouteOptions.class);
+    when(options.user()).thenReturn("mapbox");
+    when(options.profile()).thenReturn(profile);
+    when(options.baseUrl()).thenReturn("https://api.mapbox.com");
+    return options;
+  }
+}
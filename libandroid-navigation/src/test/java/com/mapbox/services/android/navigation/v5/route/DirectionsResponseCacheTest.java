@@ -0,0 +1,147 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DirectionsResponseCacheTest extends BaseTest {
+
+  private static final String DIRECTIONS_FIXTURE = "directions_v5.json";
+  private static final long MAXIMUM_SIZE_IN_BYTES = 1024 * 1024;
+  private static final long TIME_TO_LIVE_IN_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void get_returnsStoredResponse() throws Exception {
+    DirectionsResponseCache cache = buildCache(MAXIMUM_SIZE_IN_BYTES, buildValidityPolicy(true, false));
+    DirectionsResponse response = buildResponse();
+
+    cache.put("key", response);
+    DirectionsResponseCache.CachedResponse cachedResponse = cache.get("key");
+
+    assertNotNull(cachedResponse);
+    assertEquals(response.routes().get(0).distance(), cachedResponse.response().routes().get(0).distance());
+    assertFalse(cachedResponse.shouldRefresh());
+    assertEquals(1, cache.stats().hitCount());
+  }
+
+  @Test
+  public void get_unknownKeyCountsMiss() throws Exception {
+    DirectionsResponseCache cache = buildCache(MAXIMUM_SIZE_IN_BYTES, buildValidityPolicy(true, false));
+
+    DirectionsResponseCache.CachedResponse cachedResponse = cache.get("key");
+
+    assertNull(cachedResponse);
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  public void get_invalidResponseCountsMiss() throws Exception {
+    DirectionsResponseCache cache = buildCache(MAXIMUM_SIZE_IN_BYTES, buildValidityPolicy(false, false));
+    cache.put("key", buildResponse());
+
+    DirectionsResponseCache.CachedResponse cachedResponse = cache.get("key");
+
+    assertNull(cachedResponse);
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  public void get_refreshIsTakenFromPolicy() throws Exception {
+    DirectionsResponseCache cache = buildCache(MAXIMUM_SIZE_IN_BYTES, buildValidityPolicy(true, true));
+    cache.put("key", buildResponse());
+
+    DirectionsResponseCache.CachedResponse cachedResponse = cache.get("key");
+
+    assertTrue(cachedResponse.shouldRefresh());
+  }
+
+  @Test
+  public void get_expiredResponseIsEvicted() throws Exception {
+    DirectionsResponseCache cache = buildCache(MAXIMUM_SIZE_IN_BYTES, buildValidityPolicy(true, false));
+    cache.put("key", buildResponse());
+    File file = new File(temporaryFolder.getRoot(), "key.json");
+    file.setLastModified(System.currentTimeMillis() - TIME_TO_LIVE_IN_MILLIS * 2);
+
+    DirectionsResponseCache.CachedResponse cachedResponse = cache.get("key");
+
+    assertNull(cachedResponse);
+    assertFalse(file.exists());
+    assertEquals(1, cache.stats().evictionCount());
+  }
+
+  @Test
+  public void put_evictsLeastRecentlyUsedResponseAboveMaximumSize() throws Exception {
+    DirectionsResponse response = buildResponse();
+    long responseSize = response.toJson().getBytes("UTF-8").length;
+    DirectionsResponseCache cache = buildCache(responseSize * 2, buildValidityPolicy(true, false));
+    cache.put("first", response);
+    cache.put("second", response);
+    cache.get("first");
+
+    cache.put("third", response);
+
+    assertNotNull(cache.get("first"));
+    assertNull(cache.get("second"));
+    assertNotNull(cache.get("third"));
+    assertEquals(1, cache.stats().evictionCount());
+    assertEquals(responseSize * 2, cache.stats().sizeInBytes());
+  }
+
+  @Test
+  public void get_findsResponseStoredByPreviousCache() throws Exception {
+    CachedRouteValidityPolicy policy = buildValidityPolicy(true, false);
+    buildCache(MAXIMUM_SIZE_IN_BYTES, policy).put("key", buildResponse());
+    DirectionsResponseCache cache = buildCache(MAXIMUM_SIZE_IN_BYTES, policy);
+
+    DirectionsResponseCache.CachedResponse cachedResponse = cache.get("key");
+
+    assertNotNull(cachedResponse);
+  }
+
+  @Test
+  public void clear_removesAllResponses() throws Exception {
+    DirectionsResponseCache cache = buildCache(MAXIMUM_SIZE_IN_BYTES, buildValidityPolicy(true, false));
+    cache.put("key", buildResponse());
+
+    cache.clear();
+
+    assertNull(cache.get("key"));
+    assertEquals(0, cache.stats().sizeInBytes());
+  }
+
+  private DirectionsResponseCache buildCache(long maximumSizeInBytes, CachedRouteValidityPolicy policy) {
+    return new DirectionsResponseCache(temporaryFolder.getRoot(), maximumSizeInBytes, TIME_TO_LIVE_IN_MILLIS,
+      policy);
+  }
+
+  private CachedRouteValidityPolicy buildValidityPolicy(boolean isValid, boolean shouldRefresh) {
+    CachedRouteValidityPolicy policy = mock(CachedRouteValidityPolicy.class);
+    when(policy.isValid(any(DirectionsResponse.class), anyLong())).thenReturn(isValid);
+    when(policy.shouldRefresh(any(DirectionsResponse.class), anyLong())).thenReturn(shouldRefresh);
+    return policy;
+  }
+
+  private DirectionsResponse buildResponse() throws IOException {
+    return DirectionsResponse.fromJson(loadJsonFixture(DIRECTIONS_FIXTURE));
+  }
+}
@@ -0,0 +1,116 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class FasterRouteEvaluatorTest extends BaseTest {
+
+  private static final String PRECISION_6 = "directions_v5_precision_6.json";
+  private static final double CURRENT_ROUTE_DURATION = 10000000d;
+
+  @Test
+  public void findFasterRoute_cheapestRouteIsPicked() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress(CURRENT_ROUTE_DURATION);
+    DirectionsRoute route = buildRoute();
+    DirectionsResponse response = buildResponse(route.toBuilder().duration(5000d).build(),
+      route.toBuilder().duration(3000d).build());
+    FasterRouteEvaluator evaluator = new FasterRouteEvaluator(FasterRouteCostModel.builder().build());
+
+    FasterRouteScore score = evaluator.findFasterRoute(response, routeProgress);
+
+    assertEquals(1, score.routeIndex());
+    assertEquals(3000d, score.cost(), DELTA);
+    assertTrue(score.improvement() > 0.9);
+  }
+
+  @Test
+  public void findFasterRoute_routeWithoutMinimumImprovementIsNotPicked() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress(CURRENT_ROUTE_DURATION);
+    DirectionsRoute route = buildRoute().toBuilder().duration(routeProgress.durationRemaining() * 0.95).build();
+    FasterRouteEvaluator evaluator = new FasterRouteEvaluator(FasterRouteCostModel.builder().build());
+
+    FasterRouteScore score = evaluator.findFasterRoute(buildResponse(route), routeProgress);
+
+    assertNull(score);
+  }
+
+  @Test
+  public void findFasterRoute_routeNotFollowedByUpcomingStepIsNotPicked() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress(CURRENT_ROUTE_DURATION);
+    DirectionsRoute route = buildRouteRenamingStepsFrom(1).toBuilder().duration(3000d).build();
+    FasterRouteEvaluator evaluator = new FasterRouteEvaluator(FasterRouteCostModel.builder().build());
+
+    FasterRouteScore score = evaluator.findFasterRoute(buildResponse(route), routeProgress);
+
+    assertNull(score);
+  }
+
+  @Test
+  public void findFasterRoute_overlapWeightPrefersRouteAlongCurrentRoute() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress(CURRENT_ROUTE_DURATION);
+    DirectionsResponse response = buildResponse(buildRoute().toBuilder().duration(3000d).build(),
+      buildRouteRenamingStepsFrom(2).toBuilder().duration(2900d).build());
+    FasterRouteCostModel costModel = FasterRouteCostModel.builder().build();
+
+    FasterRouteScore durationScore = new FasterRouteEvaluator(costModel).findFasterRoute(response, routeProgress);
+    FasterRouteScore overlapScore = new FasterRouteEvaluator(costModel.toBuilder().overlapWeight(1000).build())
+      .findFasterRoute(response, routeProgress);
+
+    assertEquals(1, durationScore.routeIndex());
+    assertEquals(0, overlapScore.routeIndex());
+  }
+
+  @Test
+  public void scoreRoute_routeAlongCurrentRouteFullyOverlaps() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress(CURRENT_ROUTE_DURATION);
+    FasterRouteEvaluator evaluator = new FasterRouteEvaluator(FasterRouteCostModel.builder().build());
+
+    FasterRouteScore score = evaluator.scoreRoute(buildResponse(buildRoute()), 0, routeProgress);
+
+    assertEquals(1d, score.overlap(), DELTA);
+    assertEquals(0d, score.overlapCost(), DELTA);
+  }
+
+  private RouteProgress buildRouteProgress(double duration) throws Exception {
+    DirectionsRoute route = buildRoute().toBuilder().duration(duration).build();
+    return buildTestRouteProgress(route, 100, 700, 1000, 0, 0);
+  }
+
+  private DirectionsRoute buildRoute() throws Exception {
+    return buildTestDirectionsRoute(PRECISION_6);
+  }
+
+  private DirectionsRoute buildRouteRenamingStepsFrom(int firstRenamedStep) throws Exception {
+    DirectionsRoute route = buildRoute();
+    RouteLeg leg = route.legs().get(0);
+    List<LegStep> steps = new ArrayList<>();
+    for (int stepIndex = 0; stepIndex < leg.steps().size(); stepIndex++) {
+      LegStep step = leg.steps().get(stepIndex);
+      steps.add(stepIndex < firstRenamedStep ? step : step.toBuilder().name("Detour " + stepIndex).build());
+    }
+    return route.toBuilder()
+      .legs(Arrays.asList(leg.toBuilder().steps(steps).build()))
+      .build();
+  }
+
+  private DirectionsResponse buildResponse(DirectionsRoute... routes) {
+    return DirectionsResponse.builder()
+      .code("Ok")
+      .routes(Arrays.asList(routes))
+      .build();
+  }
+}
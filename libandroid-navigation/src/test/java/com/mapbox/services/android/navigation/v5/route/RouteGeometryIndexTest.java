@@ -0,0 +1,100 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.mapbox.core.constants.Constants.PRECISION_6;
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteGeometryIndexTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+
+  @Test
+  public void routePoints_matchDecodedRouteGeometry() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+
+    RouteGeometryIndex index = RouteGeometryIndex.create(route);
+
+    assertEquals(PolylineUtils.decode(route.geometry(), PRECISION_6), index.routePoints());
+  }
+
+  @Test
+  public void stepPoints_matchDecodedStepGeometryForEveryLeg() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+
+    RouteGeometryIndex index = RouteGeometryIndex.create(route);
+
+    assertEquals(route.legs().size(), index.legCount());
+    for (int legIndex = 0; legIndex < route.legs().size(); legIndex++) {
+      List<LegStep> steps = route.legs().get(legIndex).steps();
+      assertEquals(steps.size(), index.stepCount(legIndex));
+      for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+        List<Point> expected = PolylineUtils.decode(steps.get(stepIndex).geometry(), PRECISION_6);
+        assertEquals(expected, index.stepPoints(legIndex, stepIndex));
+      }
+    }
+  }
+
+  @Test
+  public void stepCoordinates_matchStepPoints() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteGeometryIndex index = RouteGeometryIndex.create(route);
+
+    List<Point> stepPoints = index.stepPoints(0, 1);
+
+    assertEquals(stepPoints.size(), index.stepPointCount(0, 1));
+    Point lastPoint = stepPoints.get(stepPoints.size() - 1);
+    assertEquals(lastPoint.longitude(), index.stepLongitude(0, 1, stepPoints.size() - 1), DELTA);
+    assertEquals(lastPoint.latitude(), index.stepLatitude(0, 1, stepPoints.size() - 1), DELTA);
+  }
+
+  @Test
+  public void stepPoints_areCachedBetweenCalls() throws Exception {
+    RouteGeometryIndex index = RouteGeometryIndex.create(buildTestDirectionsRoute());
+
+    assertSame(index.stepPoints(0, 2), index.stepPoints(0, 2));
+  }
+
+  @Test
+  public void stepPoints_invalidIndicesReturnNull() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteGeometryIndex index = RouteGeometryIndex.create(route);
+    int stepCount = route.legs().get(0).steps().size();
+
+    assertNull(index.stepPoints(0, stepCount));
+    assertNull(index.stepPoints(1, 0));
+    assertNull(index.stepPoints(0, -1));
+    assertEquals(0, index.stepPointCount(0, stepCount));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void stepLongitude_invalidPointIndexThrows() throws Exception {
+    RouteGeometryIndex index = RouteGeometryIndex.create(buildTestDirectionsRoute());
+
+    index.stepLongitude(0, 0, index.stepPointCount(0, 0));
+  }
+
+  @Test
+  public void isIndexOf_onlyMatchesIndexedRouteInstance() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute otherRoute = buildTestDirectionsRoute();
+
+    RouteGeometryIndex index = RouteGeometryIndex.create(route);
+
+    assertTrue(index.isIndexOf(route));
+    assertFalse(index.isIndexOf(otherRoute));
+    assertFalse(index.isIndexOf(null));
+  }
+}
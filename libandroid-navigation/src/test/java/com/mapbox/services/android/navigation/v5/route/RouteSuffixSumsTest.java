@@ -0,0 +1,89 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteSuffixSumsTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+
+  @Test
+  public void distanceAfterLeg_matchesFollowingLegs() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+
+    RouteSuffixSums sums = RouteSuffixSums.create(route);
+
+    List<RouteLeg> legs = route.legs();
+    for (int legIndex = 0; legIndex < legs.size(); legIndex++) {
+      double distanceAfter = 0;
+      double durationAfter = 0;
+      for (int i = legIndex + 1; i < legs.size(); i++) {
+        distanceAfter += legs.get(i).distance();
+        durationAfter += legs.get(i).duration();
+      }
+      assertEquals(distanceAfter, sums.distanceAfterLeg(legIndex), DELTA);
+      assertEquals(durationAfter, sums.durationAfterLeg(legIndex), DELTA);
+    }
+  }
+
+  @Test
+  public void legDurationAfterStep_matchesFollowingStepsOfLeg() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+
+    RouteSuffixSums sums = RouteSuffixSums.create(route);
+
+    for (int legIndex = 0; legIndex < route.legs().size(); legIndex++) {
+      List<LegStep> steps = route.legs().get(legIndex).steps();
+      for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+        double durationAfter = 0;
+        for (int i = stepIndex + 1; i < steps.size(); i++) {
+          durationAfter += steps.get(i).duration();
+        }
+        assertEquals(durationAfter, sums.legDurationAfterStep(legIndex, stepIndex), DELTA);
+      }
+    }
+  }
+
+  @Test
+  public void lastLegAndStep_haveNothingAfter() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    int lastStepIndex = route.legs().get(0).steps().size() - 1;
+
+    RouteSuffixSums sums = RouteSuffixSums.create(route);
+
+    assertEquals(0d, sums.distanceAfterLeg(0), DELTA);
+    assertEquals(0d, sums.legDurationAfterStep(0, lastStepIndex), DELTA);
+  }
+
+  @Test
+  public void invalidIndices_returnZero() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+
+    RouteSuffixSums sums = RouteSuffixSums.create(route);
+
+    assertEquals(0d, sums.distanceAfterLeg(-1), DELTA);
+    assertEquals(0d, sums.durationAfterLeg(route.legs().size()), DELTA);
+    assertEquals(0d, sums.legDurationAfterStep(0, route.legs().get(0).steps().size()), DELTA);
+    assertEquals(0d, sums.legDurationAfterStep(route.legs().size(), 0), DELTA);
+  }
+
+  @Test
+  public void isSumsOf_onlyMatchesRouteInstance() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+
+    RouteSuffixSums sums = RouteSuffixSums.create(route);
+
+    assertTrue(sums.isSumsOf(route));
+    assertFalse(sums.isSumsOf(buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE)));
+  }
+}
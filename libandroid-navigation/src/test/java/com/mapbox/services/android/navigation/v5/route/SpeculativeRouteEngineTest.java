@@ -0,0 +1,255 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationRoute;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.List;
+
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SpeculativeRouteEngineTest {
+
+  private static final Point INTERSECTION = Point.fromLngLat(-77.03195, 38.90995);
+  private static final int REQUESTS_PER_MINUTE = 6;
+
+  @Test
+  public void findDetourBearings_excludesRouteAndEntryRestrictedBearingsClosestFirst() {
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(mock(RouteFetcher.class), true, 3, REQUESTS_PER_MINUTE);
+    StepIntersection intersection = buildIntersection(Arrays.asList(0, 90, 180, 270, 315),
+      Arrays.asList(true, true, false, true, true), 2, 0);
+
+    List<Double> bearings = engine.findDetourBearings(intersection);
+
+    assertEquals(Arrays.asList(315d, 90d, 270d), bearings);
+  }
+
+  @Test
+  public void findDetourBearings_limitedToBudget() {
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(mock(RouteFetcher.class), true, 1, REQUESTS_PER_MINUTE);
+    StepIntersection intersection = buildIntersection(Arrays.asList(0, 90, 180, 270),
+      Arrays.asList(true, true, true, true), 2, 0);
+
+    List<Double> bearings = engine.findDetourBearings(intersection);
+
+    assertEquals(1, bearings.size());
+  }
+
+  @Test
+  public void onRouteProgress_fetchesDetoursOnceForManeuver() {
+    RouteFetcher routeFetcher = mock(RouteFetcher.class);
+    NavigationRoute navigationRoute = mockRequest(routeFetcher);
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(routeFetcher, true, 2, REQUESTS_PER_MINUTE);
+    RouteProgress routeProgress = buildRouteProgress();
+    Location location = buildLocation(Point.fromLngLat(-77.03295, 38.90995));
+
+    engine.onRouteProgress(location, routeProgress);
+    engine.onRouteProgress(location, routeProgress);
+
+    verify(navigationRoute, times(2)).getRoute(any(Callback.class));
+    assertEquals(2, engine.stats().requestCount());
+  }
+
+  @Test
+  public void onRouteProgress_doesNotFetchWhenDisabled() {
+    RouteFetcher routeFetcher = mock(RouteFetcher.class);
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(routeFetcher, false, 2, REQUESTS_PER_MINUTE);
+
+    engine.onRouteProgress(buildLocation(INTERSECTION), buildRouteProgress());
+
+    verify(routeFetcher, never()).buildRequest(any(Point.class), anyDouble(), any(RouteProgress.class));
+  }
+
+  @Test
+  public void onRouteProgress_doesNotFetchFarFromManeuver() {
+    RouteFetcher routeFetcher = mock(RouteFetcher.class);
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(routeFetcher, true, 2, REQUESTS_PER_MINUTE);
+    Location location = buildLocation(Point.fromLngLat(-77.04195, 38.90995));
+
+    engine.onRouteProgress(location, buildRouteProgress());
+
+    verify(routeFetcher, never()).buildRequest(any(Point.class), anyDouble(), any(RouteProgress.class));
+  }
+
+  @Test
+  public void onRouteProgress_doesNotFetchWithoutUpcomingManeuver() {
+    RouteFetcher routeFetcher = mock(RouteFetcher.class);
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(routeFetcher, true, 2, REQUESTS_PER_MINUTE);
+    RouteProgress routeProgress = buildRouteProgress();
+    when(routeProgress.currentLegProgress().upComingStep()).thenReturn(null);
+
+    engine.onRouteProgress(buildLocation(INTERSECTION), routeProgress);
+
+    verify(routeFetcher, never()).buildRequest(any(Point.class), anyDouble(), any(RouteProgress.class));
+  }
+
+  @Test
+  public void onRouteProgress_requestsCappedWithinMinute() {
+    RouteFetcher routeFetcher = mock(RouteFetcher.class);
+    NavigationRoute navigationRoute = mockRequest(routeFetcher);
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(routeFetcher, true, 2, 3);
+    Point nextManeuver = Point.fromLngLat(-77.03095, 38.90995);
+
+    engine.onRouteProgress(buildLocation(INTERSECTION, 0), buildRouteProgress());
+    engine.onRouteProgress(buildLocation(nextManeuver, 30000), buildRouteProgress(nextManeuver));
+
+    verify(navigationRoute, times(3)).getRoute(any(Callback.class));
+    assertEquals(3, engine.stats().requestCount());
+    assertEquals(1, engine.stats().cappedRequestCount());
+    assertEquals(3, engine.stats().requestLimitPerMinute());
+  }
+
+  @Test
+  public void onRouteProgress_canceledRequestsStillCount() {
+    RouteFetcher routeFetcher = mock(RouteFetcher.class);
+    NavigationRoute navigationRoute = mockRequest(routeFetcher);
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(routeFetcher, true, 2, 2);
+    Point nextManeuver = Point.fromLngLat(-77.03095, 38.90995);
+    engine.onRouteProgress(buildLocation(INTERSECTION, 0), buildRouteProgress());
+
+    engine.clear();
+    engine.onRouteProgress(buildLocation(nextManeuver, 30000), buildRouteProgress(nextManeuver));
+
+    verify(navigationRoute, times(2)).cancelCall();
+    verify(navigationRoute, times(2)).getRoute(any(Callback.class));
+    assertEquals(2, engine.stats().cappedRequestCount());
+  }
+
+  @Test
+  public void onRouteProgress_requestsAllowedAgainAfterMinute() {
+    RouteFetcher routeFetcher = mock(RouteFetcher.class);
+    NavigationRoute navigationRoute = mockRequest(routeFetcher);
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(routeFetcher, true, 2, 2);
+    Point nextManeuver = Point.fromLngLat(-77.03095, 38.90995);
+
+    engine.onRouteProgress(buildLocation(INTERSECTION, 0), buildRouteProgress());
+    engine.onRouteProgress(buildLocation(nextManeuver, 60000), buildRouteProgress(nextManeuver));
+
+    verify(navigationRoute, times(4)).getRoute(any(Callback.class));
+    assertEquals(0, engine.stats().cappedRequestCount());
+  }
+
+  @Test
+  public void findRoute_returnsDetourFetchedFromOffRouteLocation() {
+    RouteFetcher routeFetcher = mock(RouteFetcher.class);
+    NavigationRoute navigationRoute = mockRequest(routeFetcher);
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(routeFetcher, true, 1, REQUESTS_PER_MINUTE);
+    engine.onRouteProgress(buildLocation(INTERSECTION), buildRouteProgress());
+    DirectionsRoute detour = mock(DirectionsRoute.class);
+    respond(navigationRoute, detour);
+    Point detourOrigin = TurfMeasurement.destination(INTERSECTION, 25, 90, TurfConstants.UNIT_METERS);
+
+    DirectionsRoute route = engine.findRoute(buildLocation(detourOrigin), true);
+
+    assertEquals(detour, route);
+    assertEquals(1, engine.stats().hitCount());
+    assertEquals(1d, engine.stats().hitRate());
+  }
+
+  @Test
+  public void findRoute_returnsNullAwayFromDetours() {
+    RouteFetcher routeFetcher = mock(RouteFetcher.class);
+    NavigationRoute navigationRoute = mockRequest(routeFetcher);
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(routeFetcher, true, 1, REQUESTS_PER_MINUTE);
+    engine.onRouteProgress(buildLocation(INTERSECTION), buildRouteProgress());
+    respond(navigationRoute, mock(DirectionsRoute.class));
+    Point awayFromDetour = TurfMeasurement.destination(INTERSECTION, 25, 270, TurfConstants.UNIT_METERS);
+
+    DirectionsRoute route = engine.findRoute(buildLocation(awayFromDetour), true);
+
+    assertNull(route);
+    assertEquals(0, engine.stats().hitCount());
+  }
+
+  @Test
+  public void findRoute_countsEachTimeOffRouteOnce() {
+    SpeculativeRouteEngine engine = new SpeculativeRouteEngine(mock(RouteFetcher.class), true, 1, REQUESTS_PER_MINUTE);
+    Location location = buildLocation(INTERSECTION);
+
+    engine.findRoute(location, true);
+    engine.findRoute(location, true);
+    engine.findRoute(location, false);
+    engine.findRoute(location, true);
+
+    assertEquals(2, engine.stats().offRouteCount());
+  }
+
+  private StepIntersection buildIntersection(List<Integer> bearings, List<Boolean> entries, int in, int out) {
+    return buildIntersection(INTERSECTION, bearings, entries, in, out);
+  }
+
+  private StepIntersection buildIntersection(Point point, List<Integer> bearings, List<Boolean> entries, int in,
+                                             int out) {
+    return StepIntersection.builder()
+      .rawLocation(new double[] {point.longitude(), point.latitude()})
+      .bearings(bearings)
+      .entry(entries)
+      .in(in)
+      .out(out)
+      .build();
+  }
+
+  private RouteProgress buildRouteProgress() {
+    return buildRouteProgress(INTERSECTION);
+  }
+
+  private RouteProgress buildRouteProgress(Point maneuver) {
+    StepIntersection intersection = buildIntersection(maneuver, Arrays.asList(0, 90, 180, 270),
+      Arrays.asList(true, true, true, true), 2, 0);
+    RouteProgress routeProgress = mock(RouteProgress.class, Mockito.RETURNS_DEEP_STUBS);
+    when(routeProgress.currentLegProgress().upComingStep().intersections()).thenReturn(Arrays.asList(intersection));
+    return routeProgress;
+  }
+
+  private Location buildLocation(Point point) {
+    return buildLocation(point, 0);
+  }
+
+  private Location buildLocation(Point point, long time) {
+    Location location = mock(Location.class);
+    when(location.getLongitude()).thenReturn(point.longitude());
+    when(location.getLatitude()).thenReturn(point.latitude());
+    when(location.getTime()).thenReturn(time);
+    return location;
+  }
+
+  private NavigationRoute mockRequest(RouteFetcher routeFetcher) {
+    NavigationRoute.Builder builder = mock(NavigationRoute.Builder.class);
+    NavigationRoute navigationRoute = mock(NavigationRoute.class);
+    when(builder.build()).thenReturn(navigationRoute);
+    when(routeFetcher.buildRequest(any(Point.class), anyDouble(), any(RouteProgress.class))).thenReturn(builder);
+    return navigationRoute;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void respond(NavigationRoute navigationRoute, DirectionsRoute route) {
+    ArgumentCaptor<Callback> captor = ArgumentCaptor.forClass(Callback.class);
+    verify(navigationRoute).getRoute(captor.capture());
+    DirectionsResponse response = mock(DirectionsResponse.class);
+    when(response.routes()).thenReturn(Arrays.asList(route));
+    captor.getValue().onResponse(null, Response.success(response));
+  }
+}
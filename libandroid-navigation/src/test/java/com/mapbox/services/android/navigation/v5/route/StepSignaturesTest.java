@@ -0,0 +1,73 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class StepSignaturesTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+
+  @Test
+  public void findStepIndex_stepsAreAddressedAcrossLegs() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    int firstLegStepCount = route.legs().get(0).steps().size();
+
+    StepSignatures signatures = StepSignatures.create(route);
+
+    assertEquals(firstLegStepCount, signatures.findStepIndex(1, 0));
+    assertEquals(-1, signatures.findStepIndex(0, firstLegStepCount));
+    assertEquals(-1, signatures.findStepIndex(route.legs().size(), 0));
+  }
+
+  @Test
+  public void signatureAt_matchesSignatureOfStep() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    LegStep step = route.legs().get(1).steps().get(1);
+
+    StepSignatures signatures = StepSignatures.create(route);
+
+    assertEquals(StepSignatures.signatureOf(step), signatures.signatureAt(signatures.findStepIndex(1, 1)));
+  }
+
+  @Test
+  public void contains_onlyStepsFromGivenIndexAreSearched() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<LegStep> steps = route.legs().get(0).steps();
+    long signature = StepSignatures.signatureOf(steps.get(2));
+
+    StepSignatures signatures = StepSignatures.create(route);
+
+    assertTrue(signatures.contains(signature, 2));
+    assertFalse(signatures.contains(signature, 3));
+  }
+
+  @Test
+  public void signatureOf_stepDistanceAndDurationAreIgnored() throws Exception {
+    LegStep step = buildTestDirectionsRoute().legs().get(0).steps().get(1);
+    LegStep shorterStep = step.toBuilder()
+      .distance(step.distance() / 2)
+      .duration(step.duration() / 2)
+      .build();
+
+    assertEquals(StepSignatures.signatureOf(step), StepSignatures.signatureOf(shorterStep));
+  }
+
+  @Test
+  public void signatureOf_stepsOnDifferentRoadsDiffer() throws Exception {
+    LegStep step = buildTestDirectionsRoute().legs().get(0).steps().get(1);
+    LegStep otherStep = step.toBuilder()
+      .name(step.name() + " Extension")
+      .build();
+
+    assertFalse(StepSignatures.signatureOf(step) == StepSignatures.signatureOf(otherStep));
+  }
+}
@@ -0,0 +1,90 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.MaxSpeed;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationHelper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class LegAnnotationIndexTest extends BaseTest {
+
+  private static final String ANNOTATED_ROUTE_FIXTURE = "directions_distance_congestion_annotation.json";
+  private static final double DISTANCE_INCREMENT = 3.7;
+
+  @Test
+  public void create_legWithoutDistanceAnnotationsReturnsNull() throws Exception {
+    RouteLeg leg = buildTestDirectionsRoute().legs().get(0).toBuilder()
+      .annotation(LegAnnotation.builder().distance(new ArrayList<Double>()).build())
+      .build();
+
+    assertNull(LegAnnotationIndex.create(leg));
+  }
+
+  @Test
+  public void createCurrentAnnotation_matchesLegAnnotationLookup() throws Exception {
+    RouteLeg leg = buildTestDirectionsRoute(ANNOTATED_ROUTE_FIXTURE).legs().get(0);
+    LegAnnotationIndex index = LegAnnotationIndex.create(leg);
+
+    for (double remaining = leg.distance() + 10; remaining >= -10; remaining -= DISTANCE_INCREMENT) {
+      CurrentLegAnnotation expected = NavigationHelper.createCurrentAnnotation(null, leg, remaining);
+
+      CurrentLegAnnotation actual = index.createCurrentAnnotation(index.findAnnotationIndex(remaining));
+
+      assertEquals(expected.index(), actual.index());
+      assertEquals(expected.distanceToAnnotation(), actual.distanceToAnnotation(), DELTA);
+      assertEquals(expected.distance(), actual.distance());
+      assertEquals(expected.congestion(), actual.congestion());
+    }
+  }
+
+  @Test
+  public void findAnnotationIndex_withCursorMatchesBinarySearch() throws Exception {
+    RouteLeg leg = buildTestDirectionsRoute(ANNOTATED_ROUTE_FIXTURE).legs().get(0);
+    LegAnnotationIndex index = LegAnnotationIndex.create(leg);
+
+    for (int cursor = 0; cursor < index.size(); cursor += 5) {
+      for (double remaining = leg.distance(); remaining >= 0; remaining -= DISTANCE_INCREMENT) {
+        assertEquals(index.findAnnotationIndex(remaining), index.findAnnotationIndex(remaining, cursor));
+      }
+    }
+  }
+
+  @Test
+  public void createCurrentAnnotation_codedColumnsReturnOriginalValues() throws Exception {
+    MaxSpeed fiftyKph = MaxSpeed.builder().speed(50).unit("km/h").build();
+    MaxSpeed unknown = MaxSpeed.builder().unknown(true).build();
+    LegAnnotation annotation = LegAnnotation.builder()
+      .distance(Arrays.asList(10d, 20d, 30d))
+      .duration(Arrays.asList(1d, 2d, null))
+      .congestion(Arrays.asList("low", null, "low"))
+      .maxspeed(Arrays.asList(fiftyKph, unknown, fiftyKph))
+      .build();
+    RouteLeg leg = buildTestDirectionsRoute().legs().get(0).toBuilder()
+      .distance(60d)
+      .annotation(annotation)
+      .build();
+    LegAnnotationIndex index = LegAnnotationIndex.create(leg);
+
+    List<CurrentLegAnnotation> annotations = new ArrayList<>();
+    for (int i = 0; i < index.size(); i++) {
+      annotations.add(index.createCurrentAnnotation(i));
+    }
+
+    assertEquals("low", annotations.get(0).congestion());
+    assertNull(annotations.get(1).congestion());
+    assertEquals(unknown, annotations.get(1).maxspeed());
+    assertEquals(fiftyKph, annotations.get(2).maxspeed());
+    assertNull(annotations.get(2).duration());
+    assertNull(annotations.get(0).speed());
+    assertEquals(30d, annotations.get(2).distanceToAnnotation(), DELTA);
+  }
+}
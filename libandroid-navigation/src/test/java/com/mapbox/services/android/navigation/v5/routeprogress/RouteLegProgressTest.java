@@ -4,6 +4,7 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.route.RouteSuffixSums;
 
 import org.junit.Test;
 
@@ -177,6 +178,24 @@ public class RouteLegProgressTest extends BaseTest {
     assertEquals(0, routeProgress.currentLegProgress().durationRemaining(), BaseTest.DELTA);
   }
 
+  @Test
+  public void getDurationRemaining_withSuffixSumsAddsDurationsAfterCurrentStepInLeg() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteLeg firstLeg = route.legs().get(0);
+    LegStep currentStep = firstLeg.steps().get(1);
+    RouteProgress routeProgress = buildTestRouteProgress(route, currentStep.distance(),
+      firstLeg.distance(), route.distance(), 1, 0).toBuilder()
+      .routeSuffixSums(RouteSuffixSums.create(route))
+      .build();
+
+    double expectedDurationRemaining = 0;
+    for (int stepIndex = 1; stepIndex < firstLeg.steps().size(); stepIndex++) {
+      expectedDurationRemaining += firstLeg.steps().get(stepIndex).duration();
+    }
+    assertEquals(expectedDurationRemaining, routeProgress.currentLegProgress().durationRemaining(),
+      BaseTest.LARGE_DELTA);
+  }
+
   @Test
   public void followOnStep_doesReturnTwoStepsAheadOfCurrent() throws Exception {
     int stepIndex = 5;
@@ -0,0 +1,101 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class RouteProgressAllocationTest extends BaseTest {
+
+  /**
+   * The route, leg and step progress plus the boxed distances held by their builders. Building
+   * new builders, lists or measuring intersections again on each update exceeds this budget.
+   */
+  private static final long MAX_BYTES_PER_UPDATE = 512;
+  private static final int WARM_UP_UPDATES = 10000;
+  private static final int MEASURED_UPDATES = 10000;
+  private static final double DISTANCE_PER_UPDATE = 0.01;
+
+  @Test
+  public void build_reusedBuilderStaysWithinAllocationBudget() throws Exception {
+    com.sun.management.ThreadMXBean threadBean = findAllocationMeasuringThreadBean();
+    assumeTrue(threadBean != null);
+    RouteProgress.Builder builder = buildFirstStepRouteProgress().toBuilder();
+
+    buildUpdates(builder, WARM_UP_UPDATES);
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+    RouteProgress routeProgress = buildUpdates(builder, MEASURED_UPDATES);
+    long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    long bytesPerUpdate = allocatedBytes / MEASURED_UPDATES;
+    assertTrue("Allocated " + bytesPerUpdate + " bytes per update", bytesPerUpdate <= MAX_BYTES_PER_UPDATE);
+    RouteStepProgress stepProgress = routeProgress.currentLegProgress().currentStepProgress();
+    assertEquals(DISTANCE_PER_UPDATE, stepProgress.distanceRemaining(), DELTA);
+  }
+
+  @Test
+  public void build_unchangedValuesShareLegAndStepProgress() throws Exception {
+    RouteProgress.Builder builder = buildFirstStepRouteProgress().toBuilder();
+
+    RouteProgress first = builder.build();
+    RouteProgress second = builder.build();
+
+    assertNotSame(first, second);
+    assertSame(first.currentLegProgress(), second.currentLegProgress());
+  }
+
+  @Test
+  public void build_changedDistanceCreatesNewLegAndStepProgress() throws Exception {
+    RouteProgress.Builder builder = buildFirstStepRouteProgress().toBuilder();
+
+    RouteProgress first = builder.build();
+    RouteProgress second = builder.stepDistanceRemaining(50).build();
+
+    assertNotSame(first.currentLegProgress(), second.currentLegProgress());
+    assertEquals(50d, second.currentLegProgress().currentStepProgress().distanceRemaining(), DELTA);
+    assertSame(first.currentLegProgress().currentStepPoints(), second.currentLegProgress().currentStepPoints());
+    assertSame(first.currentLegProgress().currentStepProgress().intersections(),
+      second.currentLegProgress().currentStepProgress().intersections());
+  }
+
+  private RouteProgress buildFirstStepRouteProgress() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    double stepDistance = route.legs().get(0).steps().get(0).distance();
+    return buildTestRouteProgress(route, stepDistance, route.legs().get(0).distance(), route.distance(), 0, 0);
+  }
+
+  private RouteProgress buildUpdates(RouteProgress.Builder builder, int updates) {
+    RouteProgress routeProgress = null;
+    for (int update = updates; update > 0; update--) {
+      double distanceRemaining = update * DISTANCE_PER_UPDATE;
+      routeProgress = builder
+        .stepDistanceRemaining(distanceRemaining)
+        .legDistanceRemaining(distanceRemaining)
+        .distanceRemaining(distanceRemaining)
+        .build();
+    }
+    return routeProgress;
+  }
+
+  private com.sun.management.ThreadMXBean findAllocationMeasuringThreadBean() {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+      return null;
+    }
+    com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+    if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+      return null;
+    }
+    return allocationBean;
+  }
+}
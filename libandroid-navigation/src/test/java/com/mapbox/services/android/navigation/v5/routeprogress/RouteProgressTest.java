@@ -8,6 +8,7 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.route.RouteSuffixSums;
 
 import org.junit.Test;
 
@@ -114,6 +115,23 @@ public class RouteProgressTest extends BaseTest {
     assertEquals(0, lastRouteProgress.durationRemaining(), BaseTest.DELTA);
   }
 
+  @Test
+  public void durationRemaining_withSuffixSumsAddsDurationsAfterCurrentStep() throws Exception {
+    DirectionsRoute multiLegRoute = buildMultipleLegRoute();
+    RouteLeg firstLeg = multiLegRoute.legs().get(0);
+    LegStep currentStep = firstLeg.steps().get(1);
+    RouteProgress routeProgress = buildTestRouteProgress(multiLegRoute, currentStep.distance(),
+      firstLeg.distance(), multiLegRoute.distance(), 1, 0).toBuilder()
+      .routeSuffixSums(RouteSuffixSums.create(multiLegRoute))
+      .build();
+
+    double expectedDurationRemaining = multiLegRoute.legs().get(1).duration();
+    for (int stepIndex = 1; stepIndex < firstLeg.steps().size(); stepIndex++) {
+      expectedDurationRemaining += firstLeg.steps().get(stepIndex).duration();
+    }
+    assertEquals(expectedDurationRemaining, routeProgress.durationRemaining(), LARGE_DELTA);
+  }
+
   @Test
   public void distanceTraveled_equalsZeroAtBeginning() throws Exception {
     DirectionsRoute route = buildTestDirectionsRoute();
@@ -0,0 +1,153 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import android.support.v4.util.Pair;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+import com.mapbox.turf.TurfMisc;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class StepIntersectionIndexTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+
+  @Test
+  public void create_distancesMatchSlicedStepGeometry() throws Exception {
+    LegStep step = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE).legs().get(0).steps().get(4);
+    List<Point> stepPoints = PolylineUtils.decode(step.geometry(), Constants.PRECISION_6);
+    List<StepIntersection> intersections = step.intersections();
+
+    StepIntersectionIndex index = StepIntersectionIndex.create(stepPoints, intersections);
+
+    LineString stepLineString = LineString.fromLngLats(stepPoints);
+    assertEquals(intersections.size(), index.size());
+    for (int i = 1; i < intersections.size(); i++) {
+      LineString slicedLine = TurfMisc.lineSlice(stepPoints.get(0), intersections.get(i).location(), stepLineString);
+      double expectedDistance = TurfMeasurement.length(slicedLine, TurfConstants.UNIT_METERS);
+      assertEquals(expectedDistance, index.distanceAt(i), LARGE_DELTA);
+    }
+  }
+
+  @Test
+  public void create_intersectionBetweenStepPointsIsProjectedOntoStep() throws Exception {
+    List<Point> stepPoints = new ArrayList<>();
+    stepPoints.add(Point.fromLngLat(0d, 0d));
+    stepPoints.add(Point.fromLngLat(0d, 0.001d));
+    stepPoints.add(Point.fromLngLat(0d, 0.002d));
+    List<StepIntersection> intersections = new ArrayList<>();
+    intersections.add(buildIntersection(Point.fromLngLat(0d, 0d)));
+    intersections.add(buildIntersection(Point.fromLngLat(0.00001d, 0.0015d)));
+
+    StepIntersectionIndex index = StepIntersectionIndex.create(stepPoints, intersections);
+
+    double expectedDistance = TurfMeasurement.distance(stepPoints.get(0), Point.fromLngLat(0d, 0.0015d),
+      TurfConstants.UNIT_METERS);
+    assertEquals(0d, index.distanceAt(0), DELTA);
+    assertEquals(expectedDistance, index.distanceAt(1), LARGE_DELTA);
+  }
+
+  @Test
+  public void create_intersectionPassedTwiceIsMeasuredFurtherAlongStep() throws Exception {
+    List<Point> stepPoints = new ArrayList<>();
+    stepPoints.add(Point.fromLngLat(0d, 0d));
+    stepPoints.add(Point.fromLngLat(0d, 0.001d));
+    stepPoints.add(Point.fromLngLat(0d, 0.002d));
+    stepPoints.add(Point.fromLngLat(0d, 0.001d));
+    List<StepIntersection> intersections = new ArrayList<>();
+    intersections.add(buildIntersection(Point.fromLngLat(0d, 0.001d)));
+    intersections.add(buildIntersection(Point.fromLngLat(0d, 0.002d)));
+    intersections.add(buildIntersection(Point.fromLngLat(0d, 0.001d)));
+
+    StepIntersectionIndex index = StepIntersectionIndex.create(stepPoints, intersections);
+
+    double segmentDistance = TurfMeasurement.distance(stepPoints.get(0), stepPoints.get(1),
+      TurfConstants.UNIT_METERS);
+    assertEquals(segmentDistance, index.distanceAt(0), LARGE_DELTA);
+    assertEquals(2 * segmentDistance, index.distanceAt(1), LARGE_DELTA);
+    assertEquals(3 * segmentDistance, index.distanceAt(2), LARGE_DELTA);
+  }
+
+  @Test
+  public void create_lessThanTwoStepPointsReturnsEmptyIndex() throws Exception {
+    LegStep step = buildTestDirectionsRoute().legs().get(0).steps().get(0);
+    List<Point> stepPoints = new ArrayList<>();
+    stepPoints.add(Point.fromLngLat(1d, 1d));
+
+    StepIntersectionIndex index = StepIntersectionIndex.create(stepPoints, step.intersections());
+
+    assertTrue(index.isEmpty());
+  }
+
+  @Test
+  public void findCurrentIndex_returnsLastPassedIntersection() throws Exception {
+    StepIntersectionIndex index = buildStepIntersectionIndex();
+    double betweenSecondAndThird = (index.distanceAt(1) + index.distanceAt(2)) / 2;
+
+    assertEquals(0, index.findCurrentIndex(0));
+    assertEquals(1, index.findCurrentIndex(betweenSecondAndThird));
+    assertEquals(index.size() - 1, index.findCurrentIndex(Double.MAX_VALUE));
+  }
+
+  @Test
+  public void findCurrentIndex_withCursorMatchesBinarySearch() throws Exception {
+    StepIntersectionIndex index = buildStepIntersectionIndex();
+    double lastDistance = index.distanceAt(index.size() - 1);
+
+    for (int cursor = 0; cursor < index.size(); cursor++) {
+      for (double traveled = 0; traveled < lastDistance + 10; traveled += 5) {
+        assertEquals(index.findCurrentIndex(traveled), index.findCurrentIndex(traveled, cursor));
+      }
+    }
+  }
+
+  @Test
+  public void toIntersectionDistances_matchesIndexAndIsCached() throws Exception {
+    StepIntersectionIndex index = buildStepIntersectionIndex();
+
+    List<Pair<StepIntersection, Double>> intersectionDistances = index.toIntersectionDistances();
+
+    assertSame(intersectionDistances, index.toIntersectionDistances());
+    for (int i = 0; i < index.size(); i++) {
+      assertEquals(index.intersectionAt(i), intersectionDistances.get(i).first);
+      assertEquals(index.distanceAt(i), intersectionDistances.get(i).second, DELTA);
+    }
+  }
+
+  @Test
+  public void fromIntersectionDistances_equalsMeasuredIndex() throws Exception {
+    StepIntersectionIndex index = buildStepIntersectionIndex();
+
+    StepIntersectionIndex copy = StepIntersectionIndex.fromIntersectionDistances(index.toIntersectionDistances());
+
+    assertEquals(index, copy);
+  }
+
+  private StepIntersectionIndex buildStepIntersectionIndex() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    LegStep step = route.legs().get(0).steps().get(4);
+    List<Point> stepPoints = PolylineUtils.decode(step.geometry(), Constants.PRECISION_6);
+    return StepIntersectionIndex.create(stepPoints, step.intersections());
+  }
+
+  private StepIntersection buildIntersection(Point location) {
+    return StepIntersection.builder()
+      .rawLocation(new double[] {location.longitude(), location.latitude()})
+      .build();
+  }
+}
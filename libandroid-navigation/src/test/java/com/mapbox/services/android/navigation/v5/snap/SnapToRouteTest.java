@@ -27,7 +27,7 @@ public class SnapToRouteTest {
     NavigationStatus status = mock(NavigationStatus.class);
     SnapToRoute snap = new SnapToRoute();
 
-    Location snappedLocation = snap.getSnappedLocationWith(status);
+    Location snappedLocation = snap.getSnappedLocationWith(status, mock(Location.class));
 
     assertTrue(snappedLocation.getProvider().equals("NavigatorSnappedLocation"));
   }
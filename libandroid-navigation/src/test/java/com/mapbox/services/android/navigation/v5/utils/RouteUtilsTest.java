@@ -64,6 +64,34 @@ public class RouteUtilsTest extends BaseTest {
     assertTrue(isNewRoute);
   }
 
+  @Test
+  public void isNewRoute_returnsTrueWhenRouteGenerationsDoNotEqual() throws Exception {
+    RouteProgress defaultRouteProgress = buildDefaultTestRouteProgress();
+    RouteProgress previousRouteProgress = defaultRouteProgress.toBuilder().routeGeneration(1).build();
+    RouteProgress routeProgress = defaultRouteProgress.toBuilder().routeGeneration(2).build();
+    RouteUtils routeUtils = new RouteUtils();
+
+    boolean isNewRoute = routeUtils.isNewRoute(previousRouteProgress, routeProgress);
+
+    assertTrue(isNewRoute);
+  }
+
+  @Test
+  public void isNewRoute_returnsFalseWhenRouteGenerationsEqualEachOther() throws Exception {
+    DirectionsRoute aRoute = buildTestDirectionsRoute();
+    RouteProgress defaultRouteProgress = buildDefaultTestRouteProgress();
+    RouteProgress previousRouteProgress = defaultRouteProgress.toBuilder()
+      .directionsRoute(aRoute.toBuilder().geometry("vfejnqiv").build())
+      .routeGeneration(1)
+      .build();
+    RouteProgress routeProgress = defaultRouteProgress.toBuilder().routeGeneration(1).build();
+    RouteUtils routeUtils = new RouteUtils();
+
+    boolean isNewRoute = routeUtils.isNewRoute(previousRouteProgress, routeProgress);
+
+    assertFalse(isNewRoute);
+  }
+
   @Test
   public void isArrivalEvent_returnsTrueWhenManeuverTypeIsArrival_andIsLastInstruction() throws Exception {
     DirectionsRoute route = buildTestDirectionsRoute();